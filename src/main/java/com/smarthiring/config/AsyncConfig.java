@@ -1,41 +1,127 @@
 package com.smarthiring.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
 
+/**
+ * Async executors. By default they are fixed platform-thread pools; with
+ * spring.threads.virtual.enabled=true (Java 21, see the virtual profile) every task
+ * gets its own virtual thread and semaphores take the place of the pool sizes.
+ */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
 
-    @Bean(name = "emailExecutor")
-    public Executor emailExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(50);
-        executor.setThreadNamePrefix("Email-");
-        executor.initialize();
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnThreading(Threading.PLATFORM)
+    static class PlatformThreadExecutors {
 
-        log.info("Email executor initialized with core pool size: {}", executor.getCorePoolSize());
+        @Bean(name = "emailExecutor")
+        public Executor emailExecutor(MeterRegistry meterRegistry) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(2);
+            executor.setMaxPoolSize(5);
+            executor.setQueueCapacity(50);
+            executor.setThreadNamePrefix("Email-");
+            executor.setRejectedExecutionHandler(countRejections(meterRegistry, "emailExecutor"));
+            executor.initialize();
 
-        return executor;
+            log.info("Email executor initialized with core pool size: {}", executor.getCorePoolSize());
+
+            return executor;
+        }
+
+        @Bean(name = "taskExecutor")
+        public Executor taskExecutor(MeterRegistry meterRegistry) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(5);
+            executor.setMaxPoolSize(10);
+            executor.setQueueCapacity(100);
+            executor.setThreadNamePrefix("Async-");
+            executor.setRejectedExecutionHandler(countRejections(meterRegistry, "taskExecutor"));
+            executor.initialize();
+
+            return executor;
+        }
+
+        /**
+         * Still rejects (AbortPolicy), but counted. Pool size, active threads and queue
+         * depth of these executors are published by Spring Boot as executor.* metrics.
+         */
+        private static RejectedExecutionHandler countRejections(MeterRegistry meterRegistry, String name) {
+            Counter rejected = meterRegistry.counter(AppConstants.METRIC_EXECUTOR_REJECTED, "name", name);
+            RejectedExecutionHandler abort = new ThreadPoolExecutor.AbortPolicy();
+            return (task, pool) -> {
+                rejected.increment();
+                abort.rejectedExecution(task, pool);
+            };
+        }
     }
 
-    @Bean(name = "taskExecutor")
-    public Executor taskExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(10);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("Async-");
-        executor.initialize();
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    static class VirtualThreadExecutors {
+
+        @Bean(name = "emailExecutor")
+        public Executor emailExecutor(VirtualThreadConfig config, MeterRegistry meterRegistry) {
+            log.info("Email executor on virtual threads, at most {} sending at once", config.getEmailConcurrency());
+            return monitor(new ConcurrencyLimitedExecutor("Email", virtualThreads("Email-"),
+                    config.getEmailConcurrency()), meterRegistry, "emailExecutor");
+        }
+
+        @Bean(name = "taskExecutor")
+        public Executor taskExecutor(VirtualThreadConfig config, MeterRegistry meterRegistry) {
+            return monitor(new ConcurrencyLimitedExecutor("Async", virtualThreads("Async-"),
+                    config.getTaskConcurrency()), meterRegistry, "taskExecutor");
+        }
+
+        @Bean
+        public FilterRegistrationBean<RequestConcurrencyLimitFilter> requestConcurrencyLimitFilter(
+                VirtualThreadConfig config, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+            FilterRegistrationBean<RequestConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+                    new RequestConcurrencyLimitFilter(config.getMaxConcurrentRequests(),
+                            config.getRequestPermitWaitMs(), objectMapper,
+                            meterRegistry.counter(AppConstants.METRIC_REQUESTS_REJECTED)));
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+            return registration;
+        }
+
+        /**
+         * Same names as the platform pools' metrics: waiting for a permit is the queue
+         */
+        private static ConcurrencyLimitedExecutor monitor(ConcurrencyLimitedExecutor executor,
+                                                          MeterRegistry meterRegistry, String name) {
+            Gauge.builder("executor.active", executor, ConcurrencyLimitedExecutor::getActiveCount)
+                    .baseUnit("threads").tag("name", name).register(meterRegistry);
+            Gauge.builder("executor.queued", executor, ConcurrencyLimitedExecutor::getWaitingCount)
+                    .baseUnit("tasks").tag("name", name).register(meterRegistry);
+            Gauge.builder("executor.pool.max", executor, ConcurrencyLimitedExecutor::getLimit)
+                    .baseUnit("threads").tag("name", name).register(meterRegistry);
+            return executor;
+        }
 
-        return executor;
+        private static SimpleAsyncTaskExecutor virtualThreads(String threadNamePrefix) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            return executor;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.smarthiring.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Cache for read-mostly public job lists (Caffeine, see spring.cache.* properties).
+ * Entity caching for Role, User and Job is Hibernate's second-level cache, configured in
+ * hibernate-cache.conf. Hit/miss counts of both are published as cache.gets and
+ * hibernate.second.level.cache.requests / hibernate.cache.query.requests.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
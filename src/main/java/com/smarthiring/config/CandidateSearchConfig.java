@@ -0,0 +1,19 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.candidate-search")
+@Getter
+@Setter
+public class CandidateSearchConfig {
+
+    private boolean enabled = true;          // false = always search with SQL
+    private int rebuildPageSize = 5000;      // Candidates per keyset page while rebuilding
+    private int compactionThreshold = 2000;  // Updated rows before the sorted columns are rebuilt
+    private long rebuildIntervalMs = 21600000;
+    private int maxDatabaseSortIds = 10000;  // Expression matches handed to SQL when sortBy is not indexed
+}
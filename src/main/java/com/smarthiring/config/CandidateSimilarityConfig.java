@@ -0,0 +1,20 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.similar-candidates")
+@Getter
+@Setter
+public class CandidateSimilarityConfig {
+
+    private boolean enabled = true;
+    private int maxLimit = 50;
+    private double experienceWeight = 0.5;   // Relative to the skill part of the vector (1.0)
+    private double educationWeight = 0.3;
+    private int rebuildPageSize = 5000;
+    private long refreshIntervalMs = 300000; // Rebuild this often while profiles keep changing
+}
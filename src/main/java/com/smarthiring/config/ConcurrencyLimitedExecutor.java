@@ -0,0 +1,60 @@
+package com.smarthiring.config;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Runs every task on its own thread from the delegate (virtual threads) and lets at most
+ * {@code limit} of them run at once. Tasks over the limit wait parked on the semaphore
+ * instead of in a queue, so submitting never blocks and never rejects.
+ */
+@Slf4j
+public class ConcurrencyLimitedExecutor implements Executor {
+
+    private final String name;
+    private final Executor delegate;
+    private final Semaphore permits;
+    private final int limit;
+
+    public ConcurrencyLimitedExecutor(String name, Executor delegate, int limit) {
+        this.name = name;
+        this.delegate = delegate;
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("{} task dropped: interrupted while waiting for a permit", name);
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getActiveCount() {
+        return limit - permits.availablePermits();
+    }
+
+    /**
+     * Tasks started but still waiting for a permit (the queue of the platform mode)
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+}
@@ -0,0 +1,22 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.duplicates")
+@Getter
+@Setter
+public class DuplicateDetectionConfig {
+
+    private boolean enabled = true;
+    private double resumeTextThreshold = 0.8;  // Estimated Jaccard of resume text shingles
+    private double skillThreshold = 0.9;       // Estimated Jaccard of candidate skill sets
+    private int minSkills = 5;                 // Smaller skill sets are too common to compare
+    private int maxBucketSize = 200;           // Larger LSH buckets are skipped by lookups and the report
+    private int maxMatches = 20;               // Look-alikes returned per candidate lookup
+    private int rebuildPageSize = 5000;
+    private long rebuildIntervalMs = 21600000;
+}
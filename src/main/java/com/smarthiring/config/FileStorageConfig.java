@@ -1,15 +1,30 @@
 package com.smarthiring.config;
 
+import com.smarthiring.service.storage.FileStore;
+import com.smarthiring.service.storage.LocalFileStore;
+import com.smarthiring.service.storage.S3FileStore;
+import com.smarthiring.service.storage.StorageArea;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
 
 import java.io.IOException;
+import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 @Configuration
 @Getter
@@ -28,6 +43,27 @@ public class FileStorageConfig {
     @Value("${file.upload.max-size:10485760}")
     private long maxFileSize; // 10MB default
 
+    @Value("${file.storage.type:local}")
+    private String storageType; // local | s3
+
+    @Value("${file.storage.s3.endpoint:}")
+    private String s3Endpoint; // Empty = AWS, otherwise e.g. http://localhost:9000 for MinIO
+
+    @Value("${file.storage.s3.region:us-east-1}")
+    private String s3Region;
+
+    @Value("${file.storage.s3.bucket:smart-hiring}")
+    private String s3Bucket;
+
+    @Value("${file.storage.s3.access-key:}")
+    private String s3AccessKey;
+
+    @Value("${file.storage.s3.secret-key:}")
+    private String s3SecretKey;
+
+    @Value("${file.storage.s3.path-style-access:true}")
+    private boolean s3PathStyleAccess;
+
     private Path resumePath;
     private Path profilePath;
 
@@ -50,6 +86,48 @@ public class FileStorageConfig {
         }
     }
 
+    /**
+     * Storage backend selected by file.storage.type
+     */
+    @Bean
+    public FileStore fileStore() {
+        if ("s3".equalsIgnoreCase(storageType)) {
+            log.info("Using S3 file store: bucket={}, endpoint={}", s3Bucket,
+                    s3Endpoint.isEmpty() ? "AWS" : s3Endpoint);
+            return new S3FileStore(buildS3Client(), s3Bucket,
+                    Paths.get(uploadDir).toAbsolutePath().normalize().resolve(".staging"));
+        }
+
+        log.info("Using local file store");
+        return new LocalFileStore(Map.of(
+                StorageArea.RESUMES, resumePath,
+                StorageArea.PROFILES, profilePath));
+    }
+
+    private S3Client buildS3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .region(Region.of(s3Region))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(s3PathStyleAccess)
+                        // Plain PUT bodies; MinIO-style gateways over http do not all speak aws-chunked
+                        .chunkedEncodingEnabled(false)
+                        .build());
+
+        if (!s3Endpoint.isEmpty()) {
+            builder.endpointOverride(URI.create(s3Endpoint));
+        }
+
+        if (!s3AccessKey.isEmpty()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(
+                    AwsBasicCredentials.create(s3AccessKey, s3SecretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+
+        return builder.build();
+    }
+
     public Path getResumePath() {
         return resumePath;
     }
@@ -0,0 +1,17 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.job-listing-cache")
+@Getter
+@Setter
+public class JobListingCacheConfig {
+
+    private boolean enabled = true;
+    private long ttlSeconds = 30;       // Upper bound on staleness not caused by a job change (e.g. application counts)
+    private int maxEntries = 1000;      // One per distinct page/size/sort or limit requested
+}
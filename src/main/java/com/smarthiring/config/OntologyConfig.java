@@ -0,0 +1,16 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.ontology")
+@Getter
+@Setter
+public class OntologyConfig {
+
+    private String location = "classpath:ontology/skill-ontology.json"; // Any Spring resource, e.g. file:/etc/...
+    private long reloadIntervalMs = 60000;      // How often the file is checked for changes
+}
@@ -0,0 +1,20 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.recommendations")
+@Getter
+@Setter
+public class RecommendationConfig {
+
+    private int defaultLimit = 5;
+    private int maxLimit = 50;
+    private double experienceToleranceYears = 1.0; // Still recommend jobs asking slightly more experience
+    private long cacheTtlMinutes = 30;
+    private int cacheMaxEntries = 10000;
+    private long rebuildIntervalMs = 3600000;      // Full index rebuild (catches deadlines passing)
+}
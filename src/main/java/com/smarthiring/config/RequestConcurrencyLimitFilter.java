@@ -0,0 +1,73 @@
+package com.smarthiring.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.dto.response.ApiResponse;
+import io.micrometer.core.instrument.Counter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caps in-flight requests when Tomcat runs each request on a virtual thread. Without a
+ * thread pool there is nothing else bounding concurrency, and thousands of requests
+ * would queue inside Hikari until they time out. Over the cap a request waits briefly
+ * for a slot, then gets 503. A cap of 0 (or less) disables the limit.
+ */
+@Slf4j
+public class RequestConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long permitWaitMs;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    public RequestConcurrencyLimitFilter(int maxConcurrentRequests, long permitWaitMs, ObjectMapper objectMapper,
+                                         Counter rejected) {
+        this.permits = maxConcurrentRequests > 0 ? new Semaphore(maxConcurrentRequests, true) : null;
+        this.permitWaitMs = permitWaitMs;
+        this.objectMapper = objectMapper;
+        this.rejected = rejected;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (permits == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(permitWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            rejected.increment();
+            log.warn("Rejected {} {}: too many concurrent requests", request.getMethod(), request.getServletPath());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Server busy, please retry", request.getServletPath()));
+            return;
+        }
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
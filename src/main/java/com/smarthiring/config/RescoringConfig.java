@@ -0,0 +1,17 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.rescoring")
+@Getter
+@Setter
+public class RescoringConfig {
+
+    private boolean enabled = true;
+    private int batchSize = 200;            // Applications re-scored per transaction
+    private long pollIntervalMs = 5000;     // How often the worker drains the queue
+}
@@ -0,0 +1,19 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.resume-reprocess")
+@Getter
+@Setter
+public class ResumeReprocessConfig {
+
+    private int concurrency = 4;            // Extraction worker threads
+    private int maxConcurrency = 16;
+    private int batchSize = 500;            // Rows per keyset page / batched UPDATE
+    private int maxRowsPerSecond = 1000;    // Throttle to protect the DB (0 = unlimited)
+    private long pauseBetweenBatchesMs = 0; // Extra breathing room between pages
+}
@@ -0,0 +1,28 @@
+package com.smarthiring.config;
+
+import com.smarthiring.service.scoring.ScoringWeights;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.scoring")
+@Getter
+@Setter
+public class ScoringConfig {
+
+    // Weights used when no job, department or default profile is stored
+    private double skillWeight = 0.50;
+    private double experienceWeight = 0.25;
+    private double educationWeight = 0.10;
+    private double resumeQualityWeight = 0.10;
+    private double recencyWeight = 0.05;
+
+    private long reloadIntervalMs = 60000;  // How often weight profiles are re-read (other instances' edits)
+    private int recombineBatchSize = 500;   // Jobs covered by one bulk recombination statement
+
+    public ScoringWeights defaultWeights() {
+        return new ScoringWeights(skillWeight, experienceWeight, educationWeight, resumeQualityWeight, recencyWeight);
+    }
+}
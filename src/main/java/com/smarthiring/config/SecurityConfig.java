@@ -87,6 +87,10 @@ public class SecurityConfig {
                         .requestMatchers(PUBLIC_ENDPOINTS).permitAll()
                         .requestMatchers(SWAGGER_ENDPOINTS).permitAll()
 
+                        // Liveness and the Prometheus scrape are open; other actuator endpoints are not
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // Public job viewing (GET)
                         .requestMatchers(HttpMethod.GET, "/api/jobs/**").permitAll()
 
@@ -163,11 +167,22 @@ public class SecurityConfig {
                 "Accept",
                 "Origin",
                 "Access-Control-Request-Method",
-                "Access-Control-Request-Headers"
+                "Access-Control-Request-Headers",
+                "Range",
+                "If-Range",
+                "If-None-Match",
+                "If-Modified-Since"
         ));
 
         // Exposed headers
-        configuration.setExposedHeaders(List.of("Authorization"));
+        configuration.setExposedHeaders(List.of(
+                "Authorization",
+                "ETag",
+                "Last-Modified",
+                "Content-Disposition",
+                "Content-Range",
+                "Accept-Ranges"
+        ));
 
         // Allow credentials
         configuration.setAllowCredentials(true);
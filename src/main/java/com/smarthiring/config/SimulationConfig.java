@@ -0,0 +1,20 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.simulation")
+@Getter
+@Setter
+public class SimulationConfig {
+
+    private int defaultLimit = 20;
+    private int maxLimit = 200;
+    private long timeBudgetMs = 2000;       // Hard limit for one simulation, fetch included
+    private int scoringThreads = 0;         // 0 = one per available processor
+    private long poolCacheTtlMs = 300000;   // How long a job's fetched applicant pool is reused
+    private int maxCachedPools = 50;        // Jobs whose applicant pools are kept in memory
+}
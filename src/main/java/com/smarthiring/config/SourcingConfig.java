@@ -0,0 +1,19 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sourcing")
+@Getter
+@Setter
+public class SourcingConfig {
+
+    private int defaultLimit = 50;
+    private int maxLimit = 500;
+    private int pageSize = 5000;        // Candidates per keyset page
+    private int scoringThreads = 0;     // 0 = one per available processor
+    private int maxPagesInFlight = 4;   // Fetched pages waiting to be scored (bounds memory)
+}
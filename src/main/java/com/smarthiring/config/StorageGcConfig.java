@@ -0,0 +1,19 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.storage-gc")
+@Getter
+@Setter
+public class StorageGcConfig {
+
+    private boolean enabled = true;             // Scheduled run (manual runs are always allowed)
+    private boolean dryRun = false;             // Only count orphans, never move or delete
+    private int batchSize = 500;                // Keys per reference lookup
+    private long minAgeMinutes = 60;            // Skip files younger than this (uploads still in flight)
+    private long quarantineRetentionHours = 168; // Orphans stay recoverable this long before deletion
+}
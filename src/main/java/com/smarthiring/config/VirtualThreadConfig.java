@@ -0,0 +1,22 @@
+package com.smarthiring.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits used when spring.threads.virtual.enabled=true (Java 21). Virtual threads are
+ * not pooled, so these semaphores stand in for the pool sizes of the platform mode.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.virtual-threads")
+@Getter
+@Setter
+public class VirtualThreadConfig {
+
+    private int emailConcurrency = 5;           // Emails sent at once (SMTP connections)
+    private int taskConcurrency = 10;           // @Async("taskExecutor") tasks running at once
+    private int maxConcurrentRequests = 200;    // In-flight HTTP requests (0 = unlimited); protects the Hikari pool
+    private long requestPermitWaitMs = 2000;    // Wait for a request slot before answering 503
+}
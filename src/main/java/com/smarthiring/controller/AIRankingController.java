@@ -1,15 +1,26 @@
 package com.smarthiring.controller;
 
+import com.smarthiring.dto.request.ScoringSimulationRequest;
+import com.smarthiring.dto.request.ScoringWeightsRequest;
 import com.smarthiring.dto.response.ApiResponse;
 import com.smarthiring.dto.response.ApplicationResponse;
+import com.smarthiring.dto.response.ScoringSimulationResponse;
+import com.smarthiring.dto.response.ScoringWeightProfileResponse;
+import com.smarthiring.dto.response.TalentSourcingResponse;
+import com.smarthiring.security.CustomUserDetails;
 import com.smarthiring.service.AIRankingService;
+import com.smarthiring.service.ScoringSimulationService;
+import com.smarthiring.service.ScoringWeightService;
+import com.smarthiring.service.TalentSourcingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -26,6 +37,9 @@ import java.util.Map;
 public class AIRankingController {
 
     private final AIRankingService aiRankingService;
+    private final TalentSourcingService talentSourcingService;
+    private final ScoringWeightService scoringWeightService;
+    private final ScoringSimulationService scoringSimulationService;
 
     /**
      * Score a single application
@@ -82,6 +96,27 @@ public class AIRankingController {
         return ResponseEntity.ok(ApiResponse.success(topCandidates));
     }
 
+    /**
+     * Rank the whole candidate pool for a job
+     */
+    @GetMapping("/sourcing/{jobId}")
+    @Operation(summary = "Source Candidates",
+            description = "Score every candidate in the pool against a job (nothing is persisted) and return the top N")
+    public ResponseEntity<ApiResponse<TalentSourcingResponse>> sourceCandidates(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "false") boolean includeApplicants
+    ) {
+        log.info("Sourcing candidates for job: {}", jobId);
+
+        TalentSourcingResponse response = talentSourcingService.sourceCandidates(jobId, limit, includeApplicants);
+
+        return ResponseEntity.ok(ApiResponse.success(
+                "Ranked " + response.getCandidates().size() + " of " + response.getCandidatesScored() + " candidates",
+                response
+        ));
+    }
+
     /**
      * Get candidates above threshold
      */
@@ -117,6 +152,23 @@ public class AIRankingController {
         return ResponseEntity.ok(ApiResponse.success(stats));
     }
 
+    /**
+     * Try alternative weights, skills or experience range against a job's applicants
+     */
+    @PostMapping("/simulate/{jobId}")
+    @Operation(summary = "Simulate Ranking",
+            description = "Re-rank a job's applicants under alternative scoring settings without saving anything")
+    public ResponseEntity<ApiResponse<ScoringSimulationResponse>> simulateRanking(
+            @PathVariable Long jobId,
+            @Valid @RequestBody ScoringSimulationRequest request
+    ) {
+        log.info("Simulating ranking for job: {}", jobId);
+
+        ScoringSimulationResponse response = scoringSimulationService.simulate(jobId, request);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get match explanation for an application
      */
@@ -151,4 +203,116 @@ public class AIRankingController {
 
         return ResponseEntity.ok(ApiResponse.success("Re-scored " + count + " applications", result));
     }
-}
\ No newline at end of file
+
+    /**
+     * List scoring weight profiles
+     */
+    @GetMapping("/weights")
+    @Operation(summary = "Get Scoring Weights", description = "Configured weights and all job/department/default profiles")
+    public ResponseEntity<ApiResponse<List<ScoringWeightProfileResponse>>> getScoringWeights() {
+        return ResponseEntity.ok(ApiResponse.success(scoringWeightService.getProfiles()));
+    }
+
+    /**
+     * Weights applied to a job
+     */
+    @GetMapping("/weights/job/{jobId}")
+    @Operation(summary = "Get Job Scoring Weights", description = "Weights currently used to score a job's applications")
+    public ResponseEntity<ApiResponse<ScoringWeightProfileResponse>> getJobScoringWeights(
+            @PathVariable Long jobId
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(scoringWeightService.getEffectiveWeights(jobId)));
+    }
+
+    /**
+     * Set weights for one job
+     */
+    @PutMapping("/weights/job/{jobId}")
+    @Operation(summary = "Set Job Scoring Weights", description = "Save weights for a job and re-weight its scores")
+    public ResponseEntity<ApiResponse<ScoringWeightProfileResponse>> setJobScoringWeights(
+            @PathVariable Long jobId,
+            @Valid @RequestBody ScoringWeightsRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.info("Scoring weights for job {} updated by {}", jobId, userDetails.getEmail());
+
+        ScoringWeightProfileResponse response = scoringWeightService.saveJobWeights(
+                jobId, request, userDetails.getId(), userDetails.getEmail());
+
+        return ResponseEntity.ok(ApiResponse.success("Scoring weights saved", response));
+    }
+
+    /**
+     * Set weights for every job of a department
+     */
+    @PutMapping("/weights/department/{department}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set Department Scoring Weights",
+            description = "Save weights for a department and re-weight scores of its jobs without their own weights (Admin only)")
+    public ResponseEntity<ApiResponse<ScoringWeightProfileResponse>> setDepartmentScoringWeights(
+            @PathVariable String department,
+            @Valid @RequestBody ScoringWeightsRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.info("Scoring weights for department {} updated by {}", department, userDetails.getEmail());
+
+        ScoringWeightProfileResponse response = scoringWeightService.saveDepartmentWeights(
+                department, request, userDetails.getEmail());
+
+        return ResponseEntity.ok(ApiResponse.success("Scoring weights saved", response));
+    }
+
+    /**
+     * Set the default weights
+     */
+    @PutMapping("/weights/default")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Set Default Scoring Weights",
+            description = "Save the weights used by jobs without a job or department profile (Admin only)")
+    public ResponseEntity<ApiResponse<ScoringWeightProfileResponse>> setDefaultScoringWeights(
+            @Valid @RequestBody ScoringWeightsRequest request,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        log.info("Default scoring weights updated by {}", userDetails.getEmail());
+
+        ScoringWeightProfileResponse response = scoringWeightService.saveDefaultWeights(
+                request, userDetails.getEmail());
+
+        return ResponseEntity.ok(ApiResponse.success("Scoring weights saved", response));
+    }
+
+    /**
+     * Remove a weight profile
+     */
+    @DeleteMapping("/weights/{profileId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Delete Scoring Weights",
+            description = "Remove a profile; affected jobs fall back to the next level (Admin only)")
+    public ResponseEntity<ApiResponse<Void>> deleteScoringWeights(
+            @PathVariable Long profileId
+    ) {
+        scoringWeightService.deleteProfile(profileId);
+
+        return ResponseEntity.ok(ApiResponse.success("Scoring weights deleted"));
+    }
+
+    /**
+     * Re-weight every stored score with the current weights
+     */
+    @PostMapping("/weights/recombine")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recombine Scores",
+            description = "Recompute all AI scores from stored components, e.g. after changing configured weights (Admin only)")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> recombineScores() {
+        long started = System.currentTimeMillis();
+
+        int count = aiRankingService.recombineAllScores();
+
+        Map<String, Object> result = Map.of(
+                "applicationsUpdated", count,
+                "durationMs", System.currentTimeMillis() - started
+        );
+
+        return ResponseEntity.ok(ApiResponse.success("Recombined " + count + " scores", result));
+    }
+}
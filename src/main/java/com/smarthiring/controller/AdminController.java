@@ -1,21 +1,35 @@
 package com.smarthiring.controller;
 
+import com.smarthiring.dto.request.ResumeReprocessRequest;
 import com.smarthiring.dto.response.ApiResponse;
+import com.smarthiring.dto.response.DuplicateReportResponse;
 import com.smarthiring.dto.response.PagedResponse;
+import com.smarthiring.dto.response.ResumeReprocessJobResponse;
+import com.smarthiring.dto.response.SkillOntologyResponse;
+import com.smarthiring.dto.response.StorageReportResponse;
 import com.smarthiring.dto.response.UserResponse;
+import com.smarthiring.security.CustomUserDetails;
+import com.smarthiring.service.DuplicateDetectionService;
 import com.smarthiring.service.JobService;
+import com.smarthiring.service.ResumeReprocessingService;
+import com.smarthiring.service.SkillOntologyService;
+import com.smarthiring.service.StorageReconcilerService;
 import com.smarthiring.service.UserService;
 import com.smarthiring.util.AppConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,6 +43,10 @@ public class AdminController {
 
     private final UserService userService;
     private final JobService jobService;
+    private final ResumeReprocessingService resumeReprocessingService;
+    private final StorageReconcilerService storageReconcilerService;
+    private final SkillOntologyService skillOntologyService;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     /**
      * Get all users
@@ -145,4 +163,148 @@ public class AdminController {
 
         return ResponseEntity.ok(ApiResponse.success("Expired jobs deactivated", result));
     }
-}
\ No newline at end of file
+
+    /**
+     * Start bulk resume re-processing
+     */
+    @PostMapping("/resumes/reprocess")
+    @Operation(summary = "Start Resume Re-processing",
+            description = "Re-extract skills, experience and education for all stored resumes")
+    public ResponseEntity<ApiResponse<ResumeReprocessJobResponse>> startResumeReprocessing(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @Valid @RequestBody(required = false) ResumeReprocessRequest request
+    ) {
+        log.info("Admin: Start resume re-processing by user: {}", userDetails.getEmail());
+
+        ResumeReprocessJobResponse response = resumeReprocessingService.startJob(
+                userDetails.getId(), request != null ? request : new ResumeReprocessRequest());
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Resume re-processing started", response));
+    }
+
+    /**
+     * Get all resume re-processing jobs
+     */
+    @GetMapping("/resumes/reprocess")
+    @Operation(summary = "Get Re-processing Jobs", description = "Get all resume re-processing jobs")
+    public ResponseEntity<ApiResponse<List<ResumeReprocessJobResponse>>> getResumeReprocessingJobs() {
+        log.info("Admin: Get resume re-processing jobs");
+
+        List<ResumeReprocessJobResponse> response = resumeReprocessingService.getAllJobs();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Get progress and ETA of a re-processing job
+     */
+    @GetMapping("/resumes/reprocess/{jobId}")
+    @Operation(summary = "Get Re-processing Progress", description = "Get progress and ETA of a resume re-processing job")
+    public ResponseEntity<ApiResponse<ResumeReprocessJobResponse>> getResumeReprocessingProgress(
+            @PathVariable Long jobId
+    ) {
+        ResumeReprocessJobResponse response = resumeReprocessingService.getJobProgress(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Pause a running re-processing job
+     */
+    @PostMapping("/resumes/reprocess/{jobId}/pause")
+    @Operation(summary = "Pause Re-processing", description = "Pause a running resume re-processing job after its current batch")
+    public ResponseEntity<ApiResponse<ResumeReprocessJobResponse>> pauseResumeReprocessing(
+            @PathVariable Long jobId
+    ) {
+        log.info("Admin: Pause resume re-processing job: {}", jobId);
+
+        ResumeReprocessJobResponse response = resumeReprocessingService.pauseJob(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success("Pause requested", response));
+    }
+
+    /**
+     * Resume a paused or failed re-processing job from its checkpoint
+     */
+    @PostMapping("/resumes/reprocess/{jobId}/resume")
+    @Operation(summary = "Resume Re-processing", description = "Resume a paused or failed re-processing job from its checkpoint")
+    public ResponseEntity<ApiResponse<ResumeReprocessJobResponse>> resumeResumeReprocessing(
+            @PathVariable Long jobId
+    ) {
+        log.info("Admin: Resume resume re-processing job: {}", jobId);
+
+        ResumeReprocessJobResponse response = resumeReprocessingService.resumeJob(jobId);
+
+        return ResponseEntity.ok(ApiResponse.success("Resume re-processing resumed", response));
+    }
+
+    /**
+     * Get storage usage and garbage collection counters
+     */
+    @GetMapping("/storage")
+    @Operation(summary = "Get Storage Report",
+            description = "Stored bytes and files per area, orphans found and space reclaimed")
+    public ResponseEntity<ApiResponse<StorageReportResponse>> getStorageReport() {
+        StorageReportResponse response = storageReconcilerService.getReport();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Run storage reconciliation now
+     */
+    @PostMapping("/storage/reconcile")
+    @Operation(summary = "Reconcile Storage",
+            description = "Quarantine unreferenced uploads and delete those past the retention period")
+    public ResponseEntity<ApiResponse<StorageReportResponse>> reconcileStorage() {
+        log.info("Admin: Start storage reconciliation");
+
+        StorageReportResponse response = storageReconcilerService.startReconciliation();
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("Storage reconciliation started", response));
+    }
+
+    /**
+     * Get the loaded skill ontology version
+     */
+    @GetMapping("/ontology")
+    @Operation(summary = "Get Skill Ontology", description = "Loaded skill ontology version, source and size")
+    public ResponseEntity<ApiResponse<SkillOntologyResponse>> getSkillOntology() {
+        SkillOntologyResponse response = skillOntologyService.getStatus();
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Reload the skill ontology now
+     */
+    @PostMapping("/ontology/reload")
+    @Operation(summary = "Reload Skill Ontology",
+            description = "Re-read the skill ontology file; the loaded version stays in use if it is invalid")
+    public ResponseEntity<ApiResponse<SkillOntologyResponse>> reloadSkillOntology() {
+        log.info("Admin: Reload skill ontology");
+
+        SkillOntologyResponse response = skillOntologyService.reload();
+
+        return ResponseEntity.ok(ApiResponse.success(response.getLastError() == null
+                ? "Skill ontology reloaded" : "Skill ontology reload failed", response));
+    }
+
+    /**
+     * Candidates who are probably the same person or share a recycled resume
+     */
+    @GetMapping("/duplicates")
+    @Operation(summary = "Get Possible Duplicates",
+            description = "Candidate pairs with near-identical resume text or skill sets, most similar first")
+    public ResponseEntity<ApiResponse<DuplicateReportResponse>> getPossibleDuplicates(
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        DuplicateReportResponse response = duplicateDetectionService.getReport(limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -4,9 +4,12 @@ import com.smarthiring.dto.request.CandidateProfileRequest;
 import com.smarthiring.dto.request.CandidateSearchRequest;
 import com.smarthiring.dto.response.ApiResponse;
 import com.smarthiring.dto.response.CandidateResponse;
+import com.smarthiring.dto.response.JobListResponse;
 import com.smarthiring.dto.response.PagedResponse;
+import com.smarthiring.dto.response.SimilarCandidateResponse;
 import com.smarthiring.security.CustomUserDetails;
 import com.smarthiring.service.CandidateService;
+import com.smarthiring.service.JobRecommendationService;
 import com.smarthiring.util.AppConstants;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -14,10 +17,12 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,21 +35,32 @@ import java.util.List;
 public class CandidateController {
 
     private final CandidateService candidateService;
+    private final JobRecommendationService jobRecommendationService;
 
     /**
      * Get my profile (for logged-in candidate)
      */
     @GetMapping("/profile")
     @PreAuthorize("hasRole('CANDIDATE')")
-    @Operation(summary = "Get My Profile", description = "Get profile of currently logged-in candidate")
+    @Operation(summary = "Get My Profile",
+            description = "Get profile of currently logged-in candidate (supports If-None-Match)")
     public ResponseEntity<ApiResponse<CandidateResponse>> getMyProfile(
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
         log.info("Get profile request from user: {}", userDetails.getEmail());
 
+        // Polled by the profile page: unchanged profiles are answered from a projection query
+        String eTag = candidateService.getProfileETag(userDetails.getId());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         CandidateResponse response = candidateService.getCandidateByUserId(userDetails.getId());
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -64,19 +80,65 @@ public class CandidateController {
         return ResponseEntity.ok(ApiResponse.success("Profile updated successfully", response));
     }
 
+    /**
+     * Get recommended jobs for me
+     */
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    @Operation(summary = "Get Job Recommendations",
+            description = "Open jobs matched to my skills, experience and preferred locations")
+    public ResponseEntity<ApiResponse<List<JobListResponse>>> getMyRecommendations(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) Integer limit
+    ) {
+        log.info("Get job recommendations for user: {}", userDetails.getEmail());
+
+        Long candidateId = candidateService.getCandidateByUserId(userDetails.getId()).getId();
+        List<JobListResponse> response = jobRecommendationService.getRecommendedJobs(candidateId, limit);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * Get candidate by ID (HR/Admin only)
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('HR', 'ADMIN')")
-    @Operation(summary = "Get Candidate by ID", description = "Get candidate details by ID (HR/Admin only)")
+    @Operation(summary = "Get Candidate by ID",
+            description = "Get candidate details by ID (HR/Admin only, supports If-None-Match)")
     public ResponseEntity<ApiResponse<CandidateResponse>> getCandidateById(
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
         log.info("Get candidate request for ID: {}", id);
 
+        String eTag = candidateService.getCandidateETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         CandidateResponse response = candidateService.getCandidateById(id);
 
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * Get candidates similar to one candidate (HR/Admin only)
+     */
+    @GetMapping("/{id}/similar")
+    @PreAuthorize("hasAnyRole('HR', 'ADMIN')")
+    @Operation(summary = "Get Similar Candidates",
+            description = "Candidates with the most similar skills, experience and education (HR/Admin only)")
+    public ResponseEntity<ApiResponse<List<SimilarCandidateResponse>>> getSimilarCandidates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        log.info("Get similar candidates request for ID: {}", id);
+
+        List<SimilarCandidateResponse> response = candidateService.getSimilarCandidates(id, limit);
+
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
@@ -104,7 +166,7 @@ public class CandidateController {
      */
     @PostMapping("/search")
     @PreAuthorize("hasAnyRole('HR', 'ADMIN')")
-    @Operation(summary = "Search Candidates", description = "Search candidates by skills, location, experience (HR/Admin only)")
+    @Operation(summary = "Search Candidates", description = "Search candidates by a boolean skill expression, location, experience and notice period (HR/Admin only)")
     public ResponseEntity<ApiResponse<PagedResponse<CandidateResponse>>> searchCandidates(
             @RequestBody CandidateSearchRequest request
     ) {
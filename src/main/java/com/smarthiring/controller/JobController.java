@@ -8,6 +8,7 @@ import com.smarthiring.dto.response.JobResponse;
 import com.smarthiring.dto.response.PagedResponse;
 import com.smarthiring.security.CustomUserDetails;
 import com.smarthiring.service.CandidateService;
+import com.smarthiring.service.JobListingResponseCache;
 import com.smarthiring.service.JobService;
 import com.smarthiring.util.AppConstants;
 import io.swagger.v3.oas.annotations.Operation;
@@ -16,13 +17,14 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/jobs")
@@ -33,13 +35,15 @@ public class JobController {
 
     private final JobService jobService;
     private final CandidateService candidateService;
+    private final JobListingResponseCache jobListingResponseCache;
 
     /**
-     * Get all active jobs (Public)
+     * Get all active jobs (Public). Like the other public listings below, the body is
+     * served from the job listing response cache as ready-made JSON.
      */
     @GetMapping
     @Operation(summary = "Get All Jobs", description = "Get all active jobs with pagination (Public)")
-    public ResponseEntity<ApiResponse<PagedResponse<JobListResponse>>> getAllJobs(
+    public ResponseEntity<byte[]> getAllJobs(
             @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_NUMBER) int page,
             @RequestParam(defaultValue = AppConstants.DEFAULT_PAGE_SIZE) int size,
             @RequestParam(defaultValue = AppConstants.DEFAULT_SORT_BY) String sortBy,
@@ -47,34 +51,40 @@ public class JobController {
     ) {
         log.info("Get all jobs - page: {}, size: {}", page, size);
 
-        PagedResponse<JobListResponse> response = jobService.getActiveJobs(page, size, sortBy, sortDir);
+        byte[] body = jobListingResponseCache.get("jobs:" + page + ":" + size + ":" + sortBy + ":" + sortDir,
+                () -> ApiResponse.success(jobService.getActiveJobs(page, size, sortBy, sortDir)));
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return json(body);
     }
 
     /**
-     * Get job by ID (Public)
+     * Get job by ID (Public). Answers If-None-Match with 304 before the job is loaded;
+     * a revalidation is not counted as a view.
      */
     @GetMapping("/{id}")
-    @Operation(summary = "Get Job by ID", description = "Get job details by ID (Public)")
+    @Operation(summary = "Get Job by ID", description = "Get job details by ID (Public, supports If-None-Match)")
     public ResponseEntity<ApiResponse<JobResponse>> getJobById(
             @PathVariable Long id,
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
         log.info("Get job by ID: {}", id);
 
         Long candidateId = null;
         if (userDetails != null && userDetails.hasRole("ROLE_CANDIDATE")) {
-            try {
-                candidateId = candidateService.getCandidateByUserId(userDetails.getId()).getId();
-            } catch (Exception e) {
-                // Candidate profile not found, ignore
-            }
+            candidateId = candidateService.findCandidateIdByUserId(userDetails.getId());   // Null without a profile
+        }
+
+        String eTag = jobService.getJobETag(id, candidateId);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
         }
 
         JobResponse response = jobService.getJobById(id, candidateId);
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -171,12 +181,13 @@ public class JobController {
      */
     @GetMapping("/featured")
     @Operation(summary = "Get Featured Jobs", description = "Get all featured jobs (Public)")
-    public ResponseEntity<ApiResponse<List<JobListResponse>>> getFeaturedJobs() {
+    public ResponseEntity<byte[]> getFeaturedJobs() {
         log.info("Get featured jobs");
 
-        List<JobListResponse> response = jobService.getFeaturedJobs();
+        byte[] body = jobListingResponseCache.get("featured",
+                () -> ApiResponse.success(jobService.getFeaturedJobs()));
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return json(body);
     }
 
     /**
@@ -184,14 +195,15 @@ public class JobController {
      */
     @GetMapping("/recent")
     @Operation(summary = "Get Recent Jobs", description = "Get recently posted jobs (Public)")
-    public ResponseEntity<ApiResponse<List<JobListResponse>>> getRecentJobs(
+    public ResponseEntity<byte[]> getRecentJobs(
             @RequestParam(defaultValue = "10") int limit
     ) {
         log.info("Get recent jobs, limit: {}", limit);
 
-        List<JobListResponse> response = jobService.getRecentJobs(limit);
+        byte[] body = jobListingResponseCache.get("recent:" + limit,
+                () -> ApiResponse.success(jobService.getRecentJobs(limit)));
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return json(body);
     }
 
     /**
@@ -236,10 +248,11 @@ public class JobController {
      */
     @GetMapping("/locations")
     @Operation(summary = "Get All Locations", description = "Get all distinct job locations")
-    public ResponseEntity<ApiResponse<List<String>>> getAllLocations() {
-        List<String> locations = jobService.getAllLocations();
+    public ResponseEntity<byte[]> getAllLocations() {
+        byte[] body = jobListingResponseCache.get("locations",
+                () -> ApiResponse.success(jobService.getAllLocations()));
 
-        return ResponseEntity.ok(ApiResponse.success(locations));
+        return json(body);
     }
 
     /**
@@ -247,9 +260,16 @@ public class JobController {
      */
     @GetMapping("/departments")
     @Operation(summary = "Get All Departments", description = "Get all distinct job departments")
-    public ResponseEntity<ApiResponse<List<String>>> getAllDepartments() {
-        List<String> departments = jobService.getAllDepartments();
+    public ResponseEntity<byte[]> getAllDepartments() {
+        byte[] body = jobListingResponseCache.get("departments",
+                () -> ApiResponse.success(jobService.getAllDepartments()));
+
+        return json(body);
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(departments));
+    private static ResponseEntity<byte[]> json(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
     }
 }
\ No newline at end of file
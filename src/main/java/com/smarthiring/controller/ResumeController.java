@@ -1,24 +1,30 @@
 package com.smarthiring.controller;
 
+import com.smarthiring.dto.ResumeFileInfo;
 import com.smarthiring.dto.response.ApiResponse;
 import com.smarthiring.dto.response.ResumeResponse;
 import com.smarthiring.security.CustomUserDetails;
+import com.smarthiring.service.FileDownloadService;
 import com.smarthiring.service.ResumeService;
+import com.smarthiring.service.storage.StorageArea;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -30,6 +36,7 @@ import java.util.List;
 public class ResumeController {
 
     private final ResumeService resumeService;
+    private final FileDownloadService fileDownloadService;
 
     /**
      * Upload resume
@@ -56,15 +63,24 @@ public class ResumeController {
      */
     @GetMapping("/my-resumes")
     @PreAuthorize("hasRole('CANDIDATE')")
-    @Operation(summary = "Get My Resumes", description = "Get all resumes uploaded by current user")
+    @Operation(summary = "Get My Resumes",
+            description = "Get all resumes uploaded by current user (supports If-None-Match)")
     public ResponseEntity<ApiResponse<List<ResumeResponse>>> getMyResumes(
-            @AuthenticationPrincipal CustomUserDetails userDetails
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            WebRequest webRequest
     ) {
         log.info("Get my resumes for user: {}", userDetails.getEmail());
 
+        String eTag = resumeService.getResumesETag(userDetails.getId());
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         List<ResumeResponse> response = resumeService.getResumesByCandidate(userDetails.getId());
 
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success(response));
     }
 
     /**
@@ -102,21 +118,19 @@ public class ResumeController {
      * Download resume
      */
     @GetMapping("/download/{id}")
-    @Operation(summary = "Download Resume", description = "Download resume file by ID")
-    public ResponseEntity<Resource> downloadResume(
-            @PathVariable Long id
-    ) {
+    @Operation(summary = "Download Resume",
+            description = "Download resume file by ID (supports Range, If-None-Match and If-Modified-Since)")
+    public void downloadResume(
+            @PathVariable Long id,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
         log.info("Download resume: {}", id);
 
-        Resource resource = resumeService.downloadResume(id);
-        String contentType = resumeService.getResumeContentType(id);
-        String filename = resumeService.getResumeOriginalFilename(id);
+        ResumeFileInfo file = resumeService.getResumeDownload(id);
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + filename + "\"")
-                .body(resource);
+        fileDownloadService.serveStoredFile(request, response, StorageArea.RESUMES, file.getFileName(),
+                file.getContentType(), file.getOriginalFileName(), file.getContentHash());
     }
 
     /**
@@ -0,0 +1,34 @@
+package com.smarthiring.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Download metadata of a resume, loaded with one projection query (no parsed text)
+ */
+@Data
+@NoArgsConstructor
+public class ResumeFileInfo {
+
+    private Long id;
+    private String fileName;
+    private String originalFileName;
+    private String contentHash;
+    private Long fileSize;
+    private LocalDateTime uploadedAt;
+
+    // Resolved by the service
+    private String contentType;
+
+    public ResumeFileInfo(Long id, String fileName, String originalFileName, String contentHash,
+                          Long fileSize, LocalDateTime uploadedAt) {
+        this.id = id;
+        this.fileName = fileName;
+        this.originalFileName = originalFileName;
+        this.contentHash = contentHash;
+        this.fileSize = fileSize;
+        this.uploadedAt = uploadedAt;
+    }
+}
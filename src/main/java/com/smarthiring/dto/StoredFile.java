@@ -0,0 +1,17 @@
+package com.smarthiring.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StoredFile {
+
+    private String fileName;     // Storage key, e.g. "ab/cd/<sha256>.pdf"
+    private String contentHash;  // SHA-256 hex of the stored bytes
+    private long size;
+}
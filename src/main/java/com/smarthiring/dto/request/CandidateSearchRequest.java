@@ -13,7 +13,7 @@ import java.math.BigDecimal;
 @Builder
 public class CandidateSearchRequest {
 
-    private String skills;
+    private String skills;  // Boolean expression, e.g. "java AND (spring OR hibernate) AND NOT php"
     private String location;
     private BigDecimal minExperience;
     private BigDecimal maxExperience;
@@ -0,0 +1,27 @@
+package com.smarthiring.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeReprocessRequest {
+
+    // false = re-extract from stored parsed text, true = run Tika on the stored file again
+    @Builder.Default
+    private Boolean reparseFiles = false;
+
+    @Min(value = 1, message = "Concurrency must be at least 1")
+    @Max(value = 64, message = "Concurrency must not exceed 64")
+    private Integer concurrency;
+
+    @Min(value = 10, message = "Batch size must be at least 10")
+    @Max(value = 5000, message = "Batch size must not exceed 5000")
+    private Integer batchSize;
+}
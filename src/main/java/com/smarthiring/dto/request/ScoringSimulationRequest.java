@@ -0,0 +1,39 @@
+package com.smarthiring.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Changes to try against a job's applicants; anything left null keeps the job's current value
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringSimulationRequest {
+
+    @Valid
+    private ScoringWeightsRequest weights;
+
+    @Size(max = 2000, message = "Required skills must not exceed 2000 characters")
+    private String requiredSkills;      // Comma-separated, replaces the job's list
+
+    private List<String> optionalSkills; // Moved from the required list to nice-to-have
+
+    @Min(value = 0, message = "Minimum experience cannot be negative")
+    private Integer experienceMin;
+
+    @Max(value = 50, message = "Maximum experience cannot exceed 50")
+    private Integer experienceMax;
+
+    @Min(value = 1, message = "Limit must be at least 1")
+    private Integer limit;
+}
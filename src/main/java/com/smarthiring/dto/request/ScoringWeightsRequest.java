@@ -0,0 +1,38 @@
+package com.smarthiring.dto.request;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Relative weights; they are scaled to sum to 1.0 when saved
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringWeightsRequest {
+
+    @NotNull(message = "Skill weight is required")
+    @DecimalMin(value = "0.0", message = "Weights must not be negative")
+    private Double skillWeight;
+
+    @NotNull(message = "Experience weight is required")
+    @DecimalMin(value = "0.0", message = "Weights must not be negative")
+    private Double experienceWeight;
+
+    @NotNull(message = "Education weight is required")
+    @DecimalMin(value = "0.0", message = "Weights must not be negative")
+    private Double educationWeight;
+
+    @NotNull(message = "Resume quality weight is required")
+    @DecimalMin(value = "0.0", message = "Weights must not be negative")
+    private Double resumeQualityWeight;
+
+    @NotNull(message = "Recency weight is required")
+    @DecimalMin(value = "0.0", message = "Weights must not be negative")
+    private Double recencyWeight;
+}
@@ -43,6 +43,7 @@ public class ApplicationResponse {
     private String statusDisplay;
     private BigDecimal aiScore;
     private String aiFeedback;
+    private Long possibleDuplicateOf;
     private Integer hrRating;
     private String hrNotes;
 
@@ -0,0 +1,38 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.smarthiring.service.duplicate.DuplicateKind;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DuplicateReportResponse {
+
+    private Boolean ready;             // False until the index has been built
+    private Integer indexedCandidates; // Candidates with enough skills to compare
+    private Integer indexedResumes;    // Resumes with a text signature
+    private Integer totalPairs;
+    private List<DuplicatePair> pairs; // Most similar first
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class DuplicatePair {
+        private DuplicateKind kind;
+        private Long candidateId;
+        private Long otherCandidateId;
+        private Long resumeId;         // Resume text pairs only
+        private Long otherResumeId;
+        private Double similarity;     // Estimated Jaccard similarity
+    }
+}
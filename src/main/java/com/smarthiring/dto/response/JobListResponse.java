@@ -34,6 +34,7 @@ public class JobListResponse {
     private Integer applicationsCount;
     private LocalDateTime createdAt;
     private Boolean hasApplied;
+    private Double matchScore;  // Recommendation score (0-100), only in recommendation feeds
 
     // Time ago string (e.g., "2 days ago")
     private String postedAgo;
@@ -0,0 +1,39 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.smarthiring.enums.ReprocessJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumeReprocessJobResponse {
+
+    private Long id;
+    private ReprocessJobStatus status;
+    private String statusDisplay;
+    private Boolean reparseFiles;
+    private Integer concurrency;
+    private Integer batchSize;
+    private Long lastProcessedId;
+    private Long totalResumes;
+    private Long processedCount;
+    private Long failedCount;
+    private List<Long> failedResumeIds;   // Re-run one with POST /api/resumes/{id}/reparse
+    private Double percentComplete;
+    private Double resumesPerSecond;      // Only while running
+    private Long estimatedSecondsRemaining;
+    private LocalDateTime estimatedCompletionAt;
+    private String errorMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,47 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoringSimulationResponse {
+
+    private Long jobId;
+    private String jobTitle;
+    private String requiredSkills;      // As simulated
+    private String niceToHaveSkills;    // As simulated
+    private Integer experienceMin;
+    private Integer experienceMax;
+    private ScoringWeightProfileResponse weights;
+    private Integer applicantsScored;
+    private Integer enteredTopK;        // Applicants in the simulated top K but not the current one
+    private Long durationMs;
+    private List<SimulatedApplicant> ranking;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SimulatedApplicant {
+        private Long applicationId;
+        private Long candidateId;
+        private String fullName;
+        private Integer rank;
+        private Integer currentRank;    // Under the job's current skills, experience range and weights
+        private Integer rankChange;     // Positive = moved up
+        private BigDecimal score;
+        private BigDecimal currentScore;
+        private BigDecimal storedScore; // Application.aiScore as last persisted
+    }
+}
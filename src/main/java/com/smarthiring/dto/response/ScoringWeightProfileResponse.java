@@ -0,0 +1,31 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ScoringWeightProfileResponse {
+
+    private Long id;                // null for the configured fallback weights
+    private String scope;           // JOB, DEPARTMENT, DEFAULT or CONFIGURED
+    private Long jobId;
+    private String department;
+
+    private Double skillWeight;
+    private Double experienceWeight;
+    private Double educationWeight;
+    private Double resumeQualityWeight;
+    private Double recencyWeight;
+
+    private String updatedBy;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SimilarCandidateResponse {
+
+    private CandidateResponse candidate;
+    private Double similarity;          // Cosine similarity, 0 to 1
+    private List<String> sharedSkills;  // Canonical skills both candidates have
+}
@@ -0,0 +1,26 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SkillOntologyResponse {
+
+    private String version;
+    private String location;
+    private LocalDateTime loadedAt;
+    private Integer skills;
+    private Integer synonyms;
+    private Integer extractionTerms;
+    private Integer educationKeywords;
+    private String lastError;          // Last failed reload; the loaded version stays in use
+}
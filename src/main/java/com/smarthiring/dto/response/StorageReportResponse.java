@@ -0,0 +1,51 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.smarthiring.service.storage.StorageArea;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StorageReportResponse {
+
+    private Boolean running;
+    private Boolean dryRun;
+    private LocalDateTime lastRunStartedAt;
+    private Long lastRunDurationMs;
+    private String lastError;
+
+    // Cumulative since startup
+    private Long reclaimedFiles;
+    private Long reclaimedBytes;
+    private Long restoredFiles;
+
+    // Snapshot of the last completed run
+    private List<AreaUsage> areas;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AreaUsage {
+        private StorageArea area;
+        private Long totalFiles;
+        private Long totalBytes;
+        private Long orphanFiles;         // Found unreferenced in this run
+        private Long orphanBytes;
+        private Long quarantinedFiles;    // Waiting out the retention period
+        private Long quarantinedBytes;
+        private Long deletedFiles;
+        private Long deletedBytes;
+        private Long restoredFiles;       // Referenced again, moved back
+        private Long stagingFilesRemoved; // Abandoned partial uploads
+    }
+}
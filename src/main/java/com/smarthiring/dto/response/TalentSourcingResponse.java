@@ -0,0 +1,47 @@
+package com.smarthiring.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TalentSourcingResponse {
+
+    private Long jobId;
+    private String jobTitle;
+    private Long candidatesScanned;
+    private Long candidatesScored;     // Scanned minus existing applicants
+    private Long durationMs;
+    private List<SourcedCandidate> candidates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SourcedCandidate {
+        private Integer rank;
+        private Long candidateId;
+        private String fullName;
+        private String headline;
+        private String currentDesignation;
+        private String location;
+        private BigDecimal totalExperience;
+        private BigDecimal aiScore;        // Same scale as Application.aiScore (0-100)
+        private Double skillScore;
+        private Double experienceScore;
+        private Double educationScore;
+        private Double resumeQualityScore;
+        private List<String> matchedSkills;
+        private List<String> missingSkills;
+    }
+}
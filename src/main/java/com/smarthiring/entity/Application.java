@@ -11,6 +11,10 @@ import java.time.LocalDateTime;
 @Table(name = "applications",
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"job_id", "candidate_id"})
+        },
+        indexes = {
+                // Top-K by score and score statistics per job
+                @Index(name = "idx_applications_job_score", columnList = "job_id, ai_score")
         })
 @Getter
 @Setter
@@ -52,6 +56,9 @@ public class Application {
     @Column(name = "ai_feedback", columnDefinition = "TEXT")
     private String aiFeedback;
 
+    @Column(name = "possible_duplicate_of")
+    private Long possibleDuplicateOf;  // Another applicant to this job who looks like the same person
+
     @Column(name = "hr_rating")
     private Integer hrRating;  // 1 to 5 stars
 
@@ -0,0 +1,80 @@
+package com.smarthiring.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per-signal scores behind an application's AI score, one row per application.
+ * Kept out of the applications table so re-weighting and explanations read only
+ * these narrow rows; written with a native upsert on every scoring.
+ */
+@Entity
+@Table(name = "application_scores", indexes = {
+        @Index(name = "idx_application_scores_job", columnList = "job_id, model_version")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApplicationScore {
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @MapsId
+    @JoinColumn(name = "application_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Application application;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // Version of the scoring model that produced the components
+    @Column(name = "model_version", nullable = false)
+    private Integer modelVersion;
+
+    // Signal scores, each 0.0 to 1.0
+    @Column(name = "skill_score", nullable = false)
+    private Double skillScore;
+
+    @Column(name = "experience_score", nullable = false)
+    private Double experienceScore;
+
+    @Column(name = "education_score", nullable = false)
+    private Double educationScore;
+
+    @Column(name = "resume_quality_score", nullable = false)
+    private Double resumeQualityScore;
+
+    @Column(name = "recency_score", nullable = false)
+    private Double recencyScore;
+
+    @Column(name = "required_skill_count")
+    private Integer requiredSkillCount;
+
+    // Comma-separated skill lists from the skill match, for explanations
+    @Column(name = "matched_skills", columnDefinition = "TEXT")
+    private String matchedSkills;
+
+    @Column(name = "missing_skills", columnDefinition = "TEXT")
+    private String missingSkills;
+
+    @Column(name = "extra_skills", columnDefinition = "TEXT")
+    private String extraSkills;
+
+    @Column(name = "matched_nice_to_have", columnDefinition = "TEXT")
+    private String matchedNiceToHave;
+
+    @Column(name = "missing_nice_to_have", columnDefinition = "TEXT")
+    private String missingNiceToHave;
+
+    @Column(name = "scored_at")
+    private LocalDateTime scoredAt;
+}
@@ -0,0 +1,51 @@
+package com.smarthiring.entity;
+
+import com.smarthiring.service.storage.StorageArea;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stored object in the file store, shared by every row that uploaded identical content
+ */
+@Entity
+@Table(name = "file_blobs", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_file_blob_key", columnNames = {"storage_area", "storage_key"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_area", length = 20, nullable = false)
+    private StorageArea storageArea;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(name = "content_hash", length = 64, nullable = false)
+    private String contentHash;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "ref_count", nullable = false)
+    @Builder.Default
+    private Integer refCount = 1;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
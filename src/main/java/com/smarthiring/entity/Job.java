@@ -6,6 +6,9 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -14,6 +17,8 @@ import java.util.List;
 
 @Entity
 @Table(name = "jobs")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "jobs")
+@DynamicUpdate  // Edits must not write back a cached (possibly stale) views_count
 @Getter
 @Setter
 @NoArgsConstructor
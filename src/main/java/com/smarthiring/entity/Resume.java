@@ -42,8 +42,11 @@ public class Resume {
     @Column(name = "file_size")
     private Long fileSize;  // Size in bytes
 
-    @Column(name = "parsed_text", columnDefinition = "LONGTEXT")
-    private String parsedText;  // Extracted text from resume
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;  // SHA-256 of file content (used as ETag)
+
+    @Column(name = "parsed_text_length")
+    private Integer parsedTextLength;  // Characters of extracted text (the text itself is in ResumeText)
 
     @Column(name = "extracted_skills", columnDefinition = "TEXT")
     private String extractedSkills;  // AI extracted skills
@@ -54,6 +57,12 @@ public class Resume {
     @Column(name = "extracted_education", columnDefinition = "TEXT")
     private String extractedEducation;  // AI extracted education
 
+    @Column(name = "section_offsets", columnDefinition = "TEXT")
+    private String sectionOffsets;  // Section spans of the parsed text (see ResumeSections)
+
+    @Column(name = "text_signature", length = 256)
+    private byte[] textSignature;  // MinHash of parsed text shingles (duplicate detection)
+
     @Column(name = "is_primary")
     @Builder.Default
     private Boolean isPrimary = false;
@@ -61,8 +70,17 @@ public class Resume {
     @Column(name = "uploaded_at")
     private LocalDateTime uploadedAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;  // Any change shown in ResumeResponse (part of the resume list ETag)
+
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
+        updatedAt = uploadedAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
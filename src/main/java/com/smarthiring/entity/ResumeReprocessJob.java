@@ -0,0 +1,82 @@
+package com.smarthiring.entity;
+
+import com.smarthiring.enums.ReprocessJobStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "resume_reprocess_jobs")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeReprocessJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private ReprocessJobStatus status = ReprocessJobStatus.RUNNING;
+
+    @Column(name = "reparse_files")
+    @Builder.Default
+    private Boolean reparseFiles = false;  // Re-run Tika instead of reusing the stored text
+
+    @Column(name = "concurrency")
+    private Integer concurrency;
+
+    @Column(name = "batch_size")
+    private Integer batchSize;
+
+    @Column(name = "last_processed_id")
+    @Builder.Default
+    private Long lastProcessedId = 0L;  // Keyset checkpoint
+
+    @Column(name = "total_resumes")
+    @Builder.Default
+    private Long totalResumes = 0L;
+
+    @Column(name = "processed_count")
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    @Column(name = "failed_count")
+    @Builder.Default
+    private Long failedCount = 0L;
+
+    // Comma-separated ids of resumes that could not be re-processed, oldest first (capped)
+    @Column(name = "failed_resume_ids", columnDefinition = "TEXT")
+    private String failedResumeIds;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_by")
+    private Long startedBy;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
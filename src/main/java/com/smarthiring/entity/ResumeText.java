@@ -0,0 +1,44 @@
+package com.smarthiring.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+/**
+ * Deflate-compressed parsed text of a resume, kept out of the resumes table so that
+ * loading a Resume never reads it. Read and written through ResumeTextService.
+ */
+@Entity
+@Table(name = "resume_texts")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResumeText {
+
+    @Id
+    @Column(name = "resume_id")
+    private Long resumeId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Resume resume;
+
+    @Column(name = "compressed_text", columnDefinition = "LONGBLOB", nullable = false)
+    private byte[] compressedText;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
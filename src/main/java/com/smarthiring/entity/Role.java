@@ -3,9 +3,12 @@ package com.smarthiring.entity;
 import com.smarthiring.enums.RoleName;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "roles")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "roles")
 @Getter
 @Setter
 @NoArgsConstructor
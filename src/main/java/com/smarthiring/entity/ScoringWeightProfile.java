@@ -0,0 +1,72 @@
+package com.smarthiring.entity;
+
+import com.smarthiring.service.scoring.ScoringWeights;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Scoring weights for one job, one department, or (neither set) the default for all jobs
+ */
+@Entity
+@Table(name = "scoring_weight_profiles", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_scoring_weights_job", columnNames = {"job_id"}),
+        @UniqueConstraint(name = "uk_scoring_weights_department", columnNames = {"department"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScoringWeightProfile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "department", length = 100)
+    private String department;
+
+    @Column(name = "skill_weight", nullable = false)
+    private Double skillWeight;
+
+    @Column(name = "experience_weight", nullable = false)
+    private Double experienceWeight;
+
+    @Column(name = "education_weight", nullable = false)
+    private Double educationWeight;
+
+    @Column(name = "resume_quality_weight", nullable = false)
+    private Double resumeQualityWeight;
+
+    @Column(name = "recency_weight", nullable = false)
+    private Double recencyWeight;
+
+    @Column(name = "updated_by", length = 100)
+    private String updatedBy;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    public ScoringWeights toWeights() {
+        return new ScoringWeights(skillWeight, experienceWeight, educationWeight, resumeQualityWeight, recencyWeight);
+    }
+
+    public void setWeights(ScoringWeights weights) {
+        skillWeight = weights.skill();
+        experienceWeight = weights.experience();
+        educationWeight = weights.education();
+        resumeQualityWeight = weights.resumeQuality();
+        recencyWeight = weights.recency();
+    }
+}
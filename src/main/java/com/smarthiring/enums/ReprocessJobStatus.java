@@ -0,0 +1,18 @@
+package com.smarthiring.enums;
+
+public enum ReprocessJobStatus {
+    RUNNING("Running"),
+    PAUSED("Paused"),
+    COMPLETED("Completed"),
+    FAILED("Failed");
+
+    private final String displayName;
+
+    ReprocessJobStatus(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
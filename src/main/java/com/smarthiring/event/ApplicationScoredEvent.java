@@ -0,0 +1,7 @@
+package com.smarthiring.event;
+
+/**
+ * An application's AI score was (re)calculated
+ */
+public record ApplicationScoredEvent(Long jobId, Long applicationId) {
+}
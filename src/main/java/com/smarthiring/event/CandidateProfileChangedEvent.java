@@ -0,0 +1,7 @@
+package com.smarthiring.event;
+
+/**
+ * Published when a candidate's matchable data changes (profile, primary resume)
+ */
+public record CandidateProfileChangedEvent(Long candidateId) {
+}
@@ -0,0 +1,21 @@
+package com.smarthiring.event;
+
+/**
+ * Published when a job is created, edited, deactivated or deleted.
+ * A null jobId means many jobs changed at once (e.g. expired jobs deactivated in bulk).
+ * scoringInputsChanged is set when an edit touched what applications are scored against.
+ */
+public record JobChangedEvent(Long jobId, boolean scoringInputsChanged) {
+
+    public JobChangedEvent(Long jobId) {
+        this(jobId, false);
+    }
+
+    public static JobChangedEvent allJobs() {
+        return new JobChangedEvent(null);
+    }
+
+    public boolean isBulk() {
+        return jobId == null;
+    }
+}
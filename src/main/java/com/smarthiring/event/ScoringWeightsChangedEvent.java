@@ -0,0 +1,12 @@
+package com.smarthiring.event;
+
+/**
+ * A weight profile was saved or removed. Set jobId for a job profile, department for a
+ * department profile; neither means the default weights changed, affecting every job.
+ */
+public record ScoringWeightsChangedEvent(Long jobId, String department) {
+
+    public static ScoringWeightsChangedEvent forDefault() {
+        return new ScoringWeightsChangedEvent(null, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.smarthiring.event;
+
+/**
+ * A different skill ontology version was swapped in; indexes built from canonical skills are stale
+ */
+public record SkillOntologyChangedEvent(String previousVersion, String version) {
+}
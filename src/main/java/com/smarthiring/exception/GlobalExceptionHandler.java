@@ -51,6 +51,21 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage(), request.getDescription(false)));
     }
 
+    /**
+     * Handle ServiceUnavailableException
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Object>> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            WebRequest request
+    ) {
+        log.warn("Service Unavailable: {}", ex.getMessage());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ex.getMessage(), request.getDescription(false)));
+    }
+
     /**
      * Handle UnauthorizedException
      */
@@ -42,6 +42,7 @@ public class ApplicationMapper {
                 .statusDisplay(application.getStatus() != null ? application.getStatus().getDisplayName() : null)
                 .aiScore(application.getAiScore())
                 .aiFeedback(application.getAiFeedback())
+                .possibleDuplicateOf(application.getPossibleDuplicateOf())
                 .hrRating(application.getHrRating())
                 .hrNotes(application.getHrNotes())
 
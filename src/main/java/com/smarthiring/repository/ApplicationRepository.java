@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -48,6 +49,14 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     boolean existsByJobIdAndCandidateId(Long jobId, Long candidateId);
 
+    /**
+     * Which of the given candidates applied to the job
+     */
+    @Query("SELECT a.candidate.id FROM Application a WHERE a.job.id = :jobId AND a.candidate.id IN :candidateIds " +
+            "ORDER BY a.appliedAt ASC")
+    List<Long> findCandidateIdsAppliedToJob(@Param("jobId") Long jobId,
+                                            @Param("candidateIds") Collection<Long> candidateIds);
+
     /**
      * Find applications by status
      */
@@ -72,6 +81,25 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
             @Param("minScore") BigDecimal minScore
     );
 
+    /**
+     * Top K scored applications, read off the (job_id, ai_score) index with LIMIT
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.candidate c JOIN FETCH c.user JOIN FETCH a.job " +
+            "WHERE a.job.id = :jobId AND a.aiScore IS NOT NULL ORDER BY a.aiScore DESC")
+    List<Application> findTopScoredByJobId(@Param("jobId") Long jobId, Pageable pageable);
+
+    /**
+     * Score statistics in one pass:
+     * [total, scored, avg, max, min, >=80, 60-80, 40-60, <40]
+     */
+    @Query("SELECT COUNT(a), COUNT(a.aiScore), AVG(a.aiScore), MAX(a.aiScore), MIN(a.aiScore), " +
+            "SUM(CASE WHEN a.aiScore >= 80 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.aiScore >= 60 AND a.aiScore < 80 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.aiScore >= 40 AND a.aiScore < 60 THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN a.aiScore < 40 THEN 1 ELSE 0 END) " +
+            "FROM Application a WHERE a.job.id = :jobId")
+    List<Object[]> getScoreStatistics(@Param("jobId") Long jobId);
+
     /**
      * Find applications ordered by AI score
      */
@@ -173,4 +201,57 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT DATE(a.appliedAt), COUNT(a) FROM Application a " +
             "WHERE a.appliedAt >= :startDate GROUP BY DATE(a.appliedAt) ORDER BY DATE(a.appliedAt)")
     List<Object[]> getDailyApplicationCount(@Param("startDate") LocalDateTime startDate);
-}
\ No newline at end of file
+
+    /**
+     * Ids of jobs the candidate has already applied to
+     */
+    @Query("SELECT a.job.id FROM Application a WHERE a.candidate.id = :candidateId")
+    List<Long> findJobIdsByCandidateId(@Param("candidateId") Long candidateId);
+
+    /**
+     * Ids of candidates who have applied to the job
+     */
+    @Query("SELECT a.candidate.id FROM Application a WHERE a.job.id = :jobId")
+    List<Long> findCandidateIdsByJobId(@Param("jobId") Long jobId);
+
+    @Query("SELECT a.id FROM Application a WHERE a.job.id = :jobId")
+    List<Long> findIdsByJobId(@Param("jobId") Long jobId);
+
+    @Query("SELECT a.id FROM Application a WHERE a.candidate.id = :candidateId")
+    List<Long> findIdsByCandidateId(@Param("candidateId") Long candidateId);
+
+    /**
+     * Ids of applications submitted in [from, to)
+     */
+    @Query("SELECT a.id FROM Application a WHERE a.appliedAt >= :from AND a.appliedAt < :to")
+    List<Long> findIdsAppliedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    /**
+     * Ids of scored applications without components from the given scoring model version
+     */
+    @Query("SELECT a.id FROM Application a WHERE a.aiScore IS NOT NULL AND NOT EXISTS " +
+            "(SELECT s.applicationId FROM ApplicationScore s WHERE s.applicationId = a.id " +
+            "AND s.modelVersion = :modelVersion)")
+    List<Long> findIdsScoredBeforeModelVersion(@Param("modelVersion") int modelVersion);
+
+    /**
+     * Applications with what scoring reads fetched up front
+     */
+    @Query("SELECT a FROM Application a JOIN FETCH a.job JOIN FETCH a.candidate LEFT JOIN FETCH a.resume " +
+            "WHERE a.id IN :ids")
+    List<Application> findForScoringByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Scoring inputs of every applicant to a job in one query, for simulations:
+     * [id, candidateId, fullName, aiScore, appliedAt, skills, totalExperience, education,
+     *  application resume id, its extractedSkills, extractedEducation, parsedTextLength,
+     *  primary resume id, its extractedSkills, extractedEducation, parsedTextLength]
+     */
+    @Query("SELECT a.id, c.id, u.fullName, a.aiScore, a.appliedAt, c.skills, c.totalExperience, c.education, " +
+            "ar.id, ar.extractedSkills, ar.extractedEducation, ar.parsedTextLength, " +
+            "pr.id, pr.extractedSkills, pr.extractedEducation, pr.parsedTextLength " +
+            "FROM Application a JOIN a.candidate c JOIN c.user u LEFT JOIN a.resume ar " +
+            "LEFT JOIN c.resumes pr ON pr.isPrimary = true " +
+            "WHERE a.job.id = :jobId ORDER BY a.id")
+    List<Object[]> findSimulationProfiles(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,72 @@
+package com.smarthiring.repository;
+
+import com.smarthiring.entity.ApplicationScore;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ApplicationScoreRepository extends JpaRepository<ApplicationScore, Long> {
+
+    /**
+     * Insert or replace the components of one application in a single statement
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO application_scores (application_id, job_id, model_version, skill_score, " +
+            "experience_score, education_score, resume_quality_score, recency_score, required_skill_count, " +
+            "matched_skills, missing_skills, extra_skills, matched_nice_to_have, missing_nice_to_have, scored_at) " +
+            "VALUES (:applicationId, :jobId, :modelVersion, :skill, :experience, :education, :resumeQuality, " +
+            ":recency, :requiredSkillCount, :matchedSkills, :missingSkills, :extraSkills, :matchedNiceToHave, " +
+            ":missingNiceToHave, NOW()) " +
+            "ON DUPLICATE KEY UPDATE job_id = VALUES(job_id), model_version = VALUES(model_version), " +
+            "skill_score = VALUES(skill_score), experience_score = VALUES(experience_score), " +
+            "education_score = VALUES(education_score), resume_quality_score = VALUES(resume_quality_score), " +
+            "recency_score = VALUES(recency_score), required_skill_count = VALUES(required_skill_count), " +
+            "matched_skills = VALUES(matched_skills), missing_skills = VALUES(missing_skills), " +
+            "extra_skills = VALUES(extra_skills), matched_nice_to_have = VALUES(matched_nice_to_have), " +
+            "missing_nice_to_have = VALUES(missing_nice_to_have), scored_at = VALUES(scored_at)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "application_scores"))
+    int upsert(@Param("applicationId") Long applicationId, @Param("jobId") Long jobId,
+               @Param("modelVersion") int modelVersion,
+               @Param("skill") double skill, @Param("experience") double experience,
+               @Param("education") double education, @Param("resumeQuality") double resumeQuality,
+               @Param("recency") double recency, @Param("requiredSkillCount") int requiredSkillCount,
+               @Param("matchedSkills") String matchedSkills, @Param("missingSkills") String missingSkills,
+               @Param("extraSkills") String extraSkills, @Param("matchedNiceToHave") String matchedNiceToHave,
+               @Param("missingNiceToHave") String missingNiceToHave);
+
+    /**
+     * Average of each component for a job: [skill, experience, education, resumeQuality, recency]
+     */
+    @Query("SELECT AVG(s.skillScore), AVG(s.experienceScore), AVG(s.educationScore), " +
+            "AVG(s.resumeQualityScore), AVG(s.recencyScore) " +
+            "FROM ApplicationScore s WHERE s.jobId = :jobId AND s.modelVersion = :modelVersion")
+    List<Object[]> getComponentAverages(@Param("jobId") Long jobId, @Param("modelVersion") int modelVersion);
+
+    /**
+     * Recompute stored AI scores of the given jobs from their components with new weights,
+     * without re-scoring. Rows from an older model version are left alone.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE applications a JOIN application_scores s ON s.application_id = a.id " +
+            "SET a.ai_score = ROUND((s.skill_score * :skill + s.experience_score * :experience " +
+            "+ s.education_score * :education + s.resume_quality_score * :resumeQuality " +
+            "+ s.recency_score * :recency) * 100, 2), a.updated_at = NOW() " +
+            "WHERE s.model_version = :modelVersion AND s.job_id IN (:jobIds)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "applications"))
+    int recombine(@Param("jobIds") Collection<Long> jobIds, @Param("modelVersion") int modelVersion,
+                  @Param("skill") double skill, @Param("experience") double experience,
+                  @Param("education") double education, @Param("resumeQuality") double resumeQuality,
+                  @Param("recency") double recency);
+}
@@ -9,6 +9,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +21,29 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
      */
     Optional<Candidate> findByUserId(Long userId);
 
+    /**
+     * Candidate id of a user, without loading the candidate
+     */
+    @Query("SELECT c.id FROM Candidate c WHERE c.user.id = :userId")
+    Optional<Long> findIdByUserId(@Param("userId") Long userId);
+
+    /**
+     * What a CandidateResponse is built from, for its ETag:
+     * [id, updatedAt, user.updatedAt, resume count, last resume change, primary resume id, application count]
+     */
+    String CANDIDATE_VERSION = "SELECT c.id, c.updatedAt, u.updatedAt, " +
+            "(SELECT COUNT(r) FROM Resume r WHERE r.candidate = c), " +
+            "(SELECT MAX(r.updatedAt) FROM Resume r WHERE r.candidate = c), " +
+            "(SELECT MAX(r.id) FROM Resume r WHERE r.candidate = c AND r.isPrimary = true), " +
+            "(SELECT COUNT(a) FROM Application a WHERE a.candidate = c) " +
+            "FROM Candidate c JOIN c.user u ";
+
+    @Query(CANDIDATE_VERSION + "WHERE c.id = :id")
+    List<Object[]> findVersionById(@Param("id") Long id);
+
+    @Query(CANDIDATE_VERSION + "WHERE u.id = :userId")
+    List<Object[]> findVersionByUserId(@Param("userId") Long userId);
+
     /**
      * Find candidate by user email
      */
@@ -63,6 +87,11 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     @Query("SELECT c FROM Candidate c WHERE LOWER(c.skills) LIKE LOWER(CONCAT('%', :skill, '%'))")
     Page<Candidate> findBySkillContaining(@Param("skill") String skill, Pageable pageable);
 
+    /**
+     * One sorted page of the given candidates (ids resolved by the search index)
+     */
+    Page<Candidate> findByIdIn(Collection<Long> ids, Pageable pageable);
+
     /**
      * Search candidates by multiple criteria
      */
@@ -111,4 +140,46 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     @Query("SELECT c FROM Candidate c WHERE c.id NOT IN " +
             "(SELECT a.candidate.id FROM Application a WHERE a.job.id = :jobId)")
     Page<Candidate> findCandidatesNotAppliedToJob(@Param("jobId") Long jobId, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of scoring inputs for pool-wide sourcing:
+     * [id, skills, totalExperience, education, resumeId, resumeSkills, resumeEducation, parsedTextLength]
+     */
+    @Query("SELECT c.id, c.skills, c.totalExperience, c.education, " +
+            "r.id, r.extractedSkills, r.extractedEducation, r.parsedTextLength " +
+            "FROM Candidate c LEFT JOIN c.resumes r ON r.isPrimary = true " +
+            "WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSourcingProfiles(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Keyset page of search index inputs:
+     * [id, skills, totalExperience, location, noticePeriod, primaryResumeSkills]
+     */
+    @Query("SELECT c.id, c.skills, c.totalExperience, c.location, c.noticePeriod, r.extractedSkills " +
+            "FROM Candidate c LEFT JOIN c.resumes r ON r.isPrimary = true " +
+            "WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSearchIndexProfiles(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Search index inputs of one candidate (same columns as findSearchIndexProfiles)
+     */
+    @Query("SELECT c.id, c.skills, c.totalExperience, c.location, c.noticePeriod, r.extractedSkills " +
+            "FROM Candidate c LEFT JOIN c.resumes r ON r.isPrimary = true WHERE c.id = :id")
+    List<Object[]> findSearchIndexProfile(@Param("id") Long id);
+
+    /**
+     * Keyset page of similarity inputs:
+     * [id, skills, totalExperience, education, primaryResumeSkills, primaryResumeEducation]
+     */
+    @Query("SELECT c.id, c.skills, c.totalExperience, c.education, r.extractedSkills, r.extractedEducation " +
+            "FROM Candidate c LEFT JOIN c.resumes r ON r.isPrimary = true " +
+            "WHERE c.id > :afterId ORDER BY c.id")
+    List<Object[]> findSimilarityProfiles(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Similarity inputs of one candidate (same columns as findSimilarityProfiles)
+     */
+    @Query("SELECT c.id, c.skills, c.totalExperience, c.education, r.extractedSkills, r.extractedEducation " +
+            "FROM Candidate c LEFT JOIN c.resumes r ON r.isPrimary = true WHERE c.id = :id")
+    List<Object[]> findSimilarityProfile(@Param("id") Long id);
+}
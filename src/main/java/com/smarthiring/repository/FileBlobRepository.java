@@ -0,0 +1,67 @@
+package com.smarthiring.repository;
+
+import com.smarthiring.entity.FileBlob;
+import com.smarthiring.service.storage.StorageArea;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    /**
+     * Row of a key under a write lock held until the caller commits. With no row, InnoDB
+     * locks the gap instead, so an acquire of the same key waits as well.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM FileBlob b WHERE b.storageArea = :area AND b.storageKey = :key")
+    Optional<FileBlob> lockByKey(@Param("area") StorageArea area, @Param("key") String key);
+
+    /**
+     * Register a reference to a stored object, creating the row on first upload.
+     * Single statement so concurrent uploads of the same content cannot lose a count.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO file_blobs (storage_area, storage_key, content_hash, file_size, ref_count, created_at) " +
+            "VALUES (:area, :key, :hash, :size, 1, NOW()) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "file_blobs"))
+    int acquire(@Param("area") String area, @Param("key") String key,
+                @Param("hash") String hash, @Param("size") long size);
+
+    /**
+     * Drop one reference. Returns 0 when the key is not tracked (files stored before deduplication).
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 " +
+            "WHERE b.storageArea = :area AND b.storageKey = :key AND b.refCount > 0")
+    int release(@Param("area") StorageArea area, @Param("key") String key);
+
+    /**
+     * Remove the row once nothing references it. Returns 1 if the object itself should be deleted.
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM FileBlob b WHERE b.storageArea = :area AND b.storageKey = :key AND b.refCount <= 0")
+    int deleteUnreferenced(@Param("area") StorageArea area, @Param("key") String key);
+
+    /**
+     * Forget an object removed by the storage reconciler
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM FileBlob b WHERE b.storageArea = :area AND b.storageKey = :key")
+    int deleteByKey(@Param("area") StorageArea area, @Param("key") String key);
+}
@@ -3,11 +3,15 @@ package com.smarthiring.repository;
 import com.smarthiring.entity.Job;
 import com.smarthiring.enums.JobType;
 import com.smarthiring.enums.WorkMode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,8 +22,9 @@ import java.util.List;
 public interface JobRepository extends JpaRepository<Job, Long> {
 
     /**
-     * Find all active jobs
+     * Find all active jobs (postedBy fetched with them: list responses show the poster's name)
      */
+    @EntityGraph(attributePaths = "postedBy")
     Page<Job> findByIsActiveTrue(Pageable pageable);
 
     /**
@@ -30,6 +35,7 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     /**
      * Find jobs posted by a user
      */
+    @EntityGraph(attributePaths = "postedBy")
     Page<Job> findByPostedById(Long userId, Pageable pageable);
 
     /**
@@ -50,11 +56,13 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     /**
      * Find featured jobs
      */
+    @EntityGraph(attributePaths = "postedBy")
     List<Job> findByIsFeaturedTrueAndIsActiveTrue();
 
     /**
      * Search jobs by title or description (Full-text search)
      */
+    @EntityGraph(attributePaths = "postedBy")
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
             "(LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
             "LOWER(j.description) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -64,6 +72,7 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     /**
      * Advanced job search with multiple filters
      */
+    @EntityGraph(attributePaths = "postedBy")
     @Query("SELECT j FROM Job j WHERE j.isActive = true AND " +
             "(:keyword IS NULL OR " +
             "   LOWER(j.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
@@ -116,12 +125,23 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     List<Job> findExpiredJobs(@Param("today") LocalDate today);
 
     /**
-     * Increment view count
+     * Increment view count. Runs on every job view, so it is a native update that declares
+     * no entity table as touched: a JPQL bulk update would evict the whole jobs cache region.
+     * updated_at is kept as is (MySQL's ON UPDATE would bump it): a view is not an edit.
      */
     @Modifying
-    @Query("UPDATE Job j SET j.viewsCount = j.viewsCount + 1 WHERE j.id = :jobId")
+    @Query(value = "UPDATE jobs SET views_count = views_count + 1, updated_at = updated_at WHERE id = :jobId",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "job_views"))
     int incrementViewCount(@Param("jobId") Long jobId);
 
+    /**
+     * [updatedAt, applicationsCount, isActive] of a job, for the ETag of its details.
+     * applicationsCount and isActive are also changed by bulk updates that skip auditing.
+     */
+    @Query("SELECT j.updatedAt, j.applicationsCount, j.isActive FROM Job j WHERE j.id = :jobId")
+    List<Object[]> findVersionById(@Param("jobId") Long jobId);
+
     /**
      * Increment application count
      */
@@ -161,6 +181,7 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     /**
      * Find recent jobs
      */
+    @EntityGraph(attributePaths = "postedBy")
     @Query("SELECT j FROM Job j WHERE j.isActive = true ORDER BY j.createdAt DESC")
     List<Job> findRecentJobs(Pageable pageable);
 
@@ -170,4 +191,31 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.isActive = true ORDER BY j.applicationsCount DESC")
     List<Job> findMostAppliedJobs(Pageable pageable);
 
-}
\ No newline at end of file
+    /**
+     * Matching attributes of open jobs for the recommendation index:
+     * [id, requiredSkills, experienceMin, experienceMax, location, workMode, createdAt]
+     */
+    @Query("SELECT j.id, j.requiredSkills, j.experienceMin, j.experienceMax, j.location, j.workMode, j.createdAt " +
+            "FROM Job j WHERE j.isActive = true AND (j.applicationDeadline IS NULL OR j.applicationDeadline >= :today)")
+    List<Object[]> findRecommendationProfiles(@Param("today") LocalDate today);
+
+    /**
+     * Same as findRecommendationProfiles for a single job (empty if closed)
+     */
+    @Query("SELECT j.id, j.requiredSkills, j.experienceMin, j.experienceMax, j.location, j.workMode, j.createdAt " +
+            "FROM Job j WHERE j.id = :jobId AND j.isActive = true " +
+            "AND (j.applicationDeadline IS NULL OR j.applicationDeadline >= :today)")
+    List<Object[]> findRecommendationProfile(@Param("jobId") Long jobId, @Param("today") LocalDate today);
+
+    /**
+     * [id, department] of jobs, for grouping them by effective scoring weights
+     */
+    @Query("SELECT j.id, j.department FROM Job j")
+    List<Object[]> findAllIdsAndDepartments();
+
+    @Query("SELECT j.id, j.department FROM Job j WHERE LOWER(TRIM(j.department)) = LOWER(TRIM(:department))")
+    List<Object[]> findIdsAndDepartmentsByDepartment(@Param("department") String department);
+
+    @Query("SELECT j.id, j.department FROM Job j WHERE j.id = :jobId")
+    List<Object[]> findIdAndDepartmentById(@Param("jobId") Long jobId);
+}
@@ -1,12 +1,15 @@
 package com.smarthiring.repository;
 
+import com.smarthiring.dto.ResumeFileInfo;
 import com.smarthiring.entity.Resume;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,14 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
      */
     List<Resume> findByCandidateId(Long candidateId);
 
+    /**
+     * [resume count, last resume change, primary resume id] of a user's candidate, for the
+     * ETag of their resume list; empty if the user has no candidate profile
+     */
+    @Query("SELECT COUNT(r), MAX(r.updatedAt), MAX(CASE WHEN r.isPrimary = true THEN r.id ELSE 0 END) " +
+            "FROM Candidate c LEFT JOIN Resume r ON r.candidate = c WHERE c.user.id = :userId GROUP BY c.id")
+    List<Object[]> findVersionByCandidateUserId(@Param("userId") Long userId);
+
     /**
      * Find primary resume by candidate ID
      */
@@ -28,6 +39,20 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
      */
     Optional<Resume> findByFileName(String fileName);
 
+    /**
+     * Get download metadata of a resume in a single lookup
+     */
+    @Query("SELECT new com.smarthiring.dto.ResumeFileInfo(r.id, r.fileName, r.originalFileName, " +
+            "r.contentHash, r.fileSize, r.uploadedAt) FROM Resume r WHERE r.id = :id")
+    Optional<ResumeFileInfo> findFileInfoById(@Param("id") Long id);
+
+    /**
+     * Record content hash of a resume uploaded before hashes were stored
+     */
+    @Modifying
+    @Query("UPDATE Resume r SET r.contentHash = :contentHash WHERE r.id = :resumeId")
+    int updateContentHash(@Param("resumeId") Long resumeId, @Param("contentHash") String contentHash);
+
     /**
      * Count resumes by candidate ID
      */
@@ -71,6 +96,46 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
     /**
      * Find resumes without parsed text (needs parsing)
      */
-    @Query("SELECT r FROM Resume r WHERE r.parsedText IS NULL OR r.parsedText = ''")
+    @Query("SELECT r FROM Resume r WHERE r.parsedTextLength IS NULL OR r.parsedTextLength = 0")
     List<Resume> findResumesNeedingParsing();
-}
\ No newline at end of file
+
+    /**
+     * Keyset page of resumes for bulk re-processing:
+     * [id, fileName, compressedText, sectionOffsets, candidateId]
+     */
+    @Query("SELECT r.id, r.fileName, t.compressedText, r.sectionOffsets, r.candidate.id FROM Resume r " +
+            "LEFT JOIN ResumeText t ON t.resumeId = r.id WHERE r.id > :lastId ORDER BY r.id ASC")
+    List<Object[]> findReprocessBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Count resumes after a keyset checkpoint
+     */
+    @Query("SELECT COUNT(r) FROM Resume r WHERE r.id > :lastId")
+    long countByIdGreaterThan(@Param("lastId") Long lastId);
+
+    /**
+     * Which of the given stored file names are still referenced (storage reconciliation)
+     */
+    @Query("SELECT DISTINCT r.fileName FROM Resume r WHERE r.fileName IN :fileNames")
+    List<String> findReferencedFileNames(@Param("fileNames") Collection<String> fileNames);
+
+    /**
+     * Skills extracted from the candidate's primary resume (no text load)
+     */
+    @Query("SELECT r.extractedSkills FROM Resume r WHERE r.candidate.id = :candidateId AND r.isPrimary = true")
+    List<String> findPrimaryExtractedSkills(@Param("candidateId") Long candidateId);
+
+    /**
+     * Keyset page of resume text signatures: [id, candidateId, textSignature]
+     */
+    @Query("SELECT r.id, r.candidate.id, r.textSignature FROM Resume r " +
+            "WHERE r.id > :lastId AND r.textSignature IS NOT NULL ORDER BY r.id ASC")
+    List<Object[]> findTextSignatures(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * Text signatures of one candidate's resumes: [id, candidateId, textSignature]
+     */
+    @Query("SELECT r.id, r.candidate.id, r.textSignature FROM Resume r " +
+            "WHERE r.candidate.id = :candidateId AND r.textSignature IS NOT NULL")
+    List<Object[]> findTextSignaturesByCandidateId(@Param("candidateId") Long candidateId);
+}
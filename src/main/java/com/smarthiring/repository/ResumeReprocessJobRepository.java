@@ -0,0 +1,32 @@
+package com.smarthiring.repository;
+
+import com.smarthiring.entity.ResumeReprocessJob;
+import com.smarthiring.enums.ReprocessJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ResumeReprocessJobRepository extends JpaRepository<ResumeReprocessJob, Long> {
+
+    /**
+     * Find jobs by status
+     */
+    List<ResumeReprocessJob> findByStatus(ReprocessJobStatus status);
+
+    /**
+     * Find all jobs, newest first
+     */
+    List<ResumeReprocessJob> findAllByOrderByIdDesc();
+
+    /**
+     * Move jobs from one status to another (used to park jobs interrupted by a restart)
+     */
+    @Modifying
+    @Query("UPDATE ResumeReprocessJob j SET j.status = :to WHERE j.status = :from")
+    int updateStatus(@Param("from") ReprocessJobStatus from, @Param("to") ReprocessJobStatus to);
+}
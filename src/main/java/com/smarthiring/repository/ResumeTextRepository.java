@@ -0,0 +1,26 @@
+package com.smarthiring.repository;
+
+import com.smarthiring.entity.ResumeText;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ResumeTextRepository extends JpaRepository<ResumeText, Long> {
+
+    /**
+     * Write the text of a resume, creating the row on first write
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resume_texts (resume_id, compressed_text, updated_at) " +
+            "VALUES (:resumeId, :compressedText, NOW()) " +
+            "ON DUPLICATE KEY UPDATE compressed_text = VALUES(compressed_text), updated_at = NOW()",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "resume_texts"))
+    int upsert(@Param("resumeId") Long resumeId, @Param("compressedText") byte[] compressedText);
+}
@@ -2,7 +2,10 @@ package com.smarthiring.repository;
 
 import com.smarthiring.entity.Role;
 import com.smarthiring.enums.RoleName;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,7 +14,8 @@ import java.util.Optional;
 public interface RoleRepository extends JpaRepository<Role, Long> {
 
 
-     // Find role by name
+     // Find role by name (query cache: runs on every registration, roles never change)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     Optional<Role> findByName(RoleName name);
 
     /**
@@ -0,0 +1,21 @@
+package com.smarthiring.repository;
+
+import com.smarthiring.entity.ScoringWeightProfile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ScoringWeightProfileRepository extends JpaRepository<ScoringWeightProfile, Long> {
+
+    Optional<ScoringWeightProfile> findByJobId(Long jobId);
+
+    @Query("SELECT p FROM ScoringWeightProfile p WHERE p.jobId IS NULL AND LOWER(p.department) = LOWER(:department)")
+    Optional<ScoringWeightProfile> findByDepartment(@Param("department") String department);
+
+    @Query("SELECT p FROM ScoringWeightProfile p WHERE p.jobId IS NULL AND p.department IS NULL")
+    Optional<ScoringWeightProfile> findDefault();
+}
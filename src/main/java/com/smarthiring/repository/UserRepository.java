@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -99,4 +100,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate
     );
-}
\ No newline at end of file
+
+    /**
+     * Which of the given stored profile pictures are still referenced (storage reconciliation)
+     */
+    @Query("SELECT DISTINCT u.profilePicture FROM User u WHERE u.profilePicture IN :fileNames")
+    List<String> findReferencedProfilePictures(@Param("fileNames") Collection<String> fileNames);
+}
@@ -1,5 +1,6 @@
 package com.smarthiring.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -38,10 +39,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // Validate token and set authentication
             if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
-
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                Claims claims = jwtTokenProvider.getClaimsFromToken(jwt);
+                String email = claims.getSubject();
+                Long userId = claims.get("userId", Long.class);
+
+                // Load user details by id, which the second-level cache serves without a query
+                UserDetails userDetails = userId != null
+                        ? userDetailsService.loadUserById(userId)
+                        : userDetailsService.loadUserByUsername(email);
 
                 // Create authentication token
                 UsernamePasswordAuthenticationToken authentication =
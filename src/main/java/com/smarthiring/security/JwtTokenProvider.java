@@ -1,9 +1,13 @@
 package com.smarthiring.security;
 
+import com.smarthiring.util.AppConstants;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -15,9 +19,12 @@ import java.util.Date;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    private final MeterRegistry meterRegistry;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -121,22 +128,28 @@ public class JwtTokenProvider {
      * Validate JWT token
      */
     public boolean validateToken(String token) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "invalid";
         try {
             Jwts.parser()
                     .verifyWith(getSigningKey())
                     .build()
                     .parseSignedClaims(token);
+            outcome = "valid";
             return true;
         } catch (SignatureException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token: {}", ex.getMessage());
         } catch (ExpiredJwtException ex) {
+            outcome = "expired";
             log.error("Expired JWT token: {}", ex.getMessage());
         } catch (UnsupportedJwtException ex) {
             log.error("Unsupported JWT token: {}", ex.getMessage());
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer(AppConstants.METRIC_JWT_VALIDATION, "outcome", outcome));
         }
         return false;
     }
@@ -1,24 +1,43 @@
 package com.smarthiring.service;
 
+import com.smarthiring.config.ScoringConfig;
 import com.smarthiring.dto.response.ApplicationResponse;
 import com.smarthiring.entity.Application;
+import com.smarthiring.entity.ApplicationScore;
 import com.smarthiring.entity.Candidate;
 import com.smarthiring.entity.Job;
 import com.smarthiring.entity.Resume;
 import com.smarthiring.enums.ApplicationStatus;
+import com.smarthiring.event.ApplicationScoredEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
 import com.smarthiring.exception.ResourceNotFoundException;
 import com.smarthiring.mapper.ApplicationMapper;
 import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.ApplicationScoreRepository;
 import com.smarthiring.repository.JobRepository;
+import com.smarthiring.service.scoring.EducationLevel;
+import com.smarthiring.service.scoring.ScoreComponents;
+import com.smarthiring.service.scoring.ScoringSignals;
+import com.smarthiring.service.scoring.ScoringWeights;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,16 +46,18 @@ import java.util.stream.Collectors;
 public class AIRankingService {
 
     private final ApplicationRepository applicationRepository;
+    private final ApplicationScoreRepository applicationScoreRepository;
     private final JobRepository jobRepository;
     private final SkillMatcherService skillMatcherService;
+    private final ScoringWeightService scoringWeightService;
+    private final ScoringConfig scoringConfig;
     private final ApplicationMapper applicationMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
-    // Scoring weights
-    private static final double SKILL_WEIGHT = 0.50;        // 50% weight for skills
-    private static final double EXPERIENCE_WEIGHT = 0.25;   // 25% weight for experience
-    private static final double EDUCATION_WEIGHT = 0.10;    // 10% weight for education
-    private static final double RESUME_QUALITY_WEIGHT = 0.10; // 10% for resume quality
-    private static final double RECENCY_WEIGHT = 0.05;      // 5% for application recency
+    // jobId -> statistics; evicted when the job's applications are scored
+    private final Map<Long, Map<String, Object>> statisticsCache = new ConcurrentHashMap<>();
+    private final AtomicLong statisticsGeneration = new AtomicLong();
 
     /**
      * Calculate AI score for an application
@@ -53,36 +74,30 @@ public class AIRankingService {
      * Calculate AI score for an application entity
      */
     public BigDecimal calculateScore(Application application) {
+        return meterRegistry.timer(AppConstants.METRIC_SCORING).record(() -> scoreApplication(application));
+    }
+
+    private BigDecimal scoreApplication(Application application) {
         Job job = application.getJob();
         Candidate candidate = application.getCandidate();
         Resume resume = application.getResume() != null ?
                 application.getResume() : candidate.getPrimaryResume();
 
-        double totalScore = 0.0;
         StringBuilder feedback = new StringBuilder();
 
-        // 1. Skill Match Score (50%)
-        double skillScore = calculateSkillScore(candidate, resume, job, feedback);
-        totalScore += skillScore * SKILL_WEIGHT;
-
-        // 2. Experience Match Score (25%)
-        double experienceScore = calculateExperienceScore(candidate, job, feedback);
-        totalScore += experienceScore * EXPERIENCE_WEIGHT;
-
-        // 3. Education Score (10%)
-        double educationScore = calculateEducationScore(candidate, resume, feedback);
-        totalScore += educationScore * EDUCATION_WEIGHT;
-
-        // 4. Resume Quality Score (10%)
-        double resumeQualityScore = calculateResumeQualityScore(resume, feedback);
-        totalScore += resumeQualityScore * RESUME_QUALITY_WEIGHT;
-
-        // 5. Recency Bonus (5%)
-        double recencyScore = calculateRecencyScore(application, feedback);
-        totalScore += recencyScore * RECENCY_WEIGHT;
+        Map<String, Object> skillMatch = skillMatcherService.getDetailedSkillMatch(
+                combinedSkills(candidate, resume), job.getRequiredSkills(), job.getNiceToHaveSkills());
+
+        ScoreComponents components = new ScoreComponents(
+                calculateSkillScore(skillMatch, feedback),
+                calculateExperienceScore(candidate, job, feedback),
+                calculateEducationScore(candidate, resume, feedback),
+                calculateResumeQualityScore(resume, feedback),
+                ScoringSignals.recencyScore(application.getAppliedAt())
+        );
 
-        // Convert to percentage (0-100)
-        double finalScore = totalScore * 100;
+        // Percentage (0-100)
+        double finalScore = components.total(scoringWeightService.weightsFor(job));
 
         // Round to 2 decimal places
         BigDecimal score = BigDecimal.valueOf(finalScore)
@@ -93,6 +108,8 @@ public class AIRankingService {
         application.setAiFeedback(feedback.toString());
         application.setUpdatedAt(LocalDateTime.now());
         applicationRepository.save(application);
+        saveComponents(application, job, components, skillMatch);
+        eventPublisher.publishEvent(new ApplicationScoredEvent(job.getId(), application.getId()));
 
         log.info("AI Score calculated for application {}: {}", application.getId(), score);
 
@@ -100,12 +117,11 @@ public class AIRankingService {
     }
 
     /**
-     * Calculate skill match score
+     * Profile skills plus skills extracted from the resume
      */
-    private double calculateSkillScore(Candidate candidate, Resume resume, Job job, StringBuilder feedback) {
+    private String combinedSkills(Candidate candidate, Resume resume) {
         String candidateSkills = candidate.getSkills();
 
-        // Also consider skills from resume
         if (resume != null && resume.getExtractedSkills() != null) {
             if (candidateSkills == null || candidateSkills.isEmpty()) {
                 candidateSkills = resume.getExtractedSkills();
@@ -114,16 +130,18 @@ public class AIRankingService {
             }
         }
 
-        String requiredSkills = job.getRequiredSkills();
-
-        Map<String, Object> skillMatch = skillMatcherService.getDetailedSkillMatch(
-                candidateSkills, requiredSkills);
+        return candidateSkills;
+    }
 
+    /**
+     * Calculate skill match score
+     */
+    @SuppressWarnings("unchecked")
+    private double calculateSkillScore(Map<String, Object> skillMatch, StringBuilder feedback) {
         double score = (Double) skillMatch.get("matchScore");
         int matched = (Integer) skillMatch.get("totalMatched");
         int total = (Integer) skillMatch.get("totalRequired");
 
-        @SuppressWarnings("unchecked")
         List<String> missingSkills = (List<String>) skillMatch.get("missingSkills");
 
         feedback.append(String.format("Skills: %d/%d matched (%.0f%%). ", matched, total, score * 100));
@@ -134,9 +152,42 @@ public class AIRankingService {
             feedback.append("Missing ").append(missingSkills.size()).append(" skills. ");
         }
 
+        int niceToHave = (Integer) skillMatch.getOrDefault("totalNiceToHave", 0);
+        if (niceToHave > 0) {
+            List<String> matchedNiceToHave = (List<String>) skillMatch.get("matchedNiceToHave");
+            feedback.append(String.format("Nice-to-have: %d/%d. ", matchedNiceToHave.size(), niceToHave));
+        }
+
         return score;
     }
 
+    /**
+     * Persist the components next to the score so explanations, statistics and
+     * re-weighting can use them without scoring again
+     */
+    @SuppressWarnings("unchecked")
+    private void saveComponents(Application application, Job job, ScoreComponents components,
+                                Map<String, Object> skillMatch) {
+        if (application.getId() == null) {
+            return;
+        }
+
+        applicationScoreRepository.upsert(application.getId(), job.getId(), ScoringSignals.MODEL_VERSION,
+                components.skill(), components.experience(), components.education(),
+                components.resumeQuality(), components.recency(),
+                (Integer) skillMatch.get("totalRequired"),
+                String.join(", ", (List<String>) skillMatch.get("matchedSkills")),
+                String.join(", ", (List<String>) skillMatch.get("missingSkills")),
+                String.join(", ", (List<String>) skillMatch.get("extraSkills")),
+                joinSkills(skillMatch.get("matchedNiceToHave")),
+                joinSkills(skillMatch.get("missingNiceToHave")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String joinSkills(Object skills) {
+        return skills != null ? String.join(", ", (List<String>) skills) : null;
+    }
+
     /**
      * Calculate experience match score
      */
@@ -147,35 +198,25 @@ public class AIRankingService {
 
         if (candidateExp == null) {
             feedback.append("Experience: Not specified. ");
-            return 0.5; // Neutral score if not specified
+            return ScoringSignals.experienceScore(null, minExp, maxExp);
         }
 
         double years = candidateExp.doubleValue();
+        double score = ScoringSignals.experienceScore(years, minExp, maxExp);
 
-        // No requirements specified
         if (minExp == null && maxExp == null) {
             feedback.append(String.format("Experience: %.1f years (no requirement). ", years));
-            return 1.0;
-        }
-
-        int min = minExp != null ? minExp : 0;
-        int max = maxExp != null ? maxExp : 50;
-
-        double score;
-
-        if (years >= min && years <= max) {
-            // Perfect fit
-            score = 1.0;
-            feedback.append(String.format("Experience: %.1f years (ideal range %d-%d). ", years, min, max));
-        } else if (years < min) {
-            // Under-qualified
-            double deficit = min - years;
-            score = Math.max(0, 1 - (deficit * 0.2));
-            feedback.append(String.format("Experience: %.1f years (below required %d). ", years, min));
         } else {
-            // Over-qualified (slight penalty)
-            score = 0.85;
-            feedback.append(String.format("Experience: %.1f years (above range, may be overqualified). ", years));
+            int min = minExp != null ? minExp : 0;
+            int max = maxExp != null ? maxExp : 50;
+
+            if (years >= min && years <= max) {
+                feedback.append(String.format("Experience: %.1f years (ideal range %d-%d). ", years, min, max));
+            } else if (years < min) {
+                feedback.append(String.format("Experience: %.1f years (below required %d). ", years, min));
+            } else {
+                feedback.append(String.format("Experience: %.1f years (above range, may be overqualified). ", years));
+            }
         }
 
         return score;
@@ -193,34 +234,10 @@ public class AIRankingService {
             }
         }
 
-        if (education == null || education.isEmpty()) {
-            feedback.append("Education: Not specified. ");
-            return 0.5;
-        }
+        EducationLevel level = skillMatcherService.educationLevel(education);
+        feedback.append("Education: ").append(level.getDisplayName()).append(". ");
 
-        String lowerEducation = education.toLowerCase();
-        double score = 0.5;
-
-        // Score based on education level
-        if (lowerEducation.contains("phd") || lowerEducation.contains("doctorate")) {
-            score = 1.0;
-            feedback.append("Education: PhD/Doctorate. ");
-        } else if (lowerEducation.contains("master") || lowerEducation.contains("m.tech") ||
-                lowerEducation.contains("mba") || lowerEducation.contains("mca")) {
-            score = 0.9;
-            feedback.append("Education: Master's degree. ");
-        } else if (lowerEducation.contains("bachelor") || lowerEducation.contains("b.tech") ||
-                lowerEducation.contains("b.e") || lowerEducation.contains("bca")) {
-            score = 0.8;
-            feedback.append("Education: Bachelor's degree. ");
-        } else if (lowerEducation.contains("diploma")) {
-            score = 0.6;
-            feedback.append("Education: Diploma. ");
-        } else {
-            feedback.append("Education: Found. ");
-        }
-
-        return score;
+        return level.getScore();
     }
 
     /**
@@ -232,61 +249,15 @@ public class AIRankingService {
             return 0.0;
         }
 
-        double score = 0.5; // Base score for having a resume
-
-        // Check if resume was parsed
-        if (resume.getParsedText() != null && !resume.getParsedText().isEmpty()) {
-            int textLength = resume.getParsedText().length();
-
-            if (textLength > 2000) {
-                score = 1.0; // Detailed resume
-            } else if (textLength > 1000) {
-                score = 0.8;
-            } else if (textLength > 500) {
-                score = 0.6;
-            }
-        }
-
-        // Bonus for extracted skills
-        if (resume.getExtractedSkills() != null && !resume.getExtractedSkills().isEmpty()) {
-            int skillCount = resume.getExtractedSkills().split(",").length;
-            if (skillCount > 10) {
-                score = Math.min(1.0, score + 0.1);
-            }
-        }
+        int textLength = resume.getParsedTextLength() != null ? resume.getParsedTextLength() : 0;
+        double score = ScoringSignals.resumeQualityScore(true, textLength,
+                ScoringSignals.countListEntries(resume.getExtractedSkills()));
 
         feedback.append(String.format("Resume quality: %.0f%%. ", score * 100));
 
         return score;
     }
 
-    /**
-     * Calculate recency score (newer applications get slight boost)
-     */
-    private double calculateRecencyScore(Application application, StringBuilder feedback) {
-        if (application.getAppliedAt() == null) {
-            return 0.5;
-        }
-
-        long daysAgo = java.time.temporal.ChronoUnit.DAYS.between(
-                application.getAppliedAt().toLocalDate(),
-                java.time.LocalDate.now()
-        );
-
-        double score;
-        if (daysAgo <= 1) {
-            score = 1.0;
-        } else if (daysAgo <= 7) {
-            score = 0.9;
-        } else if (daysAgo <= 30) {
-            score = 0.7;
-        } else {
-            score = 0.5;
-        }
-
-        return score;
-    }
-
     /**
      * Score all applications for a job
      */
@@ -299,11 +270,13 @@ public class AIRankingService {
 
         log.info("Scoring {} applications for job: {}", applications.size(), jobId);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         for (Application application : applications) {
             if (application.getAiScore() == null) {
                 calculateScore(application);
             }
         }
+        recordBatch(sample, "score_all", applications.size());
 
         // Return sorted by score
         return applications.stream()
@@ -321,12 +294,11 @@ public class AIRankingService {
      */
     @Transactional(readOnly = true)
     public List<ApplicationResponse> getTopCandidates(Long jobId, int limit) {
-        List<Application> applications = applicationRepository.findByJobId(jobId);
+        if (limit <= 0) {
+            return List.of();
+        }
 
-        return applications.stream()
-                .filter(a -> a.getAiScore() != null)
-                .sorted((a, b) -> b.getAiScore().compareTo(a.getAiScore()))
-                .limit(limit)
+        return applicationRepository.findTopScoredByJobId(jobId, PageRequest.of(0, limit)).stream()
                 .map(applicationMapper::toResponse)
                 .collect(Collectors.toList());
     }
@@ -347,21 +319,34 @@ public class AIRankingService {
     }
 
     /**
-     * Get AI score statistics for a job
+     * Get AI score statistics for a job (cached until the job's applications are re-scored)
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getScoreStatistics(Long jobId) {
-        List<Application> applications = applicationRepository.findByJobId(jobId);
+        Map<String, Object> cached = statisticsCache.get(jobId);
+        if (cached != null) {
+            return cached;
+        }
 
-        List<BigDecimal> scores = applications.stream()
-                .filter(a -> a.getAiScore() != null)
-                .map(Application::getAiScore)
-                .collect(Collectors.toList());
+        // A re-score committing while we read must not leave a stale entry behind
+        long generation = statisticsGeneration.get();
+        Map<String, Object> stats = Collections.unmodifiableMap(computeScoreStatistics(jobId));
+        if (statisticsGeneration.get() == generation) {
+            statisticsCache.put(jobId, stats);
+        }
+        return stats;
+    }
+
+    private Map<String, Object> computeScoreStatistics(Long jobId) {
+        Object[] row = applicationRepository.getScoreStatistics(jobId).get(0);
+
+        long totalApplications = toLong(row[0]);
+        long scoredApplications = toLong(row[1]);
 
         Map<String, Object> stats = new HashMap<>();
 
-        if (scores.isEmpty()) {
-            stats.put("totalApplications", applications.size());
+        if (scoredApplications == 0) {
+            stats.put("totalApplications", totalApplications);
             stats.put("scoredApplications", 0);
             stats.put("averageScore", 0);
             stats.put("highestScore", 0);
@@ -369,42 +354,152 @@ public class AIRankingService {
             return stats;
         }
 
-        double average = scores.stream()
-                .mapToDouble(BigDecimal::doubleValue)
-                .average()
-                .orElse(0);
-
-        double highest = scores.stream()
-                .mapToDouble(BigDecimal::doubleValue)
-                .max()
-                .orElse(0);
-
-        double lowest = scores.stream()
-                .mapToDouble(BigDecimal::doubleValue)
-                .min()
-                .orElse(0);
-
-        // Score distribution
-        long above80 = scores.stream().filter(s -> s.doubleValue() >= 80).count();
-        long between60And80 = scores.stream()
-                .filter(s -> s.doubleValue() >= 60 && s.doubleValue() < 80).count();
-        long between40And60 = scores.stream()
-                .filter(s -> s.doubleValue() >= 40 && s.doubleValue() < 60).count();
-        long below40 = scores.stream().filter(s -> s.doubleValue() < 40).count();
-
-        stats.put("totalApplications", applications.size());
-        stats.put("scoredApplications", scores.size());
+        double average = ((Number) row[2]).doubleValue();
+        double highest = ((Number) row[3]).doubleValue();
+        double lowest = ((Number) row[4]).doubleValue();
+
+        stats.put("totalApplications", totalApplications);
+        stats.put("scoredApplications", scoredApplications);
         stats.put("averageScore", BigDecimal.valueOf(average).setScale(2, RoundingMode.HALF_UP));
         stats.put("highestScore", BigDecimal.valueOf(highest).setScale(2, RoundingMode.HALF_UP));
         stats.put("lowestScore", BigDecimal.valueOf(lowest).setScale(2, RoundingMode.HALF_UP));
-        stats.put("excellentMatch", above80);      // >= 80%
-        stats.put("goodMatch", between60And80);     // 60-80%
-        stats.put("averageMatch", between40And60);  // 40-60%
-        stats.put("poorMatch", below40);            // < 40%
+        stats.put("excellentMatch", toLong(row[5]));  // >= 80%
+        stats.put("goodMatch", toLong(row[6]));       // 60-80%
+        stats.put("averageMatch", toLong(row[7]));    // 40-60%
+        stats.put("poorMatch", toLong(row[8]));       // < 40%
+
+        List<Object[]> averages = applicationScoreRepository.getComponentAverages(jobId, ScoringSignals.MODEL_VERSION);
+        if (!averages.isEmpty() && averages.get(0)[0] != null) {
+            Object[] componentAverage = averages.get(0);
+            stats.put("componentAverages", componentMap(
+                    toDouble(componentAverage[0]), toDouble(componentAverage[1]), toDouble(componentAverage[2]),
+                    toDouble(componentAverage[3]), toDouble(componentAverage[4])));
+        }
 
         return stats;
     }
 
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    private static double toDouble(Object value) {
+        return value != null ? ((Number) value).doubleValue() : 0.0;
+    }
+
+    /**
+     * Component scores as percentages, in weight order
+     */
+    private static Map<String, Object> componentMap(double skill, double experience, double education,
+                                                    double resumeQuality, double recency) {
+        Map<String, Object> components = new LinkedHashMap<>();
+        components.put("skill", toPercentage(skill));
+        components.put("experience", toPercentage(experience));
+        components.put("education", toPercentage(education));
+        components.put("resumeQuality", toPercentage(resumeQuality));
+        components.put("recency", toPercentage(recency));
+        return components;
+    }
+
+    private static BigDecimal toPercentage(double component) {
+        return BigDecimal.valueOf(component * 100).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationScored(ApplicationScoredEvent event) {
+        evictStatistics(event.jobId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        evictStatistics(event.isBulk() ? null : event.jobId());
+    }
+
+    /**
+     * Drop cached statistics of one job, or of every job when jobId is null
+     */
+    private void evictStatistics(Long jobId) {
+        statisticsGeneration.incrementAndGet();
+        if (jobId == null) {
+            statisticsCache.clear();
+        } else {
+            statisticsCache.remove(jobId);
+        }
+    }
+
+    /**
+     * Re-weight the stored AI scores affected by a weight profile change
+     */
+    @Async("taskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringWeightsChanged(ScoringWeightsChangedEvent event) {
+        // The profile is committed by now; make sure this instance resolves with it
+        scoringWeightService.reload();
+
+        List<Object[]> jobs;
+        if (event.jobId() != null) {
+            jobs = jobRepository.findIdAndDepartmentById(event.jobId());
+        } else if (event.department() != null) {
+            jobs = jobRepository.findIdsAndDepartmentsByDepartment(event.department());
+        } else {
+            jobs = jobRepository.findAllIdsAndDepartments();
+        }
+
+        recombineScores(jobs);
+    }
+
+    /**
+     * Re-weight the AI scores of every job with its current weights
+     */
+    public int recombineAllScores() {
+        return recombineScores(jobRepository.findAllIdsAndDepartments());
+    }
+
+    /**
+     * Recompute AI scores of the given jobs ([id, department] rows) from their stored
+     * components: jobs sharing the same effective weights are updated together, in
+     * set-based statements over batches of jobs. Applications without components from
+     * the current model version keep their score until they are re-scored.
+     * Call outside a transaction so the statistics are evicted after the updates commit.
+     */
+    public int recombineScores(List<Object[]> jobs) {
+        long started = System.currentTimeMillis();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Map<ScoringWeights, List<Long>> jobsByWeights = new HashMap<>();
+        for (Object[] job : jobs) {
+            Long jobId = (Long) job[0];
+            jobsByWeights.computeIfAbsent(scoringWeightService.weightsFor(jobId, (String) job[1]),
+                    weights -> new ArrayList<>()).add(jobId);
+        }
+
+        int batchSize = Math.max(1, scoringConfig.getRecombineBatchSize());
+        int updated = 0;
+        for (Map.Entry<ScoringWeights, List<Long>> group : jobsByWeights.entrySet()) {
+            ScoringWeights weights = group.getKey();
+            List<Long> jobIds = group.getValue();
+            for (int from = 0; from < jobIds.size(); from += batchSize) {
+                updated += applicationScoreRepository.recombine(
+                        jobIds.subList(from, Math.min(jobIds.size(), from + batchSize)),
+                        ScoringSignals.MODEL_VERSION, weights.skill(), weights.experience(),
+                        weights.education(), weights.resumeQuality(), weights.recency());
+            }
+        }
+
+        if (jobs.size() == 1) {
+            evictStatistics((Long) jobs.get(0)[0]);
+        } else if (!jobs.isEmpty()) {
+            evictStatistics(null);
+        }
+
+        recordBatch(sample, "recombine", updated);
+
+        log.info("Recombined {} AI scores across {} jobs ({} weight profiles) in {} ms",
+                updated, jobs.size(), jobsByWeights.size(), System.currentTimeMillis() - started);
+
+        return updated;
+    }
+
     /**
      * Re-score all pending applications for a job
      */
@@ -412,15 +507,22 @@ public class AIRankingService {
     public int rescoreApplications(Long jobId) {
         List<Application> applications = applicationRepository.findApplicationsNeedingScoringByJob(jobId);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         for (Application application : applications) {
             calculateScore(application);
         }
+        recordBatch(sample, "rescore", applications.size());
 
         log.info("Re-scored {} applications for job {}", applications.size(), jobId);
 
         return applications.size();
     }
 
+    private void recordBatch(Timer.Sample sample, String operation, int applications) {
+        sample.stop(meterRegistry.timer(AppConstants.METRIC_SCORING_BATCH, "operation", operation));
+        meterRegistry.summary(AppConstants.METRIC_SCORING_BATCH_SIZE, "operation", operation).record(applications);
+    }
+
     /**
      * Get match explanation for an application
      */
@@ -431,8 +533,6 @@ public class AIRankingService {
 
         Job job = application.getJob();
         Candidate candidate = application.getCandidate();
-        Resume resume = application.getResume() != null ?
-                application.getResume() : candidate.getPrimaryResume();
 
         Map<String, Object> explanation = new HashMap<>();
 
@@ -440,18 +540,25 @@ public class AIRankingService {
         explanation.put("overallScore", application.getAiScore());
         explanation.put("aiFeedback", application.getAiFeedback());
 
-        // Skill breakdown
-        String candidateSkills = candidate.getSkills();
-        if (resume != null && resume.getExtractedSkills() != null) {
-            candidateSkills = candidateSkills != null ?
-                    candidateSkills + ", " + resume.getExtractedSkills() :
-                    resume.getExtractedSkills();
-        }
+        // Components stored when the score was calculated describe that score;
+        // recompute the skill breakdown only when they are missing or outdated
+        Optional<ApplicationScore> stored = applicationScoreRepository.findById(applicationId)
+                .filter(components -> components.getModelVersion() == ScoringSignals.MODEL_VERSION);
 
-        Map<String, Object> skillMatch = skillMatcherService.getDetailedSkillMatch(
-                candidateSkills, job.getRequiredSkills());
+        Map<String, Object> skillMatch = stored
+                .map(AIRankingService::storedSkillMatch)
+                .orElseGet(() -> skillMatcherService.getDetailedSkillMatch(
+                        combinedSkills(candidate, application.getResume() != null ?
+                                application.getResume() : candidate.getPrimaryResume()),
+                        job.getRequiredSkills(), job.getNiceToHaveSkills()));
 
         explanation.put("skillAnalysis", skillMatch);
+        stored.ifPresent(components -> {
+            explanation.put("componentScores", componentMap(components.getSkillScore(),
+                    components.getExperienceScore(), components.getEducationScore(),
+                    components.getResumeQualityScore(), components.getRecencyScore()));
+            explanation.put("modelVersion", components.getModelVersion());
+        });
 
         // Experience analysis
         Map<String, Object> expAnalysis = new HashMap<>();
@@ -467,6 +574,36 @@ public class AIRankingService {
         return explanation;
     }
 
+    /**
+     * Skill breakdown in the shape returned by SkillMatcherService.getDetailedSkillMatch
+     */
+    private static Map<String, Object> storedSkillMatch(ApplicationScore components) {
+        List<String> matchedSkills = splitSkills(components.getMatchedSkills());
+
+        Map<String, Object> skillMatch = new HashMap<>();
+        skillMatch.put("matchScore", components.getSkillScore());
+        skillMatch.put("matchedSkills", matchedSkills);
+        skillMatch.put("missingSkills", splitSkills(components.getMissingSkills()));
+        skillMatch.put("extraSkills", splitSkills(components.getExtraSkills()));
+        skillMatch.put("totalRequired", components.getRequiredSkillCount() != null ?
+                components.getRequiredSkillCount() : matchedSkills.size());
+        skillMatch.put("totalMatched", matchedSkills.size());
+
+        List<String> matchedNiceToHave = splitSkills(components.getMatchedNiceToHave());
+        List<String> missingNiceToHave = splitSkills(components.getMissingNiceToHave());
+        skillMatch.put("matchedNiceToHave", matchedNiceToHave);
+        skillMatch.put("missingNiceToHave", missingNiceToHave);
+        skillMatch.put("totalNiceToHave", matchedNiceToHave.size() + missingNiceToHave.size());
+        return skillMatch;
+    }
+
+    private static List<String> splitSkills(String skills) {
+        if (skills == null || skills.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(skills.split(", ")));
+    }
+
     /**
      * Generate improvement recommendations
      */
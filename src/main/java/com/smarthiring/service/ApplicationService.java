@@ -42,6 +42,7 @@ public class ApplicationService {
     private final NotificationService notificationService;
     private final AIRankingService aiRankingService;
     private final EmailService emailService;
+    private final DuplicateDetectionService duplicateDetectionService;
 
     // Constructor injection with @Lazy for circular dependency
     public ApplicationService(
@@ -52,7 +53,8 @@ public class ApplicationService {
             ApplicationMapper applicationMapper,
             NotificationService notificationService,
             @Lazy AIRankingService aiRankingService,
-            EmailService emailService
+            EmailService emailService,
+            DuplicateDetectionService duplicateDetectionService
     ) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
@@ -62,6 +64,7 @@ public class ApplicationService {
         this.notificationService = notificationService;
         this.aiRankingService = aiRankingService;
         this.emailService = emailService;
+        this.duplicateDetectionService = duplicateDetectionService;
     }
 
     /**
@@ -116,6 +119,7 @@ public class ApplicationService {
                 .resume(resume)
                 .coverLetter(request.getCoverLetter())
                 .status(ApplicationStatus.APPLIED)
+                .possibleDuplicateOf(findDuplicateApplicant(job.getId(), candidate.getId()))
                 .build();
 
         Application savedApplication = applicationRepository.save(application);
@@ -158,6 +162,25 @@ public class ApplicationService {
         return applicationMapper.toResponse(savedApplication);
     }
 
+    /**
+     * Earliest applicant to the job who looks like the same person as this candidate.
+     * The lookup is in memory; the database is only asked when there are look-alikes.
+     */
+    private Long findDuplicateApplicant(Long jobId, Long candidateId) {
+        List<Long> duplicates = duplicateDetectionService.findPossibleDuplicates(candidateId);
+        if (duplicates.isEmpty()) {
+            return null;
+        }
+
+        List<Long> applicants = applicationRepository.findCandidateIdsAppliedToJob(jobId, duplicates);
+        if (applicants.isEmpty()) {
+            return null;
+        }
+        log.info("Candidate {} applying to job {} resembles earlier applicant {}", candidateId, jobId,
+                applicants.get(0));
+        return applicants.get(0);
+    }
+
     /**
      * Get application by ID
      */
@@ -0,0 +1,509 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.CandidateSearchConfig;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.service.search.NumericColumn;
+import com.smarthiring.service.search.SkillQuery;
+import com.smarthiring.service.search.TextColumn;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * In-memory candidate index for HR search. Each canonical skill has a compressed
+ * bitmap of candidate ids; experience, notice period and location are sorted
+ * columns answered by binary search. A query is a bitmap expression over these.
+ * <p>
+ * Skill bitmaps are updated in place on profile changes. The sorted columns are
+ * immutable: changed ids are marked stale and answered from the current entries
+ * until enough have piled up to rebuild the columns in memory.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSearchIndex {
+
+    private final CandidateRepository candidateRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final CandidateSearchConfig searchConfig;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state; // Guarded by lock; null until the first build
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    /**
+     * Sort orders the index can produce; anything else falls back to SQL
+     */
+    public enum SortField {
+        ID, EXPERIENCE, NOTICE_PERIOD;
+
+        public static Optional<SortField> of(String property) {
+            if (property == null) {
+                return Optional.empty();
+            }
+            return switch (property) {
+                // Ids are assigned in creation order
+                case "id", "createdAt" -> Optional.of(ID);
+                case "totalExperience" -> Optional.of(EXPERIENCE);
+                case "noticePeriod" -> Optional.of(NOTICE_PERIOD);
+                default -> Optional.empty();
+            };
+        }
+    }
+
+    public record Query(String skills, String location, Double minExperience, Double maxExperience,
+                        Integer maxNoticePeriod) {
+    }
+
+    /**
+     * One page of matching ids, in sort order
+     */
+    public record Hits(List<Long> ids, long total) {
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Empty when the index is disabled or not built yet
+     */
+    public Optional<Hits> search(Query query, SortField sortField, boolean descending, int page, int size) {
+        if (!searchConfig.isEnabled()) {
+            return Optional.empty();
+        }
+
+        // Parse before taking the lock so syntax errors surface as 400 even while rebuilding
+        SkillQuery skillQuery = parseSkills(query);
+
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return Optional.empty();
+            }
+
+            RoaringBitmap matches = matches(query, skillQuery);
+            return Optional.of(new Hits(page(matches, sortField, descending, page, size),
+                    matches.getLongCardinality()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every id matching the query, ascending, for callers that sort by a column the index
+     * does not keep. Empty when the index is disabled or not built yet.
+     */
+    public Optional<List<Long>> matchingIds(Query query) {
+        if (!searchConfig.isEnabled()) {
+            return Optional.empty();
+        }
+
+        SkillQuery skillQuery = parseSkills(query);
+
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return Optional.empty();
+            }
+
+            RoaringBitmap matches = matches(query, skillQuery);
+            List<Long> ids = new ArrayList<>(matches.getCardinality());
+            matches.forEach((int id) -> ids.add(Integer.toUnsignedLong(id)));
+            return Optional.of(ids);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static SkillQuery parseSkills(Query query) {
+        return query.skills() == null || query.skills().isBlank() ? null : SkillQuery.parse(query.skills());
+    }
+
+    /**
+     * Caller holds the read lock and has checked that the index is built
+     */
+    private RoaringBitmap matches(Query query, SkillQuery skillQuery) {
+        RoaringBitmap matches = skillQuery == null ? state.all.clone()
+                : skillQuery.evaluate(this::skillBitmap, state.all);
+
+        if (query.location() != null && !query.location().isBlank() && !matches.isEmpty()) {
+            String location = normalizeLocation(query.location());
+            matches.and(state.columnLookup(state.locationColumn.equalTo(location),
+                    entry -> location.equals(entry.location())));
+        }
+        if ((query.minExperience() != null || query.maxExperience() != null) && !matches.isEmpty()) {
+            matches.and(state.columnLookup(
+                    state.experienceColumn.range(query.minExperience(), query.maxExperience()),
+                    entry -> inRange(entry.experience(), query.minExperience(), query.maxExperience())));
+        }
+        if (query.maxNoticePeriod() != null && !matches.isEmpty()) {
+            double maxNotice = query.maxNoticePeriod();
+            matches.and(state.columnLookup(state.noticeColumn.range(null, maxNotice),
+                    entry -> inRange(entry.noticePeriod() != null ? entry.noticePeriod().doubleValue() : null,
+                            null, maxNotice)));
+        }
+        return matches;
+    }
+
+    private RoaringBitmap skillBitmap(String skill) {
+        return state.skills.get(skillMatcherService.canonicalSkill(skill));
+    }
+
+    private List<Long> page(RoaringBitmap matches, SortField sortField, boolean descending, int page, int size) {
+        long total = matches.getLongCardinality();
+        long offset = (long) page * size;
+        if (offset >= total || size <= 0) {
+            return List.of();
+        }
+        int end = (int) Math.min(total, offset + size);
+        List<Long> ids = new ArrayList<>(end - (int) offset);
+
+        if (sortField == SortField.ID) {
+            // Rank selection straight off the bitmap
+            for (long position = offset; position < end; position++) {
+                long index = descending ? total - 1 - position : position;
+                ids.add(Integer.toUnsignedLong(matches.select((int) index)));
+            }
+            return ids;
+        }
+
+        // Bounded heap of the first (offset + size) entries; missing values sort last either way
+        Comparator<IndexedCandidate> order = sortComparator(sortField, descending);
+        PriorityQueue<IndexedCandidate> heap = new PriorityQueue<>(end + 1, order.reversed());
+        IntIterator iterator = matches.getIntIterator();
+        while (iterator.hasNext()) {
+            IndexedCandidate entry = state.entries.get(iterator.next());
+            if (entry == null) {
+                continue;
+            }
+            if (heap.size() < end) {
+                heap.add(entry);
+            } else if (order.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+
+        List<IndexedCandidate> sorted = new ArrayList<>(heap);
+        sorted.sort(order);
+        for (int i = (int) offset; i < sorted.size(); i++) {
+            ids.add((long) sorted.get(i).id());
+        }
+        return ids;
+    }
+
+    private static Comparator<IndexedCandidate> sortComparator(SortField sortField, boolean descending) {
+        Comparator<Double> values = descending ? Comparator.reverseOrder() : Comparator.naturalOrder();
+        Comparator<IndexedCandidate> primary = switch (sortField) {
+            case EXPERIENCE -> Comparator.comparing(IndexedCandidate::experience,
+                    Comparator.nullsLast(values));
+            case NOTICE_PERIOD -> Comparator.comparing(
+                    entry -> entry.noticePeriod() != null ? entry.noticePeriod().doubleValue() : null,
+                    Comparator.nullsLast(values));
+            case ID -> Comparator.comparingInt(IndexedCandidate::id);
+        };
+        return primary.thenComparingInt(IndexedCandidate::id);
+    }
+
+    private static boolean inRange(Double value, Double min, Double max) {
+        return value != null && (min == null || value >= min) && (max == null || value <= max);
+    }
+
+    // ==================== Maintenance ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.candidate-search.rebuild-interval-ms:21600000}",
+            initialDelayString = "${app.candidate-search.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Skills are indexed by canonical name, which the new ontology may resolve differently
+     */
+    @Async("taskExecutor")
+    @EventListener
+    public void onSkillOntologyChanged(SkillOntologyChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Full rebuild from keyset pages; the live index keeps serving until the swap
+     */
+    public void rebuild() {
+        if (!searchConfig.isEnabled()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        try {
+            Map<Integer, IndexedCandidate> entries = new HashMap<>();
+            int pageSize = Math.max(1, searchConfig.getRebuildPageSize());
+            long lastId = 0;
+
+            while (true) {
+                List<Object[]> rows = candidateRepository.findSearchIndexProfiles(lastId, PageRequest.of(0, pageSize));
+                for (Object[] row : rows) {
+                    IndexedCandidate entry = toEntry(row);
+                    entries.merge(entry.id(), entry, IndexedCandidate::mergeSkills);
+                    lastId = entry.id();
+                }
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+
+            IndexState rebuilt = new IndexState();
+            for (IndexedCandidate entry : entries.values()) {
+                rebuilt.put(entry);
+            }
+            rebuilt.rebuildColumns();
+
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Candidate search index rebuilt: {} candidates, {} skills in {} ms",
+                    entries.size(), rebuilt.skills.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Candidate search index rebuild failed", e);
+        } finally {
+            rebuilding = false;
+        }
+
+        // Changes that committed while the pages were being read
+        for (Long candidateId : List.copyOf(changedDuringRebuild)) {
+            changedDuringRebuild.remove(candidateId);
+            refresh(candidateId);
+        }
+    }
+
+    /**
+     * Profile edits and resume uploads / deletions change indexed skills
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        if (!searchConfig.isEnabled() || event.candidateId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.candidateId());
+        }
+        refresh(event.candidateId());
+    }
+
+    /**
+     * Re-read one candidate; removes it when it no longer exists
+     */
+    public void refresh(Long candidateId) {
+        IndexedCandidate entry = null;
+        for (Object[] row : candidateRepository.findSearchIndexProfile(candidateId)) {
+            IndexedCandidate current = toEntry(row);
+            entry = entry == null ? current : entry.mergeSkills(current);
+        }
+
+        lock.writeLock().lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            if (entry == null) {
+                state.remove(Math.toIntExact(candidateId));
+            } else {
+                state.put(entry);
+            }
+            state.compactIfNeeded(searchConfig.getCompactionThreshold());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drop ids the caller found to be gone (e.g. deleted users)
+     */
+    public void removeAll(Set<Long> candidateIds) {
+        lock.writeLock().lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            for (Long candidateId : candidateIds) {
+                state.remove(Math.toIntExact(candidateId));
+            }
+            state.compactIfNeeded(searchConfig.getCompactionThreshold());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private IndexedCandidate toEntry(Object[] row) {
+        Set<String> skills = skillMatcherService.canonicalSkills((String) row[1]);
+        skills.addAll(skillMatcherService.canonicalSkills((String) row[5]));
+
+        String location = row[3] != null ? normalizeLocation((String) row[3]) : null;
+
+        return new IndexedCandidate(
+                Math.toIntExact(((Number) row[0]).longValue()),
+                skills,
+                row[2] != null ? ((Number) row[2]).doubleValue() : null,
+                location == null || location.isEmpty() ? null : location,
+                row[4] != null ? ((Number) row[4]).intValue() : null
+        );
+    }
+
+    private static String normalizeLocation(String location) {
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    record IndexedCandidate(int id, Set<String> skills, Double experience, String location,
+                            Integer noticePeriod) {
+
+        // A candidate with two primary resumes: union of their skills
+        IndexedCandidate mergeSkills(IndexedCandidate other) {
+            Set<String> merged = new HashSet<>(skills);
+            merged.addAll(other.skills);
+            return new IndexedCandidate(id, merged, experience, location, noticePeriod);
+        }
+    }
+
+    private static final class IndexState {
+
+        final Map<Integer, IndexedCandidate> entries = new HashMap<>();
+        final Map<String, RoaringBitmap> skills = new HashMap<>();
+        final RoaringBitmap all = new RoaringBitmap();
+
+        NumericColumn experienceColumn;
+        NumericColumn noticeColumn;
+        TextColumn locationColumn;
+        // Ids changed since the columns were built; their column rows are ignored
+        final RoaringBitmap stale = new RoaringBitmap();
+
+        void put(IndexedCandidate entry) {
+            IndexedCandidate previous = entries.put(entry.id(), entry);
+            if (previous != null) {
+                removeSkills(previous);
+                stale.add(entry.id());
+            } else if (experienceColumn != null) {
+                stale.add(entry.id());
+            }
+
+            for (String skill : entry.skills()) {
+                skills.computeIfAbsent(skill, key -> new RoaringBitmap()).add(entry.id());
+            }
+            all.add(entry.id());
+        }
+
+        void remove(int id) {
+            IndexedCandidate previous = entries.remove(id);
+            if (previous != null) {
+                removeSkills(previous);
+                all.remove(id);
+                stale.add(id);
+            }
+        }
+
+        private void removeSkills(IndexedCandidate entry) {
+            for (String skill : entry.skills()) {
+                RoaringBitmap ids = skills.get(skill);
+                if (ids != null) {
+                    ids.remove(entry.id());
+                    if (ids.isEmpty()) {
+                        skills.remove(skill);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Column hits for up-to-date rows, plus stale rows re-checked against their current entry
+         */
+        RoaringBitmap columnLookup(RoaringBitmap columnHits, Predicate<IndexedCandidate> predicate) {
+            if (stale.isEmpty()) {
+                return columnHits;
+            }
+            columnHits.andNot(stale);
+            IntIterator iterator = stale.getIntIterator();
+            while (iterator.hasNext()) {
+                IndexedCandidate entry = entries.get(iterator.next());
+                if (entry != null && predicate.test(entry)) {
+                    columnHits.add(entry.id());
+                }
+            }
+            return columnHits;
+        }
+
+        void compactIfNeeded(int threshold) {
+            if (stale.getCardinality() > threshold) {
+                rebuildColumns();
+            }
+        }
+
+        void rebuildColumns() {
+            int size = entries.size();
+            double[] experience = new double[size];
+            int[] experienceIds = new int[size];
+            double[] notice = new double[size];
+            int[] noticeIds = new int[size];
+            String[] location = new String[size];
+            int[] locationIds = new int[size];
+            int experienceCount = 0;
+            int noticeCount = 0;
+            int locationCount = 0;
+
+            for (IndexedCandidate entry : entries.values()) {
+                if (entry.experience() != null) {
+                    experience[experienceCount] = entry.experience();
+                    experienceIds[experienceCount++] = entry.id();
+                }
+                if (entry.noticePeriod() != null) {
+                    notice[noticeCount] = entry.noticePeriod();
+                    noticeIds[noticeCount++] = entry.id();
+                }
+                if (entry.location() != null) {
+                    location[locationCount] = entry.location();
+                    locationIds[locationCount++] = entry.id();
+                }
+            }
+
+            experienceColumn = NumericColumn.of(experience, experienceIds, experienceCount);
+            noticeColumn = NumericColumn.of(notice, noticeIds, noticeCount);
+            locationColumn = TextColumn.of(location, locationIds, locationCount);
+            stale.clear();
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.smarthiring.service;
 
+import com.smarthiring.config.CandidateSearchConfig;
+import com.smarthiring.config.CandidateSimilarityConfig;
 import com.smarthiring.dto.request.CandidateProfileRequest;
 import com.smarthiring.dto.request.CandidateSearchRequest;
 import com.smarthiring.dto.response.CandidateResponse;
 import com.smarthiring.dto.response.PagedResponse;
+import com.smarthiring.dto.response.SimilarCandidateResponse;
 import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Resume;
 import com.smarthiring.entity.User;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.exception.BadRequestException;
 import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.exception.ServiceUnavailableException;
 import com.smarthiring.mapper.CandidateMapper;
 import com.smarthiring.repository.CandidateRepository;
 import com.smarthiring.repository.UserRepository;
+import com.smarthiring.service.search.SkillQuery;
+import com.smarthiring.util.AppConstants;
+import com.smarthiring.util.ETags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +32,13 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +49,13 @@ public class CandidateService {
     private final CandidateRepository candidateRepository;
     private final UserRepository userRepository;
     private final CandidateMapper candidateMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CandidateSearchIndex candidateSearchIndex;
+    private final CandidateSearchConfig searchConfig;
+    private final CandidateSimilarityIndex candidateSimilarityIndex;
+    private final CandidateSimilarityConfig similarityConfig;
+    private final SkillMatcherService skillMatcherService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Get candidate by ID
@@ -53,6 +79,39 @@ public class CandidateService {
         return candidateMapper.toResponse(candidate);
     }
 
+    /**
+     * Candidate id of a user, or null if they have no candidate profile
+     */
+    @Transactional(readOnly = true)
+    public Long findCandidateIdByUserId(Long userId) {
+        return candidateRepository.findIdByUserId(userId).orElse(null);
+    }
+
+    /**
+     * Weak ETag of getCandidateById's response, from a projection query; null if not found
+     */
+    @Transactional(readOnly = true)
+    public String getCandidateETag(Long id) {
+        return candidateETag(candidateRepository.findVersionById(id));
+    }
+
+    /**
+     * Weak ETag of getCandidateByUserId's response, from a projection query; null if not found
+     */
+    @Transactional(readOnly = true)
+    public String getProfileETag(Long userId) {
+        return candidateETag(candidateRepository.findVersionByUserId(userId));
+    }
+
+    private String candidateETag(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] version = rows.get(0);
+        return ETags.weak("candidate", version[0], version[1], version[2], version[3], version[4], version[5],
+                version[6]);
+    }
+
     /**
      * Get candidate by email
      */
@@ -81,6 +140,8 @@ public class CandidateService {
             userRepository.save(candidate.getUser());
         }
 
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(savedCandidate.getId()));
+
         log.info("Candidate profile updated for user: {}", userId);
 
         return candidateMapper.toResponse(savedCandidate);
@@ -116,19 +177,58 @@ public class CandidateService {
      */
     @Transactional(readOnly = true)
     public PagedResponse<CandidateResponse> searchCandidates(CandidateSearchRequest request) {
-        Sort sort = request.getSortDirection().equalsIgnoreCase("desc")
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean descending = request.getSortDirection().equalsIgnoreCase("desc");
+
+        // Skill expressions, experience, location and notice period from the in-memory index
+        CandidateSearchIndex.Query query = new CandidateSearchIndex.Query(
+                request.getSkills(),
+                request.getLocation(),
+                request.getMinExperience() != null ? request.getMinExperience().doubleValue() : null,
+                request.getMaxExperience() != null ? request.getMaxExperience().doubleValue() : null,
+                request.getMaxNoticePeriod());
+        Optional<CandidateSearchIndex.Hits> hits = CandidateSearchIndex.SortField.of(request.getSortBy())
+                .flatMap(sortField -> candidateSearchIndex.search(query, sortField, descending,
+                        request.getPage(), request.getSize()));
+
+        if (hits.isPresent()) {
+            PagedResponse<CandidateResponse> response = toPagedResponse(hits.get(), request.getPage(), request.getSize());
+            recordSearch(sample, "candidates", "index");
+            return response;
+        }
+
+        Sort sort = descending
                 ? Sort.by(request.getSortBy()).descending()
                 : Sort.by(request.getSortBy()).ascending();
 
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
-        Page<Candidate> candidatesPage = candidateRepository.searchCandidates(
-                request.getLocation(),
-                request.getMinExperience(),
-                request.getMaxExperience(),
-                request.getSkills(),
-                pageable
-        );
+        Page<Candidate> candidatesPage;
+        SkillQuery skillQuery = request.getSkills() == null || request.getSkills().isBlank()
+                ? null : SkillQuery.parse(request.getSkills());
+        if (skillQuery == null || skillQuery instanceof SkillQuery.Skill) {
+            // One skill at most: the LIKE query matches it
+            candidatesPage = candidateRepository.searchCandidates(
+                    request.getLocation(),
+                    request.getMinExperience(),
+                    request.getMaxExperience(),
+                    skillQuery != null ? ((SkillQuery.Skill) skillQuery).name() : null,
+                    pageable
+            );
+            recordSearch(sample, "candidates", "database");
+        } else {
+            // An expression only the index can evaluate; SQL sorts and pages its matches
+            List<Long> ids = candidateSearchIndex.matchingIds(query)
+                    .orElseThrow(() -> new ServiceUnavailableException(
+                            "Skill expressions need the candidate search index, which is not available right now. "
+                                    + "Retry shortly or search for a single skill"));
+            if (ids.size() > searchConfig.getMaxDatabaseSortIds()) {
+                throw new BadRequestException("Too many candidates match to sort by '" + request.getSortBy()
+                        + "'. Narrow the search or sort by createdAt, totalExperience or noticePeriod");
+            }
+            candidatesPage = ids.isEmpty() ? Page.empty(pageable) : candidateRepository.findByIdIn(ids, pageable);
+            recordSearch(sample, "candidates", "index_database");
+        }
 
         List<CandidateResponse> content = candidatesPage.getContent().stream()
                 .map(candidateMapper::toResponse)
@@ -148,6 +248,19 @@ public class CandidateService {
      */
     @Transactional(readOnly = true)
     public PagedResponse<CandidateResponse> getCandidatesBySkill(String skill, int page, int size) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        // Quoted: the path segment is one skill even if it contains "and" / "or"
+        Optional<CandidateSearchIndex.Hits> hits = candidateSearchIndex.search(
+                new CandidateSearchIndex.Query("\"" + skill.replace("\"", "") + "\"", null, null, null, null),
+                CandidateSearchIndex.SortField.EXPERIENCE, true, page, size);
+
+        if (hits.isPresent()) {
+            PagedResponse<CandidateResponse> response = toPagedResponse(hits.get(), page, size);
+            recordSearch(sample, "candidates_by_skill", "index");
+            return response;
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by("totalExperience").descending());
 
         Page<Candidate> candidatesPage = candidateRepository.findBySkillContaining(skill, pageable);
@@ -155,6 +268,7 @@ public class CandidateService {
         List<CandidateResponse> content = candidatesPage.getContent().stream()
                 .map(candidateMapper::toResponse)
                 .collect(Collectors.toList());
+        recordSearch(sample, "candidates_by_skill", "database");
 
         return PagedResponse.of(
                 content,
@@ -187,6 +301,82 @@ public class CandidateService {
         );
     }
 
+    private void recordSearch(Timer.Sample sample, String target, String source) {
+        sample.stop(meterRegistry.timer(AppConstants.METRIC_SEARCH, "target", target, "source", source));
+    }
+
+    /**
+     * Load one page of index hits, keeping the index order
+     */
+    private PagedResponse<CandidateResponse> toPagedResponse(CandidateSearchIndex.Hits hits, int page, int size) {
+        Map<Long, Candidate> candidates = candidateRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(Candidate::getId, Function.identity()));
+
+        List<CandidateResponse> content = new ArrayList<>(hits.ids().size());
+        Set<Long> missing = new HashSet<>();
+        for (Long id : hits.ids()) {
+            Candidate candidate = candidates.get(id);
+            if (candidate != null) {
+                content.add(candidateMapper.toResponse(candidate));
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            // Deleted since the last rebuild
+            candidateSearchIndex.removeAll(missing);
+        }
+
+        int totalPages = size > 0 ? (int) Math.ceil((double) hits.total() / size) : 0;
+        return PagedResponse.of(content, page, size, hits.total(), totalPages);
+    }
+
+    /**
+     * Candidates most like this one (skills, experience, education), best first
+     */
+    @Transactional(readOnly = true)
+    public List<SimilarCandidateResponse> getSimilarCandidates(Long id, int limit) {
+        Candidate candidate = candidateRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", id));
+
+        int k = Math.max(1, Math.min(limit, similarityConfig.getMaxLimit()));
+        List<CandidateSimilarityIndex.SimilarCandidate> similar = candidateSimilarityIndex.findSimilar(id, k)
+                .orElse(List.of());
+        if (similar.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Candidate> candidates = candidateRepository.findAllById(
+                        similar.stream().map(CandidateSimilarityIndex.SimilarCandidate::candidateId).toList())
+                .stream()
+                .collect(Collectors.toMap(Candidate::getId, Function.identity()));
+        Set<String> skills = canonicalSkills(candidate);
+
+        // Deleted since the last rebuild are skipped
+        List<SimilarCandidateResponse> content = new ArrayList<>(similar.size());
+        for (CandidateSimilarityIndex.SimilarCandidate match : similar) {
+            Candidate other = candidates.get(match.candidateId());
+            if (other != null) {
+                content.add(SimilarCandidateResponse.builder()
+                        .candidate(candidateMapper.toResponse(other))
+                        .similarity(Math.round(match.similarity() * 10000) / 10000.0)
+                        .sharedSkills(canonicalSkills(other).stream().filter(skills::contains).sorted().toList())
+                        .build());
+            }
+        }
+        return content;
+    }
+
+    private Set<String> canonicalSkills(Candidate candidate) {
+        Set<String> skills = skillMatcherService.canonicalSkills(candidate.getSkills());
+        Resume resume = candidate.getPrimaryResume();
+        if (resume != null) {
+            skills.addAll(skillMatcherService.canonicalSkills(resume.getExtractedSkills()));
+        }
+        return skills;
+    }
+
     /**
      * Get all distinct locations
      */
@@ -0,0 +1,464 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.CandidateSimilarityConfig;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.service.scoring.EducationLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * "More like this" over candidate feature vectors: canonical skills weighted by
+ * TF-IDF over all candidates, a soft experience band and the education level. Each
+ * vector has unit length, so a dot product is the cosine similarity.
+ * <p>
+ * The index is an immutable snapshot in primitive arrays: per skill, the rows that
+ * have it with their weight, and one dense float column per experience band and
+ * education level. A query adds up the postings of its own skills and scans only
+ * the dense columns it touches, then keeps the top K. Profile changes are picked up
+ * by the next refresh; the query vector is always built from the current profile.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSimilarityIndex {
+
+    // Years anchoring the soft experience bands
+    private static final double[] EXPERIENCE_ANCHORS = {0, 2, 5, 10, 20};
+
+    // In order; OTHER and NOT_SPECIFIED say nothing about the level
+    private static final List<EducationLevel> EDUCATION_LEVELS = List.of(EducationLevel.DIPLOMA,
+            EducationLevel.BACHELORS, EducationLevel.MASTERS, EducationLevel.DOCTORATE);
+
+    private static final int DENSE_DIMENSIONS = EXPERIENCE_ANCHORS.length + EDUCATION_LEVELS.size();
+
+    private final CandidateRepository candidateRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final CandidateSimilarityConfig similarityConfig;
+
+    // A lock, not synchronized: a rebuild blocks on the database, which would pin a virtual thread
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot; // null until the first build
+    private volatile boolean profilesChanged;
+
+    public record SimilarCandidate(Long candidateId, double similarity) {
+    }
+
+    /**
+     * Most similar other candidates, best first. Empty when the index is disabled or
+     * not built yet; an empty list when the candidate does not exist.
+     */
+    public Optional<List<SimilarCandidate>> findSimilar(Long candidateId, int limit) {
+        Snapshot current = snapshot;
+        if (!similarityConfig.isEnabled() || current == null) {
+            return Optional.empty();
+        }
+
+        Profile profile = null;
+        for (Object[] row : candidateRepository.findSimilarityProfile(candidateId)) {
+            profile = profile == null ? toProfile(row) : profile.merge(toProfile(row));
+        }
+        if (profile == null) {
+            return Optional.of(List.of());
+        }
+        return Optional.of(current.topK(current.vector(profile), candidateId, limit));
+    }
+
+    // ==================== Maintenance ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.similar-candidates.refresh-interval-ms:300000}",
+            initialDelayString = "${app.similar-candidates.refresh-interval-ms:300000}")
+    public void refreshIfChanged() {
+        if (profilesChanged) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Skills are indexed by canonical name, which the new ontology may resolve differently
+     */
+    @Async("taskExecutor")
+    @EventListener
+    public void onSkillOntologyChanged(SkillOntologyChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * IDF weights depend on every profile, so changes wait for the next rebuild
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        profilesChanged = true;
+    }
+
+    public void rebuild() {
+        if (!similarityConfig.isEnabled()) {
+            return;
+        }
+
+        rebuildLock.lock();
+        try {
+            long started = System.currentTimeMillis();
+            profilesChanged = false;
+
+            SnapshotBuilder builder = new SnapshotBuilder();
+            forEachProfile(builder::add);
+            Snapshot rebuilt = builder.build(similarityConfig.getExperienceWeight(),
+                    similarityConfig.getEducationWeight());
+            snapshot = rebuilt;
+
+            log.info("Candidate similarity index rebuilt: {} candidates, {} skills in {} ms",
+                    rebuilt.size, rebuilt.dictionary.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            profilesChanged = true;
+            log.error("Candidate similarity index rebuild failed", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * Keyset pages in id order; a candidate with two primary resumes comes back as adjacent rows
+     */
+    private void forEachProfile(Consumer<Profile> consumer) {
+        int pageSize = Math.max(1, similarityConfig.getRebuildPageSize());
+        long lastId = 0;
+        Profile pending = null;
+
+        while (true) {
+            List<Object[]> rows = candidateRepository.findSimilarityProfiles(lastId, PageRequest.of(0, pageSize));
+            for (Object[] row : rows) {
+                Profile profile = toProfile(row);
+                if (pending != null && pending.id() == profile.id()) {
+                    pending = pending.merge(profile);
+                } else {
+                    if (pending != null) {
+                        consumer.accept(pending);
+                    }
+                    pending = profile;
+                }
+                lastId = profile.id();
+            }
+            if (rows.size() < pageSize) {
+                break;
+            }
+        }
+        if (pending != null) {
+            consumer.accept(pending);
+        }
+    }
+
+    /**
+     * Education as AI scoring reads it: the profile first, then the primary resume
+     */
+    private Profile toProfile(Object[] row) {
+        Set<String> skills = skillMatcherService.canonicalSkills((String) row[1]);
+        skills.addAll(skillMatcherService.canonicalSkills((String) row[4]));
+
+        String education = (String) row[3];
+        if (education == null || education.isEmpty()) {
+            education = (String) row[5];
+        }
+
+        return new Profile(
+                ((Number) row[0]).longValue(),
+                skills,
+                row[2] != null ? ((Number) row[2]).doubleValue() : null,
+                EDUCATION_LEVELS.indexOf(skillMatcherService.educationLevel(education)));
+    }
+
+    private record Profile(long id, Set<String> skills, Double experience, int education) {
+
+        Profile merge(Profile other) {
+            Set<String> merged = new HashSet<>(skills);
+            merged.addAll(other.skills);
+            return new Profile(id, merged, experience, education >= 0 ? education : other.education);
+        }
+    }
+
+    /**
+     * A query: skill indexes in the snapshot (unknown skills only count towards the length) and dense values
+     */
+    private record QueryVector(int[] skills, float[] skillWeights, float[] dense) {
+    }
+
+    // ==================== Vector encoding ====================
+
+    /**
+     * Dense features of one profile as unit blocks scaled by their weight; returns the squared length
+     */
+    private static double denseFeatures(Double experience, int education, double experienceWeight,
+                                        double educationWeight, float[] out) {
+        double squaredLength = 0;
+
+        if (experience != null) {
+            // Between two anchors, split linearly: 3.5 years is half "2" and half "5"
+            double years = Math.max(EXPERIENCE_ANCHORS[0],
+                    Math.min(experience, EXPERIENCE_ANCHORS[EXPERIENCE_ANCHORS.length - 1]));
+            int band = 0;
+            while (band < EXPERIENCE_ANCHORS.length - 2 && years > EXPERIENCE_ANCHORS[band + 1]) {
+                band++;
+            }
+            double t = (years - EXPERIENCE_ANCHORS[band]) / (EXPERIENCE_ANCHORS[band + 1] - EXPERIENCE_ANCHORS[band]);
+            double norm = Math.sqrt((1 - t) * (1 - t) + t * t);
+            out[band] = (float) ((1 - t) / norm * experienceWeight);
+            out[band + 1] = (float) (t / norm * experienceWeight);
+            squaredLength += experienceWeight * experienceWeight;
+        }
+
+        if (education >= 0) {
+            // Neighbouring levels overlap a little: a master's is closer to a bachelor's than to a diploma
+            int offset = EXPERIENCE_ANCHORS.length;
+            int neighbours = (education > 0 ? 1 : 0) + (education < EDUCATION_LEVELS.size() - 1 ? 1 : 0);
+            double norm = Math.sqrt(1 + 0.25 * neighbours);
+            out[offset + education] = (float) (educationWeight / norm);
+            if (education > 0) {
+                out[offset + education - 1] = (float) (0.5 * educationWeight / norm);
+            }
+            if (education < EDUCATION_LEVELS.size() - 1) {
+                out[offset + education + 1] = (float) (0.5 * educationWeight / norm);
+            }
+            squaredLength += educationWeight * educationWeight;
+        }
+
+        return squaredLength;
+    }
+
+    private static float idf(int candidates, int documentFrequency) {
+        return (float) (Math.log((1.0 + candidates) / (1.0 + documentFrequency)) + 1.0);
+    }
+
+    /**
+     * Collects profiles into flat arrays, then turns them into postings once all
+     * document frequencies are known
+     */
+    private static final class SnapshotBuilder {
+
+        final Map<String, Integer> dictionary = new HashMap<>();
+        int[] documentFrequency = new int[256];
+
+        long[] ids = new long[1024];
+        int[] skillOffsets = new int[1025];
+        int[] skills = new int[4096];
+        double[] experience = new double[1024];
+        boolean[] hasExperience = new boolean[1024];
+        int[] education = new int[1024];
+        int size;
+
+        void add(Profile profile) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                skillOffsets = Arrays.copyOf(skillOffsets, capacity + 1);
+                experience = Arrays.copyOf(experience, capacity);
+                hasExperience = Arrays.copyOf(hasExperience, capacity);
+                education = Arrays.copyOf(education, capacity);
+            }
+
+            int offset = skillOffsets[size];
+            if (offset + profile.skills().size() > skills.length) {
+                skills = Arrays.copyOf(skills, Math.max(skills.length * 2, offset + profile.skills().size()));
+            }
+            for (String skill : profile.skills()) {
+                int index = dictionary.computeIfAbsent(skill, key -> dictionary.size());
+                if (index == documentFrequency.length) {
+                    documentFrequency = Arrays.copyOf(documentFrequency, index * 2);
+                }
+                documentFrequency[index]++;
+                skills[offset++] = index;
+            }
+
+            ids[size] = profile.id();
+            experience[size] = profile.experience() != null ? profile.experience() : 0;
+            hasExperience[size] = profile.experience() != null;
+            education[size] = profile.education();
+            skillOffsets[++size] = offset;
+        }
+
+        Snapshot build(double experienceWeight, double educationWeight) {
+            int skillCount = dictionary.size();
+            float[] idf = new float[skillCount];
+            for (int s = 0; s < skillCount; s++) {
+                idf[s] = idf(size, documentFrequency[s]);
+            }
+
+            int[] postingOffsets = new int[skillCount + 1];
+            for (int s = 0; s < skillCount; s++) {
+                postingOffsets[s + 1] = postingOffsets[s] + documentFrequency[s];
+            }
+            int[] postingRows = new int[postingOffsets[skillCount]];
+            float[] postingWeights = new float[postingOffsets[skillCount]];
+            int[] filled = Arrays.copyOf(postingOffsets, skillCount);
+
+            float[][] dense = new float[DENSE_DIMENSIONS][size];
+            float[] features = new float[DENSE_DIMENSIONS];
+
+            for (int row = 0; row < size; row++) {
+                Arrays.fill(features, 0);
+                double squaredLength = denseFeatures(hasExperience[row] ? experience[row] : null, education[row],
+                        experienceWeight, educationWeight, features);
+
+                double skillNorm = 0;
+                for (int p = skillOffsets[row]; p < skillOffsets[row + 1]; p++) {
+                    skillNorm += (double) idf[skills[p]] * idf[skills[p]];
+                }
+                skillNorm = Math.sqrt(skillNorm);
+                if (skillNorm > 0) {
+                    squaredLength += 1;
+                }
+                double length = Math.sqrt(squaredLength);
+                if (length == 0) {
+                    continue;
+                }
+
+                for (int p = skillOffsets[row]; p < skillOffsets[row + 1]; p++) {
+                    int skill = skills[p];
+                    postingRows[filled[skill]] = row;
+                    postingWeights[filled[skill]++] = (float) (idf[skill] / skillNorm / length);
+                }
+                for (int d = 0; d < DENSE_DIMENSIONS; d++) {
+                    dense[d][row] = (float) (features[d] / length);
+                }
+            }
+
+            return new Snapshot(Arrays.copyOf(ids, size), size, Map.copyOf(dictionary), idf, postingOffsets,
+                    postingRows, postingWeights, dense, experienceWeight, educationWeight);
+        }
+    }
+
+    private static final class Snapshot {
+
+        final long[] ids; // Ascending
+        final int size;
+        final Map<String, Integer> dictionary;
+        final float[] idf;
+        final int[] postingOffsets;
+        final int[] postingRows;
+        final float[] postingWeights;
+        final float[][] dense; // [dimension][row]
+        final double experienceWeight;
+        final double educationWeight;
+
+        Snapshot(long[] ids, int size, Map<String, Integer> dictionary, float[] idf, int[] postingOffsets,
+                 int[] postingRows, float[] postingWeights, float[][] dense, double experienceWeight,
+                 double educationWeight) {
+            this.ids = ids;
+            this.size = size;
+            this.dictionary = dictionary;
+            this.idf = idf;
+            this.postingOffsets = postingOffsets;
+            this.postingRows = postingRows;
+            this.postingWeights = postingWeights;
+            this.dense = dense;
+            this.experienceWeight = experienceWeight;
+            this.educationWeight = educationWeight;
+        }
+
+        QueryVector vector(Profile profile) {
+            float[] features = new float[DENSE_DIMENSIONS];
+            double squaredLength = denseFeatures(profile.experience(), profile.education(), experienceWeight,
+                    educationWeight, features);
+
+            int[] skills = new int[profile.skills().size()];
+            float[] weights = new float[skills.length];
+            int count = 0;
+            double skillNorm = 0;
+            for (String skill : profile.skills()) {
+                Integer index = dictionary.get(skill);
+                float weight = index != null ? idf[index] : idf(size, 0);
+                if (index != null) {
+                    skills[count] = index;
+                    weights[count++] = weight;
+                }
+                skillNorm += (double) weight * weight;
+            }
+            skillNorm = Math.sqrt(skillNorm);
+            if (skillNorm > 0) {
+                squaredLength += 1;
+            }
+
+            double length = Math.sqrt(squaredLength);
+            if (length > 0) {
+                for (int i = 0; i < count; i++) {
+                    weights[i] = (float) (weights[i] / skillNorm / length);
+                }
+                for (int d = 0; d < DENSE_DIMENSIONS; d++) {
+                    features[d] = (float) (features[d] / length);
+                }
+            }
+            return new QueryVector(Arrays.copyOf(skills, count), Arrays.copyOf(weights, count), features);
+        }
+
+        List<SimilarCandidate> topK(QueryVector query, Long excludedId, int limit) {
+            float[] scores = new float[size];
+
+            for (int d = 0; d < DENSE_DIMENSIONS; d++) {
+                float weight = query.dense()[d];
+                if (weight == 0) {
+                    continue;
+                }
+                float[] column = dense[d];
+                for (int row = 0; row < size; row++) {
+                    scores[row] += weight * column[row];
+                }
+            }
+            for (int i = 0; i < query.skills().length; i++) {
+                int skill = query.skills()[i];
+                float weight = query.skillWeights()[i];
+                for (int p = postingOffsets[skill]; p < postingOffsets[skill + 1]; p++) {
+                    scores[postingRows[p]] += weight * postingWeights[p];
+                }
+            }
+
+            int excluded = Arrays.binarySearch(ids, excludedId);
+            PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1,
+                    (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Long.compare(ids[b], ids[a]));
+            for (int row = 0; row < size; row++) {
+                if (scores[row] <= 0 || row == excluded) {
+                    continue;
+                }
+                if (heap.size() < limit) {
+                    heap.add(row);
+                } else if (scores[row] > scores[heap.peek()]) {
+                    heap.poll();
+                    heap.add(row);
+                }
+            }
+
+            List<SimilarCandidate> similar = new ArrayList<>(heap.size());
+            while (!heap.isEmpty()) {
+                int row = heap.poll();
+                similar.add(new SimilarCandidate(ids[row], Math.min(1.0, scores[row])));
+            }
+            Collections.reverse(similar);
+            return similar;
+        }
+    }
+}
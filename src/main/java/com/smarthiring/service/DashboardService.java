@@ -1,5 +1,6 @@
 package com.smarthiring.service;
 
+import com.smarthiring.config.RecommendationConfig;
 import com.smarthiring.dto.response.ApplicationResponse;
 import com.smarthiring.dto.response.DashboardStatsResponse;
 import com.smarthiring.dto.response.JobListResponse;
@@ -29,6 +30,8 @@ public class DashboardService {
     private final ShortlistRepository shortlistRepository;
     private final JobMapper jobMapper;
     private final ApplicationMapper applicationMapper;
+    private final JobRecommendationService jobRecommendationService;
+    private final RecommendationConfig recommendationConfig;
 
     /**
      * Get admin/HR dashboard stats
@@ -122,13 +125,9 @@ public class DashboardService {
         }
         stats.setApplicationsByStatus(statusData);
 
-        // Recent jobs (recommendations)
-        List<JobListResponse> recentJobs = jobRepository
-                .findRecentJobs(PageRequest.of(0, 5))
-                .stream()
-                .map(jobMapper::toListResponse)
-                .collect(Collectors.toList());
-        stats.setRecentJobs(recentJobs);
+        // Recommended jobs matched to the candidate's skills
+        stats.setRecentJobs(jobRecommendationService.getRecommendedJobs(
+                candidateId, recommendationConfig.getDefaultLimit()));
 
         return stats;
     }
@@ -0,0 +1,325 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.DuplicateDetectionConfig;
+import com.smarthiring.dto.response.DuplicateReportResponse;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.duplicate.DuplicateKind;
+import com.smarthiring.service.duplicate.LshIndex;
+import com.smarthiring.service.duplicate.MinHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds candidates who are probably the same person (several accounts) or who share
+ * a recycled resume. Resume text gets a MinHash signature when it is parsed; skill
+ * set signatures are computed here from resolved skill ids. Both are kept in LSH
+ * buckets, so a lookup compares a candidate with its bucket mates only, never with
+ * every other candidate.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DuplicateDetectionService {
+
+    private final CandidateRepository candidateRepository;
+    private final ResumeRepository resumeRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final DuplicateDetectionConfig duplicateConfig;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state; // Guarded by lock; null until the first build
+
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    // ==================== Queries ====================
+
+    /**
+     * Other candidates whose resume text or skill set is near-identical to this one's,
+     * most similar first and at most maxMatches of them. Buckets shared by more than
+     * maxBucketSize ids (a stock skill list) say nothing about one person and are skipped.
+     * Empty while the index is disabled or not built yet.
+     */
+    public List<Long> findPossibleDuplicates(Long candidateId) {
+        if (!duplicateConfig.isEnabled() || candidateId == null) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return List.of();
+            }
+
+            Map<Long, Double> similar = new HashMap<>();
+            int[] skills = state.skills.signature(candidateId);
+            if (skills != null) {
+                state.skills.similar(skills, duplicateConfig.getSkillThreshold(),
+                        duplicateConfig.getMaxBucketSize()).forEach(
+                        (otherId, similarity) -> similar.merge(otherId, similarity, Math::max));
+            }
+            for (Long resumeId : state.candidateResumes.getOrDefault(candidateId, List.of())) {
+                state.resumes.similar(state.resumes.signature(resumeId), duplicateConfig.getResumeTextThreshold(),
+                                duplicateConfig.getMaxBucketSize())
+                        .forEach((otherResumeId, similarity) -> similar.merge(
+                                state.resumeCandidates.get(otherResumeId), similarity, Math::max));
+            }
+            similar.remove(candidateId);
+
+            return similar.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.comparingByKey()))
+                    .limit(duplicateConfig.getMaxMatches())
+                    .map(Map.Entry::getKey)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Candidate pairs above the thresholds, most similar first
+     */
+    public DuplicateReportResponse getReport(int limit) {
+        lock.readLock().lock();
+        try {
+            if (state == null) {
+                return DuplicateReportResponse.builder().ready(false).totalPairs(0).pairs(List.of()).build();
+            }
+
+            List<DuplicateReportResponse.DuplicatePair> pairs = new ArrayList<>();
+            for (LshIndex.SimilarPair pair : state.resumes.pairs(duplicateConfig.getResumeTextThreshold(),
+                    duplicateConfig.getMaxBucketSize())) {
+                Long candidateId = state.resumeCandidates.get(pair.first());
+                Long otherCandidateId = state.resumeCandidates.get(pair.second());
+                // Two versions of one candidate's resume are expected
+                if (!candidateId.equals(otherCandidateId)) {
+                    pairs.add(DuplicateReportResponse.DuplicatePair.builder()
+                            .kind(DuplicateKind.RESUME_TEXT)
+                            .candidateId(candidateId)
+                            .otherCandidateId(otherCandidateId)
+                            .resumeId(pair.first())
+                            .otherResumeId(pair.second())
+                            .similarity(pair.similarity())
+                            .build());
+                }
+            }
+            for (LshIndex.SimilarPair pair : state.skills.pairs(duplicateConfig.getSkillThreshold(),
+                    duplicateConfig.getMaxBucketSize())) {
+                pairs.add(DuplicateReportResponse.DuplicatePair.builder()
+                        .kind(DuplicateKind.SKILLS)
+                        .candidateId(pair.first())
+                        .otherCandidateId(pair.second())
+                        .similarity(pair.similarity())
+                        .build());
+            }
+
+            pairs.sort(Comparator.comparing(DuplicateReportResponse.DuplicatePair::getSimilarity).reversed()
+                    .thenComparing(DuplicateReportResponse.DuplicatePair::getKind)
+                    .thenComparing(DuplicateReportResponse.DuplicatePair::getCandidateId)
+                    .thenComparing(DuplicateReportResponse.DuplicatePair::getOtherCandidateId));
+
+            return DuplicateReportResponse.builder()
+                    .ready(true)
+                    .indexedCandidates(state.skills.size())
+                    .indexedResumes(state.resumes.size())
+                    .totalPairs(pairs.size())
+                    .pairs(pairs.subList(0, Math.min(Math.max(0, limit), pairs.size())))
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== Maintenance ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.duplicates.rebuild-interval-ms:21600000}",
+            initialDelayString = "${app.duplicates.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Skill ids follow canonical names, which the new ontology may resolve differently
+     */
+    @Async("taskExecutor")
+    @EventListener
+    public void onSkillOntologyChanged(SkillOntologyChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Full rebuild from keyset pages; the live index keeps serving until the swap
+     */
+    public void rebuild() {
+        if (!duplicateConfig.isEnabled()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        changedDuringRebuild.clear();
+
+        try {
+            int pageSize = Math.max(1, duplicateConfig.getRebuildPageSize());
+            IndexState rebuilt = new IndexState();
+
+            // A candidate with two primary resumes comes back twice
+            Map<Long, List<String>> skillLists = new LinkedHashMap<>();
+            long lastId = 0;
+            while (true) {
+                List<Object[]> rows = candidateRepository.findSearchIndexProfiles(lastId, PageRequest.of(0, pageSize));
+                for (Object[] row : rows) {
+                    lastId = ((Number) row[0]).longValue();
+                    List<String> lists = skillLists.computeIfAbsent(lastId, key -> new ArrayList<>(2));
+                    lists.add((String) row[1]);
+                    lists.add((String) row[5]);
+                }
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+            skillLists.forEach((candidateId, lists) -> putSkills(rebuilt, candidateId, lists));
+
+            lastId = 0;
+            while (true) {
+                List<Object[]> rows = resumeRepository.findTextSignatures(lastId, PageRequest.of(0, pageSize));
+                for (Object[] row : rows) {
+                    putResume(rebuilt, row);
+                    lastId = ((Number) row[0]).longValue();
+                }
+                if (rows.size() < pageSize) {
+                    break;
+                }
+            }
+
+            lock.writeLock().lock();
+            try {
+                state = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            log.info("Duplicate detection index rebuilt: {} candidates, {} resumes in {} ms",
+                    rebuilt.skills.size(), rebuilt.resumes.size(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            log.error("Duplicate detection index rebuild failed", e);
+        } finally {
+            rebuilding = false;
+        }
+
+        // Changes that committed while the pages were being read
+        for (Long candidateId : List.copyOf(changedDuringRebuild)) {
+            changedDuringRebuild.remove(candidateId);
+            refresh(candidateId);
+        }
+    }
+
+    /**
+     * Profile edits and resume uploads / deletions change both signatures
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        if (!duplicateConfig.isEnabled() || event.candidateId() == null) {
+            return;
+        }
+        if (rebuilding) {
+            changedDuringRebuild.add(event.candidateId());
+        }
+        refresh(event.candidateId());
+    }
+
+    /**
+     * Re-read one candidate; removes it when it no longer exists
+     */
+    public void refresh(Long candidateId) {
+        List<String> skillLists = new ArrayList<>();
+        for (Object[] row : candidateRepository.findSearchIndexProfile(candidateId)) {
+            skillLists.add((String) row[1]);
+            skillLists.add((String) row[5]);
+        }
+        List<Object[]> resumes = resumeRepository.findTextSignaturesByCandidateId(candidateId);
+
+        lock.writeLock().lock();
+        try {
+            if (state == null) {
+                return;
+            }
+            state.removeCandidate(candidateId);
+            putSkills(state, candidateId, skillLists);
+            for (Object[] row : resumes) {
+                putResume(state, row);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void putSkills(IndexState target, Long candidateId, List<String> skillLists) {
+        if (skillLists.isEmpty()) {
+            return;
+        }
+        SkillMatcherService.CandidateSkills skills = skillMatcherService.resolveSkills(
+                skillLists.toArray(String[]::new));
+        if (skills.size() >= duplicateConfig.getMinSkills()) {
+            target.skills.put(candidateId, MinHash.signature(skills.toArray(), skills.size()));
+        }
+    }
+
+    private static void putResume(IndexState target, Object[] row) {
+        int[] signature = MinHash.fromBytes((byte[]) row[2]);
+        if (signature != null) {
+            target.putResume(((Number) row[0]).longValue(), ((Number) row[1]).longValue(), signature);
+        }
+    }
+
+    private static final class IndexState {
+
+        final LshIndex skills = new LshIndex();   // By candidate id
+        final LshIndex resumes = new LshIndex();  // By resume id
+        final Map<Long, Long> resumeCandidates = new HashMap<>();
+        final Map<Long, List<Long>> candidateResumes = new HashMap<>();
+
+        void putResume(long resumeId, long candidateId, int[] signature) {
+            resumes.put(resumeId, signature);
+            resumeCandidates.put(resumeId, candidateId);
+            candidateResumes.computeIfAbsent(candidateId, key -> new ArrayList<>(1)).add(resumeId);
+        }
+
+        void removeCandidate(long candidateId) {
+            skills.remove(candidateId);
+            List<Long> resumeIds = candidateResumes.remove(candidateId);
+            if (resumeIds != null) {
+                for (Long resumeId : resumeIds) {
+                    resumes.remove(resumeId);
+                    resumeCandidates.remove(resumeId);
+                }
+            }
+        }
+    }
+}
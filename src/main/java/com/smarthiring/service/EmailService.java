@@ -6,6 +6,9 @@ import com.smarthiring.entity.Application;
 import com.smarthiring.entity.Shortlist;
 import com.smarthiring.entity.User;
 import com.smarthiring.enums.ApplicationStatus;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,7 @@ public class EmailService {
     private final JavaMailSender mailSender;
     private final EmailConfig emailConfig;
     private final EmailTemplateService templateService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Send email asynchronously
@@ -38,6 +42,8 @@ public class EmailService {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
         try {
             MimeMessage message = mailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
@@ -48,6 +54,7 @@ public class EmailService {
             helper.setText(emailDto.getBody(), emailDto.isHtml());
 
             mailSender.send(message);
+            outcome = "success";
 
             log.info("Email sent successfully to: {}", emailDto.getTo());
 
@@ -55,6 +62,8 @@ public class EmailService {
             log.error("Failed to send email to {}: {}", emailDto.getTo(), e.getMessage());
         } catch (Exception e) {
             log.error("Unexpected error sending email: {}", e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer(AppConstants.METRIC_EMAIL_SEND, "outcome", outcome));
         }
     }
 
@@ -0,0 +1,296 @@
+package com.smarthiring.service;
+
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.service.storage.FileStat;
+import com.smarthiring.service.storage.FileStore;
+import com.smarthiring.service.storage.StorageArea;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * Streams stored files with conditional GET (ETag / Last-Modified) and single byte-range support.
+ * Uses Tomcat sendfile when the connector supports it, otherwise FileChannel.transferTo;
+ * objects without a local path (S3) are streamed with a ranged read.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class FileDownloadService {
+
+    private final FileStore fileStore;
+
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    @Value("${file.download.cache-max-age:3600}")
+    private long cacheMaxAgeSeconds;
+
+    /**
+     * Write a file to the response, answering 304 / 206 / 416 where applicable
+     */
+    public void serveFile(HttpServletRequest request, HttpServletResponse response, Path filePath,
+                          String contentType, String downloadName, String contentHash) throws IOException {
+        serve(request, response, Files.size(filePath), Files.getLastModifiedTime(filePath).toMillis(),
+                filePath, null, contentType, downloadName, contentHash);
+    }
+
+    /**
+     * Write an object from the file store, using its local path when the backend has one
+     */
+    public void serveStoredFile(HttpServletRequest request, HttpServletResponse response, StorageArea area,
+                                String key, String contentType, String downloadName,
+                                String contentHash) throws IOException {
+        Optional<Path> localPath = fileStore.localPath(area, key);
+        if (localPath.isPresent()) {
+            serveFile(request, response, localPath.get(), contentType, downloadName, contentHash);
+            return;
+        }
+
+        FileStat stat = fileStore.stat(area, key)
+                .orElseThrow(() -> new ResourceNotFoundException("File", "name", key));
+
+        serve(request, response, stat.size(), stat.lastModified(), null,
+                (offset, length) -> fileStore.open(area, key, offset, length),
+                contentType, downloadName, contentHash);
+    }
+
+    @FunctionalInterface
+    private interface RangeOpener {
+        InputStream open(long offset, long length) throws IOException;
+    }
+
+    private void serve(HttpServletRequest request, HttpServletResponse response, long fileSize, long modifiedMillis,
+                       Path filePath, RangeOpener opener, String contentType, String downloadName,
+                       String contentHash) throws IOException {
+        // HTTP dates have second precision
+        long lastModified = modifiedMillis / 1000 * 1000;
+        String etag = buildETag(contentHash, fileSize, lastModified);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + cacheMaxAgeSeconds + ", must-revalidate");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (isNotModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(downloadName, StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        long start = 0;
+        long length = fileSize;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isRangeApplicable(request, etag, lastModified)) {
+            long[] range = parseRange(rangeHeader, fileSize);
+
+            if (range == null) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + fileSize);
+                return;
+            }
+
+            if (range.length == 2) {
+                start = range[0];
+                length = range[1] - range[0] + 1;
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + range[0] + "-" + range[1] + "/" + fileSize);
+            }
+        }
+
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (filePath == null) {
+            copyRange(opener, start, length, response);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // Kernel-level copy by the connector after the servlet returns
+            request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + length);
+            return;
+        }
+
+        transfer(filePath, start, length, response);
+    }
+
+    private void transfer(Path filePath, long start, long length, HttpServletResponse response) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, target);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    private void copyRange(RangeOpener opener, long start, long length, HttpServletResponse response)
+            throws IOException {
+        try (InputStream in = opener.open(start, length)) {
+            OutputStream out = response.getOutputStream();
+            byte[] buffer = new byte[8192];
+            long remaining = length;
+
+            while (remaining > 0) {
+                int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    break;
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    /**
+     * Strong ETag from the content hash; weak size/mtime ETag when no hash is recorded
+     */
+    private String buildETag(String contentHash, long fileSize, long lastModified) {
+        if (contentHash != null && !contentHash.isEmpty()) {
+            return "\"" + contentHash + "\"";
+        }
+        return "W/\"" + Long.toHexString(fileSize) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    /**
+     * If-None-Match (weak comparison) takes precedence over If-Modified-Since
+     */
+    private boolean isNotModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            String opaqueTag = stripWeak(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || stripWeak(tag).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long ifModifiedSince = readDateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range must match strongly, otherwise the full entity is sent
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return !etag.startsWith("W/") && ifRange.trim().equals(etag);
+        }
+
+        long ifRangeDate = readDateHeader(request, HttpHeaders.IF_RANGE);
+        return ifRangeDate != -1 && ifRangeDate == lastModified;
+    }
+
+    /**
+     * Parse a single "bytes=" range.
+     * Returns {start, end} for a valid range, an empty array to ignore the header, or null if unsatisfiable.
+     */
+    long[] parseRange(String rangeHeader, long fileSize) {
+        if (!rangeHeader.startsWith("bytes=")) {
+            return new long[0];
+        }
+
+        String spec = rangeHeader.substring("bytes=".length()).trim();
+        if (spec.contains(",")) {
+            // Multipart ranges are not worth it for resumes - serve the whole file
+            return new long[0];
+        }
+
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+
+            if (first.isEmpty()) {
+                // Suffix range: last N bytes
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0) {
+                    return null;
+                }
+                start = Math.max(0, fileSize - suffixLength);
+                end = fileSize - 1;
+            } else {
+                start = Long.parseLong(first);
+                long lastByte = last.isEmpty() ? fileSize - 1 : Long.parseLong(last);
+                if (lastByte < start) {
+                    // Syntactically invalid (RFC 7233 2.1): ignore the header, not 416
+                    return new long[0];
+                }
+                end = Math.min(lastByte, fileSize - 1);
+            }
+
+            if (start >= fileSize) {
+                return null;
+            }
+            return new long[]{start, end};
+
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private long readDateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+
+    private String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
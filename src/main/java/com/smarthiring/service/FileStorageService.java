@@ -1,24 +1,40 @@
 package com.smarthiring.service;
 
 import com.smarthiring.config.FileStorageConfig;
+import com.smarthiring.dto.StoredFile;
 import com.smarthiring.exception.BadRequestException;
 import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.repository.FileBlobRepository;
+import com.smarthiring.service.storage.FileStat;
+import com.smarthiring.service.storage.FileStore;
+import com.smarthiring.service.storage.StorageArea;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +42,9 @@ import java.util.UUID;
 public class FileStorageService {
 
     private final FileStorageConfig fileStorageConfig;
+    private final FileStore fileStore;
+    private final FileBlobRepository fileBlobRepository;
+    private final PlatformTransactionManager transactionManager;
 
     // Allowed file extensions
     private static final List<String> ALLOWED_RESUME_EXTENSIONS = Arrays.asList("pdf", "doc", "docx");
@@ -34,21 +53,23 @@ public class FileStorageService {
     /**
      * Store resume file
      */
-    public String storeResumeFile(MultipartFile file) {
-        return storeFile(file, fileStorageConfig.getResumePath(), ALLOWED_RESUME_EXTENSIONS);
+    public StoredFile storeResumeFile(MultipartFile file) {
+        return storeFile(file, StorageArea.RESUMES, ALLOWED_RESUME_EXTENSIONS);
     }
 
     /**
      * Store profile picture
      */
     public String storeProfilePicture(MultipartFile file) {
-        return storeFile(file, fileStorageConfig.getProfilePath(), ALLOWED_IMAGE_EXTENSIONS);
+        return storeFile(file, StorageArea.PROFILES, ALLOWED_IMAGE_EXTENSIONS).getFileName();
     }
 
     /**
-     * Generic file storage
+     * Generic file storage.
+     * Content is spooled and hashed first, then published under a key derived from the hash,
+     * so identical uploads share one stored object (tracked by a reference count).
      */
-    private String storeFile(MultipartFile file, Path targetPath, List<String> allowedExtensions) {
+    private StoredFile storeFile(MultipartFile file, StorageArea area, List<String> allowedExtensions) {
         // Validate file
         if (file.isEmpty()) {
             throw new BadRequestException("Cannot upload empty file");
@@ -63,10 +84,10 @@ public class FileStorageService {
         }
 
         // Get file extension
-        String extension = getFileExtension(originalFilename);
+        String extension = getFileExtension(originalFilename).toLowerCase();
 
         // Validate extension
-        if (!allowedExtensions.contains(extension.toLowerCase())) {
+        if (!allowedExtensions.contains(extension)) {
             throw new BadRequestException("File type not allowed. Allowed types: " + allowedExtensions);
         }
 
@@ -76,78 +97,211 @@ public class FileStorageService {
                     (fileStorageConfig.getMaxFileSize() / 1024 / 1024) + "MB");
         }
 
-        // Generate unique filename
-        String newFilename = UUID.randomUUID().toString() + "." + extension;
-
+        Path stagedFile = null;
         try {
-            // Copy file to target location
-            Path targetLocation = targetPath.resolve(newFilename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            stagedFile = Files.createTempFile(fileStore.stagingDirectory(area), "upload-", ".tmp");
+
+            String contentHash;
+            long size;
+            try (DigestInputStream in = new DigestInputStream(file.getInputStream(), sha256())) {
+                size = Files.copy(in, stagedFile, StandardCopyOption.REPLACE_EXISTING);
+                contentHash = HexFormat.of().formatHex(in.getMessageDigest().digest());
+            }
+
+            // Reference first: the row lock it takes makes a concurrent removal of the same
+            // key wait for this transaction, and the object is (re)written after it
+            String key = shardedKey(contentHash, extension);
+            fileBlobRepository.acquire(area.name(), key, contentHash, size);
+            boolean written = fileStore.putIfAbsent(area, key, stagedFile);
+
+            if (written) {
+                removeOnRollback(key, area);
+            }
 
-            log.info("File stored successfully: {}", newFilename);
+            log.info("File stored successfully: {} ({})", key, written ? "new" : "deduplicated");
 
-            return newFilename;
+            return StoredFile.builder()
+                    .fileName(key)
+                    .contentHash(contentHash)
+                    .size(size)
+                    .build();
 
         } catch (IOException e) {
             log.error("Could not store file: {}", originalFilename, e);
             throw new BadRequestException("Could not store file: " + originalFilename);
+        } finally {
+            deleteQuietly(stagedFile);
         }
     }
 
+    /**
+     * A failed upload transaction must not leave the object it just wrote behind
+     */
+    private void removeOnRollback(String key, StorageArea area) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    removeObject(key, area, true);
+                }
+            }
+        });
+    }
+
+    /**
+     * "ab/cd/abcd...ef.pdf" - two levels of 256 directories keep each directory small
+     */
+    static String shardedKey(String contentHash, String extension) {
+        return contentHash.substring(0, 2) + "/" + contentHash.substring(2, 4) + "/" + contentHash + "." + extension;
+    }
+
     /**
      * Load resume file as Resource
      */
     public Resource loadResumeAsResource(String filename) {
-        return loadFileAsResource(filename, fileStorageConfig.getResumePath());
+        return loadFileAsResource(filename, StorageArea.RESUMES);
     }
 
     /**
      * Load profile picture as Resource
      */
     public Resource loadProfilePictureAsResource(String filename) {
-        return loadFileAsResource(filename, fileStorageConfig.getProfilePath());
+        return loadFileAsResource(filename, StorageArea.PROFILES);
     }
 
     /**
      * Generic file loading
      */
-    private Resource loadFileAsResource(String filename, Path basePath) {
+    private Resource loadFileAsResource(String filename, StorageArea area) {
+        Optional<Path> localPath = localPath(filename, area);
+        if (localPath.isPresent()) {
+            return new FileSystemResource(localPath.get());
+        }
+        return new InputStreamResource(openFile(filename, area));
+    }
+
+    /**
+     * Open a stored resume for reading (parsing, hashing)
+     */
+    public InputStream openResumeFile(String filename) {
+        return openFile(filename, StorageArea.RESUMES);
+    }
+
+    private InputStream openFile(String filename, StorageArea area) {
         try {
-            Path filePath = basePath.resolve(filename).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+            return fileStore.open(area, filename);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ResourceNotFoundException("File", "name", filename);
+        }
+    }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new ResourceNotFoundException("File", "name", filename);
-            }
+    /**
+     * Size and modification time of a stored resume
+     */
+    public FileStat statResumeFile(String filename) {
+        try {
+            return fileStore.stat(StorageArea.RESUMES, filename)
+                    .orElseThrow(() -> new ResourceNotFoundException("File", "name", filename));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ResourceNotFoundException("File", "name", filename);
+        }
+    }
+
+    /**
+     * Local path of a stored resume when the backend is the filesystem (enables sendfile)
+     */
+    public Optional<Path> localResumePath(String filename) {
+        return localPath(filename, StorageArea.RESUMES);
+    }
 
-        } catch (MalformedURLException e) {
+    private Optional<Path> localPath(String filename, StorageArea area) {
+        try {
+            return fileStore.localPath(area, filename);
+        } catch (IllegalArgumentException e) {
             throw new ResourceNotFoundException("File", "name", filename);
         }
     }
 
+    /**
+     * Location recorded on the resume row (absolute path or s3:// URI)
+     */
+    public String getResumeLocation(String filename) {
+        return fileStore.locationOf(StorageArea.RESUMES, filename);
+    }
+
+    /**
+     * SHA-256 hex of a stored resume (for rows uploaded before hashes were recorded)
+     */
+    public String computeContentHash(String filename) {
+        try (DigestInputStream in = new DigestInputStream(fileStore.open(StorageArea.RESUMES, filename), sha256())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("Could not hash file: {}", filename, e);
+            return null;
+        }
+    }
+
     /**
      * Delete resume file
      */
     public boolean deleteResumeFile(String filename) {
-        return deleteFile(filename, fileStorageConfig.getResumePath());
+        return deleteFile(filename, StorageArea.RESUMES);
     }
 
     /**
      * Delete profile picture
      */
     public boolean deleteProfilePicture(String filename) {
-        return deleteFile(filename, fileStorageConfig.getProfilePath());
+        return deleteFile(filename, StorageArea.PROFILES);
     }
 
     /**
-     * Generic file deletion
+     * Drop one reference; the object is removed once nothing references it.
+     * Inside a transaction the removal waits for commit so a rollback never loses a file.
      */
-    private boolean deleteFile(String filename, Path basePath) {
+    private boolean deleteFile(String filename, StorageArea area) {
+        boolean tracked = fileBlobRepository.release(area, filename) > 0;
+
+        if (tracked && fileBlobRepository.deleteUnreferenced(area, filename) == 0) {
+            log.debug("File {} still referenced, keeping it", filename);
+            return false;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeObject(filename, area, tracked);
+                }
+            });
+            return true;
+        }
+
+        return removeObject(filename, area, tracked);
+    }
+
+    private boolean removeObject(String filename, StorageArea area, boolean tracked) {
+        if (!tracked) {
+            return deleteObject(filename, area);
+        }
+
+        // Same content may have been uploaded again since the row was removed. The locking
+        // read waits for an upload still holding the row, and an upload arriving later waits
+        // until the object is gone before writing it again.
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return Boolean.TRUE.equals(transaction.execute(status ->
+                fileBlobRepository.lockByKey(area, filename).isEmpty() && deleteObject(filename, area)));
+    }
+
+    private boolean deleteObject(String filename, StorageArea area) {
         try {
-            Path filePath = basePath.resolve(filename).normalize();
-            boolean deleted = Files.deleteIfExists(filePath);
+            boolean deleted = fileStore.delete(area, filename);
 
             if (deleted) {
                 log.info("File deleted: {}", filename);
@@ -155,7 +309,7 @@ public class FileStorageService {
 
             return deleted;
 
-        } catch (IOException e) {
+        } catch (IOException | IllegalArgumentException e) {
             log.error("Could not delete file: {}", filename, e);
             return false;
         }
@@ -192,7 +346,29 @@ public class FileStorageService {
      * Check if file exists
      */
     public boolean resumeFileExists(String filename) {
-        Path filePath = fileStorageConfig.getResumePath().resolve(filename);
-        return Files.exists(filePath);
+        try {
+            return fileStore.stat(StorageArea.RESUMES, filename).isPresent();
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not remove staged upload {}", path);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,115 @@
+package com.smarthiring.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smarthiring.config.JobListingCacheConfig;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache-aside for the public job listing endpoints (all jobs, featured, recent, locations,
+ * departments). It holds the serialized JSON body, so a hit is written straight to the
+ * response without querying, mapping or running Jackson.
+ * Concurrent misses on one key wait for a single load instead of each hitting the database.
+ * Entries live for a few seconds and are all dropped when a job change commits.
+ */
+@Service
+@Slf4j
+public class JobListingResponseCache {
+
+    private final JobListingCacheConfig config;
+    private final ObjectMapper objectMapper;
+    private final AsyncCache<String, byte[]> cache;
+
+    // Bumped on every invalidation; a load that started before it must not stay cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter coalesced;
+    private final Counter misses;
+
+    public JobListingResponseCache(JobListingCacheConfig config, ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.getMaxEntries())
+                .expireAfterWrite(Duration.ofSeconds(config.getTtlSeconds()))
+                .buildAsync();
+
+        this.hits = meterRegistry.counter(AppConstants.METRIC_RESPONSE_CACHE, "result", "hit");
+        this.coalesced = meterRegistry.counter(AppConstants.METRIC_RESPONSE_CACHE, "result", "coalesced");
+        this.misses = meterRegistry.counter(AppConstants.METRIC_RESPONSE_CACHE, "result", "miss");
+        Gauge.builder(AppConstants.METRIC_RESPONSE_CACHE + ".size", cache, c -> c.synchronous().estimatedSize())
+                .register(meterRegistry);
+    }
+
+    /**
+     * Cached JSON for the key, or the loader's result serialized (and cached). Only the
+     * first caller of a missing key runs the loader; others arriving meanwhile wait for it
+     * and share its result or its exception. Failed loads are not cached.
+     */
+    public byte[] get(String key, Supplier<?> loader) {
+        if (!config.isEnabled()) {
+            return serialize(loader.get());
+        }
+
+        CompletableFuture<byte[]> loading = new CompletableFuture<>();
+        CompletableFuture<byte[]> cached = cache.asMap().putIfAbsent(key, loading);
+        if (cached != null) {
+            (cached.isDone() ? hits : coalesced).increment();
+            return await(cached);
+        }
+
+        misses.increment();
+        long startedAt = generation.get();
+        try {
+            loading.complete(serialize(loader.get()));
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+        if (generation.get() != startedAt) {
+            cache.asMap().remove(key, loading);     // May have read rows a committed change replaced
+        }
+        return loading.join();
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.synchronous().invalidateAll();
+        log.debug("Job listing response cache cleared");
+    }
+
+    private byte[] serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize job listing response", e);
+        }
+    }
+
+    private static byte[] await(CompletableFuture<byte[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;    // Same exception the loading caller got, for the exception handler
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.RecommendationConfig;
+import com.smarthiring.dto.response.JobListResponse;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Job;
+import com.smarthiring.enums.WorkMode;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.mapper.JobMapper;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Candidate-to-job recommendations.
+ * Keeps an inverted index canonical skill -> open job ids, so a feed only scores jobs sharing
+ * at least one skill with the candidate, and keeps the best K in a bounded heap.
+ * Feeds are cached per candidate until their profile/primary resume or the job index changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobRecommendationService {
+
+    private static final double SKILL_WEIGHT = 0.8;
+    private static final double EXPERIENCE_WEIGHT = 0.1;
+    private static final double LOCATION_WEIGHT = 0.1;
+
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final ResumeRepository resumeRepository;
+    private final ApplicationRepository applicationRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final JobMapper jobMapper;
+    private final RecommendationConfig recommendationConfig;
+
+    private volatile JobIndex index = new JobIndex();
+    private final Object indexLock = new Object();
+    private final AtomicLong indexVersion = new AtomicLong();
+
+    // candidateId -> feed, LRU bounded
+    private final Map<Long, CachedFeed> feedCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedFeed> eldest) {
+                    return size() > recommendationConfig.getCacheMaxEntries();
+                }
+            });
+
+    /**
+     * Recommended open jobs for a candidate, best first; the configured default count
+     * when no limit is given. Falls back to the most recent jobs when nothing overlaps
+     * the candidate's skills. Jobs the candidate has applied to are never shown.
+     */
+    @Transactional(readOnly = true)
+    public List<JobListResponse> getRecommendedJobs(Long candidateId, Integer limit) {
+        int requested = limit != null ? limit : recommendationConfig.getDefaultLimit();
+        int k = Math.max(1, Math.min(requested, recommendationConfig.getMaxLimit()));
+
+        // Read on every call: the feed is cached, applications made since must not show
+        Set<Long> appliedJobIds = new HashSet<>(applicationRepository.findJobIdsByCandidateId(candidateId));
+        List<ScoredJob> feed = getFeed(candidateId, appliedJobIds);
+
+        if (feed.isEmpty()) {
+            return jobRepository.findRecentJobs(PageRequest.of(0, k + appliedJobIds.size())).stream()
+                    .filter(job -> !appliedJobIds.contains(job.getId()))
+                    .limit(k)
+                    .map(jobMapper::toListResponse)
+                    .collect(Collectors.toList());
+        }
+
+        List<ScoredJob> top = feed.stream()
+                .filter(scored -> !appliedJobIds.contains(scored.jobId()))
+                .limit(k)
+                .toList();
+        Map<Long, Job> jobs = jobRepository.findAllById(top.stream().map(ScoredJob::jobId).toList()).stream()
+                .collect(Collectors.toMap(Job::getId, job -> job));
+
+        List<JobListResponse> responses = new ArrayList<>(top.size());
+        for (ScoredJob scored : top) {
+            Job job = jobs.get(scored.jobId());
+            if (job == null || !Boolean.TRUE.equals(job.getIsActive())) {
+                continue;
+            }
+            JobListResponse response = jobMapper.toListResponse(job);
+            response.setMatchScore(Math.round(scored.score() * 1000) / 10.0);
+            response.setHasApplied(appliedJobIds.contains(job.getId()));
+            responses.add(response);
+        }
+        return responses;
+    }
+
+    private List<ScoredJob> getFeed(Long candidateId, Set<Long> appliedJobIds) {
+        long version = indexVersion.get();
+        long now = System.currentTimeMillis();
+        CachedFeed cached = feedCache.get(candidateId);
+
+        if (cached != null && cached.indexVersion() == version
+                && now - cached.builtAt() < TimeUnit.MINUTES.toMillis(recommendationConfig.getCacheTtlMinutes())) {
+            return cached.jobs();
+        }
+
+        List<ScoredJob> feed = computeFeed(candidateId, appliedJobIds, recommendationConfig.getMaxLimit());
+        feedCache.put(candidateId, new CachedFeed(feed, version, now));
+        return feed;
+    }
+
+    private List<ScoredJob> computeFeed(Long candidateId, Set<Long> appliedJobIds, int k) {
+        Candidate candidate = candidateRepository.findById(candidateId)
+                .orElseThrow(() -> new ResourceNotFoundException("Candidate", "id", candidateId));
+
+        // Profile skills plus skills extracted from the primary resume
+        Set<String> skills = skillMatcherService.canonicalSkills(candidate.getSkills());
+        for (String resumeSkills : resumeRepository.findPrimaryExtractedSkills(candidateId)) {
+            skills.addAll(skillMatcherService.canonicalSkills(resumeSkills));
+        }
+        if (skills.isEmpty()) {
+            return List.of();
+        }
+
+        JobIndex snapshot = index;
+
+        // Count shared skills per job, touching only jobs in the candidate's postings lists
+        Map<Long, Integer> overlap = new HashMap<>();
+        for (String skill : skills) {
+            Set<Long> jobIds = snapshot.postings.get(skill);
+            if (jobIds != null) {
+                for (Long jobId : jobIds) {
+                    overlap.merge(jobId, 1, Integer::sum);
+                }
+            }
+        }
+        if (overlap.isEmpty()) {
+            return List.of();
+        }
+
+        Double experience = candidate.getTotalExperience() != null ? candidate.getTotalExperience().doubleValue() : null;
+        Set<String> locations = candidateLocations(candidate);
+
+        // Min-heap of the best k: the root is the weakest kept job
+        PriorityQueue<ScoredJob> heap = new PriorityQueue<>(k + 1, ScoredJob.ORDER);
+
+        for (Map.Entry<Long, Integer> entry : overlap.entrySet()) {
+            JobProfile job = snapshot.jobs.get(entry.getKey());
+            if (job == null || appliedJobIds.contains(job.id())) {
+                continue;
+            }
+
+            Double experienceFit = experienceFit(job, experience);
+            Double locationFit = locationFit(job, locations);
+            if (experienceFit == null || locationFit == null) {
+                continue; // Filtered out
+            }
+
+            double skillCoverage = (double) entry.getValue() / job.skills().size();
+            double score = SKILL_WEIGHT * skillCoverage
+                    + EXPERIENCE_WEIGHT * experienceFit
+                    + LOCATION_WEIGHT * locationFit;
+
+            ScoredJob scored = new ScoredJob(job.id(), score, job.createdAt());
+            if (heap.size() < k) {
+                heap.offer(scored);
+            } else if (ScoredJob.ORDER.compare(scored, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(scored);
+            }
+        }
+
+        List<ScoredJob> feed = new ArrayList<>(heap);
+        feed.sort(ScoredJob.ORDER.reversed());
+        return List.copyOf(feed);
+    }
+
+    /**
+     * 1.0 inside the range, lower outside it, null if the job asks for clearly more experience
+     */
+    private Double experienceFit(JobProfile job, Double experience) {
+        if (experience == null) {
+            return 0.5;
+        }
+
+        int min = job.experienceMin() != null ? job.experienceMin() : 0;
+        if (experience < min - recommendationConfig.getExperienceToleranceYears()) {
+            return null;
+        }
+        if (experience < min) {
+            return 0.5;
+        }
+        if (job.experienceMax() != null && experience > job.experienceMax()) {
+            return 0.5; // Over-qualified, still shown
+        }
+        return 1.0;
+    }
+
+    /**
+     * 1.0 for remote jobs or a preferred location, null for on-site jobs elsewhere
+     */
+    private Double locationFit(JobProfile job, Set<String> candidateLocations) {
+        if (job.workMode() == WorkMode.REMOTE) {
+            return 1.0;
+        }
+        if (candidateLocations.isEmpty() || job.location() == null) {
+            return 0.5;
+        }
+        for (String location : candidateLocations) {
+            if (job.location().contains(location) || location.contains(job.location())) {
+                return 1.0;
+            }
+        }
+        return null;
+    }
+
+    private Set<String> candidateLocations(Candidate candidate) {
+        Set<String> locations = new HashSet<>();
+        for (String value : Arrays.asList(candidate.getLocation(), candidate.getPreferredLocations())) {
+            if (value == null) {
+                continue;
+            }
+            for (String location : value.split(",")) {
+                String normalized = location.trim().toLowerCase();
+                if (!normalized.isEmpty()) {
+                    locations.add(normalized);
+                }
+            }
+        }
+        return locations;
+    }
+
+    // ==================== Index maintenance ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildIndex();
+    }
+
+    /**
+     * Periodic full rebuild; also picks up jobs whose deadline passed
+     */
+    @Scheduled(fixedDelayString = "${app.recommendations.rebuild-interval-ms:3600000}",
+            initialDelayString = "${app.recommendations.rebuild-interval-ms:3600000}")
+    public void scheduledRebuild() {
+        rebuildIndex();
+    }
+
+    /**
+     * Job skills are indexed by canonical name, which the new ontology may resolve differently
+     */
+    @Async("taskExecutor")
+    @EventListener
+    public void onSkillOntologyChanged(SkillOntologyChangedEvent event) {
+        rebuildIndex();
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        JobIndex rebuilt = new JobIndex();
+
+        for (Object[] row : jobRepository.findRecommendationProfiles(LocalDate.now())) {
+            JobProfile job = toProfile(row);
+            if (job != null) {
+                rebuilt.add(job);
+            }
+        }
+
+        synchronized (indexLock) {
+            index = rebuilt;
+            indexVersion.incrementAndGet();
+        }
+
+        log.info("Job recommendation index rebuilt: {} jobs, {} skills in {} ms",
+                rebuilt.jobs.size(), rebuilt.postings.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.isBulk()) {
+            rebuildIndex();
+            return;
+        }
+
+        List<Object[]> rows = jobRepository.findRecommendationProfile(event.jobId(), LocalDate.now());
+        JobProfile job = rows.isEmpty() ? null : toProfile(rows.get(0));
+
+        synchronized (indexLock) {
+            index.remove(event.jobId());
+            if (job != null) {
+                index.add(job);
+            }
+            indexVersion.incrementAndGet();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        feedCache.remove(event.candidateId());
+    }
+
+    private JobProfile toProfile(Object[] row) {
+        Set<String> skills = skillMatcherService.canonicalSkills((String) row[1]);
+        if (skills.isEmpty()) {
+            return null;
+        }
+
+        String location = (String) row[4];
+        return new JobProfile(
+                (Long) row[0],
+                skills,
+                (Integer) row[2],
+                (Integer) row[3],
+                location != null ? location.trim().toLowerCase() : null,
+                (WorkMode) row[5],
+                (LocalDateTime) row[6]);
+    }
+
+    /**
+     * Postings and job attributes. Writers hold indexLock; readers see concurrent maps.
+     */
+    private static final class JobIndex {
+        final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+        final Map<Long, JobProfile> jobs = new ConcurrentHashMap<>();
+
+        void add(JobProfile job) {
+            jobs.put(job.id(), job);
+            for (String skill : job.skills()) {
+                postings.computeIfAbsent(skill, key -> ConcurrentHashMap.newKeySet()).add(job.id());
+            }
+        }
+
+        void remove(Long jobId) {
+            JobProfile removed = jobs.remove(jobId);
+            if (removed == null) {
+                return;
+            }
+            for (String skill : removed.skills()) {
+                Set<Long> jobIds = postings.get(skill);
+                if (jobIds != null) {
+                    jobIds.remove(jobId);
+                    if (jobIds.isEmpty()) {
+                        postings.remove(skill);
+                    }
+                }
+            }
+        }
+    }
+
+    private record JobProfile(Long id, Set<String> skills, Integer experienceMin, Integer experienceMax,
+                              String location, WorkMode workMode, LocalDateTime createdAt) {
+    }
+
+    private record ScoredJob(Long jobId, double score, LocalDateTime createdAt) {
+        // Higher score first, newer job breaks ties
+        static final Comparator<ScoredJob> ORDER = Comparator.comparingDouble(ScoredJob::score)
+                .thenComparing(ScoredJob::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(ScoredJob::jobId);
+    }
+
+    private record CachedFeed(List<ScoredJob> jobs, long indexVersion, long builtAt) {
+    }
+}
@@ -7,23 +7,33 @@ import com.smarthiring.dto.response.JobResponse;
 import com.smarthiring.dto.response.PagedResponse;
 import com.smarthiring.entity.Job;
 import com.smarthiring.entity.User;
+import com.smarthiring.event.JobChangedEvent;
 import com.smarthiring.exception.BadRequestException;
 import com.smarthiring.exception.ResourceNotFoundException;
 import com.smarthiring.mapper.JobMapper;
 import com.smarthiring.repository.ApplicationRepository;
 import com.smarthiring.repository.JobRepository;
 import com.smarthiring.repository.UserRepository;
+import com.smarthiring.util.AppConstants;
+import com.smarthiring.util.ETags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -35,6 +45,9 @@ public class JobService {
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
     private final JobMapper jobMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final JobListingResponseCache jobListingResponseCache;
 
     /**
      * Create a new job
@@ -49,6 +62,8 @@ public class JobService {
 
         Job savedJob = jobRepository.save(job);
 
+        eventPublisher.publishEvent(new JobChangedEvent(savedJob.getId()));
+
         log.info("Job created: {} by user: {}", savedJob.getId(), postedById);
 
         return jobMapper.toResponse(savedJob);
@@ -67,9 +82,22 @@ public class JobService {
             throw new BadRequestException("You are not authorized to update this job");
         }
 
+        String previousSkills = job.getRequiredSkills();
+        String previousNiceToHave = job.getNiceToHaveSkills();
+        Integer previousExperienceMin = job.getExperienceMin();
+        Integer previousExperienceMax = job.getExperienceMax();
+        String previousDepartment = job.getDepartment();    // Selects the department's scoring weights
+
         jobMapper.updateFromRequest(job, request);
         Job savedJob = jobRepository.save(job);
 
+        boolean scoringInputsChanged = !Objects.equals(previousSkills, savedJob.getRequiredSkills())
+                || !Objects.equals(previousNiceToHave, savedJob.getNiceToHaveSkills())
+                || !Objects.equals(previousExperienceMin, savedJob.getExperienceMin())
+                || !Objects.equals(previousExperienceMax, savedJob.getExperienceMax())
+                || !Objects.equals(previousDepartment, savedJob.getDepartment());
+        eventPublisher.publishEvent(new JobChangedEvent(jobId, scoringInputsChanged));
+
         log.info("Job updated: {}", jobId);
 
         return jobMapper.toResponse(savedJob);
@@ -114,6 +142,24 @@ public class JobService {
         return response;
     }
 
+    /**
+     * Weak ETag of getJobById's response, read with a projection query; null if there is
+     * no such job. viewsCount is left out (a view is not a change); the date is in because
+     * isExpired depends on it, and the candidate because hasApplied does.
+     */
+    @Transactional(readOnly = true)
+    public String getJobETag(Long jobId, Long candidateId) {
+        List<Object[]> rows = jobRepository.findVersionById(jobId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Object[] version = rows.get(0);
+        boolean hasApplied = candidateId != null
+                && applicationRepository.existsByJobIdAndCandidateId(jobId, candidateId);
+        return ETags.weak("job", jobId, version[0], version[1], version[2], LocalDate.now(), candidateId, hasApplied);
+    }
+
     /**
      * Get all active jobs
      */
@@ -150,6 +196,7 @@ public class JobService {
 
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         Page<Job> jobsPage = jobRepository.advancedSearch(
                 request.getKeyword(),
                 request.getLocation(),
@@ -163,6 +210,7 @@ public class JobService {
         List<JobListResponse> content = jobsPage.getContent().stream()
                 .map(jobMapper::toListResponse)
                 .collect(Collectors.toList());
+        sample.stop(meterRegistry.timer(AppConstants.METRIC_SEARCH, "target", "jobs", "source", "database"));
 
         return PagedResponse.of(
                 content,
@@ -180,11 +228,13 @@ public class JobService {
     public PagedResponse<JobListResponse> searchJobsByKeyword(String keyword, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         Page<Job> jobsPage = jobRepository.searchJobs(keyword, pageable);
 
         List<JobListResponse> content = jobsPage.getContent().stream()
                 .map(jobMapper::toListResponse)
                 .collect(Collectors.toList());
+        sample.stop(meterRegistry.timer(AppConstants.METRIC_SEARCH, "target", "jobs_by_keyword", "source", "database"));
 
         return PagedResponse.of(
                 content,
@@ -221,6 +271,7 @@ public class JobService {
      * Get featured jobs
      */
     @Transactional(readOnly = true)
+    @Cacheable(AppConstants.CACHE_FEATURED_JOBS)
     public List<JobListResponse> getFeaturedJobs() {
         return jobRepository.findByIsFeaturedTrueAndIsActiveTrue().stream()
                 .map(jobMapper::toListResponse)
@@ -231,6 +282,7 @@ public class JobService {
      * Get recent jobs
      */
     @Transactional(readOnly = true)
+    @Cacheable(AppConstants.CACHE_RECENT_JOBS)
     public List<JobListResponse> getRecentJobs(int limit) {
         Pageable pageable = PageRequest.of(0, limit);
         return jobRepository.findRecentJobs(pageable).stream()
@@ -253,6 +305,8 @@ public class JobService {
         job.setIsActive(false);
         Job savedJob = jobRepository.save(job);
 
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
+
         log.info("Job deactivated: {}", jobId);
 
         return jobMapper.toResponse(savedJob);
@@ -271,6 +325,7 @@ public class JobService {
         }
 
         jobRepository.delete(job);
+        eventPublisher.publishEvent(new JobChangedEvent(jobId));
         log.info("Job deleted: {}", jobId);
     }
 
@@ -278,6 +333,7 @@ public class JobService {
      * Get all distinct locations
      */
     @Transactional(readOnly = true)
+    @Cacheable(AppConstants.CACHE_JOB_LOCATIONS)
     public List<String> getAllLocations() {
         return jobRepository.findAllDistinctLocations();
     }
@@ -286,6 +342,7 @@ public class JobService {
      * Get all distinct departments
      */
     @Transactional(readOnly = true)
+    @Cacheable(AppConstants.CACHE_JOB_DEPARTMENTS)
     public List<String> getAllDepartments() {
         return jobRepository.findAllDistinctDepartments();
     }
@@ -305,11 +362,26 @@ public class JobService {
     public int deactivateExpiredJobs() {
         int count = jobRepository.deactivateExpiredJobs(LocalDate.now());
         if (count > 0) {
+            eventPublisher.publishEvent(JobChangedEvent.allJobs());
             log.info("Deactivated {} expired jobs", count);
         }
         return count;
     }
 
+    /**
+     * Every job mutation above publishes JobChangedEvent; the cached public lists are
+     * dropped once it commits, so a concurrent read cannot re-cache the old rows.
+     * The list caches go first: the response cache reloads from them.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(cacheNames = {AppConstants.CACHE_FEATURED_JOBS, AppConstants.CACHE_RECENT_JOBS,
+            AppConstants.CACHE_JOB_LOCATIONS, AppConstants.CACHE_JOB_DEPARTMENTS}, allEntries = true,
+            beforeInvocation = true)
+    public void onJobChanged(JobChangedEvent event) {
+        jobListingResponseCache.invalidateAll();
+        log.debug("Job lists evicted after change to job {}", event.isBulk() ? "(bulk)" : event.jobId());
+    }
+
 //    // Add this method inside JobService class
 //    public List<JobResponse> getJobsByPostedBy(User user) {
 //        List<Job> jobs = jobRepository.findByPostedById(user.getId());
@@ -0,0 +1,201 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.RescoringConfig;
+import com.smarthiring.entity.Application;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.service.scoring.ScoringSignals;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps AI scores current when their inputs change. Change events only record
+ * which job or candidate changed; keys queued repeatedly before the worker runs
+ * are rescored once. The worker resolves them to application ids and rescores
+ * in batches, one transaction per batch.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RescoringService {
+
+    private final ApplicationRepository applicationRepository;
+    private final AIRankingService aiRankingService;
+    private final RescoringConfig rescoringConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Coalescing queues: sets, so duplicates collapse until the next drain
+    private final Set<Long> pendingJobs = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingCandidates = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingApplications = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong rescoredApplications = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+
+    // Day the recency sweep last covered; assume yesterday's run happened
+    private volatile LocalDate lastRecencySweep = LocalDate.now().minusDays(1);
+
+    @PostConstruct
+    public void registerMetrics() {
+        FunctionCounter.builder(AppConstants.METRIC_RESCORED_APPLICATIONS, rescoredApplications, AtomicLong::get)
+                .register(meterRegistry);
+        FunctionCounter.builder(AppConstants.METRIC_RESCORING_FAILED_BATCHES, failedBatches, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    // ==================== Producers ====================
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.isBulk() && event.scoringInputsChanged()) {
+            pendingJobs.add(event.jobId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateProfileChanged(CandidateProfileChangedEvent event) {
+        if (event.candidateId() != null) {
+            pendingCandidates.add(event.candidateId());
+        }
+    }
+
+    /**
+     * On startup: scores produced by an older scoring model
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void queueOutdatedScores() {
+        if (!rescoringConfig.isEnabled()) {
+            return;
+        }
+
+        List<Long> ids = applicationRepository.findIdsScoredBeforeModelVersion(ScoringSignals.MODEL_VERSION);
+        pendingApplications.addAll(ids);
+        if (!ids.isEmpty()) {
+            log.info("Queued {} applications scored by an older model for re-scoring", ids.size());
+        }
+    }
+
+    /**
+     * Nightly: applications whose age crossed a recency step since the last sweep
+     */
+    @Scheduled(cron = "${app.rescoring.recency-sweep-cron:0 15 2 * * *}")
+    public void recencySweep() {
+        if (!rescoringConfig.isEnabled()) {
+            return;
+        }
+
+        LocalDate today = LocalDate.now();
+        LocalDate coveredUntil = lastRecencySweep;
+        if (!today.isAfter(coveredUntil)) {
+            return;
+        }
+
+        int queued = 0;
+        for (int stepDays : ScoringSignals.RECENCY_STEP_DAYS) {
+            // Applied on day d, the score steps down on day d + stepDays + 1
+            int boundary = stepDays + 1;
+            List<Long> ids = applicationRepository.findIdsAppliedBetween(
+                    coveredUntil.plusDays(1).minusDays(boundary).atStartOfDay(),
+                    today.plusDays(1).minusDays(boundary).atStartOfDay());
+            pendingApplications.addAll(ids);
+            queued += ids.size();
+        }
+
+        lastRecencySweep = today;
+        log.info("Recency sweep queued {} applications for re-scoring", queued);
+    }
+
+    // ==================== Worker ====================
+
+    @Scheduled(fixedDelayString = "${app.rescoring.poll-interval-ms:5000}",
+            initialDelayString = "${app.rescoring.poll-interval-ms:5000}")
+    public void processQueue() {
+        if (!rescoringConfig.isEnabled()) {
+            return;
+        }
+
+        for (Long jobId : drain(pendingJobs)) {
+            pendingApplications.addAll(applicationRepository.findIdsByJobId(jobId));
+        }
+        for (Long candidateId : drain(pendingCandidates)) {
+            pendingApplications.addAll(applicationRepository.findIdsByCandidateId(candidateId));
+        }
+
+        List<Long> applicationIds = drain(pendingApplications);
+        if (applicationIds.isEmpty()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        int batchSize = Math.max(1, rescoringConfig.getBatchSize());
+        int rescored = 0;
+
+        for (int from = 0; from < applicationIds.size(); from += batchSize) {
+            List<Long> batch = applicationIds.subList(from, Math.min(applicationIds.size(), from + batchSize));
+            try {
+                Integer count = transactionTemplate.execute(status -> rescoreBatch(batch));
+                rescored += count != null ? count : 0;
+            } catch (RuntimeException e) {
+                // Dropped rather than re-queued so one bad row cannot wedge the worker
+                failedBatches.incrementAndGet();
+                log.error("Re-scoring batch of {} applications failed", batch.size(), e);
+            }
+        }
+
+        rescoredApplications.addAndGet(rescored);
+        log.info("Re-scored {} applications in {} ms", rescored, System.currentTimeMillis() - started);
+    }
+
+    private int rescoreBatch(List<Long> applicationIds) {
+        List<Application> applications = applicationRepository.findForScoringByIdIn(applicationIds);
+        for (Application application : applications) {
+            aiRankingService.calculateScore(application);
+        }
+        return applications.size();
+    }
+
+    /**
+     * Take everything currently queued; keys added meanwhile stay for the next run
+     */
+    private static List<Long> drain(Set<Long> queue) {
+        List<Long> drained = new ArrayList<>();
+        Iterator<Long> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    public int getPendingCount() {
+        return pendingJobs.size() + pendingCandidates.size() + pendingApplications.size();
+    }
+
+    public long getRescoredApplications() {
+        return rescoredApplications.get();
+    }
+
+    public long getFailedBatches() {
+        return failedBatches.get();
+    }
+}
@@ -1,5 +1,12 @@
 package com.smarthiring.service;
 
+import com.smarthiring.service.parsing.ResumeFieldExtractor;
+import com.smarthiring.service.parsing.ResumeFields;
+import com.smarthiring.service.parsing.ResumeSections;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.tika.Tika;
 import org.apache.tika.exception.TikaException;
@@ -8,265 +15,130 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class ResumeParserService {
 
     private final Tika tika = new Tika();
 
-    // Common technical skills to extract
-    private static final Set<String> KNOWN_SKILLS = new HashSet<>(Arrays.asList(
-            // Programming Languages
-            "java", "python", "javascript", "typescript", "c++", "c#", "go", "golang",
-            "ruby", "php", "swift", "kotlin", "scala", "rust", "r", "matlab",
-
-            // Frontend
-            "react", "reactjs", "react.js", "angular", "angularjs", "vue", "vuejs", "vue.js",
-            "html", "html5", "css", "css3", "sass", "scss", "less", "bootstrap", "tailwind",
-            "jquery", "next.js", "nextjs", "nuxt", "gatsby", "webpack", "redux",
-
-            // Backend
-            "spring", "spring boot", "springboot", "hibernate", "jpa", "node.js", "nodejs",
-            "express", "expressjs", "django", "flask", "fastapi", "rails", "laravel",
-            "asp.net", ".net", "dotnet", "microservices", "rest", "restful", "graphql",
-
-            // Databases
-            "sql", "mysql", "postgresql", "postgres", "oracle", "mongodb", "redis",
-            "elasticsearch", "cassandra", "dynamodb", "sqlite", "mariadb", "firebase",
-
-            // Cloud & DevOps
-            "aws", "amazon web services", "azure", "gcp", "google cloud", "docker",
-            "kubernetes", "k8s", "jenkins", "ci/cd", "terraform", "ansible", "linux",
-            "unix", "bash", "shell scripting", "nginx", "apache",
-
-            // Tools & Others
-            "git", "github", "gitlab", "bitbucket", "jira", "confluence", "maven", "gradle",
-            "npm", "yarn", "postman", "swagger", "junit", "selenium", "testng", "mockito",
-
-            // Data & ML
-            "machine learning", "ml", "deep learning", "ai", "artificial intelligence",
-            "tensorflow", "pytorch", "keras", "pandas", "numpy", "scikit-learn",
-            "data science", "data analysis", "big data", "hadoop", "spark", "kafka",
-
-            // Mobile
-            "android", "ios", "react native", "flutter", "xamarin", "ionic",
-
-            // Others
-            "agile", "scrum", "kanban", "api", "json", "xml", "oauth", "jwt"
-    ));
-
-    // Education keywords
-    private static final Set<String> EDUCATION_KEYWORDS = new HashSet<>(Arrays.asList(
-            "bachelor", "master", "phd", "b.tech", "m.tech", "b.e", "m.e", "bca", "mca",
-            "b.sc", "m.sc", "bba", "mba", "diploma", "degree", "university", "college",
-            "institute", "school", "education", "graduated", "graduation"
-    ));
+    private final SkillOntologyService skillOntologyService;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Parse resume and extract text
      */
     public String parseResume(MultipartFile file) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try (InputStream stream = file.getInputStream()) {
             String text = tika.parseToString(stream);
+            recordParse(sample, fileType(file.getOriginalFilename()), "success");
             log.info("Resume parsed successfully. Extracted {} characters", text.length());
             return text;
         } catch (IOException | TikaException e) {
+            recordParse(sample, fileType(file.getOriginalFilename()), "failure");
             log.error("Error parsing resume: {}", e.getMessage());
             return "";
         }
     }
 
+    /**
+     * Parse resume from a stored file stream (closed by this method)
+     */
+    public String parseResume(InputStream stream) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try (stream) {
+            String text = tika.parseToString(stream);
+            recordParse(sample, "stored", "success");
+            log.info("Resume parsed successfully from storage. Extracted {} characters", text.length());
+            return text;
+        } catch (IOException | TikaException e) {
+            recordParse(sample, "stored", "failure");
+            log.error("Error parsing resume from storage: {}", e.getMessage());
+            return "";
+        }
+    }
+
     /**
      * Parse resume from file path
      */
     public String parseResume(java.nio.file.Path filePath) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try (InputStream stream = java.nio.file.Files.newInputStream(filePath)) {
             String text = tika.parseToString(stream);
+            recordParse(sample, fileType(filePath.getFileName().toString()), "success");
             log.info("Resume parsed successfully from path. Extracted {} characters", text.length());
             return text;
         } catch (IOException | TikaException e) {
+            recordParse(sample, fileType(filePath.getFileName().toString()), "failure");
             log.error("Error parsing resume from path: {}", e.getMessage());
             return "";
         }
     }
 
     /**
-     * Extract skills from resume text
+     * Extract every stored field in one pass over the text
      */
-    public String extractSkills(String resumeText) {
-        if (resumeText == null || resumeText.isEmpty()) {
-            return "";
-        }
-
-        String lowerText = resumeText.toLowerCase();
-        Set<String> foundSkills = new LinkedHashSet<>();
-
-        for (String skill : KNOWN_SKILLS) {
-            // Check if skill exists in text (with word boundaries)
-            String pattern = "\\b" + Pattern.quote(skill) + "\\b";
-            if (Pattern.compile(pattern, Pattern.CASE_INSENSITIVE).matcher(lowerText).find()) {
-                // Capitalize first letter for display
-                foundSkills.add(capitalizeSkill(skill));
-            }
-        }
+    public ResumeFields extractFields(String resumeText) {
+        return meterRegistry.timer(AppConstants.METRIC_RESUME_EXTRACT).record(() ->
+                ResumeFieldExtractor.extract(resumeText, skillOntologyService.current()));
+    }
 
-        String result = String.join(", ", foundSkills);
-        log.info("Extracted {} skills from resume", foundSkills.size());
+    /**
+     * Extract fields reusing section offsets stored with the resume; stale or missing
+     * offsets are recomputed
+     */
+    public ResumeFields extractFields(String resumeText, String storedSectionOffsets) {
+        ResumeSections sections = resumeText == null ? null
+                : ResumeSections.decode(storedSectionOffsets, resumeText.length());
+        return meterRegistry.timer(AppConstants.METRIC_RESUME_EXTRACT).record(() ->
+                ResumeFieldExtractor.extract(resumeText, sections, skillOntologyService.current()));
+    }
 
-        return result;
+    /**
+     * Extract skills from resume text
+     */
+    public String extractSkills(String resumeText) {
+        return extractFields(resumeText).skills();
     }
 
     /**
      * Extract email from resume
      */
     public String extractEmail(String resumeText) {
-        if (resumeText == null) return null;
-
-        Pattern pattern = Pattern.compile(
-                "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
-                Pattern.CASE_INSENSITIVE
-        );
-        Matcher matcher = pattern.matcher(resumeText);
-
-        if (matcher.find()) {
-            return matcher.group().toLowerCase();
-        }
-        return null;
+        return extractFields(resumeText).email();
     }
 
     /**
      * Extract phone number from resume
      */
     public String extractPhone(String resumeText) {
-        if (resumeText == null) return null;
-
-        // Pattern for Indian phone numbers
-        Pattern pattern = Pattern.compile(
-                "(\\+91[\\s-]?)?[6-9]\\d{9}|" +
-                        "(\\+1[\\s-]?)?\\(?\\d{3}\\)?[\\s-]?\\d{3}[\\s-]?\\d{4}"
-        );
-        Matcher matcher = pattern.matcher(resumeText);
-
-        if (matcher.find()) {
-            return matcher.group().replaceAll("[\\s-()]", "");
-        }
-        return null;
+        return extractFields(resumeText).phone();
     }
 
     /**
      * Extract years of experience
      */
     public Double extractExperience(String resumeText) {
-        if (resumeText == null) return null;
-
-        // Pattern to find years of experience
-        Pattern pattern = Pattern.compile(
-                "(\\d+(?:\\.\\d+)?)[+]?\\s*(?:years?|yrs?|\\+)\\s*(?:of)?\\s*(?:experience|exp)?",
-                Pattern.CASE_INSENSITIVE
-        );
-        Matcher matcher = pattern.matcher(resumeText);
-
-        Double maxExperience = null;
-        while (matcher.find()) {
-            try {
-                Double years = Double.parseDouble(matcher.group(1));
-                if (maxExperience == null || years > maxExperience) {
-                    maxExperience = years;
-                }
-            } catch (NumberFormatException e) {
-                // Ignore
-            }
-        }
-
-        return maxExperience;
+        return extractFields(resumeText).experience();
     }
 
     /**
      * Extract education information
      */
     public String extractEducation(String resumeText) {
-        if (resumeText == null || resumeText.isEmpty()) {
-            return "";
-        }
-
-        String lowerText = resumeText.toLowerCase();
-        List<String> educationFound = new ArrayList<>();
-
-        // Split text into lines and find education-related lines
-        String[] lines = resumeText.split("\\r?\\n");
-
-        for (String line : lines) {
-            String lowerLine = line.toLowerCase();
-            for (String keyword : EDUCATION_KEYWORDS) {
-                if (lowerLine.contains(keyword) && line.trim().length() > 10) {
-                    educationFound.add(line.trim());
-                    break;
-                }
-            }
-        }
-
-        // Take first 3 education entries
-        return educationFound.stream()
-                .limit(3)
-                .collect(Collectors.joining("; "));
+        return extractFields(resumeText).education();
     }
 
     /**
      * Extract name (usually at the beginning)
      */
     public String extractName(String resumeText) {
-        if (resumeText == null || resumeText.isEmpty()) {
-            return null;
-        }
-
-        // Get first few lines
-        String[] lines = resumeText.split("\\r?\\n");
-
-        for (String line : lines) {
-            line = line.trim();
-
-            // Skip empty lines
-            if (line.isEmpty()) continue;
-
-            // Skip lines that look like emails, phones, or URLs
-            if (line.contains("@") || line.matches(".*\\d{10}.*") || line.contains("http")) {
-                continue;
-            }
-
-            // Name is usually 2-4 words, all letters
-            if (line.matches("^[A-Za-z]+(?:\\s+[A-Za-z]+){1,3}$")) {
-                return line;
-            }
-        }
-
-        return null;
-    }
-
-    /**
-     * Capitalize skill name properly
-     */
-    private String capitalizeSkill(String skill) {
-        // Skills that should remain uppercase
-        Set<String> upperCaseSkills = new HashSet<>(Arrays.asList(
-                "sql", "html", "css", "php", "api", "aws", "gcp", "ci/cd",
-                "jwt", "xml", "json", "npm", "ai", "ml", "jpa", "mvc"
-        ));
-
-        if (upperCaseSkills.contains(skill.toLowerCase())) {
-            return skill.toUpperCase();
-        }
-
-        // Capitalize first letter
-        if (skill.length() <= 1) {
-            return skill.toUpperCase();
-        }
-
-        return Character.toUpperCase(skill.charAt(0)) + skill.substring(1);
+        return extractFields(resumeText).name();
     }
 
     /**
@@ -274,16 +146,31 @@ public class ResumeParserService {
      */
     public Map<String, Object> parseResumeComplete(MultipartFile file) {
         String text = parseResume(file);
+        ResumeFields fields = extractFields(text);
 
         Map<String, Object> result = new HashMap<>();
         result.put("parsedText", text);
-        result.put("skills", extractSkills(text));
-        result.put("email", extractEmail(text));
-        result.put("phone", extractPhone(text));
-        result.put("experience", extractExperience(text));
-        result.put("education", extractEducation(text));
-        result.put("name", extractName(text));
+        result.put("skills", fields.skills());
+        result.put("email", fields.email());
+        result.put("phone", fields.phone());
+        result.put("experience", fields.experience());
+        result.put("education", fields.education());
+        result.put("name", fields.name());
+        result.put("sectionOffsets", fields.sections().encode());
 
         return result;
     }
+
+    private void recordParse(Timer.Sample sample, String fileType, String outcome) {
+        sample.stop(meterRegistry.timer(AppConstants.METRIC_RESUME_PARSE, "file_type", fileType, "outcome", outcome));
+    }
+
+    /**
+     * Extension as a metric tag; anything unexpected is "other" to keep the tag bounded
+     */
+    private static String fileType(String fileName) {
+        int dot = fileName != null ? fileName.lastIndexOf('.') : -1;
+        String extension = dot >= 0 ? fileName.substring(dot + 1).toLowerCase() : "";
+        return Arrays.asList(AppConstants.ALLOWED_RESUME_TYPES).contains(extension) ? extension : "other";
+    }
 }
\ No newline at end of file
@@ -0,0 +1,514 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ResumeReprocessConfig;
+import com.smarthiring.dto.request.ResumeReprocessRequest;
+import com.smarthiring.dto.response.ResumeReprocessJobResponse;
+import com.smarthiring.entity.ResumeReprocessJob;
+import com.smarthiring.enums.ReprocessJobStatus;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.repository.ResumeReprocessJobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.duplicate.MinHash;
+import com.smarthiring.service.parsing.ResumeFields;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk re-extraction of skills/experience/education for the whole resume corpus.
+ * Walks resumes by keyset (id), extracts in parallel, writes each page with one
+ * batched UPDATE and commits the checkpoint in the same transaction, so a paused,
+ * failed or interrupted job resumes exactly where it stopped. Each committed page
+ * publishes CandidateProfileChangedEvent for its candidates, so scores, feeds and
+ * the candidate indexes follow the new fields.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeReprocessingService {
+
+    private static final String UPDATE_SQL =
+            "UPDATE resumes SET parsed_text_length = COALESCE(?, parsed_text_length), extracted_skills = ?, " +
+                    "extracted_experience = ?, extracted_education = ?, text_signature = ?, section_offsets = ?, " +
+                    "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    // Failed resume ids kept per job; failedCount keeps counting past this
+    static final int MAX_RECORDED_FAILURES = 1000;
+
+    private final ResumeRepository resumeRepository;
+    private final ResumeReprocessJobRepository jobRepository;
+    private final ResumeParserService resumeParserService;
+    private final ResumeTextService resumeTextService;
+    private final FileStorageService fileStorageService;
+    private final ResumeReprocessConfig reprocessConfig;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Reprocess-coordinator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Only one job runs at a time; 0 = idle
+    private final AtomicLong activeJobId = new AtomicLong(0);
+    private volatile boolean pauseRequested = false;
+
+    // In-memory rate tracking of the active run (for ETA)
+    private volatile long runStartNanos;
+    private volatile long processedAtRunStart;
+
+    /**
+     * Start a new re-processing job over all resumes
+     */
+    @Transactional
+    public ResumeReprocessJobResponse startJob(Long adminUserId, ResumeReprocessRequest request) {
+        ensureIdle();
+
+        int concurrency = request.getConcurrency() != null ?
+                request.getConcurrency() : reprocessConfig.getConcurrency();
+        int batchSize = request.getBatchSize() != null ?
+                request.getBatchSize() : reprocessConfig.getBatchSize();
+
+        ResumeReprocessJob job = ResumeReprocessJob.builder()
+                .status(ReprocessJobStatus.RUNNING)
+                .reparseFiles(Boolean.TRUE.equals(request.getReparseFiles()))
+                .concurrency(Math.min(concurrency, reprocessConfig.getMaxConcurrency()))
+                .batchSize(batchSize)
+                .lastProcessedId(0L)
+                .totalResumes(resumeRepository.count())
+                .startedBy(adminUserId)
+                .build();
+
+        ResumeReprocessJob savedJob = jobRepository.save(job);
+
+        log.info("Resume re-processing job {} created: {} resumes, concurrency {}, batch {}",
+                savedJob.getId(), savedJob.getTotalResumes(), savedJob.getConcurrency(), savedJob.getBatchSize());
+
+        submitAfterCommit(savedJob.getId());
+
+        return toResponse(savedJob);
+    }
+
+    /**
+     * Resume a paused or failed job from its checkpoint
+     */
+    @Transactional
+    public ResumeReprocessJobResponse resumeJob(Long jobId) {
+        ensureIdle();
+
+        ResumeReprocessJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ReprocessJob", "id", jobId));
+
+        if (job.getStatus() == ReprocessJobStatus.COMPLETED) {
+            throw new BadRequestException("Job " + jobId + " has already completed");
+        }
+
+        job.setStatus(ReprocessJobStatus.RUNNING);
+        job.setErrorMessage(null);
+        // Corpus may have grown while paused
+        job.setTotalResumes(job.getProcessedCount() + resumeRepository.countByIdGreaterThan(job.getLastProcessedId()));
+
+        ResumeReprocessJob savedJob = jobRepository.save(job);
+
+        log.info("Resuming re-processing job {} from resume id {}", jobId, job.getLastProcessedId());
+
+        submitAfterCommit(savedJob.getId());
+
+        return toResponse(savedJob);
+    }
+
+    /**
+     * Request the running job to pause after its current batch
+     */
+    public ResumeReprocessJobResponse pauseJob(Long jobId) {
+        if (activeJobId.get() != jobId) {
+            throw new BadRequestException("Job " + jobId + " is not running");
+        }
+
+        pauseRequested = true;
+        log.info("Pause requested for re-processing job {}", jobId);
+
+        return getJobProgress(jobId);
+    }
+
+    /**
+     * Get progress and ETA of a job
+     */
+    @Transactional(readOnly = true)
+    public ResumeReprocessJobResponse getJobProgress(Long jobId) {
+        ResumeReprocessJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("ReprocessJob", "id", jobId));
+
+        return toResponse(job);
+    }
+
+    /**
+     * Get all jobs, newest first
+     */
+    @Transactional(readOnly = true)
+    public List<ResumeReprocessJobResponse> getAllJobs() {
+        return jobRepository.findAllByOrderByIdDesc().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Jobs still marked RUNNING after a restart were interrupted - park them so they can be resumed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void parkInterruptedJobs() {
+        int parked = jobRepository.updateStatus(ReprocessJobStatus.RUNNING, ReprocessJobStatus.PAUSED);
+        if (parked > 0) {
+            log.warn("Parked {} interrupted resume re-processing job(s) as PAUSED", parked);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pauseRequested = true;
+        coordinator.shutdown();
+    }
+
+    private void ensureIdle() {
+        if (activeJobId.get() != 0) {
+            throw new BadRequestException("Resume re-processing job " + activeJobId.get() + " is already running");
+        }
+    }
+
+    private void submitAfterCommit(Long jobId) {
+        if (!activeJobId.compareAndSet(0, jobId)) {
+            throw new BadRequestException("Resume re-processing job " + activeJobId.get() + " is already running");
+        }
+        pauseRequested = false;
+
+        // Run only once the RUNNING state is committed, otherwise the coordinator may read stale state
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status == STATUS_COMMITTED) {
+                            coordinator.submit(() -> runJob(jobId));
+                        } else {
+                            activeJobId.set(0);
+                        }
+                    }
+                });
+    }
+
+    /**
+     * Coordinator loop: keyset page -> parallel extraction -> batched update + checkpoint -> throttle
+     */
+    private void runJob(Long jobId) {
+        ResumeReprocessJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            activeJobId.set(0);
+            return;
+        }
+
+        ExecutorService workers = Executors.newFixedThreadPool(job.getConcurrency(), new WorkerThreadFactory(jobId));
+        runStartNanos = System.nanoTime();
+        processedAtRunStart = job.getProcessedCount();
+
+        try {
+            while (!pauseRequested) {
+                long batchStart = System.nanoTime();
+
+                List<Object[]> rows = resumeRepository.findReprocessBatch(
+                        job.getLastProcessedId(), PageRequest.of(0, job.getBatchSize()));
+
+                if (rows.isEmpty()) {
+                    job.setStatus(ReprocessJobStatus.COMPLETED);
+                    job.setCompletedAt(LocalDateTime.now());
+                    job = jobRepository.save(job);
+                    log.info("Resume re-processing job {} completed: {} processed, {} failed",
+                            jobId, job.getProcessedCount(), job.getFailedCount());
+                    return;
+                }
+
+                List<ExtractedFields> extracted = extractInParallel(
+                        rows, job.getReparseFiles(), job.getConcurrency(), workers);
+                List<Long> failedIds = failedIds(rows, extracted);
+                Long lastId = (Long) rows.get(rows.size() - 1)[0];
+
+                job.setLastProcessedId(lastId);
+                job.setProcessedCount(job.getProcessedCount() + rows.size());
+                job.setFailedCount(job.getFailedCount() + failedIds.size());
+                job.setFailedResumeIds(appendFailedIds(job.getFailedResumeIds(), failedIds));
+
+                ResumeReprocessJob checkpoint = job;
+                job = transactionTemplate.execute(status -> {
+                    writeBatch(extracted);
+                    publishProfileChanges(extracted);
+                    return jobRepository.save(checkpoint);
+                });
+
+                log.debug("Re-processing job {}: checkpoint at resume {} ({}/{})",
+                        jobId, lastId, job.getProcessedCount(), job.getTotalResumes());
+
+                throttle(rows.size(), batchStart);
+            }
+
+            job.setStatus(ReprocessJobStatus.PAUSED);
+            jobRepository.save(job);
+            log.info("Resume re-processing job {} paused at resume id {}", jobId, job.getLastProcessedId());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markFailed(jobId, "Interrupted");
+        } catch (Exception e) {
+            log.error("Resume re-processing job {} failed: {}", jobId, e.getMessage(), e);
+            markFailed(jobId, e.getMessage());
+        } finally {
+            workers.shutdownNow();
+            pauseRequested = false;
+            activeJobId.set(0);
+        }
+    }
+
+    /**
+     * Split a page into one chunk per worker and extract all fields
+     */
+    private List<ExtractedFields> extractInParallel(List<Object[]> rows, boolean reparseFiles,
+                                                    int concurrency, ExecutorService workers) {
+        int chunks = Math.max(1, Math.min(rows.size(), concurrency));
+        int chunkSize = (rows.size() + chunks - 1) / chunks;
+
+        List<CompletableFuture<List<ExtractedFields>>> futures = new ArrayList<>();
+        for (int start = 0; start < rows.size(); start += chunkSize) {
+            List<Object[]> chunk = rows.subList(start, Math.min(rows.size(), start + chunkSize));
+            futures.add(CompletableFuture.supplyAsync(() -> extractChunk(chunk, reparseFiles), workers));
+        }
+
+        List<ExtractedFields> results = new ArrayList<>(rows.size());
+        for (CompletableFuture<List<ExtractedFields>> future : futures) {
+            results.addAll(future.join());
+        }
+        return results;
+    }
+
+    private List<ExtractedFields> extractChunk(List<Object[]> chunk, boolean reparseFiles) {
+        List<ExtractedFields> results = new ArrayList<>(chunk.size());
+
+        for (Object[] row : chunk) {
+            Long id = (Long) row[0];
+            String fileName = (String) row[1];
+            String storedText = ResumeTextService.decompress((byte[]) row[2]);
+            String storedOffsets = (String) row[3];
+            Long candidateId = (Long) row[4];
+
+            try {
+                String newText = null;
+                String text = storedText;
+
+                if (reparseFiles || text == null || text.isEmpty()) {
+                    newText = resumeParserService.parseResume(fileStorageService.openResumeFile(fileName));
+                    text = newText;
+                }
+
+                // Stored offsets only describe the stored text
+                ResumeFields fields = newText == null
+                        ? resumeParserService.extractFields(text, storedOffsets)
+                        : resumeParserService.extractFields(text);
+
+                results.add(new ExtractedFields(
+                        id,
+                        candidateId,
+                        newText != null ? ResumeTextService.compress(newText) : null,
+                        newText != null ? newText.length() : null,
+                        fields.skills(),
+                        fields.experience() != null ? fields.experience().toString() : null,
+                        fields.education(),
+                        MinHash.toBytes(MinHash.textSignature(text)),
+                        fields.sections().encode()
+                ));
+            } catch (Exception e) {
+                log.warn("Could not re-process resume {}: {}", id, e.getMessage());
+            }
+        }
+
+        return results;
+    }
+
+    private static List<Long> failedIds(List<Object[]> rows, List<ExtractedFields> extracted) {
+        Set<Long> extractedIds = extracted.stream().map(ExtractedFields::id).collect(Collectors.toSet());
+        return rows.stream()
+                .map(row -> (Long) row[0])
+                .filter(id -> !extractedIds.contains(id))
+                .toList();
+    }
+
+    static String appendFailedIds(String recorded, List<Long> failedIds) {
+        List<Long> ids = new ArrayList<>(parseIds(recorded));
+        for (Long id : failedIds) {
+            if (ids.size() >= MAX_RECORDED_FAILURES) {
+                break;
+            }
+            ids.add(id);
+        }
+        return ids.isEmpty() ? null : ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static List<Long> parseIds(String ids) {
+        if (ids == null || ids.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(ids.split(",")).map(String::trim).map(Long::valueOf).toList();
+    }
+
+    private void writeBatch(List<ExtractedFields> extracted) {
+        if (extracted.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(UPDATE_SQL, extracted, extracted.size(), (ps, fields) -> {
+            ps.setObject(1, fields.textLength(), Types.INTEGER);
+            ps.setString(2, fields.skills());
+            ps.setString(3, fields.experience());
+            ps.setString(4, fields.education());
+            ps.setBytes(5, fields.textSignature());
+            ps.setString(6, fields.sectionOffsets());
+            ps.setLong(7, fields.id());
+        });
+
+        // Text re-parsed from the stored file replaces the stored text
+        Map<Long, byte[]> newTexts = new LinkedHashMap<>();
+        for (ExtractedFields fields : extracted) {
+            if (fields.compressedText() != null) {
+                newTexts.put(fields.id(), fields.compressedText());
+            }
+        }
+        resumeTextService.saveCompressed(newTexts);
+    }
+
+    /**
+     * Published inside the page's transaction; listeners run after it commits and read the new fields
+     */
+    private void publishProfileChanges(List<ExtractedFields> extracted) {
+        Set<Long> candidateIds = new LinkedHashSet<>();
+        for (ExtractedFields fields : extracted) {
+            candidateIds.add(fields.candidateId());
+        }
+        for (Long candidateId : candidateIds) {
+            eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidateId));
+        }
+    }
+
+    /**
+     * Keep throughput under maxRowsPerSecond, plus an optional fixed pause between pages
+     */
+    private void throttle(int rows, long batchStartNanos) throws InterruptedException {
+        long sleepMs = reprocessConfig.getPauseBetweenBatchesMs();
+
+        if (reprocessConfig.getMaxRowsPerSecond() > 0) {
+            long minBatchNanos = rows * 1_000_000_000L / reprocessConfig.getMaxRowsPerSecond();
+            long elapsedNanos = System.nanoTime() - batchStartNanos;
+            sleepMs += Math.max(0, (minBatchNanos - elapsedNanos) / 1_000_000);
+        }
+
+        if (sleepMs > 0) {
+            Thread.sleep(sleepMs);
+        }
+    }
+
+    private void markFailed(Long jobId, String message) {
+        jobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(ReprocessJobStatus.FAILED);
+            job.setErrorMessage(message);
+            jobRepository.save(job);
+        });
+    }
+
+    private ResumeReprocessJobResponse toResponse(ResumeReprocessJob job) {
+        long total = job.getTotalResumes() != null ? job.getTotalResumes() : 0;
+        long processed = job.getProcessedCount() != null ? job.getProcessedCount() : 0;
+
+        ResumeReprocessJobResponse response = ResumeReprocessJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .statusDisplay(job.getStatus().getDisplayName())
+                .reparseFiles(job.getReparseFiles())
+                .concurrency(job.getConcurrency())
+                .batchSize(job.getBatchSize())
+                .lastProcessedId(job.getLastProcessedId())
+                .totalResumes(total)
+                .processedCount(processed)
+                .failedCount(job.getFailedCount())
+                .failedResumeIds(parseIds(job.getFailedResumeIds()))
+                .percentComplete(total == 0 ? 100.0 : Math.min(100.0, Math.round(processed * 10000.0 / total) / 100.0))
+                .errorMessage(job.getErrorMessage())
+                .startedAt(job.getStartedAt())
+                .updatedAt(job.getUpdatedAt())
+                .completedAt(job.getCompletedAt())
+                .build();
+
+        // Rate and ETA only make sense for the run in progress
+        if (job.getStatus() == ReprocessJobStatus.RUNNING && activeJobId.get() == job.getId()) {
+            double elapsedSeconds = (System.nanoTime() - runStartNanos) / 1_000_000_000.0;
+            long doneThisRun = processed - processedAtRunStart;
+
+            if (elapsedSeconds > 0 && doneThisRun > 0) {
+                double rate = doneThisRun / elapsedSeconds;
+                long remainingSeconds = (long) Math.ceil(Math.max(0, total - processed) / rate);
+
+                response.setResumesPerSecond(Math.round(rate * 100.0) / 100.0);
+                response.setEstimatedSecondsRemaining(remainingSeconds);
+                response.setEstimatedCompletionAt(LocalDateTime.now().plusSeconds(remainingSeconds));
+            }
+        }
+
+        return response;
+    }
+
+    private record ExtractedFields(Long id, Long candidateId, byte[] compressedText, Integer textLength,
+                                   String skills, String experience, String education, byte[] textSignature,
+                                   String sectionOffsets) {
+    }
+
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final Long jobId;
+        private final AtomicInteger counter = new AtomicInteger();
+
+        WorkerThreadFactory(Long jobId) {
+            this.jobId = jobId;
+        }
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "Reprocess-" + jobId + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
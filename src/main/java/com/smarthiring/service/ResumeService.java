@@ -1,22 +1,26 @@
 package com.smarthiring.service;
 
-import com.smarthiring.config.FileStorageConfig;
+import com.smarthiring.dto.ResumeFileInfo;
+import com.smarthiring.dto.StoredFile;
 import com.smarthiring.dto.response.ResumeResponse;
 import com.smarthiring.entity.Candidate;
 import com.smarthiring.entity.Resume;
+import com.smarthiring.event.CandidateProfileChangedEvent;
 import com.smarthiring.exception.BadRequestException;
 import com.smarthiring.exception.ResourceNotFoundException;
 import com.smarthiring.mapper.CandidateMapper;
 import com.smarthiring.repository.CandidateRepository;
 import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.duplicate.MinHash;
+import com.smarthiring.service.parsing.ResumeFields;
+import com.smarthiring.util.ETags;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -30,8 +34,9 @@ public class ResumeService {
     private final CandidateRepository candidateRepository;
     private final FileStorageService fileStorageService;
     private final ResumeParserService resumeParserService;
-    private final FileStorageConfig fileStorageConfig;
+    private final ResumeTextService resumeTextService;
     private final CandidateMapper candidateMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Upload resume for a candidate
@@ -48,13 +53,15 @@ public class ResumeService {
         validateResumeFile(file);
 
         // Store file
-        String storedFileName = fileStorageService.storeResumeFile(file);
+        StoredFile storedFile = fileStorageService.storeResumeFile(file);
+        String storedFileName = storedFile.getFileName();
         String originalFileName = file.getOriginalFilename();
         String fileType = fileStorageService.getFileExtension(originalFileName);
-        long fileSize = file.getSize();
+        long fileSize = storedFile.getSize();
 
         // Parse resume
         Map<String, Object> parsedData = resumeParserService.parseResumeComplete(file);
+        String parsedText = (String) parsedData.get("parsedText");
 
         // If makePrimary, reset all other resumes
         if (makePrimary) {
@@ -69,18 +76,22 @@ public class ResumeService {
                 .candidate(candidate)
                 .fileName(storedFileName)
                 .originalFileName(originalFileName)
-                .filePath(fileStorageConfig.getResumePath().resolve(storedFileName).toString())
+                .filePath(fileStorageService.getResumeLocation(storedFileName))
                 .fileType(fileType)
                 .fileSize(fileSize)
-                .parsedText((String) parsedData.get("parsedText"))
+                .contentHash(storedFile.getContentHash())
+                .parsedTextLength(parsedText.length())
+                .textSignature(MinHash.toBytes(MinHash.textSignature(parsedText)))
                 .extractedSkills((String) parsedData.get("skills"))
                 .extractedExperience(parsedData.get("experience") != null ?
                         parsedData.get("experience").toString() : null)
                 .extractedEducation((String) parsedData.get("education"))
+                .sectionOffsets((String) parsedData.get("sectionOffsets"))
                 .isPrimary(isPrimary)
                 .build();
 
         Resume savedResume = resumeRepository.save(resume);
+        resumeTextService.saveText(savedResume.getId(), parsedText);
 
         // Update candidate skills if empty
         if (candidate.getSkills() == null || candidate.getSkills().isEmpty()) {
@@ -88,6 +99,8 @@ public class ResumeService {
             candidateRepository.save(candidate);
         }
 
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+
         log.info("Resume uploaded successfully: {} for candidate: {}", savedResume.getId(), candidate.getId());
 
         return candidateMapper.toResumeResponse(savedResume);
@@ -104,6 +117,20 @@ public class ResumeService {
         return candidateMapper.toResumeResponse(resume);
     }
 
+    /**
+     * Weak ETag of getResumesByCandidate's response, from a projection query; null if the
+     * user has no candidate profile
+     */
+    @Transactional(readOnly = true)
+    public String getResumesETag(Long userId) {
+        List<Object[]> rows = resumeRepository.findVersionByCandidateUserId(userId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] version = rows.get(0);
+        return ETags.weak("resumes", userId, version[0], version[1], version[2]);
+    }
+
     /**
      * Get all resumes for a candidate
      */
@@ -118,36 +145,25 @@ public class ResumeService {
     }
 
     /**
-     * Download resume as Resource
+     * Get everything needed to stream a resume with a single lookup
      */
-    @Transactional(readOnly = true)
-    public Resource downloadResume(Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume", "id", resumeId));
-
-        return fileStorageService.loadResumeAsResource(resume.getFileName());
-    }
-
-    /**
-     * Get resume content type
-     */
-    @Transactional(readOnly = true)
-    public String getResumeContentType(Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
+    @Transactional
+    public ResumeFileInfo getResumeDownload(Long resumeId) {
+        ResumeFileInfo info = resumeRepository.findFileInfoById(resumeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Resume", "id", resumeId));
 
-        return fileStorageService.getContentType(resume.getFileName());
-    }
+        // Backfill the hash once for resumes uploaded before it was recorded
+        if (info.getContentHash() == null) {
+            String contentHash = fileStorageService.computeContentHash(info.getFileName());
+            if (contentHash != null) {
+                resumeRepository.updateContentHash(resumeId, contentHash);
+                info.setContentHash(contentHash);
+            }
+        }
 
-    /**
-     * Get resume original filename
-     */
-    @Transactional(readOnly = true)
-    public String getResumeOriginalFilename(Long resumeId) {
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Resume", "id", resumeId));
+        info.setContentType(fileStorageService.getContentType(info.getFileName()));
 
-        return resume.getOriginalFileName();
+        return info;
     }
 
     /**
@@ -173,6 +189,8 @@ public class ResumeService {
         resume.setIsPrimary(true);
         Resume savedResume = resumeRepository.save(resume);
 
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+
         log.info("Resume {} set as primary for candidate {}", resumeId, candidate.getId());
 
         return candidateMapper.toResumeResponse(savedResume);
@@ -194,12 +212,12 @@ public class ResumeService {
             throw new BadRequestException("Resume does not belong to you");
         }
 
-        // Delete file from storage
-        fileStorageService.deleteResumeFile(resume.getFileName());
-
         // Delete from database
         resumeRepository.delete(resume);
 
+        // Release the stored file (removed from storage only after commit)
+        fileStorageService.deleteResumeFile(resume.getFileName());
+
         // If deleted resume was primary, make another one primary
         if (resume.getIsPrimary()) {
             List<Resume> remainingResumes = resumeRepository.findByCandidateId(candidate.getId());
@@ -209,6 +227,8 @@ public class ResumeService {
             }
         }
 
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(candidate.getId()));
+
         log.info("Resume {} deleted for candidate {}", resumeId, candidate.getId());
     }
 
@@ -221,21 +241,23 @@ public class ResumeService {
                 .orElseThrow(() -> new ResourceNotFoundException("Resume", "id", resumeId));
 
         // Parse resume file again
-        Path filePath = fileStorageConfig.getResumePath().resolve(resume.getFileName());
-        String parsedText = resumeParserService.parseResume(filePath);
+        String parsedText = resumeParserService.parseResume(fileStorageService.openResumeFile(resume.getFileName()));
 
         // Extract data
-        String skills = resumeParserService.extractSkills(parsedText);
-        Double experience = resumeParserService.extractExperience(parsedText);
-        String education = resumeParserService.extractEducation(parsedText);
+        ResumeFields fields = resumeParserService.extractFields(parsedText);
 
         // Update resume
-        resume.setParsedText(parsedText);
-        resume.setExtractedSkills(skills);
-        resume.setExtractedExperience(experience != null ? experience.toString() : null);
-        resume.setExtractedEducation(education);
+        resume.setParsedTextLength(parsedText.length());
+        resume.setTextSignature(MinHash.toBytes(MinHash.textSignature(parsedText)));
+        resume.setExtractedSkills(fields.skills());
+        resume.setExtractedExperience(fields.experience() != null ? fields.experience().toString() : null);
+        resume.setExtractedEducation(fields.education());
+        resume.setSectionOffsets(fields.sections().encode());
 
         Resume savedResume = resumeRepository.save(resume);
+        resumeTextService.saveText(resumeId, parsedText);
+
+        eventPublisher.publishEvent(new CandidateProfileChangedEvent(resume.getCandidate().getId()));
 
         log.info("Resume {} re-parsed successfully", resumeId);
 
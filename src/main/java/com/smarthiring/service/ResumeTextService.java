@@ -0,0 +1,141 @@
+package com.smarthiring.service;
+
+import com.smarthiring.repository.ResumeTextRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Parsed resume text, stored deflate-compressed in resume_texts and read only by the
+ * batch re-processing query that needs it. Resume itself carries just the text
+ * length, so listing candidates, applications and resumes never loads the text.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeTextService {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO resume_texts (resume_id, compressed_text, updated_at) VALUES (?, ?, NOW()) " +
+                    "ON DUPLICATE KEY UPDATE compressed_text = VALUES(compressed_text), updated_at = NOW()";
+
+    // Text stored inline in resumes.parsed_text before it moved to resume_texts
+    private static final String LEGACY_BATCH_SQL =
+            "SELECT id, parsed_text FROM resumes WHERE parsed_text IS NOT NULL AND id > ? ORDER BY id LIMIT ?";
+    private static final String LEGACY_CLEAR_SQL =
+            "UPDATE resumes SET parsed_text = NULL, parsed_text_length = ? WHERE id = ?";
+    private static final int LEGACY_BATCH_SIZE = 200;
+
+    private final ResumeTextRepository resumeTextRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Store (or replace) the parsed text of a saved resume; the caller keeps
+     * Resume.parsedTextLength in step
+     */
+    @Transactional
+    public void saveText(Long resumeId, String text) {
+        if (text == null) {
+            return;
+        }
+        resumeTextRepository.upsert(resumeId, compress(text));
+    }
+
+    /**
+     * Store already compressed texts in one batch: resume id -> compressed text
+     */
+    @Transactional
+    public void saveCompressed(Map<Long, byte[]> compressedTexts) {
+        if (compressedTexts.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, byte[]>> entries = List.copyOf(compressedTexts.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getKey());
+            ps.setBytes(2, entry.getValue());
+        });
+    }
+
+    /**
+     * Move text still stored inline in resumes.parsed_text into resume_texts, a page
+     * at a time. Does nothing once moved, or on databases created without the column.
+     */
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateInlineText() {
+        long lastId = 0;
+        long moved = 0;
+
+        while (true) {
+            List<Map<String, Object>> rows;
+            try {
+                rows = jdbcTemplate.queryForList(LEGACY_BATCH_SQL, lastId, LEGACY_BATCH_SIZE);
+            } catch (DataAccessException e) {
+                log.debug("No inline resume text to migrate: {}", e.getMessage());
+                return;
+            }
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setLong(1, ((Number) row.get("id")).longValue());
+                    ps.setBytes(2, compress((String) row.get("parsed_text")));
+                });
+                jdbcTemplate.batchUpdate(LEGACY_CLEAR_SQL, rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, ((String) row.get("parsed_text")).length());
+                    ps.setLong(2, ((Number) row.get("id")).longValue());
+                });
+            });
+
+            lastId = ((Number) rows.get(rows.size() - 1).get("id")).longValue();
+            moved += rows.size();
+        }
+
+        if (moved > 0) {
+            log.info("Moved the parsed text of {} resumes to compressed storage", moved);
+        }
+    }
+
+    public static byte[] compress(String text) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, text.length() / 3));
+        try (OutputStream out = new DeflaterOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static String decompress(byte[] compressed) {
+        if (compressed == null) {
+            return null;
+        }
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,436 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.SimulationConfig;
+import com.smarthiring.dto.request.ScoringSimulationRequest;
+import com.smarthiring.dto.response.ScoringSimulationResponse;
+import com.smarthiring.entity.Job;
+import com.smarthiring.event.ApplicationScoredEvent;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.exception.ServiceUnavailableException;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.service.scoring.ScoreComponents;
+import com.smarthiring.service.scoring.ScoringSignals;
+import com.smarthiring.service.scoring.ScoringWeights;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * "What-if" scoring: re-ranks a job's applicants under alternative weights, skills or
+ * experience range and compares with the current ranking, without writing anything.
+ * Applicants are read in one query and kept in memory as pre-normalized profiles,
+ * so repeated simulations for the same job do not touch the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringSimulationService {
+
+    private final JobRepository jobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final ScoringWeightService scoringWeightService;
+    private final SimulationConfig simulationConfig;
+
+    // Below this many applicants a simulation is scored on the calling thread
+    private static final int MIN_CHUNK_SIZE = 1000;
+
+    // jobId -> applicant profiles; dropped when one of the job's applications is (re)scored
+    private final Map<Long, ApplicantPool> poolCache = new ConcurrentHashMap<>();
+
+    private ExecutorService scoringPool;
+    private int scoringThreads;
+
+    @PostConstruct
+    public void init() {
+        scoringThreads = simulationConfig.getScoringThreads() > 0
+                ? simulationConfig.getScoringThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger counter = new AtomicInteger();
+        scoringPool = Executors.newFixedThreadPool(scoringThreads, r -> {
+            Thread thread = new Thread(r, "Simulation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scoringPool != null) {
+            scoringPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Rank the job's applicants under the requested changes and report how ranks moved
+     */
+    @Transactional(readOnly = true)
+    public ScoringSimulationResponse simulate(Long jobId, ScoringSimulationRequest request) {
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(simulationConfig.getTimeBudgetMs());
+
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+
+        Scenario current = new Scenario(
+                skillMatcherService.prepareRequiredSkills(job.getRequiredSkills(), job.getNiceToHaveSkills()),
+                job.getExperienceMin(), job.getExperienceMax(), scoringWeightService.weightsFor(job));
+
+        String requiredSkills = simulatedSkills(job.getRequiredSkills(), request);
+        String niceToHaveSkills = simulatedNiceToHave(job.getNiceToHaveSkills(), request);
+        Integer experienceMin = request.getExperienceMin() != null ? request.getExperienceMin() : job.getExperienceMin();
+        Integer experienceMax = request.getExperienceMax() != null ? request.getExperienceMax() : job.getExperienceMax();
+        if (experienceMin != null && experienceMax != null && experienceMin > experienceMax) {
+            throw new BadRequestException("Minimum experience cannot exceed maximum experience");
+        }
+        ScoringWeights weights = request.getWeights() != null
+                ? scoringWeightService.toWeights(request.getWeights()) : current.weights();
+
+        Scenario simulated = new Scenario(skillMatcherService.prepareRequiredSkills(requiredSkills, niceToHaveSkills),
+                experienceMin, experienceMax, weights);
+
+        List<ApplicantProfile> applicants = applicantPool(jobId);
+        checkBudget(deadline);
+
+        SimulationRun run = run(applicants, current, simulated, resolveLimit(request.getLimit()), deadline);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        log.info("Simulated job {} over {} applicants in {} ms", jobId, applicants.size(), durationMs);
+
+        return ScoringSimulationResponse.builder()
+                .jobId(jobId)
+                .jobTitle(job.getTitle())
+                .requiredSkills(requiredSkills)
+                .niceToHaveSkills(niceToHaveSkills)
+                .experienceMin(experienceMin)
+                .experienceMax(experienceMax)
+                .weights(ScoringWeightService.toResponse(null, "SIMULATED", null, null, weights, null))
+                .applicantsScored(applicants.size())
+                .enteredTopK(run.enteredTopK())
+                .durationMs(durationMs)
+                .ranking(run.ranking())
+                .build();
+    }
+
+    /**
+     * The job's required skills, replaced and/or with the optional skills taken out
+     */
+    private String simulatedSkills(String jobSkills, ScoringSimulationRequest request) {
+        String skills = request.getRequiredSkills() != null ? request.getRequiredSkills() : jobSkills;
+        if (skills == null || request.getOptionalSkills() == null || request.getOptionalSkills().isEmpty()) {
+            return skills;
+        }
+
+        Set<String> optional = skillMatcherService.normalizedSkills(String.join(",", request.getOptionalSkills()));
+
+        return Arrays.stream(skills.split(","))
+                .map(String::trim)
+                .filter(skill -> !skill.isEmpty() && !optional.containsAll(skillMatcherService.normalizedSkills(skill)))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * The job's nice-to-have skills plus the optional ones, which still earn the bonus
+     */
+    private static String simulatedNiceToHave(String jobSkills, ScoringSimulationRequest request) {
+        if (request.getOptionalSkills() == null || request.getOptionalSkills().isEmpty()) {
+            return jobSkills;
+        }
+
+        String optional = String.join(", ", request.getOptionalSkills());
+        return jobSkills == null || jobSkills.isBlank() ? optional : jobSkills + ", " + optional;
+    }
+
+    /**
+     * Score every applicant under both scenarios and rank them
+     */
+    SimulationRun run(List<ApplicantProfile> applicants, Scenario current, Scenario simulated,
+                      int limit, long deadline) {
+        int n = applicants.size();
+        double[] currentScores = new double[n];
+        double[] simulatedScores = new double[n];
+
+        if (n < MIN_CHUNK_SIZE * 2 || scoringThreads == 1) {
+            scoreRange(applicants, current, simulated, currentScores, simulatedScores, 0, n);
+        } else {
+            scoreInParallel(applicants, current, simulated, currentScores, simulatedScores, deadline);
+        }
+        checkBudget(deadline);
+
+        Integer[] currentOrder = order(applicants, currentScores);
+        int[] currentRanks = new int[n];
+        for (int rank = 0; rank < n; rank++) {
+            currentRanks[currentOrder[rank]] = rank + 1;
+        }
+
+        Integer[] simulatedOrder = order(applicants, simulatedScores);
+        int k = Math.min(limit, n);
+        List<ScoringSimulationResponse.SimulatedApplicant> ranking = new ArrayList<>(k);
+        int enteredTopK = 0;
+
+        for (int rank = 1; rank <= k; rank++) {
+            int index = simulatedOrder[rank - 1];
+            ApplicantProfile applicant = applicants.get(index);
+            if (currentRanks[index] > k) {
+                enteredTopK++;
+            }
+
+            ranking.add(ScoringSimulationResponse.SimulatedApplicant.builder()
+                    .applicationId(applicant.applicationId())
+                    .candidateId(applicant.candidateId())
+                    .fullName(applicant.fullName())
+                    .rank(rank)
+                    .currentRank(currentRanks[index])
+                    .rankChange(currentRanks[index] - rank)
+                    .score(round(simulatedScores[index]))
+                    .currentScore(round(currentScores[index]))
+                    .storedScore(applicant.storedScore())
+                    .build());
+        }
+
+        return new SimulationRun(ranking, enteredTopK);
+    }
+
+    private void scoreInParallel(List<ApplicantProfile> applicants, Scenario current, Scenario simulated,
+                                 double[] currentScores, double[] simulatedScores, long deadline) {
+        int n = applicants.size();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (n + scoringThreads - 1) / scoringThreads);
+
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < n; from += chunkSize) {
+            int start = from;
+            int end = Math.min(n, from + chunkSize);
+            chunks.add(scoringPool.submit(() ->
+                    scoreRange(applicants, current, simulated, currentScores, simulatedScores, start, end)));
+        }
+
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (TimeoutException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            throw budgetExceeded();
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+    }
+
+    private static void scoreRange(List<ApplicantProfile> applicants, Scenario current, Scenario simulated,
+                                   double[] currentScores, double[] simulatedScores, int from, int to) {
+        for (int i = from; i < to; i++) {
+            ApplicantProfile applicant = applicants.get(i);
+            currentScores[i] = score(applicant, current);
+            simulatedScores[i] = score(applicant, simulated);
+        }
+    }
+
+    /**
+     * Same signals as AIRankingService.calculateScore, from the pre-computed profile
+     */
+    static double score(ApplicantProfile applicant, Scenario scenario) {
+        return new ScoreComponents(
+                scenario.requiredSkills().matchScore(applicant.skills()),
+                ScoringSignals.experienceScore(applicant.experience(),
+                        scenario.experienceMin(), scenario.experienceMax()),
+                applicant.education(),
+                applicant.resumeQuality(),
+                applicant.recency()
+        ).total(scenario.weights());
+    }
+
+    /**
+     * Applicant indexes best first; ties go to the earlier application
+     */
+    private static Integer[] order(List<ApplicantProfile> applicants, double[] scores) {
+        Integer[] order = new Integer[applicants.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(i -> -scores[i])
+                .thenComparingLong(i -> applicants.get(i).applicationId()));
+        return order;
+    }
+
+    // ==================== Applicant pool ====================
+
+    private List<ApplicantProfile> applicantPool(Long jobId) {
+        long now = System.currentTimeMillis();
+        ApplicantPool pool = poolCache.get(jobId);
+        if (pool != null && now - pool.loadedAt() < simulationConfig.getPoolCacheTtlMs()) {
+            return pool.applicants();
+        }
+
+        List<ApplicantProfile> applicants = loadApplicants(jobId);
+        if (simulationConfig.getMaxCachedPools() > 0) {
+            if (poolCache.size() >= simulationConfig.getMaxCachedPools()) {
+                evictOldestPool();
+            }
+            poolCache.put(jobId, new ApplicantPool(applicants, now));
+        }
+        return applicants;
+    }
+
+    private void evictOldestPool() {
+        poolCache.entrySet().stream()
+                .min(Comparator.comparingLong(entry -> entry.getValue().loadedAt()))
+                .ifPresent(oldest -> poolCache.remove(oldest.getKey(), oldest.getValue()));
+    }
+
+    /**
+     * The single batched fetch: one projection row per application
+     */
+    private List<ApplicantProfile> loadApplicants(Long jobId) {
+        List<Object[]> rows = applicationRepository.findSimulationProfiles(jobId);
+        List<ApplicantProfile> applicants = new ArrayList<>(rows.size());
+
+        long lastId = 0;
+        for (Object[] row : rows) {
+            long applicationId = ((Number) row[0]).longValue();
+            // More than one primary resume: keep the first row
+            if (applicationId == lastId) {
+                continue;
+            }
+            lastId = applicationId;
+            applicants.add(toProfile(row));
+        }
+        return List.copyOf(applicants);
+    }
+
+    ApplicantProfile toProfile(Object[] row) {
+        // The resume the application was made with, else the primary one
+        boolean applicationResume = row[8] != null;
+        boolean hasResume = applicationResume || row[12] != null;
+        int resumeColumn = applicationResume ? 9 : 13;
+        String resumeSkills = hasResume ? (String) row[resumeColumn] : null;
+        String resumeEducation = hasResume ? (String) row[resumeColumn + 1] : null;
+        int parsedTextLength = hasResume && row[resumeColumn + 2] != null
+                ? ((Number) row[resumeColumn + 2]).intValue() : 0;
+
+        SkillMatcherService.CandidateSkills skills = skillMatcherService.resolveSkills((String) row[5], resumeSkills);
+
+        String education = (String) row[7];
+        if (education == null || education.isEmpty()) {
+            education = resumeEducation;
+        }
+
+        return new ApplicantProfile(
+                ((Number) row[0]).longValue(),
+                ((Number) row[1]).longValue(),
+                (String) row[2],
+                (BigDecimal) row[3],
+                skills,
+                row[6] != null ? ((Number) row[6]).doubleValue() : null,
+                skillMatcherService.educationLevel(education).getScore(),
+                ScoringSignals.resumeQualityScore(hasResume, parsedTextLength,
+                        ScoringSignals.countListEntries(resumeSkills)),
+                ScoringSignals.recencyScore((LocalDateTime) row[4])
+        );
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationScored(ApplicationScoredEvent event) {
+        if (event.jobId() != null) {
+            poolCache.remove(event.jobId());
+        }
+    }
+
+    /**
+     * A job profile only affects that job; a department or default profile can affect
+     * any cached job, whose department the pool does not record
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onScoringWeightsChanged(ScoringWeightsChangedEvent event) {
+        if (event.jobId() != null) {
+            poolCache.remove(event.jobId());
+        } else {
+            poolCache.clear();
+        }
+    }
+
+    /**
+     * Cached skills were resolved against the previous ontology
+     */
+    @EventListener
+    public void onSkillOntologyChanged(SkillOntologyChangedEvent event) {
+        poolCache.clear();
+    }
+
+    // ==================== Helpers ====================
+
+    private void checkBudget(long deadline) {
+        if (System.nanoTime() > deadline) {
+            throw budgetExceeded();
+        }
+    }
+
+    /**
+     * Not the request's fault: the job has too many applicants for the configured budget
+     */
+    private ServiceUnavailableException budgetExceeded() {
+        return new ServiceUnavailableException("Simulation exceeded its time budget of "
+                + simulationConfig.getTimeBudgetMs() + " ms");
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return simulationConfig.getDefaultLimit();
+        }
+        return Math.min(limit, simulationConfig.getMaxLimit());
+    }
+
+    private static BigDecimal round(double score) {
+        return BigDecimal.valueOf(score).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    record Scenario(SkillMatcherService.RequiredSkills requiredSkills, Integer experienceMin,
+                    Integer experienceMax, ScoringWeights weights) {
+    }
+
+    /**
+     * Weight-independent scoring inputs of one applicant, with skills already normalized
+     */
+    record ApplicantProfile(long applicationId, long candidateId, String fullName, BigDecimal storedScore,
+                            SkillMatcherService.CandidateSkills skills, Double experience, double education, double resumeQuality,
+                            double recency) {
+    }
+
+    record ApplicantPool(List<ApplicantProfile> applicants, long loadedAt) {
+    }
+
+    record SimulationRun(List<ScoringSimulationResponse.SimulatedApplicant> ranking, int enteredTopK) {
+    }
+}
@@ -0,0 +1,266 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ScoringConfig;
+import com.smarthiring.dto.request.ScoringWeightsRequest;
+import com.smarthiring.dto.response.ScoringWeightProfileResponse;
+import com.smarthiring.entity.Job;
+import com.smarthiring.entity.ScoringWeightProfile;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ScoringWeightProfileRepository;
+import com.smarthiring.service.scoring.ScoringWeights;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves the scoring weights of a job: its own profile, else its department's,
+ * else the stored default, else the configured weights. Profiles are compiled into
+ * an immutable table that is swapped in whole on reload, so scoring never locks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScoringWeightService {
+
+    private final ScoringWeightProfileRepository profileRepository;
+    private final JobRepository jobRepository;
+    private final ScoringConfig scoringConfig;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // Null until the first load; the configured weights apply meanwhile
+    private volatile WeightTable weightTable;
+
+    record WeightTable(ScoringWeights defaults, Map<Long, ScoringWeights> byJob,
+                       Map<String, ScoringWeights> byDepartment) {
+    }
+
+    // ==================== Resolution ====================
+
+    public ScoringWeights weightsFor(Job job) {
+        return weightsFor(job.getId(), job.getDepartment());
+    }
+
+    public ScoringWeights weightsFor(Long jobId, String department) {
+        WeightTable table = weightTable;
+        if (table == null) {
+            return configuredWeights();
+        }
+
+        ScoringWeights weights = jobId != null ? table.byJob().get(jobId) : null;
+        if (weights == null && department != null) {
+            weights = table.byDepartment().get(departmentKey(department));
+        }
+        return weights != null ? weights : table.defaults();
+    }
+
+    // ==================== Loading ====================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * Re-read all profiles; also picks up edits made through other instances
+     */
+    @Scheduled(fixedDelayString = "${app.scoring.reload-interval-ms:60000}",
+            initialDelayString = "${app.scoring.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            ScoringWeights defaults = configuredWeights();
+            Map<Long, ScoringWeights> byJob = new HashMap<>();
+            Map<String, ScoringWeights> byDepartment = new HashMap<>();
+
+            for (ScoringWeightProfile profile : profileRepository.findAll()) {
+                ScoringWeights weights = profile.toWeights().normalized();
+                if (profile.getJobId() != null) {
+                    byJob.put(profile.getJobId(), weights);
+                } else if (profile.getDepartment() != null) {
+                    byDepartment.put(departmentKey(profile.getDepartment()), weights);
+                } else {
+                    defaults = weights;
+                }
+            }
+
+            weightTable = new WeightTable(defaults, Map.copyOf(byJob), Map.copyOf(byDepartment));
+            log.debug("Loaded scoring weights: {} job and {} department profiles", byJob.size(), byDepartment.size());
+        } catch (RuntimeException e) {
+            // Keep scoring with the previous table
+            log.error("Failed to reload scoring weight profiles", e);
+        }
+    }
+
+    private ScoringWeights configuredWeights() {
+        return validate(scoringConfig.defaultWeights());
+    }
+
+    private static String departmentKey(String department) {
+        return department.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== Management ====================
+
+    @Transactional(readOnly = true)
+    public List<ScoringWeightProfileResponse> getProfiles() {
+        List<ScoringWeightProfileResponse> profiles = new ArrayList<>();
+        profiles.add(toResponse(null, "CONFIGURED", null, null, configuredWeights(), null));
+        for (ScoringWeightProfile profile : profileRepository.findAll()) {
+            profiles.add(toResponse(profile));
+        }
+        return profiles;
+    }
+
+    /**
+     * Weights currently applied to a job and where they come from
+     */
+    @Transactional(readOnly = true)
+    public ScoringWeightProfileResponse getEffectiveWeights(Long jobId) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+
+        ScoringWeightProfile profile = profileRepository.findByJobId(jobId)
+                .or(() -> job.getDepartment() != null ?
+                        profileRepository.findByDepartment(job.getDepartment().trim()) : Optional.empty())
+                .or(profileRepository::findDefault)
+                .orElse(null);
+
+        ScoringWeightProfileResponse response = profile != null ? toResponse(profile)
+                : toResponse(null, "CONFIGURED", null, null, configuredWeights(), null);
+        response.setJobId(jobId);
+        return response;
+    }
+
+    @Transactional
+    public ScoringWeightProfileResponse saveJobWeights(Long jobId, ScoringWeightsRequest request, Long userId,
+                                                       String updatedBy) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+
+        // Only the HR user who posted the job sets its weights
+        if (!job.getPostedBy().getId().equals(userId)) {
+            throw new BadRequestException("You are not authorized to change the scoring weights of this job");
+        }
+
+        ScoringWeightProfile profile = profileRepository.findByJobId(jobId)
+                .orElseGet(() -> ScoringWeightProfile.builder().jobId(jobId).build());
+        return save(profile, request, updatedBy, new ScoringWeightsChangedEvent(jobId, null));
+    }
+
+    @Transactional
+    public ScoringWeightProfileResponse saveDepartmentWeights(String department, ScoringWeightsRequest request,
+                                                              String updatedBy) {
+        if (department == null || department.isBlank()) {
+            throw new BadRequestException("Department is required");
+        }
+
+        String name = department.trim();
+        ScoringWeightProfile profile = profileRepository.findByDepartment(name)
+                .orElseGet(() -> ScoringWeightProfile.builder().department(name).build());
+        return save(profile, request, updatedBy, new ScoringWeightsChangedEvent(null, name));
+    }
+
+    @Transactional
+    public ScoringWeightProfileResponse saveDefaultWeights(ScoringWeightsRequest request, String updatedBy) {
+        ScoringWeightProfile profile = profileRepository.findDefault()
+                .orElseGet(ScoringWeightProfile::new);
+        return save(profile, request, updatedBy, ScoringWeightsChangedEvent.forDefault());
+    }
+
+    @Transactional
+    public void deleteProfile(Long profileId) {
+        ScoringWeightProfile profile = profileRepository.findById(profileId)
+                .orElseThrow(() -> new ResourceNotFoundException("ScoringWeightProfile", "id", profileId));
+
+        profileRepository.delete(profile);
+        eventPublisher.publishEvent(new ScoringWeightsChangedEvent(profile.getJobId(),
+                profile.getJobId() == null ? profile.getDepartment() : null));
+
+        log.info("Scoring weight profile {} deleted", profileId);
+    }
+
+    private ScoringWeightProfileResponse save(ScoringWeightProfile profile, ScoringWeightsRequest request,
+                                              String updatedBy, ScoringWeightsChangedEvent event) {
+        ScoringWeights weights = toWeights(request);
+
+        profile.setWeights(weights);
+        profile.setUpdatedBy(updatedBy);
+        ScoringWeightProfile saved = profileRepository.save(profile);
+
+        // Listeners reload the table and re-weight the affected scores after commit
+        eventPublisher.publishEvent(event);
+
+        log.info("Scoring weights saved for {}: {}", scopeOf(saved), weights);
+
+        return toResponse(saved);
+    }
+
+    /**
+     * Validated, normalized weights from a request
+     */
+    public ScoringWeights toWeights(ScoringWeightsRequest request) {
+        return validate(new ScoringWeights(request.getSkillWeight(), request.getExperienceWeight(),
+                request.getEducationWeight(), request.getResumeQualityWeight(), request.getRecencyWeight()));
+    }
+
+    /**
+     * Reject negative or all-zero weights; scale the rest to sum to 1.0
+     */
+    private static ScoringWeights validate(ScoringWeights weights) {
+        double[] values = {weights.skill(), weights.experience(), weights.education(),
+                weights.resumeQuality(), weights.recency()};
+        for (double value : values) {
+            if (!Double.isFinite(value) || value < 0) {
+                throw new BadRequestException("Weights must be non-negative numbers");
+            }
+        }
+        if (weights.sum() <= 0) {
+            throw new BadRequestException("At least one weight must be positive");
+        }
+        return weights.normalized();
+    }
+
+    private static String scopeOf(ScoringWeightProfile profile) {
+        if (profile.getJobId() != null) {
+            return "JOB";
+        }
+        return profile.getDepartment() != null ? "DEPARTMENT" : "DEFAULT";
+    }
+
+    private static ScoringWeightProfileResponse toResponse(ScoringWeightProfile profile) {
+        ScoringWeightProfileResponse response = toResponse(profile.getId(), scopeOf(profile), profile.getJobId(),
+                profile.getDepartment(), profile.toWeights(), profile.getUpdatedBy());
+        response.setUpdatedAt(profile.getUpdatedAt());
+        return response;
+    }
+
+    static ScoringWeightProfileResponse toResponse(Long id, String scope, Long jobId, String department,
+                                                           ScoringWeights weights, String updatedBy) {
+        return ScoringWeightProfileResponse.builder()
+                .id(id)
+                .scope(scope)
+                .jobId(jobId)
+                .department(department)
+                .skillWeight(weights.skill())
+                .experienceWeight(weights.experience())
+                .educationWeight(weights.education())
+                .resumeQualityWeight(weights.resumeQuality())
+                .recencyWeight(weights.recency())
+                .updatedBy(updatedBy)
+                .build();
+    }
+}
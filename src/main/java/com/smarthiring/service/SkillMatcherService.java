@@ -1,5 +1,9 @@
 package com.smarthiring.service;
 
+import com.smarthiring.service.ontology.SkillOntology;
+import com.smarthiring.service.scoring.EducationLevel;
+import com.smarthiring.service.scoring.ScoringSignals;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -7,67 +11,11 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 @Slf4j
 public class SkillMatcherService {
 
-    // Skill synonyms and related terms
-    private static final Map<String, Set<String>> SKILL_SYNONYMS = new HashMap<>();
-
-    static {
-        // JavaScript variants
-        SKILL_SYNONYMS.put("javascript", Set.of("js", "es6", "es2015", "ecmascript"));
-        SKILL_SYNONYMS.put("typescript", Set.of("ts"));
-
-        // Java ecosystem
-        SKILL_SYNONYMS.put("java", Set.of("j2ee", "jee", "core java", "java8", "java11", "java17"));
-        SKILL_SYNONYMS.put("spring boot", Set.of("springboot", "spring-boot", "spring framework", "spring"));
-        SKILL_SYNONYMS.put("hibernate", Set.of("jpa", "orm"));
-
-        // Frontend frameworks
-        SKILL_SYNONYMS.put("react", Set.of("reactjs", "react.js", "react js"));
-        SKILL_SYNONYMS.put("angular", Set.of("angularjs", "angular.js", "angular2", "angular4"));
-        SKILL_SYNONYMS.put("vue", Set.of("vuejs", "vue.js", "vue js"));
-        SKILL_SYNONYMS.put("next.js", Set.of("nextjs", "next"));
-
-        // Backend
-        SKILL_SYNONYMS.put("node.js", Set.of("nodejs", "node", "node js"));
-        SKILL_SYNONYMS.put("express", Set.of("expressjs", "express.js"));
-        SKILL_SYNONYMS.put("python", Set.of("python3", "py"));
-        SKILL_SYNONYMS.put("django", Set.of("django rest", "drf"));
-
-        // Databases
-        SKILL_SYNONYMS.put("mysql", Set.of("my sql", "mariadb"));
-        SKILL_SYNONYMS.put("postgresql", Set.of("postgres", "psql", "pgsql"));
-        SKILL_SYNONYMS.put("mongodb", Set.of("mongo", "nosql"));
-        SKILL_SYNONYMS.put("sql", Set.of("structured query language", "rdbms"));
-
-        // Cloud & DevOps
-        SKILL_SYNONYMS.put("aws", Set.of("amazon web services", "amazon aws", "ec2", "s3", "lambda"));
-        SKILL_SYNONYMS.put("azure", Set.of("microsoft azure", "ms azure"));
-        SKILL_SYNONYMS.put("gcp", Set.of("google cloud", "google cloud platform"));
-        SKILL_SYNONYMS.put("docker", Set.of("containerization", "containers"));
-        SKILL_SYNONYMS.put("kubernetes", Set.of("k8s", "container orchestration"));
-        SKILL_SYNONYMS.put("ci/cd", Set.of("cicd", "continuous integration", "continuous deployment", "devops"));
-
-        // Others
-        SKILL_SYNONYMS.put("rest api", Set.of("restful", "rest", "restful api", "web services"));
-        SKILL_SYNONYMS.put("microservices", Set.of("micro services", "microservice architecture"));
-        SKILL_SYNONYMS.put("git", Set.of("github", "gitlab", "bitbucket", "version control"));
-        SKILL_SYNONYMS.put("agile", Set.of("scrum", "kanban", "agile methodology"));
-        SKILL_SYNONYMS.put("machine learning", Set.of("ml", "deep learning", "ai", "artificial intelligence"));
-    }
-
-    // Skill categories with weights
-    private static final Map<String, Double> SKILL_CATEGORY_WEIGHTS = new HashMap<>();
-
-    static {
-        SKILL_CATEGORY_WEIGHTS.put("programming_language", 1.0);
-        SKILL_CATEGORY_WEIGHTS.put("framework", 0.9);
-        SKILL_CATEGORY_WEIGHTS.put("database", 0.8);
-        SKILL_CATEGORY_WEIGHTS.put("cloud", 0.7);
-        SKILL_CATEGORY_WEIGHTS.put("tool", 0.6);
-        SKILL_CATEGORY_WEIGHTS.put("soft_skill", 0.5);
-    }
+    private final SkillOntologyService skillOntologyService;
 
     /**
      * Calculate skill match score between candidate skills and required skills
@@ -82,21 +30,13 @@ public class SkillMatcherService {
             return 0.0; // No skills = no match
         }
 
-        Set<String> candidateSkillSet = parseSkills(candidateSkills);
-        Set<String> requiredSkillSet = parseSkills(requiredSkills);
-
-        if (requiredSkillSet.isEmpty()) {
+        RequiredSkills required = prepareRequiredSkills(requiredSkills);
+        if (required.isEmpty()) {
             return 1.0;
         }
 
-        int matchedSkills = 0;
-        int totalRequired = requiredSkillSet.size();
-
-        for (String required : requiredSkillSet) {
-            if (hasSkillMatch(candidateSkillSet, required)) {
-                matchedSkills++;
-            }
-        }
+        int matchedSkills = required.countMatched(resolveSkills(candidateSkills));
+        int totalRequired = required.size();
 
         double score = (double) matchedSkills / totalRequired;
 
@@ -109,123 +49,368 @@ public class SkillMatcherService {
      * Get detailed skill match analysis
      */
     public Map<String, Object> getDetailedSkillMatch(String candidateSkills, String requiredSkills) {
-        Map<String, Object> result = new HashMap<>();
+        return getDetailedSkillMatch(candidateSkills, requiredSkills, null);
+    }
 
-        Set<String> candidateSkillSet = parseSkills(candidateSkills);
-        Set<String> requiredSkillSet = parseSkills(requiredSkills);
+    /**
+     * Get detailed skill match analysis including nice-to-have skills. matchScore is the
+     * category-weighted share of required skills plus the capped nice-to-have bonus.
+     */
+    public Map<String, Object> getDetailedSkillMatch(String candidateSkills, String requiredSkills,
+                                                     String niceToHaveSkills) {
+        return prepareRequiredSkills(requiredSkills, niceToHaveSkills).detailedMatch(parseSkills(candidateSkills));
+    }
 
-        List<String> matchedSkills = new ArrayList<>();
-        List<String> missingSkills = new ArrayList<>();
-        List<String> extraSkills = new ArrayList<>();
+    /**
+     * Parse comma-separated skills into a set
+     */
+    public Set<String> parseSkills(String skills) {
+        if (skills == null || skills.trim().isEmpty()) {
+            return new HashSet<>();
+        }
 
-        // Find matched and missing skills
-        for (String required : requiredSkillSet) {
-            if (hasSkillMatch(candidateSkillSet, required)) {
-                matchedSkills.add(required);
-            } else {
-                missingSkills.add(required);
+        return Arrays.stream(skills.split(","))
+                .map(String::trim)
+                .map(String::toLowerCase)
+                .filter(s -> !s.isEmpty())
+                .collect(Collectors.toSet());
+    }
+
+    private static String normalizeSkill(String skill) {
+        return SkillOntology.normalize(skill);
+    }
+
+    /**
+     * Normalized skills of a comma-separated list (empty entries dropped)
+     */
+    public Set<String> normalizedSkills(String skills) {
+        Set<String> normalized = new HashSet<>();
+        addNormalizedSkills(skills, normalized);
+        return normalized;
+    }
+
+    /**
+     * Add the normalized skills of a comma-separated list to an existing set
+     */
+    public void addNormalizedSkills(String skills, Set<String> target) {
+        if (skills == null || skills.isEmpty()) {
+            return;
+        }
+        for (String skill : skills.split(",")) {
+            String value = normalizeSkill(skill);
+            if (!value.isEmpty()) {
+                target.add(value);
             }
         }
+    }
 
-        // Find extra skills (candidate has but not required)
-        for (String candidate : candidateSkillSet) {
-            boolean isRequired = false;
-            for (String required : requiredSkillSet) {
-                if (hasSkillMatch(Set.of(candidate), required)) {
-                    isRequired = true;
-                    break;
-                }
+    /**
+     * Resolve one or more comma-separated skill lists to canonical skill ids. Do this
+     * once per candidate; matching against prepared job skills then only compares ids.
+     */
+    public CandidateSkills resolveSkills(String... skillLists) {
+        SkillOntology ontology = skillOntologyService.current();
+        long[] ids = new long[16];
+        int count = 0;
+
+        for (String skills : skillLists) {
+            if (skills == null || skills.isEmpty()) {
+                continue;
             }
-            if (!isRequired) {
-                extraSkills.add(candidate);
+            for (String skill : skills.split(",")) {
+                String normalized = normalizeSkill(skill);
+                if (normalized.isEmpty()) {
+                    continue;
+                }
+                for (long id : ontology.candidateSkillIds(normalized)) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = id;
+                }
             }
         }
 
-        double matchScore = requiredSkillSet.isEmpty() ? 1.0 :
-                (double) matchedSkills.size() / requiredSkillSet.size();
+        return CandidateSkills.of(ids, count);
+    }
 
-        result.put("matchScore", matchScore);
-        result.put("matchedSkills", matchedSkills);
-        result.put("missingSkills", missingSkills);
-        result.put("extraSkills", extraSkills);
-        result.put("totalRequired", requiredSkillSet.size());
-        result.put("totalMatched", matchedSkills.size());
+    /**
+     * Prepare a job's required skills for scoring many candidates against it
+     */
+    public RequiredSkills prepareRequiredSkills(String requiredSkills) {
+        return prepareRequiredSkills(requiredSkills, null);
+    }
 
-        return result;
+    /**
+     * Prepare a job's required and nice-to-have skills for scoring many candidates against it
+     */
+    public RequiredSkills prepareRequiredSkills(String requiredSkills, String niceToHaveSkills) {
+        SkillOntology ontology = skillOntologyService.current();
+        return new RequiredSkills(ontology, prepare(parseSkills(requiredSkills), ontology),
+                prepare(parseSkills(niceToHaveSkills), ontology));
+    }
+
+    private static PreparedSkills prepare(Set<String> skillSet, SkillOntology ontology) {
+        int size = skillSet.size();
+        String[] names = new String[size];
+        long[] ids = new long[size];
+        double[] weights = new double[size];
+
+        int i = 0;
+        for (String skill : skillSet) {
+            String normalizedSkill = normalizeSkill(skill);
+
+            names[i] = skill;
+            ids[i] = ontology.skillId(normalizedSkill);
+            weights[i] = ontology.skillWeight(normalizedSkill);
+            i++;
+        }
+
+        return new PreparedSkills(names, ids, weights);
     }
 
     /**
-     * Check if candidate has a matching skill (including synonyms)
+     * A candidate's skills as sorted, distinct canonical skill ids
      */
-    private boolean hasSkillMatch(Set<String> candidateSkills, String requiredSkill) {
-        String normalizedRequired = normalizeSkill(requiredSkill);
+    public static final class CandidateSkills {
 
-        // Direct match
-        for (String candidateSkill : candidateSkills) {
-            String normalizedCandidate = normalizeSkill(candidateSkill);
+        private static final CandidateSkills EMPTY = new CandidateSkills(new long[0]);
 
-            // Exact match
-            if (normalizedCandidate.equals(normalizedRequired)) {
-                return true;
+        private final long[] ids;
+
+        private CandidateSkills(long[] ids) {
+            this.ids = ids;
+        }
+
+        private static CandidateSkills of(long[] ids, int count) {
+            if (count == 0) {
+                return EMPTY;
             }
+            long[] sorted = Arrays.copyOf(ids, count);
+            Arrays.sort(sorted);
 
-            // Contains match
-            if (normalizedCandidate.contains(normalizedRequired) ||
-                    normalizedRequired.contains(normalizedCandidate)) {
-                return true;
+            int distinct = 1;
+            for (int i = 1; i < sorted.length; i++) {
+                if (sorted[i] != sorted[distinct - 1]) {
+                    sorted[distinct++] = sorted[i];
+                }
             }
+            return new CandidateSkills(distinct == sorted.length ? sorted : Arrays.copyOf(sorted, distinct));
         }
 
-        // Check synonyms
-        Set<String> synonyms = SKILL_SYNONYMS.get(normalizedRequired);
-        if (synonyms != null) {
-            for (String candidateSkill : candidateSkills) {
-                String normalizedCandidate = normalizeSkill(candidateSkill);
-                if (synonyms.contains(normalizedCandidate)) {
-                    return true;
-                }
+        public boolean contains(long id) {
+            return Arrays.binarySearch(ids, id) >= 0;
+        }
+
+        public int size() {
+            return ids.length;
+        }
+
+        public long[] toArray() {
+            return ids.clone();
+        }
+    }
+
+    /**
+     * One list of skills with everything matching needs resolved up front: canonical
+     * skill id and category weight. A skill matches when the candidate has the same
+     * id, so synonyms, variants and near-misspellings match and substrings do not
+     * ("java" is not "javascript").
+     */
+    private static final class PreparedSkills {
+
+        private final String[] names;
+        private final long[] ids;
+        private final double[] weights;
+        private final double totalWeight;
+
+        private PreparedSkills(String[] names, long[] ids, double[] weights) {
+            this.names = names;
+            this.ids = ids;
+            this.weights = weights;
+
+            double total = 0;
+            for (double weight : weights) {
+                total += weight;
             }
+            this.totalWeight = total;
+        }
+
+        private int size() {
+            return ids.length;
         }
 
-        // Reverse synonym check
-        for (Map.Entry<String, Set<String>> entry : SKILL_SYNONYMS.entrySet()) {
-            if (entry.getValue().contains(normalizedRequired)) {
-                String mainSkill = entry.getKey();
-                for (String candidateSkill : candidateSkills) {
-                    if (normalizeSkill(candidateSkill).equals(mainSkill)) {
+        private boolean matches(int i, CandidateSkills candidateSkills) {
+            return candidateSkills.contains(ids[i]);
+        }
+
+        private boolean matchesAny(long[] candidateIds) {
+            for (long id : ids) {
+                for (long candidateId : candidateIds) {
+                    if (id == candidateId) {
                         return true;
                     }
                 }
             }
+            return false;
+        }
+
+        private int countMatched(CandidateSkills candidateSkills) {
+            int matched = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (matches(i, candidateSkills)) {
+                    matched++;
+                }
+            }
+            return matched;
         }
 
-        return false;
+        /**
+         * Matched share of the total category weight (0.0 - 1.0)
+         */
+        private double weightedMatch(CandidateSkills candidateSkills) {
+            double matched = 0;
+            for (int i = 0; i < ids.length; i++) {
+                if (matches(i, candidateSkills)) {
+                    matched += weights[i];
+                }
+            }
+            return matched / totalWeight;
+        }
     }
 
     /**
-     * Parse comma-separated skills into a set
+     * A job's skills prepared for scoring: required skills weighted by category, and
+     * nice-to-have skills adding a bonus of up to ScoringSignals.NICE_TO_HAVE_MAX_BONUS.
      */
-    public Set<String> parseSkills(String skills) {
-        if (skills == null || skills.trim().isEmpty()) {
-            return new HashSet<>();
+    public static final class RequiredSkills {
+
+        private final SkillOntology ontology;
+        private final PreparedSkills required;
+        private final PreparedSkills niceToHave;
+
+        private RequiredSkills(SkillOntology ontology, PreparedSkills required, PreparedSkills niceToHave) {
+            this.ontology = ontology;
+            this.required = required;
+            this.niceToHave = niceToHave;
         }
 
-        return Arrays.stream(skills.split(","))
-                .map(String::trim)
-                .map(String::toLowerCase)
-                .filter(s -> !s.isEmpty())
-                .collect(Collectors.toSet());
+        public int size() {
+            return required.size();
+        }
+
+        public boolean isEmpty() {
+            return required.size() == 0;
+        }
+
+        /**
+         * Number of required skills matched, unweighted
+         */
+        public int countMatched(CandidateSkills candidateSkills) {
+            return required.countMatched(candidateSkills);
+        }
+
+        /**
+         * Skill score (0.0 - 1.0): category-weighted share of required skills matched,
+         * plus the nice-to-have bonus; 1.0 with no requirements
+         */
+        public double matchScore(CandidateSkills candidateSkills) {
+            if (required.size() == 0) {
+                return 1.0;
+            }
+
+            double score = required.weightedMatch(candidateSkills);
+            if (score < 1.0 && niceToHave.size() > 0) {
+                score = Math.min(1.0, score
+                        + ScoringSignals.NICE_TO_HAVE_MAX_BONUS * niceToHave.weightedMatch(candidateSkills));
+            }
+            return score;
+        }
+
+        /**
+         * Breakdown for reports and feedback, from parsed (trimmed, lower case) candidate skills
+         */
+        Map<String, Object> detailedMatch(Set<String> candidateSkillSet) {
+            // Resolve each candidate skill once, against the ontology the job was prepared with
+            String[] names = candidateSkillSet.toArray(new String[0]);
+            long[][] resolved = new long[names.length][];
+            long[] ids = new long[16];
+            int count = 0;
+            for (int c = 0; c < names.length; c++) {
+                String normalized = normalizeSkill(names[c]);
+                resolved[c] = normalized.isEmpty() ? new long[0] : ontology.candidateSkillIds(normalized);
+                for (long id : resolved[c]) {
+                    if (count == ids.length) {
+                        ids = Arrays.copyOf(ids, count * 2);
+                    }
+                    ids[count++] = id;
+                }
+            }
+            CandidateSkills candidateSkills = CandidateSkills.of(ids, count);
+
+            List<String> matchedSkills = new ArrayList<>();
+            List<String> missingSkills = new ArrayList<>();
+            for (int i = 0; i < required.size(); i++) {
+                (required.matches(i, candidateSkills) ? matchedSkills : missingSkills).add(required.names[i]);
+            }
+
+            List<String> matchedNiceToHave = new ArrayList<>();
+            List<String> missingNiceToHave = new ArrayList<>();
+            for (int i = 0; i < niceToHave.size(); i++) {
+                (niceToHave.matches(i, candidateSkills) ? matchedNiceToHave : missingNiceToHave)
+                        .add(niceToHave.names[i]);
+            }
+
+            // Extra skills (candidate has but not required)
+            List<String> extraSkills = new ArrayList<>();
+            for (int c = 0; c < names.length; c++) {
+                if (!required.matchesAny(resolved[c])) {
+                    extraSkills.add(names[c]);
+                }
+            }
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("matchScore", matchScore(candidateSkills));
+            result.put("matchedSkills", matchedSkills);
+            result.put("missingSkills", missingSkills);
+            result.put("extraSkills", extraSkills);
+            result.put("totalRequired", required.size());
+            result.put("totalMatched", matchedSkills.size());
+            result.put("matchedNiceToHave", matchedNiceToHave);
+            result.put("missingNiceToHave", missingNiceToHave);
+            result.put("totalNiceToHave", niceToHave.size());
+
+            return result;
+        }
+    }
+
+    /**
+     * Canonical form of a skill: normalized, with synonyms and near-misspellings folded into their main skill
+     */
+    public String canonicalSkill(String skill) {
+        return skillOntologyService.current().canonicalSkill(normalizeSkill(skill));
+    }
+
+    /**
+     * Canonical skills of a comma-separated list
+     */
+    public Set<String> canonicalSkills(String skills) {
+        SkillOntology ontology = skillOntologyService.current();
+        Set<String> canonical = new HashSet<>();
+        for (String skill : parseSkills(skills)) {
+            String value = ontology.canonicalSkill(normalizeSkill(skill));
+            if (!value.isEmpty()) {
+                canonical.add(value);
+            }
+        }
+        return canonical;
     }
 
     /**
-     * Normalize skill name for comparison
+     * Highest education level recognised in free text
      */
-    private String normalizeSkill(String skill) {
-        return skill.toLowerCase()
-                .trim()
-                .replaceAll("[^a-z0-9+#.]", " ")
-                .replaceAll("\\s+", " ")
-                .trim();
+    public EducationLevel educationLevel(String education) {
+        return skillOntologyService.current().educationLevel(education);
     }
 
     /**
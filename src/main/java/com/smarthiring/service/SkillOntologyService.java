@@ -0,0 +1,148 @@
+package com.smarthiring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.config.OntologyConfig;
+import com.smarthiring.dto.response.SkillOntologyResponse;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.service.ontology.OntologyDefinition;
+import com.smarthiring.service.ontology.SkillOntology;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the skill ontology shared by matching, extraction and education scoring.
+ * It is loaded from a versioned resource file and compiled off to the side. The
+ * compiled instance is swapped in with one volatile write, so readers never block
+ * and never see a half-built dictionary.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SkillOntologyService {
+
+    private final OntologyConfig ontologyConfig;
+    private final ResourceLoader resourceLoader;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // A lock, not synchronized: reloading reads a file, which would pin a virtual thread
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private volatile SkillOntology ontology;
+    private volatile long loadedModified;
+    private volatile LocalDateTime loadedAt;
+    private volatile String lastError;
+
+    /**
+     * Scoring cannot run without a dictionary, so a broken file fails startup
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            swap(load());
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Cannot load skill ontology from " + ontologyConfig.getLocation(), e);
+        }
+    }
+
+    /**
+     * The current ontology; hold on to it for the duration of one operation
+     */
+    public SkillOntology current() {
+        return ontology;
+    }
+
+    /**
+     * Reload when the file changed since it was last read
+     */
+    @Scheduled(fixedDelayString = "${app.ontology.reload-interval-ms:60000}",
+            initialDelayString = "${app.ontology.reload-interval-ms:60000}")
+    public void checkForChanges() {
+        long modified = lastModified(resourceLoader.getResource(ontologyConfig.getLocation()));
+        if (modified != loadedModified) {
+            reload();
+        }
+    }
+
+    /**
+     * Read and compile the file now; on failure the loaded version stays in use
+     */
+    public SkillOntologyResponse reload() {
+        reloadLock.lock();
+        try {
+            swap(load());
+            lastError = null;
+        } catch (IOException | RuntimeException e) {
+            lastError = e.getMessage();
+            log.error("Failed to reload skill ontology from {}", ontologyConfig.getLocation(), e);
+        } finally {
+            reloadLock.unlock();
+        }
+        return getStatus();
+    }
+
+    public SkillOntologyResponse getStatus() {
+        SkillOntology current = ontology;
+        return SkillOntologyResponse.builder()
+                .version(current.getVersion())
+                .location(ontologyConfig.getLocation())
+                .loadedAt(loadedAt)
+                .skills(current.getSkillCount())
+                .synonyms(current.getSynonymCount())
+                .extractionTerms(current.getExtractionTerms().size())
+                .educationKeywords(current.getEducationKeywords().size())
+                .lastError(lastError)
+                .build();
+    }
+
+    private LoadedOntology load() throws IOException {
+        Resource resource = resourceLoader.getResource(ontologyConfig.getLocation());
+        long modified = lastModified(resource);
+
+        try (InputStream stream = resource.getInputStream()) {
+            OntologyDefinition definition = objectMapper.readValue(stream, OntologyDefinition.class);
+            return new LoadedOntology(SkillOntology.compile(definition), modified);
+        }
+    }
+
+    private void swap(LoadedOntology loaded) {
+        SkillOntology previous = ontology;
+        ontology = loaded.ontology();
+        loadedModified = loaded.modified();
+        loadedAt = LocalDateTime.now();
+
+        log.info("Skill ontology version {} loaded: {} skills, {} synonyms, {} extraction terms",
+                loaded.ontology().getVersion(), loaded.ontology().getSkillCount(),
+                loaded.ontology().getSynonymCount(), loaded.ontology().getExtractionTerms().size());
+
+        if (previous != null && !previous.getVersion().equals(loaded.ontology().getVersion())) {
+            eventPublisher.publishEvent(new SkillOntologyChangedEvent(previous.getVersion(),
+                    loaded.ontology().getVersion()));
+        }
+    }
+
+    /**
+     * Modification time, or 0 where the resource cannot tell (e.g. inside a jar)
+     */
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record LoadedOntology(SkillOntology ontology, long modified) {
+    }
+}
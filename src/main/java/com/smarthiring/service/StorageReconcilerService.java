@@ -0,0 +1,386 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.StorageGcConfig;
+import com.smarthiring.dto.response.StorageReportResponse;
+import com.smarthiring.entity.FileBlob;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.repository.FileBlobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.repository.UserRepository;
+import com.smarthiring.service.storage.FileStore;
+import com.smarthiring.service.storage.StorageArea;
+import com.smarthiring.service.storage.StoredObject;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Background reconciliation of stored files against the rows that reference them.
+ * Unreferenced files are moved to quarantine first and only deleted once they have
+ * stayed unreferenced for the retention period; anything referenced again is restored.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorageReconcilerService {
+
+    private final FileStore fileStore;
+    private final ResumeRepository resumeRepository;
+    private final UserRepository userRepository;
+    private final FileBlobRepository fileBlobRepository;
+    private final StorageGcConfig gcConfig;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "Storage-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Map<StorageArea, StorageReportResponse.AreaUsage> lastUsage = new ConcurrentHashMap<>();
+    private final AtomicLong reclaimedFiles = new AtomicLong();
+    private final AtomicLong reclaimedBytes = new AtomicLong();
+    private final AtomicLong restoredFiles = new AtomicLong();
+
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile Long lastRunDurationMs;
+    private volatile String lastError;
+
+    /**
+     * Usage per area as of the last run (NaN before the first one), plus running totals
+     * of what the runs reclaimed and restored
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        for (StorageArea area : StorageArea.values()) {
+            Gauge.builder(AppConstants.METRIC_STORAGE_FILES, lastUsage, usage -> lastUsage(usage, area, false))
+                    .baseUnit("files").tag("area", area.name()).register(meterRegistry);
+            Gauge.builder(AppConstants.METRIC_STORAGE_BYTES, lastUsage, usage -> lastUsage(usage, area, true))
+                    .baseUnit("bytes").tag("area", area.name()).register(meterRegistry);
+        }
+        FunctionCounter.builder(AppConstants.METRIC_STORAGE_RECLAIMED_FILES, reclaimedFiles, AtomicLong::get)
+                .baseUnit("files").register(meterRegistry);
+        FunctionCounter.builder(AppConstants.METRIC_STORAGE_RECLAIMED_BYTES, reclaimedBytes, AtomicLong::get)
+                .baseUnit("bytes").register(meterRegistry);
+        FunctionCounter.builder(AppConstants.METRIC_STORAGE_RESTORED_FILES, restoredFiles, AtomicLong::get)
+                .baseUnit("files").register(meterRegistry);
+    }
+
+    private static double lastUsage(Map<StorageArea, StorageReportResponse.AreaUsage> usage, StorageArea area,
+                                    boolean bytes) {
+        StorageReportResponse.AreaUsage areaUsage = usage.get(area);
+        if (areaUsage == null) {
+            return Double.NaN;
+        }
+        return bytes ? areaUsage.getTotalBytes() : areaUsage.getTotalFiles();
+    }
+
+    /**
+     * Nightly run
+     */
+    @Scheduled(cron = "${app.storage-gc.cron:0 30 3 * * *}")
+    public void scheduledReconciliation() {
+        if (!gcConfig.isEnabled()) {
+            return;
+        }
+        if (running.compareAndSet(false, true)) {
+            reconcile();
+        } else {
+            log.info("Storage reconciliation already running, skipping scheduled run");
+        }
+    }
+
+    /**
+     * Start a run in the background (admin trigger)
+     */
+    public StorageReportResponse startReconciliation() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BadRequestException("Storage reconciliation is already running");
+        }
+
+        runner.submit(this::reconcile);
+        return getReport();
+    }
+
+    /**
+     * Storage usage and reclamation counters
+     */
+    public StorageReportResponse getReport() {
+        List<StorageReportResponse.AreaUsage> areas = new ArrayList<>();
+        for (StorageArea area : StorageArea.values()) {
+            StorageReportResponse.AreaUsage usage = lastUsage.get(area);
+            if (usage != null) {
+                areas.add(usage);
+            }
+        }
+
+        return StorageReportResponse.builder()
+                .running(running.get())
+                .dryRun(gcConfig.isDryRun())
+                .lastRunStartedAt(lastRunStartedAt)
+                .lastRunDurationMs(lastRunDurationMs)
+                .lastError(lastError)
+                .reclaimedFiles(reclaimedFiles.get())
+                .reclaimedBytes(reclaimedBytes.get())
+                .restoredFiles(restoredFiles.get())
+                .areas(areas)
+                .build();
+    }
+
+    /**
+     * Caller must have set the running flag
+     */
+    private void reconcile() {
+        long started = System.currentTimeMillis();
+        lastRunStartedAt = LocalDateTime.now();
+        lastError = null;
+
+        try {
+            for (StorageArea area : StorageArea.values()) {
+                AreaScan scan = reconcileArea(area);
+                lastUsage.put(area, scan.toUsage(area));
+
+                log.info("Storage reconciliation [{}]: {} files / {} bytes, {} orphans, {} quarantined, " +
+                                "{} deleted ({} bytes), {} restored",
+                        area, scan.totalFiles, scan.totalBytes, scan.orphanFiles, scan.quarantinedFiles,
+                        scan.deletedFiles, scan.deletedBytes, scan.restoredFiles);
+            }
+        } catch (Exception e) {
+            log.error("Storage reconciliation failed", e);
+            lastError = e.getMessage();
+        } finally {
+            lastRunDurationMs = System.currentTimeMillis() - started;
+            running.set(false);
+        }
+    }
+
+    private AreaScan reconcileArea(StorageArea area) throws IOException {
+        AreaScan scan = new AreaScan();
+        long now = System.currentTimeMillis();
+        long minAgeCutoff = now - TimeUnit.MINUTES.toMillis(gcConfig.getMinAgeMinutes());
+        int batchSize = Math.max(1, gcConfig.getBatchSize());
+
+        removeAbandonedStagingFiles(area, minAgeCutoff, scan);
+
+        // Live objects: quarantine whatever no row references
+        List<StoredObject> batch = new ArrayList<>(batchSize);
+        try (Stream<StoredObject> objects = fileStore.list(area, "")) {
+            Iterator<StoredObject> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                StoredObject object = iterator.next();
+                scan.totalFiles++;
+                scan.totalBytes += object.size();
+
+                // Young files may belong to an upload whose transaction has not committed yet
+                if (object.lastModified() > minAgeCutoff) {
+                    continue;
+                }
+
+                batch.add(object);
+                if (batch.size() >= batchSize) {
+                    quarantineOrphans(area, batch, scan);
+                    batch.clear();
+                }
+            }
+        }
+        quarantineOrphans(area, batch, scan);
+
+        // Quarantined objects: restore if referenced again, delete once retention has passed
+        long retentionCutoff = now - TimeUnit.HOURS.toMillis(gcConfig.getQuarantineRetentionHours());
+        batch.clear();
+        try (Stream<StoredObject> objects = fileStore.list(area, FileStore.QUARANTINE_PREFIX)) {
+            Iterator<StoredObject> iterator = objects.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize) {
+                    sweepQuarantine(area, batch, retentionCutoff, scan);
+                    batch.clear();
+                }
+            }
+        }
+        sweepQuarantine(area, batch, retentionCutoff, scan);
+
+        return scan;
+    }
+
+    private void quarantineOrphans(StorageArea area, List<StoredObject> batch, AreaScan scan) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Set<String> referenced = findReferenced(area, batch.stream().map(StoredObject::key).toList());
+
+        for (StoredObject object : batch) {
+            if (referenced.contains(object.key())) {
+                continue;
+            }
+            if (!gcConfig.isDryRun() && !quarantine(area, object)) {
+                continue;
+            }
+
+            scan.orphanFiles++;
+            scan.orphanBytes += object.size();
+        }
+    }
+
+    /**
+     * Moves the object to quarantine unless an upload of the same content acquired its key
+     * after the reference check. The locking read is the one removeObject takes: it waits
+     * for such an upload to commit, and an upload arriving later waits for the move and
+     * then writes the object again.
+     */
+    private boolean quarantine(StorageArea area, StoredObject object) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            Optional<FileBlob> blob = fileBlobRepository.lockByKey(area, object.key());
+            if (blob.isPresent() && blob.get().getRefCount() > 0) {
+                log.debug("Not quarantining {}: acquired by an upload since the reference check", object.key());
+                return false;
+            }
+
+            try {
+                fileStore.move(area, object.key(), FileStore.QUARANTINE_PREFIX + object.key());
+                log.debug("Quarantined orphan {} ({} bytes)", object.key(), object.size());
+            } catch (IOException e) {
+                log.warn("Could not quarantine {}: {}", object.key(), e.getMessage());
+            }
+            return true;
+        }));
+    }
+
+    private void sweepQuarantine(StorageArea area, List<StoredObject> batch, long retentionCutoff, AreaScan scan) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<String> originalKeys = batch.stream()
+                .map(object -> object.key().substring(FileStore.QUARANTINE_PREFIX.length()))
+                .toList();
+        Set<String> referenced = findReferenced(area, originalKeys);
+
+        for (int i = 0; i < batch.size(); i++) {
+            StoredObject object = batch.get(i);
+            String originalKey = originalKeys.get(i);
+
+            try {
+                if (referenced.contains(originalKey)) {
+                    if (!gcConfig.isDryRun()) {
+                        fileStore.move(area, object.key(), originalKey);
+                        scan.restoredFiles++;
+                        restoredFiles.incrementAndGet();
+                        log.info("Restored {} from quarantine (referenced again)", originalKey);
+                    }
+                } else if (object.lastModified() < retentionCutoff && !gcConfig.isDryRun()) {
+                    fileStore.delete(area, object.key());
+                    fileBlobRepository.deleteByKey(area, originalKey);
+
+                    scan.deletedFiles++;
+                    scan.deletedBytes += object.size();
+                    reclaimedFiles.incrementAndGet();
+                    reclaimedBytes.addAndGet(object.size());
+                } else {
+                    scan.quarantinedFiles++;
+                    scan.quarantinedBytes += object.size();
+                }
+            } catch (IOException e) {
+                log.warn("Could not process quarantined {}: {}", object.key(), e.getMessage());
+            }
+        }
+    }
+
+    private Set<String> findReferenced(StorageArea area, List<String> keys) {
+        List<String> referenced = switch (area) {
+            case RESUMES -> resumeRepository.findReferencedFileNames(keys);
+            case PROFILES -> userRepository.findReferencedProfilePictures(keys);
+        };
+        return new HashSet<>(referenced);
+    }
+
+    /**
+     * Spooled uploads left behind by crashed requests
+     */
+    private void removeAbandonedStagingFiles(StorageArea area, long cutoff, AreaScan scan) throws IOException {
+        Path staging = fileStore.stagingDirectory(area);
+
+        try (Stream<Path> files = Files.list(staging)) {
+            Iterator<Path> iterator = files.iterator();
+            while (iterator.hasNext()) {
+                Path file = iterator.next();
+                try {
+                    if (Files.isRegularFile(file) && Files.getLastModifiedTime(file).toMillis() < cutoff
+                            && !gcConfig.isDryRun() && Files.deleteIfExists(file)) {
+                        scan.stagingFilesRemoved++;
+                    }
+                } catch (IOException e) {
+                    log.warn("Could not remove staged file {}: {}", file, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private static final class AreaScan {
+        long totalFiles;
+        long totalBytes;
+        long orphanFiles;
+        long orphanBytes;
+        long quarantinedFiles;
+        long quarantinedBytes;
+        long deletedFiles;
+        long deletedBytes;
+        long restoredFiles;
+        long stagingFilesRemoved;
+
+        StorageReportResponse.AreaUsage toUsage(StorageArea area) {
+            return StorageReportResponse.AreaUsage.builder()
+                    .area(area)
+                    .totalFiles(totalFiles)
+                    .totalBytes(totalBytes)
+                    .orphanFiles(orphanFiles)
+                    .orphanBytes(orphanBytes)
+                    .quarantinedFiles(quarantinedFiles)
+                    .quarantinedBytes(quarantinedBytes)
+                    .deletedFiles(deletedFiles)
+                    .deletedBytes(deletedBytes)
+                    .restoredFiles(restoredFiles)
+                    .stagingFilesRemoved(stagingFilesRemoved)
+                    .build();
+        }
+    }
+}
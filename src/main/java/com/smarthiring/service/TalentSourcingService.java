@@ -0,0 +1,349 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.SourcingConfig;
+import com.smarthiring.dto.response.TalentSourcingResponse;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Job;
+import com.smarthiring.exception.ResourceNotFoundException;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.service.scoring.ScoreComponents;
+import com.smarthiring.service.scoring.ScoringSignals;
+import com.smarthiring.service.scoring.ScoringWeights;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Proactive sourcing: scores the whole candidate pool against a job with the same
+ * signals as AIRankingService, without creating or updating applications.
+ * Candidates are read as scalar projections in keyset pages on the calling thread
+ * while earlier pages are scored on a fixed pool; each chunk keeps its own bounded
+ * top-K heap and the heaps are merged at the end.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TalentSourcingService {
+
+    private final JobRepository jobRepository;
+    private final CandidateRepository candidateRepository;
+    private final ApplicationRepository applicationRepository;
+    private final SkillMatcherService skillMatcherService;
+    private final ScoringWeightService scoringWeightService;
+    private final SourcingConfig sourcingConfig;
+
+    // Best first; ties go to the older profile so results are stable between runs
+    static final Comparator<ScoredCandidate> RANKING = Comparator
+            .comparingDouble(ScoredCandidate::score).reversed()
+            .thenComparingLong(scored -> scored.row().candidateId());
+
+    private static final int MIN_CHUNK_SIZE = 500;
+
+    private ExecutorService scoringPool;
+    private int scoringThreads;
+
+    @PostConstruct
+    public void init() {
+        scoringThreads = sourcingConfig.getScoringThreads() > 0
+                ? sourcingConfig.getScoringThreads()
+                : Runtime.getRuntime().availableProcessors();
+
+        AtomicInteger counter = new AtomicInteger();
+        scoringPool = Executors.newFixedThreadPool(scoringThreads, r -> {
+            Thread thread = new Thread(r, "Sourcing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scoringPool != null) {
+            scoringPool.shutdownNow();
+        }
+    }
+
+    /**
+     * Rank the candidate pool for a job (existing applicants excluded unless asked for)
+     */
+    @Transactional(readOnly = true)
+    public TalentSourcingResponse sourceCandidates(Long jobId, Integer limit, boolean includeApplicants) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", "id", jobId));
+
+        int k = resolveLimit(limit);
+        JobProfile profile = new JobProfile(
+                skillMatcherService.prepareRequiredSkills(job.getRequiredSkills(), job.getNiceToHaveSkills()),
+                job.getExperienceMin(),
+                job.getExperienceMax(),
+                scoringWeightService.weightsFor(job)
+        );
+
+        Set<Long> excluded = includeApplicants ? Set.of()
+                : new HashSet<>(applicationRepository.findCandidateIdsByJobId(jobId));
+
+        long started = System.currentTimeMillis();
+        SourcingRun run = rank(profile, keysetPages(), k, excluded);
+        long durationMs = System.currentTimeMillis() - started;
+
+        log.info("Sourced job {}: scanned {} candidates ({} scored) in {} ms",
+                jobId, run.scanned(), run.scored(), durationMs);
+
+        return TalentSourcingResponse.builder()
+                .jobId(jobId)
+                .jobTitle(job.getTitle())
+                .candidatesScanned(run.scanned())
+                .candidatesScored(run.scored())
+                .durationMs(durationMs)
+                .candidates(toResponses(run.ranked(), job.getRequiredSkills()))
+                .build();
+    }
+
+    /**
+     * Stream pages through the scoring pool and merge the per-chunk heaps
+     */
+    SourcingRun rank(JobProfile profile, PageSource pages, int limit, Set<Long> excluded) {
+        Semaphore pagesInFlight = new Semaphore(Math.max(1, sourcingConfig.getMaxPagesInFlight()));
+        List<CompletableFuture<ChunkResult>> chunks = new ArrayList<>();
+        long scanned = 0;
+
+        try {
+            List<SourcingRow> page;
+            while ((page = pages.next()) != null) {
+                scanned += page.size();
+                pagesInFlight.acquire();
+
+                List<CompletableFuture<ChunkResult>> pageChunks = new ArrayList<>();
+                int chunkSize = Math.max(MIN_CHUNK_SIZE, (page.size() + scoringThreads - 1) / scoringThreads);
+                for (int from = 0; from < page.size(); from += chunkSize) {
+                    List<SourcingRow> rows = page.subList(from, Math.min(page.size(), from + chunkSize));
+                    pageChunks.add(CompletableFuture.supplyAsync(
+                            () -> scoreChunk(profile, rows, limit, excluded), scoringPool));
+                }
+
+                CompletableFuture.allOf(pageChunks.toArray(new CompletableFuture[0]))
+                        .whenComplete((ignored, error) -> pagesInFlight.release());
+                chunks.addAll(pageChunks);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sourcing was interrupted", e);
+        }
+
+        PriorityQueue<ScoredCandidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        long scored = 0;
+        for (CompletableFuture<ChunkResult> chunk : chunks) {
+            ChunkResult result = chunk.join();
+            scored += result.scored();
+            for (ScoredCandidate candidate : result.top()) {
+                offer(top, candidate, limit);
+            }
+        }
+
+        List<ScoredCandidate> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return new SourcingRun(ranked, scanned, scored);
+    }
+
+    private ChunkResult scoreChunk(JobProfile profile, List<SourcingRow> rows, int limit, Set<Long> excluded) {
+        PriorityQueue<ScoredCandidate> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        long scored = 0;
+
+        for (SourcingRow row : rows) {
+            if (excluded.contains(row.candidateId())) {
+                continue;
+            }
+            offer(top, score(profile, row), limit);
+            scored++;
+        }
+
+        return new ChunkResult(top, scored);
+    }
+
+    /**
+     * Bounded heap insert: the head is the worst of the current top K
+     */
+    private static void offer(PriorityQueue<ScoredCandidate> top, ScoredCandidate candidate, int limit) {
+        if (top.size() < limit) {
+            top.add(candidate);
+        } else if (RANKING.compare(candidate, top.peek()) < 0) {
+            top.poll();
+            top.add(candidate);
+        }
+    }
+
+    /**
+     * Same signals and weights as AIRankingService; there is no application, so recency is neutral
+     */
+    ScoredCandidate score(JobProfile profile, SourcingRow row) {
+        SkillMatcherService.CandidateSkills skills = skillMatcherService.resolveSkills(row.skills(), row.resumeSkills());
+
+        String education = row.education() == null || row.education().isEmpty()
+                ? row.resumeEducation() : row.education();
+
+        ScoreComponents components = new ScoreComponents(
+                profile.requiredSkills().matchScore(skills),
+                ScoringSignals.experienceScore(row.experience(), profile.experienceMin(), profile.experienceMax()),
+                skillMatcherService.educationLevel(education).getScore(),
+                ScoringSignals.resumeQualityScore(row.hasResume(), row.parsedTextLength(),
+                        ScoringSignals.countListEntries(row.resumeSkills())),
+                ScoringSignals.recencyScore(null)
+        );
+
+        return new ScoredCandidate(row, components.total(profile.weights()), components);
+    }
+
+    private PageSource keysetPages() {
+        int pageSize = Math.max(1, sourcingConfig.getPageSize());
+
+        return new PageSource() {
+            private long lastId = 0;
+            private boolean exhausted;
+
+            @Override
+            public List<SourcingRow> next() {
+                if (exhausted) {
+                    return null;
+                }
+
+                List<Object[]> rows = candidateRepository.findSourcingProfiles(lastId, PageRequest.of(0, pageSize));
+                if (rows.size() < pageSize) {
+                    exhausted = true;
+                }
+                if (rows.isEmpty()) {
+                    return null;
+                }
+
+                List<SourcingRow> page = new ArrayList<>(rows.size());
+                for (Object[] row : rows) {
+                    long id = ((Number) row[0]).longValue();
+                    // More than one primary resume: keep the first row
+                    if (id == lastId) {
+                        continue;
+                    }
+                    lastId = id;
+                    page.add(toRow(row));
+                }
+                return page;
+            }
+        };
+    }
+
+    private SourcingRow toRow(Object[] row) {
+        return new SourcingRow(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                row[2] != null ? ((Number) row[2]).doubleValue() : null,
+                (String) row[3],
+                row[4] != null,
+                (String) row[5],
+                (String) row[6],
+                row[7] != null ? ((Number) row[7]).intValue() : 0
+        );
+    }
+
+    private List<TalentSourcingResponse.SourcedCandidate> toResponses(List<ScoredCandidate> ranked,
+                                                                      String requiredSkills) {
+        Map<Long, Candidate> candidates = new HashMap<>();
+        for (Candidate candidate : candidateRepository.findAllById(
+                ranked.stream().map(scored -> scored.row().candidateId()).toList())) {
+            candidates.put(candidate.getId(), candidate);
+        }
+
+        List<TalentSourcingResponse.SourcedCandidate> responses = new ArrayList<>(ranked.size());
+        for (ScoredCandidate scored : ranked) {
+            Candidate candidate = candidates.get(scored.row().candidateId());
+            if (candidate == null) {
+                continue; // Deleted while the scan was running
+            }
+
+            SourcingRow row = scored.row();
+            String skills = row.resumeSkills() == null ? row.skills()
+                    : row.skills() == null || row.skills().isEmpty() ? row.resumeSkills()
+                    : row.skills() + ", " + row.resumeSkills();
+            Map<String, Object> skillMatch = skillMatcherService.getDetailedSkillMatch(skills, requiredSkills);
+
+            @SuppressWarnings("unchecked")
+            List<String> matchedSkills = (List<String>) skillMatch.get("matchedSkills");
+            @SuppressWarnings("unchecked")
+            List<String> missingSkills = (List<String>) skillMatch.get("missingSkills");
+
+            ScoreComponents components = scored.components();
+            responses.add(TalentSourcingResponse.SourcedCandidate.builder()
+                    .rank(responses.size() + 1)
+                    .candidateId(candidate.getId())
+                    .fullName(candidate.getUser().getFullName())
+                    .headline(candidate.getHeadline())
+                    .currentDesignation(candidate.getCurrentDesignation())
+                    .location(candidate.getLocation())
+                    .totalExperience(candidate.getTotalExperience())
+                    .aiScore(BigDecimal.valueOf(scored.score()).setScale(2, RoundingMode.HALF_UP))
+                    .skillScore(components.skill())
+                    .experienceScore(components.experience())
+                    .educationScore(components.education())
+                    .resumeQualityScore(components.resumeQuality())
+                    .matchedSkills(matchedSkills)
+                    .missingSkills(missingSkills)
+                    .build());
+        }
+        return responses;
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return sourcingConfig.getDefaultLimit();
+        }
+        return Math.min(limit, sourcingConfig.getMaxLimit());
+    }
+
+    /**
+     * Supplies pages in candidate id order; null when the pool is exhausted
+     */
+    @FunctionalInterface
+    interface PageSource {
+        List<SourcingRow> next();
+    }
+
+    record JobProfile(SkillMatcherService.RequiredSkills requiredSkills, Integer experienceMin,
+                      Integer experienceMax, ScoringWeights weights) {
+    }
+
+    /**
+     * Scoring inputs of one candidate, read from a projection (no entity is loaded)
+     */
+    record SourcingRow(long candidateId, String skills, Double experience, String education,
+                       boolean hasResume, String resumeSkills, String resumeEducation, int parsedTextLength) {
+    }
+
+    record ScoredCandidate(SourcingRow row, double score, ScoreComponents components) {
+    }
+
+    record SourcingRun(List<ScoredCandidate> ranked, long scanned, long scored) {
+    }
+
+    private record ChunkResult(Collection<ScoredCandidate> top, long scored) {
+    }
+}
@@ -29,6 +29,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final CandidateRepository candidateRepository;
     private final UserMapper userMapper;
+    private final FileStorageService fileStorageService;
 
     /**
      * Get user by ID
@@ -168,9 +169,16 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", userId));
 
+        String previousPicture = user.getProfilePicture();
+
         user.setProfilePicture(pictureUrl);
         User savedUser = userRepository.save(user);
 
+        // Release the replaced upload; external URLs are not ours to delete
+        if (previousPicture != null && !previousPicture.equals(pictureUrl) && !previousPicture.contains("://")) {
+            fileStorageService.deleteProfilePicture(previousPicture);
+        }
+
         return userMapper.toResponse(savedUser);
     }
 
@@ -0,0 +1,9 @@
+package com.smarthiring.service.duplicate;
+
+/**
+ * What two candidates were found to share
+ */
+public enum DuplicateKind {
+    RESUME_TEXT,  // Near-identical resume text
+    SKILLS        // Near-identical skill set
+}
@@ -0,0 +1,116 @@
+package com.smarthiring.service.duplicate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Locality-sensitive hashing over MinHash signatures: each id sits in one bucket
+ * per band, and only ids sharing a bucket are compared. Looking up one signature
+ * costs {@link MinHash#BANDS} hash lookups plus the comparisons with its bucket
+ * mates, independent of the number of ids.
+ * <p>
+ * Not thread-safe; the owner guards it.
+ */
+public final class LshIndex {
+
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final Map<Long, List<Long>> buckets = new HashMap<>();
+
+    public record SimilarPair(long first, long second, double similarity) {
+    }
+
+    public void put(long id, int[] signature) {
+        remove(id);
+        signatures.put(id, signature);
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.computeIfAbsent(MinHash.bandKey(signature, band), key -> new ArrayList<>(2)).add(id);
+        }
+    }
+
+    public void remove(long id) {
+        int[] previous = signatures.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(previous, band);
+            List<Long> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(Long.valueOf(id));
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    public int[] signature(long id) {
+        return signatures.get(id);
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    /**
+     * Ids whose estimated similarity to the signature reaches the threshold, with that similarity.
+     * Buckets with more than maxBucketSize ids are skipped, as in {@link #pairs}.
+     */
+    public Map<Long, Double> similar(int[] signature, double threshold, int maxBucketSize) {
+        Map<Long, Double> similar = new HashMap<>();
+        Set<Long> compared = new HashSet<>();
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            List<Long> bucket = buckets.get(MinHash.bandKey(signature, band));
+            if (bucket == null || bucket.size() > maxBucketSize) {
+                continue;
+            }
+            for (Long id : bucket) {
+                if (compared.add(id)) {
+                    double similarity = MinHash.similarity(signature, signatures.get(id));
+                    if (similarity >= threshold) {
+                        similar.put(id, similarity);
+                    }
+                }
+            }
+        }
+        return similar;
+    }
+
+    /**
+     * All pairs sharing a bucket whose estimated similarity reaches the threshold. Buckets
+     * with more than maxBucketSize ids are skipped: they hold boilerplate shared by many
+     * (a template resume, a stock skill list), and comparing them is quadratic.
+     */
+    public List<SimilarPair> pairs(double threshold, int maxBucketSize) {
+        List<SimilarPair> pairs = new ArrayList<>();
+        // Pairs sharing several bands are compared once
+        Set<PairKey> compared = new HashSet<>();
+
+        for (List<Long> bucket : buckets.values()) {
+            if (bucket.size() < 2 || bucket.size() > maxBucketSize) {
+                continue;
+            }
+            for (int i = 0; i < bucket.size(); i++) {
+                for (int j = i + 1; j < bucket.size(); j++) {
+                    long first = Math.min(bucket.get(i), bucket.get(j));
+                    long second = Math.max(bucket.get(i), bucket.get(j));
+                    if (!compared.add(new PairKey(first, second))) {
+                        continue;
+                    }
+                    double similarity = MinHash.similarity(signatures.get(first), signatures.get(second));
+                    if (similarity >= threshold) {
+                        pairs.add(new SimilarPair(first, second, similarity));
+                    }
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private record PairKey(long first, long second) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.smarthiring.service.duplicate;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * MinHash signatures: a fixed number of minimum hash values whose agreement rate
+ * between two sets estimates their Jaccard similarity. Signatures are split into
+ * bands for locality-sensitive hashing; two sets land in a shared bucket with
+ * probability 1 - (1 - s^ROWS)^BANDS, about 0.5 at similarity 0.5 and above 0.999
+ * at 0.8.
+ */
+public final class MinHash {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = 4;
+    public static final int SIZE = BANDS * ROWS;
+
+    // Words per resume text shingle
+    static final int SHINGLE_WORDS = 5;
+
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        long seed = 0x5DEECE66DL;
+        for (int i = 0; i < SIZE; i++) {
+            seed = mix(seed + 0x9E3779B97F4A7C15L);
+            SEEDS[i] = seed;
+        }
+    }
+
+    private MinHash() {
+    }
+
+    /**
+     * Signature of a set of 64-bit element hashes; null for an empty set
+     */
+    public static int[] signature(long[] elements, int count) {
+        if (count == 0) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int e = 0; e < count; e++) {
+            long element = elements[e];
+            for (int i = 0; i < SIZE; i++) {
+                int value = (int) (mix(element ^ SEEDS[i]) >>> 33);
+                if (value < signature[i]) {
+                    signature[i] = value;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Signature of the overlapping word shingles of a text; null when it has no words
+     */
+    public static int[] textSignature(String text) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+
+        // Word hashes first, then each shingle folds SHINGLE_WORDS consecutive ones
+        String[] words = text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+");
+        long[] wordHashes = new long[words.length];
+        int wordCount = 0;
+        for (String word : words) {
+            if (!word.isEmpty()) {
+                wordHashes[wordCount++] = mix(word.hashCode() * 0xC2B2AE3D27D4EB4FL + word.length());
+            }
+        }
+        if (wordCount == 0) {
+            return null;
+        }
+
+        int shingleCount = Math.max(1, wordCount - SHINGLE_WORDS + 1);
+        long[] shingles = new long[shingleCount];
+        for (int s = 0; s < shingleCount; s++) {
+            long hash = 0;
+            for (int w = s; w < Math.min(wordCount, s + SHINGLE_WORDS); w++) {
+                hash = mix(hash ^ wordHashes[w]);
+            }
+            shingles[s] = hash;
+        }
+        return signature(shingles, shingleCount);
+    }
+
+    /**
+     * Estimated Jaccard similarity: share of positions where the signatures agree
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    /**
+     * Bucket key of one band; the band number is part of the key
+     */
+    static long bandKey(int[] signature, int band) {
+        long hash = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            hash = mix(hash * 31 + signature[i]);
+        }
+        return hash;
+    }
+
+    public static byte[] toBytes(int[] signature) {
+        if (signature == null) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    /**
+     * Null for missing or malformed bytes (e.g. written with another signature size)
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != SIZE * Integer.BYTES) {
+            return null;
+        }
+        int[] signature = new int[SIZE];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    /**
+     * SplitMix64 finalizer
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
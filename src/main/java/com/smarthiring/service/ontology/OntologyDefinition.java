@@ -0,0 +1,42 @@
+package com.smarthiring.service.ontology;
+
+import com.smarthiring.service.scoring.EducationLevel;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Skill ontology as written in the resource file; compiled into a SkillOntology before use
+ */
+@Data
+@NoArgsConstructor
+public class OntologyDefinition {
+
+    private String version;
+    private Double defaultSkillWeight;                       // Skills without a known category
+    private Map<String, Double> categories = new LinkedHashMap<>();
+    private List<SkillDefinition> skills = new ArrayList<>();
+    private List<String> extractionTerms = new ArrayList<>();    // Looked for in resume text, besides skill names
+    private List<String> upperCaseTerms = new ArrayList<>();     // Displayed in upper case when extracted
+    private List<String> educationKeywords = new ArrayList<>();  // Mark a resume line as education
+    private List<EducationLevelDefinition> educationLevels = new ArrayList<>(); // Highest level first
+
+    @Data
+    @NoArgsConstructor
+    public static class SkillDefinition {
+        private String name;
+        private String category;
+        private List<String> synonyms = new ArrayList<>();
+    }
+
+    @Data
+    @NoArgsConstructor
+    public static class EducationLevelDefinition {
+        private EducationLevel level;
+        private List<String> keywords = new ArrayList<>();
+    }
+}
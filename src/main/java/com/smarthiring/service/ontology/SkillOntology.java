@@ -0,0 +1,478 @@
+package com.smarthiring.service.ontology;
+
+import com.smarthiring.service.scoring.EducationLevel;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Compiled, immutable skill ontology: every lookup matching and extraction need is
+ * resolved when it is built. A reload builds a new instance and swaps it in whole,
+ * so readers holding the old one keep a consistent view.
+ *
+ * <p>Skills resolve to a canonical name, exactly or within a small edit distance
+ * (found through a trigram index over all known terms), and from there to a 64-bit
+ * id. Ids are fingerprints of canonical names, so they stay the same across
+ * ontology versions and unknown skills get one without being registered.
+ * Resolutions are cached per instance.
+ */
+public final class SkillOntology {
+
+    /**
+     * A term looked for in resume text as a whole word, with its display name resolved
+     */
+    public record ExtractionTerm(String term, String displayName) {
+    }
+
+    private record LevelKeywords(EducationLevel level, List<String> keywords) {
+    }
+
+    /**
+     * Canonical name of a term and the ids it satisfies as a candidate skill
+     */
+    private record Resolution(String canonical, long[] candidateIds) {
+    }
+
+    // Resolutions kept per instance; beyond this they are computed on every call
+    private static final int RESOLUTION_CACHE_LIMIT = 100_000;
+
+    // Shorter terms only resolve exactly ("mssql" is not "mysql")
+    private static final int MIN_FUZZY_LENGTH = 6;
+
+    // Longer candidate terms are not split into token spans
+    private static final int MAX_SPAN_TOKENS = 8;
+
+    private static final char PAD = '\u0001';
+
+    private final String version;
+    private final double defaultSkillWeight;
+    private final int skillCount;
+
+    // Normalized skill or synonym -> normalized main skill
+    private final Map<String, String> canonicalSkills;
+    // Normalized main skill -> weight of its category
+    private final Map<String, Double> skillWeights;
+
+    private final List<ExtractionTerm> extractionTerms;
+    private final List<String> educationKeywords;
+    private final List<LevelKeywords> educationLevels;
+
+    // Extraction terms (ids 0..n-1, in order) followed by education keywords
+    private final TermAutomaton textTerms;
+
+    // Known terms (skills and synonyms), their main skills, and trigram -> indexes of the terms containing it
+    private final String[] terms;
+    private final String[] termCanonical;
+    private final Map<Integer, int[]> trigramIndex;
+
+    private final Map<String, Resolution> resolutions = new ConcurrentHashMap<>();
+
+    private SkillOntology(String version, double defaultSkillWeight, int skillCount,
+                          Map<String, String> canonicalSkills,
+                          Map<String, Double> skillWeights, List<ExtractionTerm> extractionTerms,
+                          List<String> educationKeywords, List<LevelKeywords> educationLevels) {
+        this.version = version;
+        this.defaultSkillWeight = defaultSkillWeight;
+        this.skillCount = skillCount;
+        this.canonicalSkills = canonicalSkills;
+        this.skillWeights = skillWeights;
+        this.extractionTerms = extractionTerms;
+        this.educationKeywords = educationKeywords;
+        this.educationLevels = educationLevels;
+        this.textTerms = TermAutomaton.of(Stream.concat(
+                extractionTerms.stream().map(ExtractionTerm::term), educationKeywords.stream()).toList());
+
+        this.terms = canonicalSkills.keySet().stream().sorted().toArray(String[]::new);
+        this.termCanonical = new String[terms.length];
+        Map<Integer, List<Integer>> postings = new HashMap<>();
+        for (int i = 0; i < terms.length; i++) {
+            termCanonical[i] = canonicalSkills.get(terms[i]);
+            for (int trigram : trigrams(terms[i])) {
+                postings.computeIfAbsent(trigram, key -> new ArrayList<>()).add(i);
+            }
+        }
+        Map<Integer, int[]> index = new HashMap<>();
+        postings.forEach((trigram, posting) -> index.put(trigram,
+                posting.stream().mapToInt(Integer::intValue).toArray()));
+        this.trigramIndex = Map.copyOf(index);
+    }
+
+    /**
+     * Validate a definition and build the lookup tables
+     *
+     * @throws IllegalArgumentException if the definition is incomplete or inconsistent
+     */
+    public static SkillOntology compile(OntologyDefinition definition) {
+        if (definition.getVersion() == null || definition.getVersion().isBlank()) {
+            throw new IllegalArgumentException("Skill ontology has no version");
+        }
+        double defaultWeight = definition.getDefaultSkillWeight() != null ? definition.getDefaultSkillWeight() : 0.8;
+        // A zero total weight makes the weighted match 0/0, a negative one skews it
+        checkWeight("defaultSkillWeight", defaultWeight);
+        definition.getCategories().forEach((category, weight) -> checkWeight("category '" + category + "'", weight));
+
+        Map<String, String> canonical = new HashMap<>();
+        Map<String, Double> weights = new HashMap<>();
+        Set<String> names = new HashSet<>();
+
+        for (OntologyDefinition.SkillDefinition skill : definition.getSkills()) {
+            String name = skill.getName() != null ? skill.getName().trim().toLowerCase(Locale.ROOT) : "";
+            if (name.isEmpty() || !names.add(name)) {
+                throw new IllegalArgumentException("Blank or duplicate skill in ontology: '" + skill.getName() + "'");
+            }
+
+            String mainSkill = normalize(name);
+            canonical.put(mainSkill, mainSkill);
+
+            if (skill.getCategory() != null) {
+                Double weight = definition.getCategories().get(skill.getCategory());
+                if (weight == null) {
+                    throw new IllegalArgumentException("Unknown category '" + skill.getCategory()
+                            + "' for skill '" + name + "'");
+                }
+                weights.put(mainSkill, weight);
+            }
+        }
+
+        // Synonyms never override a main skill, and the first skill listing a synonym keeps it
+        for (OntologyDefinition.SkillDefinition skill : definition.getSkills()) {
+            String mainSkill = normalize(skill.getName());
+            for (String synonym : skill.getSynonyms()) {
+                canonical.putIfAbsent(normalize(synonym), mainSkill);
+            }
+        }
+
+        return new SkillOntology(
+                definition.getVersion().trim(),
+                defaultWeight,
+                names.size(),
+                Map.copyOf(canonical),
+                Map.copyOf(weights),
+                compileExtractionTerms(definition, names),
+                lowerCase(definition.getEducationKeywords()),
+                compileEducationLevels(definition)
+        );
+    }
+
+    private static void checkWeight(String name, Double weight) {
+        if (weight == null || !Double.isFinite(weight) || weight <= 0) {
+            throw new IllegalArgumentException("Weight of " + name + " must be a positive number, got " + weight);
+        }
+    }
+
+    private static List<ExtractionTerm> compileExtractionTerms(OntologyDefinition definition, Set<String> skillNames) {
+        Set<String> terms = new LinkedHashSet<>(lowerCase(definition.getExtractionTerms()));
+        definition.getSkills().forEach(skill -> terms.add(skill.getName().trim().toLowerCase(Locale.ROOT)));
+        Set<String> upperCase = new HashSet<>(lowerCase(definition.getUpperCaseTerms()));
+
+        List<ExtractionTerm> compiled = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            compiled.add(new ExtractionTerm(term, displayName(term, upperCase)));
+        }
+        return List.copyOf(compiled);
+    }
+
+    private static List<LevelKeywords> compileEducationLevels(OntologyDefinition definition) {
+        List<LevelKeywords> levels = new ArrayList<>();
+        for (OntologyDefinition.EducationLevelDefinition level : definition.getEducationLevels()) {
+            if (level.getLevel() == null) {
+                throw new IllegalArgumentException("Education level without a level name in ontology");
+            }
+            levels.add(new LevelKeywords(level.getLevel(), lowerCase(level.getKeywords())));
+        }
+        return List.copyOf(levels);
+    }
+
+    private static List<String> lowerCase(List<String> values) {
+        return values.stream()
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty())
+                .toList();
+    }
+
+    private static String displayName(String term, Set<String> upperCase) {
+        if (upperCase.contains(term) || term.length() <= 1) {
+            return term.toUpperCase(Locale.ROOT);
+        }
+        return Character.toUpperCase(term.charAt(0)) + term.substring(1);
+    }
+
+    /**
+     * Normalize skill name for comparison: lower case, anything outside [a-z0-9+#.]
+     * collapsed to a single space, trimmed. Hand-rolled because it runs once per
+     * skill per candidate when the whole pool is scored.
+     */
+    public static String normalize(String skill) {
+        String lower = skill.toLowerCase();
+        StringBuilder normalized = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            boolean kept = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '#' || c == '.';
+            if (!kept) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace && normalized.length() > 0) {
+                normalized.append(' ');
+            }
+            pendingSpace = false;
+            normalized.append(c);
+        }
+
+        return normalized.toString();
+    }
+
+    // ==================== Lookups ====================
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    public int getSynonymCount() {
+        return canonicalSkills.size() - skillCount;
+    }
+
+    /**
+     * Main skill of a normalized skill or synonym, also through a typo or variant
+     * ("kubernets", "java 17"); unknown skills map to themselves
+     */
+    public String canonicalSkill(String normalizedSkill) {
+        return resolve(normalizedSkill).canonical();
+    }
+
+    /**
+     * Id of a required skill: the fingerprint of its canonical name
+     */
+    public long skillId(String normalizedSkill) {
+        return fingerprint(canonicalSkill(normalizedSkill));
+    }
+
+    /**
+     * Ids a candidate skill satisfies: its own, plus those of known skills named by
+     * whole words inside it when it is not known itself ("aws lambda" also gives aws).
+     * Shared; do not modify.
+     */
+    public long[] candidateSkillIds(String normalizedSkill) {
+        return resolve(normalizedSkill).candidateIds();
+    }
+
+    /**
+     * Weight of a skill's category, resolved through its main skill
+     */
+    public double skillWeight(String normalizedSkill) {
+        return skillWeights.getOrDefault(canonicalSkill(normalizedSkill), defaultSkillWeight);
+    }
+
+    // ==================== Resolution ====================
+
+    private Resolution resolve(String term) {
+        Resolution resolution = resolutions.get(term);
+        if (resolution == null) {
+            resolution = computeResolution(term);
+            if (resolutions.size() < RESOLUTION_CACHE_LIMIT) {
+                resolutions.put(term, resolution);
+            }
+        }
+        return resolution;
+    }
+
+    private Resolution computeResolution(String term) {
+        String canonical = canonicalSkills.get(term);
+        if (canonical == null) {
+            canonical = fuzzyCanonical(term);
+        }
+        if (canonical != null) {
+            return new Resolution(canonical, new long[]{fingerprint(canonical)});
+        }
+
+        // Unknown: itself, plus known skills spelled out as whole words inside it
+        Set<String> spans = new LinkedHashSet<>();
+        String[] tokens = term.split(" ");
+        if (tokens.length > 1 && tokens.length <= MAX_SPAN_TOKENS) {
+            for (int from = 0; from < tokens.length; from++) {
+                StringBuilder span = new StringBuilder();
+                for (int to = from; to < tokens.length; to++) {
+                    if (to > from) {
+                        span.append(' ');
+                    }
+                    span.append(tokens[to]);
+                    String known = to - from + 1 < tokens.length ? canonicalSkills.get(span.toString()) : null;
+                    if (known != null) {
+                        spans.add(known);
+                    }
+                }
+            }
+        }
+
+        long[] ids = new long[spans.size() + 1];
+        ids[0] = fingerprint(term);
+        int i = 1;
+        for (String known : spans) {
+            ids[i++] = fingerprint(known);
+        }
+        return new Resolution(term, ids);
+    }
+
+    /**
+     * Main skill of the known term closest to the given one, if it is within the
+     * allowed edit distance and no equally close term means something else
+     */
+    private String fuzzyCanonical(String term) {
+        int maxDistance = maxDistance(term.length());
+        if (maxDistance == 0) {
+            return null;
+        }
+
+        // An edit changes at most three padded trigrams, a transposition four
+        int[] queryTrigrams = trigrams(term);
+        int minShared = queryTrigrams.length - 4 * maxDistance;
+        int[] shared = new int[terms.length];
+        for (int trigram : queryTrigrams) {
+            int[] posting = trigramIndex.get(trigram);
+            if (posting != null) {
+                for (int i : posting) {
+                    shared[i]++;
+                }
+            }
+        }
+
+        String best = null;
+        int bestDistance = maxDistance + 1;
+        boolean ambiguous = false;
+        for (int i = 0; i < terms.length; i++) {
+            if (shared[i] < minShared || shared[i] == 0 || Math.abs(terms[i].length() - term.length()) > maxDistance) {
+                continue;
+            }
+            int distance = editDistance(term, terms[i], maxDistance);
+            if (distance < bestDistance) {
+                best = termCanonical[i];
+                bestDistance = distance;
+                ambiguous = false;
+            } else if (distance == bestDistance && !termCanonical[i].equals(best)) {
+                ambiguous = true;
+            }
+        }
+        return ambiguous ? null : best;
+    }
+
+    private static int maxDistance(int length) {
+        if (length < MIN_FUZZY_LENGTH) {
+            return 0;
+        }
+        return length < 9 ? 1 : 2;
+    }
+
+    /**
+     * Distinct trigrams of the term padded at both ends, as packed chars
+     */
+    private static int[] trigrams(String term) {
+        String padded = "" + PAD + PAD + term + PAD;
+        Set<Integer> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add((padded.charAt(i) & 0xFF) << 16 | (padded.charAt(i + 1) & 0xFF) << 8
+                    | (padded.charAt(i + 2) & 0xFF));
+        }
+        return trigrams.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Edit distance with adjacent transpositions, or maxDistance + 1 once it is certain to exceed it
+     */
+    static int editDistance(String a, String b, int maxDistance) {
+        int[] previous2 = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previous2[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = previous2;
+            previous2 = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[b.length()], maxDistance + 1);
+    }
+
+    /**
+     * 64-bit FNV-1a of a canonical skill name
+     */
+    public static long fingerprint(String canonical) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < canonical.length(); i++) {
+            hash ^= canonical.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // ==================== Extraction and education ====================
+
+    public List<ExtractionTerm> getExtractionTerms() {
+        return extractionTerms;
+    }
+
+    public List<String> getEducationKeywords() {
+        return educationKeywords;
+    }
+
+    /**
+     * Automaton over the extraction terms and then the education keywords: term id i
+     * is extraction term i below {@code getExtractionTerms().size()}, education keyword
+     * {@code i - size} from there
+     */
+    public TermAutomaton getTextTerms() {
+        return textTerms;
+    }
+
+    /**
+     * Highest education level recognised in free text
+     */
+    public EducationLevel educationLevel(String education) {
+        if (education == null || education.isEmpty()) {
+            return EducationLevel.NOT_SPECIFIED;
+        }
+
+        String lowerEducation = education.toLowerCase();
+        for (LevelKeywords level : educationLevels) {
+            for (String keyword : level.keywords()) {
+                if (lowerEducation.contains(keyword)) {
+                    return level.level();
+                }
+            }
+        }
+        return EducationLevel.OTHER;
+    }
+}
@@ -0,0 +1,138 @@
+package com.smarthiring.service.ontology;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton over lower-case terms: one left-to-right pass over a text
+ * reports every occurrence of every term, however many terms there are. Transitions
+ * are a dense table over ASCII, folded to lower case, plus one symbol for any other
+ * character; terms containing other characters are confirmed against the text when
+ * they match.
+ */
+public final class TermAutomaton {
+
+    private static final int OTHER = 128;
+    private static final int ALPHABET = OTHER + 1;
+    private static final int[] NO_MATCHES = new int[0];
+
+    private final String[] terms;
+    private final boolean[] confirm;
+    private final int[] transitions; // state * ALPHABET + symbol -> state
+    private final int[][] matches;   // state -> terms ending there
+
+    private TermAutomaton(String[] terms, boolean[] confirm, int[] transitions, int[][] matches) {
+        this.terms = terms;
+        this.confirm = confirm;
+        this.transitions = transitions;
+        this.matches = matches;
+    }
+
+    /**
+     * Term ids are positions in the list; blank terms never match
+     */
+    public static TermAutomaton of(List<String> terms) {
+        String[] termArray = terms.toArray(String[]::new);
+        boolean[] confirm = new boolean[termArray.length];
+
+        // Trie
+        List<int[]> rows = new ArrayList<>();
+        List<List<Integer>> output = new ArrayList<>();
+        rows.add(newRow());
+        output.add(new ArrayList<>());
+        for (int term = 0; term < termArray.length; term++) {
+            String value = termArray[term];
+            if (value.isEmpty()) {
+                continue;
+            }
+            int state = 0;
+            for (int i = 0; i < value.length(); i++) {
+                int symbol = symbol(value.charAt(i));
+                confirm[term] |= symbol == OTHER;
+                if (rows.get(state)[symbol] < 0) {
+                    rows.get(state)[symbol] = rows.size();
+                    rows.add(newRow());
+                    output.add(new ArrayList<>());
+                }
+                state = rows.get(state)[symbol];
+            }
+            output.get(state).add(term);
+        }
+
+        // Breadth-first: fold failure links into the table and inherit their matches
+        int[] failure = new int[rows.size()];
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int symbol = 0; symbol < ALPHABET; symbol++) {
+            int child = rows.get(0)[symbol];
+            if (child < 0) {
+                rows.get(0)[symbol] = 0;
+            } else {
+                queue.add(child);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            output.get(state).addAll(output.get(failure[state]));
+            for (int symbol = 0; symbol < ALPHABET; symbol++) {
+                int child = rows.get(state)[symbol];
+                int fallback = rows.get(failure[state])[symbol];
+                if (child < 0) {
+                    rows.get(state)[symbol] = fallback;
+                } else {
+                    failure[child] = fallback;
+                    queue.add(child);
+                }
+            }
+        }
+
+        int[] transitions = new int[rows.size() * ALPHABET];
+        int[][] matches = new int[rows.size()][];
+        for (int state = 0; state < rows.size(); state++) {
+            System.arraycopy(rows.get(state), 0, transitions, state * ALPHABET, ALPHABET);
+            matches[state] = output.get(state).isEmpty() ? NO_MATCHES
+                    : output.get(state).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new TermAutomaton(termArray, confirm, transitions, matches);
+    }
+
+    /**
+     * State after reading one more character; start from 0
+     */
+    public int next(int state, char c) {
+        return transitions[state * ALPHABET + symbol(c)];
+    }
+
+    /**
+     * Terms ending at the character that led to this state (do not modify)
+     */
+    public int[] matches(int state) {
+        return matches[state];
+    }
+
+    public int length(int term) {
+        return terms[term].length();
+    }
+
+    /**
+     * Whether the term really occurs at start; only terms with non-ASCII characters can be wrong
+     */
+    public boolean confirm(int term, String text, int start) {
+        return !confirm[term] || text.regionMatches(true, start, terms[term], 0, terms[term].length());
+    }
+
+    private static int symbol(char c) {
+        if (c >= OTHER) {
+            return OTHER;
+        }
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+}
@@ -0,0 +1,237 @@
+package com.smarthiring.service.parsing;
+
+import com.smarthiring.service.ontology.SkillOntology;
+import com.smarthiring.service.ontology.TermAutomaton;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Extracts every stored field from resume text in one pass over its lines. Patterns
+ * are compiled once, lines are matched in place through matcher regions rather than
+ * split into strings, and skills and education keywords are found by one automaton
+ * run instead of a regex scan per term. Phone and experience keep a single scan of
+ * their sections each, as their patterns may run across a line break.
+ * <p>
+ * Each field is read only from the sections it belongs in (see {@link ResumeSection}),
+ * falling back to the whole text when the resume has no such section.
+ */
+public final class ResumeFieldExtractor {
+
+    private static final Pattern EMAIL = Pattern.compile(
+            "[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}", Pattern.CASE_INSENSITIVE);
+
+    // Indian mobile numbers, then US style numbers
+    private static final Pattern PHONE = Pattern.compile(
+            "(\\+91[\\s-]?)?[6-9]\\d{9}|(\\+1[\\s-]?)?\\(?\\d{3}\\)?[\\s-]?\\d{3}[\\s-]?\\d{4}");
+    private static final Pattern PHONE_SEPARATORS = Pattern.compile("[\\s-()]");
+
+    private static final Pattern EXPERIENCE = Pattern.compile(
+            "(\\d+(?:\\.\\d+)?)[+]?\\s*(?:years?|yrs?|\\+)\\s*(?:of)?\\s*(?:experience|exp)?",
+            Pattern.CASE_INSENSITIVE);
+
+    // A name is usually 2-4 words, all letters
+    private static final Pattern NAME = Pattern.compile("[A-Za-z]+(?:\\s+[A-Za-z]+){1,3}");
+    private static final Pattern TEN_DIGITS = Pattern.compile("\\d{10}");
+
+    private static final int MIN_EDUCATION_LINE = 11;
+    private static final int MAX_EDUCATION_LINES = 3;
+
+    private ResumeFieldExtractor() {
+    }
+
+    public static ResumeFields extract(String text, SkillOntology ontology) {
+        return extract(text, ResumeSegmenter.segment(text), ontology);
+    }
+
+    /**
+     * Extract with known section offsets, e.g. those stored with the resume
+     */
+    public static ResumeFields extract(String text, ResumeSections sections, SkillOntology ontology) {
+        if (text == null || text.isEmpty()) {
+            return ResumeFields.EMPTY;
+        }
+        if (sections == null || sections.spans().isEmpty()) {
+            sections = ResumeSegmenter.segment(text);
+        }
+
+        TermAutomaton automaton = ontology.getTextTerms();
+        List<SkillOntology.ExtractionTerm> extractionTerms = ontology.getExtractionTerms();
+        int skillTerms = extractionTerms.size();
+        boolean[] skillFound = new boolean[skillTerms];
+        boolean educationSection = sections.has(ResumeSection.EDUCATION);
+
+        Matcher email = EMAIL.matcher(text);
+        Matcher name = NAME.matcher(text);
+        Matcher tenDigits = TEN_DIGITS.matcher(text);
+        String emailFound = null;
+        String nameFound = null;
+        String emailElsewhere = null;
+        String nameElsewhere = null;
+        List<String> education = new ArrayList<>(MAX_EDUCATION_LINES);
+
+        for (ResumeSections.Span span : sections.spans()) {
+            ResumeSection section = span.section();
+            boolean contact = section.holdsContact();
+            boolean findSkills = section.holdsSkills();
+            boolean findEducation = educationSection ? section.holdsEducation() : section != ResumeSection.OTHER;
+
+            int spanEnd = span.end();
+            int lineStart = span.start();
+            while (lineStart < spanEnd) {
+                int newline = text.indexOf('\n', lineStart);
+                int next = newline < 0 || newline >= spanEnd ? spanEnd : newline + 1;
+                int lineEnd = newline < 0 || newline >= spanEnd ? spanEnd : newline;
+                if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+
+                // Skills and education keywords; the automaton starts fresh on every line
+                boolean educationKeyword = false;
+                if (findSkills || findEducation) {
+                    int state = 0;
+                    for (int i = lineStart; i < lineEnd; i++) {
+                        state = automaton.next(state, text.charAt(i));
+                        for (int term : automaton.matches(state)) {
+                            int start = i + 1 - automaton.length(term);
+                            if (!automaton.confirm(term, text, start)) {
+                                continue;
+                            }
+                            if (term >= skillTerms) {
+                                educationKeyword = true;
+                            } else if (findSkills && !skillFound[term]
+                                    && isBoundary(text, start) && isBoundary(text, i + 1)) {
+                                skillFound[term] = true;
+                            }
+                        }
+                    }
+                }
+
+                int trimmedStart = lineStart;
+                int trimmedEnd = lineEnd;
+                while (trimmedStart < trimmedEnd && text.charAt(trimmedStart) <= ' ') {
+                    trimmedStart++;
+                }
+                while (trimmedEnd > trimmedStart && text.charAt(trimmedEnd - 1) <= ' ') {
+                    trimmedEnd--;
+                }
+
+                if (findEducation && educationKeyword && education.size() < MAX_EDUCATION_LINES
+                        && trimmedEnd - trimmedStart >= MIN_EDUCATION_LINE) {
+                    education.add(text.substring(trimmedStart, trimmedEnd));
+                }
+
+                // Contact sections win; the first hit elsewhere is the fallback
+                boolean wantEmail = contact ? emailFound == null : emailFound == null && emailElsewhere == null;
+                if (wantEmail && lineEnd > lineStart && email.region(lineStart, lineEnd).find()) {
+                    if (contact) {
+                        emailFound = email.group().toLowerCase();
+                    } else {
+                        emailElsewhere = email.group().toLowerCase();
+                    }
+                }
+
+                // Skip lines that look like emails, phones, or URLs
+                boolean wantName = contact ? nameFound == null : nameFound == null && nameElsewhere == null;
+                if (wantName && trimmedEnd > trimmedStart
+                        && indexOf(text, "@", trimmedStart, trimmedEnd) < 0
+                        && indexOf(text, "http", trimmedStart, trimmedEnd) < 0
+                        && !tenDigits.region(trimmedStart, trimmedEnd).find()
+                        && name.region(trimmedStart, trimmedEnd).matches()) {
+                    if (contact) {
+                        nameFound = text.substring(trimmedStart, trimmedEnd);
+                    } else {
+                        nameElsewhere = text.substring(trimmedStart, trimmedEnd);
+                    }
+                }
+
+                lineStart = next;
+            }
+        }
+
+        Set<String> skills = new LinkedHashSet<>();
+        for (int term = 0; term < skillTerms; term++) {
+            if (skillFound[term]) {
+                skills.add(extractionTerms.get(term).displayName());
+            }
+        }
+
+        return new ResumeFields(nameFound != null ? nameFound : nameElsewhere,
+                emailFound != null ? emailFound : emailElsewhere,
+                extractPhone(text, sections), extractExperience(text, sections),
+                String.join("; ", education), String.join(", ", skills), sections);
+    }
+
+    /**
+     * First number in a contact section, else the first one anywhere
+     */
+    private static String extractPhone(String text, ResumeSections sections) {
+        Matcher matcher = PHONE.matcher(text);
+        boolean elsewhere = false;
+        for (ResumeSections.Span span : sections.spans()) {
+            if (!span.section().holdsContact()) {
+                elsewhere = true;
+            } else if (matcher.region(span.start(), span.end()).find()) {
+                return PHONE_SEPARATORS.matcher(matcher.group()).replaceAll("");
+            }
+        }
+        return elsewhere && matcher.reset().find() ? PHONE_SEPARATORS.matcher(matcher.group()).replaceAll("") : null;
+    }
+
+    /**
+     * Largest number of years mentioned in the header, summary and experience sections,
+     * or anywhere when the resume has none of those
+     */
+    private static Double extractExperience(String text, ResumeSections sections) {
+        Matcher matcher = EXPERIENCE.matcher(text);
+        Double maxExperience = null;
+        boolean scoped = false;
+        for (ResumeSections.Span span : sections.spans()) {
+            if (span.section().holdsExperience()) {
+                scoped = true;
+                maxExperience = maxYears(matcher.region(span.start(), span.end()), maxExperience);
+            }
+        }
+        return scoped ? maxExperience : maxYears(matcher.reset(), null);
+    }
+
+    private static Double maxYears(Matcher matcher, Double maxExperience) {
+        while (matcher.find()) {
+            try {
+                double years = Double.parseDouble(matcher.group(1));
+                if (maxExperience == null || years > maxExperience) {
+                    maxExperience = years;
+                }
+            } catch (NumberFormatException e) {
+                // Ignore
+            }
+        }
+        return maxExperience;
+    }
+
+    /**
+     * Same rule as \b in a regex: a word character on exactly one side
+     */
+    private static boolean isBoundary(String text, int index) {
+        boolean before = index > 0 && isWordChar(text.charAt(index - 1));
+        boolean after = index < text.length() && isWordChar(text.charAt(index));
+        return before != after;
+    }
+
+    private static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static int indexOf(String text, String needle, int from, int to) {
+        for (int i = from; i + needle.length() <= to; i++) {
+            if (text.startsWith(needle, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,12 @@
+package com.smarthiring.service.parsing;
+
+/**
+ * Fields extracted from resume text. Skills and education are comma / semicolon
+ * joined strings, empty when nothing was found; the rest are null then. Sections
+ * are the offsets the fields were read from, stored with the resume.
+ */
+public record ResumeFields(String name, String email, String phone, Double experience,
+                           String education, String skills, ResumeSections sections) {
+
+    public static final ResumeFields EMPTY = new ResumeFields(null, null, null, null, "", "", ResumeSections.NONE);
+}
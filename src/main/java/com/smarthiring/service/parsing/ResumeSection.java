@@ -0,0 +1,42 @@
+package com.smarthiring.service.parsing;
+
+/**
+ * Sections a resume is split into by {@link ResumeSegmenter}. HEADER is everything
+ * before the first recognised heading (name, contact line, untitled summary).
+ */
+public enum ResumeSection {
+    HEADER,
+    SUMMARY,
+    CONTACT,
+    EXPERIENCE,
+    EDUCATION,
+    SKILLS,
+    PROJECTS,
+    CERTIFICATIONS,
+    OTHER;      // Hobbies, references, declaration: ignored by every extractor
+
+    /**
+     * Where email, phone and name are looked for first
+     */
+    public boolean holdsContact() {
+        return this == HEADER || this == CONTACT;
+    }
+
+    /**
+     * Where "N years" counts as total experience; education and project dates do not
+     */
+    public boolean holdsExperience() {
+        return this == HEADER || this == SUMMARY || this == EXPERIENCE;
+    }
+
+    public boolean holdsEducation() {
+        return this == EDUCATION;
+    }
+
+    /**
+     * Skills are mentioned in passing almost anywhere but in education and personal sections
+     */
+    public boolean holdsSkills() {
+        return this != EDUCATION && this != CONTACT && this != OTHER;
+    }
+}
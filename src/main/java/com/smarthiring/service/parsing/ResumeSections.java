@@ -0,0 +1,89 @@
+package com.smarthiring.service.parsing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Section spans of one resume text, in text order. Spans hold the body of a section
+ * (the heading line itself is left out) and are stored with the resume in a compact
+ * form, e.g. "1;HEADER:0-84;EXPERIENCE:96-1450", whose leading number is the
+ * segmenter version: offsets written by an older segmenter are not reused.
+ */
+public record ResumeSections(List<Span> spans) {
+
+    public static final int VERSION = 1;
+
+    public static final ResumeSections NONE = new ResumeSections(List.of());
+
+    public record Span(ResumeSection section, int start, int end) {
+    }
+
+    public ResumeSections {
+        spans = List.copyOf(spans);
+    }
+
+    /**
+     * Whether any span belongs to the given section
+     */
+    public boolean has(ResumeSection section) {
+        for (Span span : spans) {
+            if (span.section() == section) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether a heading was recognised at all; otherwise the whole text is one HEADER span
+     */
+    public boolean isSegmented() {
+        return spans.size() > 1 || (spans.size() == 1 && spans.get(0).section() != ResumeSection.HEADER);
+    }
+
+    public String encode() {
+        if (spans.isEmpty()) {
+            return null;
+        }
+        StringBuilder encoded = new StringBuilder().append(VERSION);
+        for (Span span : spans) {
+            encoded.append(';').append(span.section().name())
+                    .append(':').append(span.start()).append('-').append(span.end());
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Stored offsets, or null when missing, written by another segmenter version,
+     * malformed or not fitting a text of the given length
+     */
+    public static ResumeSections decode(String encoded, int textLength) {
+        if (encoded == null || encoded.isEmpty()) {
+            return null;
+        }
+        String[] parts = encoded.split(";");
+        if (!parts[0].equals(String.valueOf(VERSION))) {
+            return null;
+        }
+
+        List<Span> spans = new ArrayList<>(parts.length - 1);
+        int previousEnd = 0;
+        try {
+            for (int i = 1; i < parts.length; i++) {
+                int colon = parts[i].indexOf(':');
+                int dash = parts[i].indexOf('-', colon);
+                ResumeSection section = ResumeSection.valueOf(parts[i].substring(0, colon));
+                int start = Integer.parseInt(parts[i].substring(colon + 1, dash));
+                int end = Integer.parseInt(parts[i].substring(dash + 1));
+                if (start < previousEnd || end < start || end > textLength) {
+                    return null;
+                }
+                spans.add(new Span(section, start, end));
+                previousEnd = end;
+            }
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            return null;
+        }
+        return new ResumeSections(spans);
+    }
+}
@@ -0,0 +1,120 @@
+package com.smarthiring.service.parsing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits resume text into sections in one pass over its lines. A heading is a short
+ * line made of a known section title only ("Work Experience", "EDUCATION:", "# Skills");
+ * everything up to the next heading is that section's body. Unknown titles are not
+ * headings, so their lines stay with the section before them.
+ */
+public final class ResumeSegmenter {
+
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private static final Map<String, ResumeSection> HEADINGS = new HashMap<>();
+
+    static {
+        headings(ResumeSection.SUMMARY, "summary", "professional summary", "career summary", "profile summary",
+                "profile", "professional profile", "objective", "career objective", "about me");
+        headings(ResumeSection.CONTACT, "contact", "contact details", "contact information", "personal details",
+                "personal information", "personal profile");
+        headings(ResumeSection.EXPERIENCE, "experience", "work experience", "professional experience",
+                "relevant experience", "employment", "employment history", "work history", "career history",
+                "internship", "internships", "internship experience");
+        headings(ResumeSection.EDUCATION, "education", "academic background", "academics", "qualifications",
+                "educational qualification", "educational qualifications", "academic qualifications",
+                "education and training", "educational background");
+        headings(ResumeSection.SKILLS, "skills", "technical skills", "key skills", "core skills", "skill set",
+                "skillset", "core competencies", "technologies", "tools and technologies", "technical expertise");
+        headings(ResumeSection.PROJECTS, "projects", "academic projects", "personal projects", "key projects",
+                "project experience", "selected projects");
+        headings(ResumeSection.CERTIFICATIONS, "certifications", "certificates", "courses", "training",
+                "licenses and certifications", "certifications and training");
+        headings(ResumeSection.OTHER, "hobbies", "interests", "hobbies and interests", "references",
+                "declaration", "languages known", "extracurricular activities");
+    }
+
+    private ResumeSegmenter() {
+    }
+
+    private static void headings(ResumeSection section, String... titles) {
+        for (String title : titles) {
+            HEADINGS.put(title, section);
+        }
+    }
+
+    public static ResumeSections segment(String text) {
+        if (text == null || text.isEmpty()) {
+            return ResumeSections.NONE;
+        }
+
+        List<ResumeSections.Span> spans = new ArrayList<>();
+        ResumeSection current = ResumeSection.HEADER;
+        int bodyStart = 0;
+
+        int length = text.length();
+        int lineStart = 0;
+        while (lineStart < length) {
+            int newline = text.indexOf('\n', lineStart);
+            int lineEnd = newline < 0 ? length : newline;
+            int next = newline < 0 ? length : newline + 1;
+
+            ResumeSection heading = heading(text, lineStart, lineEnd);
+            if (heading != null) {
+                if (lineStart > bodyStart) {
+                    spans.add(new ResumeSections.Span(current, bodyStart, lineStart));
+                }
+                current = heading;
+                bodyStart = next;
+            }
+
+            lineStart = next;
+        }
+        if (length > bodyStart || spans.isEmpty()) {
+            spans.add(new ResumeSections.Span(current, bodyStart, length));
+        }
+
+        return new ResumeSections(spans);
+    }
+
+    /**
+     * The section a line is the heading of, or null. Bullets, numbering and a trailing
+     * colon are ignored, "&" reads as "and" and case and inner spacing do not matter.
+     */
+    static ResumeSection heading(String text, int from, int to) {
+        while (from < to && !Character.isLetter(text.charAt(from))) {
+            from++;
+        }
+        while (to > from && !Character.isLetter(text.charAt(to - 1))) {
+            to--;
+        }
+        if (to == from || to - from > MAX_HEADING_LENGTH) {
+            return null;
+        }
+
+        StringBuilder title = new StringBuilder(to - from + 4);
+        boolean space = false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetter(c)) {
+                if (space && !title.isEmpty()) {
+                    title.append(' ');
+                }
+                title.append(Character.toLowerCase(c));
+                space = false;
+            } else if (c == '&') {
+                title.append(title.isEmpty() ? "" : " ").append("and");
+                space = true;
+            } else if (c == ' ' || c == '\t' || c == '/') {
+                space = true;
+            } else {
+                return null;
+            }
+        }
+        return HEADINGS.get(title.toString());
+    }
+}
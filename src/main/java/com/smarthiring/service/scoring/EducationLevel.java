@@ -0,0 +1,29 @@
+package com.smarthiring.service.scoring;
+
+/**
+ * Education level with its score; the keywords recognising each level live in the skill ontology
+ */
+public enum EducationLevel {
+    DOCTORATE("PhD/Doctorate", 1.0),
+    MASTERS("Master's degree", 0.9),
+    BACHELORS("Bachelor's degree", 0.8),
+    DIPLOMA("Diploma", 0.6),
+    OTHER("Found", 0.5),
+    NOT_SPECIFIED("Not specified", 0.5);
+
+    private final String displayName;
+    private final double score;
+
+    EducationLevel(String displayName, double score) {
+        this.displayName = displayName;
+        this.score = score;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
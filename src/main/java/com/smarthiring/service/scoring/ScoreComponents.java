@@ -0,0 +1,25 @@
+package com.smarthiring.service.scoring;
+
+/**
+ * Individual signal scores (each 0.0 - 1.0) that make up an AI score
+ */
+public record ScoreComponents(
+        double skill,
+        double experience,
+        double education,
+        double resumeQuality,
+        double recency
+) {
+
+    /**
+     * Weighted total as a percentage (0-100), unrounded
+     */
+    public double total(ScoringWeights weights) {
+        double total = skill * weights.skill()
+                + experience * weights.experience()
+                + education * weights.education()
+                + resumeQuality * weights.resumeQuality()
+                + recency * weights.recency();
+        return total * 100;
+    }
+}
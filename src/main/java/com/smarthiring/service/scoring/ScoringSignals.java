@@ -0,0 +1,113 @@
+package com.smarthiring.service.scoring;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * Pure scoring functions shared by application scoring and pool-wide sourcing.
+ * Inputs are plain values so callers can feed them from entities or projections.
+ */
+public final class ScoringSignals {
+
+    /**
+     * Version of the signal definitions below. Bump when any of them changes meaning:
+     * stored components from an older version are ignored and need a full re-score.
+     */
+    public static final int MODEL_VERSION = 2;
+
+    /**
+     * Most a candidate's skill score can gain from matching all nice-to-have skills
+     */
+    public static final double NICE_TO_HAVE_MAX_BONUS = 0.10;
+
+    /**
+     * Application age (days) after which the recency score steps down: 1.0, 0.9, 0.7, then 0.5
+     */
+    public static final List<Integer> RECENCY_STEP_DAYS = List.of(1, 7, 30);
+
+    private ScoringSignals() {
+    }
+
+    /**
+     * Experience fit: 1.0 inside the range, -0.2 per missing year, 0.85 when over-qualified
+     */
+    public static double experienceScore(Double years, Integer minExp, Integer maxExp) {
+        if (years == null) {
+            return 0.5; // Neutral score if not specified
+        }
+
+        // No requirements specified
+        if (minExp == null && maxExp == null) {
+            return 1.0;
+        }
+
+        int min = minExp != null ? minExp : 0;
+        int max = maxExp != null ? maxExp : 50;
+
+        if (years >= min && years <= max) {
+            return 1.0;
+        } else if (years < min) {
+            double deficit = min - years;
+            return Math.max(0, 1 - (deficit * 0.2));
+        }
+        return 0.85;
+    }
+
+    /**
+     * Resume quality from parsed text length and number of extracted skills
+     */
+    public static double resumeQualityScore(boolean hasResume, int parsedTextLength, int extractedSkillCount) {
+        if (!hasResume) {
+            return 0.0;
+        }
+
+        double score = 0.5; // Base score for having a resume
+
+        if (parsedTextLength > 2000) {
+            score = 1.0; // Detailed resume
+        } else if (parsedTextLength > 1000) {
+            score = 0.8;
+        } else if (parsedTextLength > 500) {
+            score = 0.6;
+        }
+
+        // Bonus for extracted skills
+        if (extractedSkillCount > 10) {
+            score = Math.min(1.0, score + 0.1);
+        }
+
+        return score;
+    }
+
+    /**
+     * Newer applications get a slight boost; no application date is neutral
+     */
+    public static double recencyScore(LocalDateTime appliedAt) {
+        if (appliedAt == null) {
+            return 0.5;
+        }
+
+        long daysAgo = ChronoUnit.DAYS.between(appliedAt.toLocalDate(), LocalDate.now());
+
+        if (daysAgo <= RECENCY_STEP_DAYS.get(0)) {
+            return 1.0;
+        } else if (daysAgo <= RECENCY_STEP_DAYS.get(1)) {
+            return 0.9;
+        } else if (daysAgo <= RECENCY_STEP_DAYS.get(2)) {
+            return 0.7;
+        }
+        return 0.5;
+    }
+
+    /**
+     * Number of entries in a comma-separated list, counted the way String.split does
+     */
+    public static int countListEntries(String list) {
+        if (list == null || list.isEmpty()) {
+            return 0;
+        }
+        return list.split(",").length;
+    }
+}
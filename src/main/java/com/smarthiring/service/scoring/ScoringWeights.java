@@ -0,0 +1,37 @@
+package com.smarthiring.service.scoring;
+
+/**
+ * Relative weight of each scoring signal; the defaults sum to 1.0
+ */
+public record ScoringWeights(
+        double skill,
+        double experience,
+        double education,
+        double resumeQuality,
+        double recency
+) {
+
+    public static final ScoringWeights DEFAULT = new ScoringWeights(
+            0.50,   // 50% weight for skills
+            0.25,   // 25% weight for experience
+            0.10,   // 10% weight for education
+            0.10,   // 10% for resume quality
+            0.05    // 5% for application recency
+    );
+
+    public double sum() {
+        return skill + experience + education + resumeQuality + recency;
+    }
+
+    /**
+     * Same proportions scaled to sum to 1.0, so totals stay on the 0-100 scale
+     */
+    public ScoringWeights normalized() {
+        double sum = sum();
+        if (Math.abs(sum - 1.0) < 1e-9) {
+            return this;    // Already normalized; avoid rounding noise
+        }
+        return new ScoringWeights(skill / sum, experience / sum, education / sum,
+                resumeQuality / sum, recency / sum);
+    }
+}
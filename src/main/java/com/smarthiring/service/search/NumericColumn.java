@@ -0,0 +1,87 @@
+package com.smarthiring.service.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+
+/**
+ * Immutable column of (value, id) pairs sorted by value; a range lookup is two
+ * binary searches plus a contiguous copy of ids. Rows without a value are not stored.
+ */
+public final class NumericColumn {
+
+    private final double[] values;
+    private final int[] ids;
+
+    private NumericColumn(double[] values, int[] ids) {
+        this.values = values;
+        this.ids = ids;
+    }
+
+    /**
+     * Build from unsorted parallel arrays (taken over, not copied)
+     */
+    public static NumericColumn of(double[] values, int[] ids, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+
+        double[] sortedValues = new double[size];
+        int[] sortedIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedValues[i] = values[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+        return new NumericColumn(sortedValues, sortedIds);
+    }
+
+    /**
+     * Ids whose value lies in [min, max]; a null bound is open
+     */
+    public RoaringBitmap range(Double min, Double max) {
+        int from = min != null ? lowerBound(min) : 0;
+        int to = max != null ? upperBound(max) : values.length;
+
+        RoaringBitmap result = new RoaringBitmap();
+        if (from < to) {
+            result.add(Arrays.copyOfRange(ids, from, to));
+        }
+        return result;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    // First index with value >= key
+    private int lowerBound(double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // First index with value > key
+    private int upperBound(double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
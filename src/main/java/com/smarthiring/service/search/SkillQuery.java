@@ -0,0 +1,105 @@
+package com.smarthiring.service.search;
+
+import com.smarthiring.exception.BadRequestException;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Boolean skill expression such as {@code java AND (spring OR hibernate) AND NOT php}.
+ * <p>
+ * Grammar (operators are case-insensitive, a comma means AND):
+ * <pre>
+ *   or     := and ( OR and )*
+ *   and    := unary ( (AND | ,) unary )*
+ *   unary  := NOT unary | '(' or ')' | skill
+ *   skill  := word+ | "quoted text"
+ * </pre>
+ * Adjacent words form one skill, so {@code spring boot AND aws} is two terms.
+ */
+public sealed interface SkillQuery {
+
+    /**
+     * Evaluate to the set of matching ids
+     *
+     * @param skillLookup bitmap of ids having a skill (never modified)
+     * @param universe    all indexed ids, used to resolve a bare NOT
+     */
+    RoaringBitmap evaluate(Function<String, RoaringBitmap> skillLookup, RoaringBitmap universe);
+
+    record Skill(String name) implements SkillQuery {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> skillLookup, RoaringBitmap universe) {
+            RoaringBitmap ids = skillLookup.apply(name);
+            return ids != null ? ids.clone() : new RoaringBitmap();
+        }
+    }
+
+    record Not(SkillQuery operand) implements SkillQuery {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> skillLookup, RoaringBitmap universe) {
+            return RoaringBitmap.andNot(universe, operand.evaluate(skillLookup, universe));
+        }
+    }
+
+    record Or(List<SkillQuery> operands) implements SkillQuery {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> skillLookup, RoaringBitmap universe) {
+            RoaringBitmap result = new RoaringBitmap();
+            for (SkillQuery operand : operands) {
+                result.or(operand.evaluate(skillLookup, universe));
+            }
+            return result;
+        }
+    }
+
+    record And(List<SkillQuery> operands) implements SkillQuery {
+        @Override
+        public RoaringBitmap evaluate(Function<String, RoaringBitmap> skillLookup, RoaringBitmap universe) {
+            List<RoaringBitmap> included = new ArrayList<>();
+            List<RoaringBitmap> excluded = new ArrayList<>();
+
+            for (SkillQuery operand : operands) {
+                // NOT inside AND becomes a subtraction instead of a complement of the universe
+                if (operand instanceof Not not) {
+                    excluded.add(not.operand().evaluate(skillLookup, universe));
+                } else {
+                    included.add(operand.evaluate(skillLookup, universe));
+                }
+            }
+
+            RoaringBitmap result;
+            if (included.isEmpty()) {
+                result = universe.clone();
+            } else {
+                // Smallest first keeps every intermediate result small
+                included.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+                result = included.get(0);
+                for (int i = 1; i < included.size() && !result.isEmpty(); i++) {
+                    result.and(included.get(i));
+                }
+            }
+
+            for (RoaringBitmap ids : excluded) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result.andNot(ids);
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Parse an expression; throws BadRequestException on a syntax error
+     */
+    static SkillQuery parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new BadRequestException("Skill query must not be empty");
+        }
+        return new SkillQueryParser(expression).parse();
+    }
+}
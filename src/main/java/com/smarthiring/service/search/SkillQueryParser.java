@@ -0,0 +1,125 @@
+package com.smarthiring.service.search;
+
+import com.smarthiring.exception.BadRequestException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Recursive-descent parser for {@link SkillQuery}
+ */
+final class SkillQueryParser {
+
+    private final List<Token> tokens;
+    private int position;
+
+    SkillQueryParser(String expression) {
+        this.tokens = tokenize(expression);
+    }
+
+    SkillQuery parse() {
+        SkillQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw new BadRequestException("Unexpected '" + tokens.get(position).text() + "' in skill query");
+        }
+        return query;
+    }
+
+    private SkillQuery parseOr() {
+        List<SkillQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (accept("OR")) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new SkillQuery.Or(operands);
+    }
+
+    private SkillQuery parseAnd() {
+        List<SkillQuery> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (accept("AND") || accept(",")) {
+            operands.add(parseUnary());
+        }
+        return operands.size() == 1 ? operands.get(0) : new SkillQuery.And(operands);
+    }
+
+    private SkillQuery parseUnary() {
+        if (accept("NOT")) {
+            return new SkillQuery.Not(parseUnary());
+        }
+        if (accept("(")) {
+            SkillQuery inner = parseOr();
+            if (!accept(")")) {
+                throw new BadRequestException("Missing ')' in skill query");
+            }
+            return inner;
+        }
+
+        StringBuilder name = new StringBuilder();
+        while (position < tokens.size() && !tokens.get(position).isOperator()) {
+            if (name.length() > 0) {
+                name.append(' ');
+            }
+            name.append(tokens.get(position++).text());
+        }
+        if (name.length() == 0) {
+            throw new BadRequestException(position < tokens.size()
+                    ? "Expected a skill before '" + tokens.get(position).text() + "' in skill query"
+                    : "Skill query ends with an operator");
+        }
+        return new SkillQuery.Skill(name.toString());
+    }
+
+    private boolean accept(String operator) {
+        if (position < tokens.size() && tokens.get(position).isOperator()
+                && tokens.get(position).text().equalsIgnoreCase(operator)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static List<Token> tokenize(String expression) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+
+        while (i < expression.length()) {
+            char c = expression.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')' || c == ',') {
+                tokens.add(new Token(String.valueOf(c), false));
+                i++;
+            } else if (c == '"') {
+                int end = expression.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new BadRequestException("Unterminated quote in skill query");
+                }
+                // Quoted text is one skill even if it spells an operator
+                tokens.add(new Token(expression.substring(i + 1, end).trim(), true));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < expression.length() && !Character.isWhitespace(expression.charAt(i))
+                        && "(),\"".indexOf(expression.charAt(i)) < 0) {
+                    i++;
+                }
+                tokens.add(new Token(expression.substring(start, i), false));
+            }
+        }
+        return tokens;
+    }
+
+    private record Token(String text, boolean quoted) {
+
+        boolean isOperator() {
+            if (quoted) {
+                return false;
+            }
+            String upper = text.toUpperCase(Locale.ROOT);
+            return upper.equals("AND") || upper.equals("OR") || upper.equals("NOT")
+                    || text.equals("(") || text.equals(")") || text.equals(",");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.smarthiring.service.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+
+/**
+ * Immutable column of (value, id) pairs sorted by value for exact-match lookups.
+ * Values are expected to be normalized by the caller.
+ */
+public final class TextColumn {
+
+    private final String[] values;
+    private final int[] ids;
+
+    private TextColumn(String[] values, int[] ids) {
+        this.values = values;
+        this.ids = ids;
+    }
+
+    /**
+     * Build from unsorted parallel arrays (taken over, not copied)
+     */
+    public static TextColumn of(String[] values, int[] ids, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> values[a].compareTo(values[b]));
+
+        String[] sortedValues = new String[size];
+        int[] sortedIds = new int[size];
+        for (int i = 0; i < size; i++) {
+            sortedValues[i] = values[order[i]];
+            sortedIds[i] = ids[order[i]];
+        }
+        return new TextColumn(sortedValues, sortedIds);
+    }
+
+    /**
+     * Ids whose value equals the key
+     */
+    public RoaringBitmap equalTo(String key) {
+        int from = bound(key, false);
+        int to = bound(key, true);
+
+        RoaringBitmap result = new RoaringBitmap();
+        if (from < to) {
+            result.add(Arrays.copyOfRange(ids, from, to));
+        }
+        return result;
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    // First index with value >= key (or > key when inclusive)
+    private int bound(String key, boolean inclusive) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = values[mid].compareTo(key);
+            if (cmp < 0 || (inclusive && cmp == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
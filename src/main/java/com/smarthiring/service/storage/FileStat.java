@@ -0,0 +1,7 @@
+package com.smarthiring.service.storage;
+
+/**
+ * Size and last-modified time (epoch millis) of a stored object
+ */
+public record FileStat(long size, long lastModified) {
+}
@@ -0,0 +1,67 @@
+package com.smarthiring.service.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Blob storage backend for uploaded files.
+ * Keys are relative paths (e.g. {@code ab/cd/<sha256>.pdf}); reference counting lives in FileStorageService.
+ */
+public interface FileStore {
+
+    /**
+     * Key prefix holding orphans awaiting deletion
+     */
+    String QUARANTINE_PREFIX = ".quarantine/";
+
+    /**
+     * Local directory where uploads are spooled and hashed before they get their final key
+     */
+    Path stagingDirectory(StorageArea area) throws IOException;
+
+    /**
+     * Publish a staged file under the given key unless an object already exists there.
+     * The staged file is consumed either way. Returns true if the content was written.
+     */
+    boolean putIfAbsent(StorageArea area, String key, Path stagedFile) throws IOException;
+
+    /**
+     * Open a stream positioned at offset. Implementations may return more than length bytes;
+     * callers must stop reading after length (a negative length means "to the end").
+     */
+    InputStream open(StorageArea area, String key, long offset, long length) throws IOException;
+
+    default InputStream open(StorageArea area, String key) throws IOException {
+        return open(area, key, 0, -1);
+    }
+
+    Optional<FileStat> stat(StorageArea area, String key) throws IOException;
+
+    boolean delete(StorageArea area, String key) throws IOException;
+
+    /**
+     * Lazily list objects whose key starts with prefix. An empty prefix lists the live area and
+     * skips internal prefixes (staging, quarantine). The stream must be closed.
+     */
+    Stream<StoredObject> list(StorageArea area, String prefix) throws IOException;
+
+    /**
+     * Move an object to another key. The moved object gets a fresh modification time.
+     */
+    void move(StorageArea area, String fromKey, String toKey) throws IOException;
+
+    /**
+     * Path on the local filesystem, when the backend has one (enables sendfile)
+     */
+    default Optional<Path> localPath(StorageArea area, String key) {
+        return Optional.empty();
+    }
+
+    /**
+     * Human readable location stored alongside the row (absolute path or s3:// URI)
+     */
+    String locationOf(StorageArea area, String key);
+}
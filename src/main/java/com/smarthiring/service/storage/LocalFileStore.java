@@ -0,0 +1,176 @@
+package com.smarthiring.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Filesystem store. Keys are sharded sub-paths so no single directory grows unbounded,
+ * and objects only appear under their final name through an atomic rename.
+ */
+@Slf4j
+public class LocalFileStore implements FileStore {
+
+    private static final String STAGING_DIR = ".staging";
+
+    private final Map<StorageArea, Path> roots;
+
+    public LocalFileStore(Map<StorageArea, Path> roots) {
+        this.roots = new EnumMap<>(roots);
+    }
+
+    @Override
+    public Path stagingDirectory(StorageArea area) throws IOException {
+        // Same filesystem as the final location so the publish step is a rename
+        return Files.createDirectories(root(area).resolve(STAGING_DIR));
+    }
+
+    @Override
+    public boolean putIfAbsent(StorageArea area, String key, Path stagedFile) throws IOException {
+        Path target = resolve(area, key);
+
+        if (Files.exists(target)) {
+            Files.deleteIfExists(stagedFile);
+            return false;
+        }
+
+        Files.createDirectories(target.getParent());
+
+        try {
+            Files.move(stagedFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Staging dir on another volume: copy next to the target, then rename
+            Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+            try {
+                Files.copy(stagedFile, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+                Files.deleteIfExists(stagedFile);
+            }
+        } catch (FileAlreadyExistsException e) {
+            // Identical content published concurrently
+            Files.deleteIfExists(stagedFile);
+            return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public InputStream open(StorageArea area, String key, long offset, long length) throws IOException {
+        InputStream in = Files.newInputStream(resolve(area, key));
+        try {
+            in.skipNBytes(offset);
+            return in;
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public Optional<FileStat> stat(StorageArea area, String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(area, key), BasicFileAttributes.class);
+            return Optional.of(new FileStat(attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public boolean delete(StorageArea area, String key) throws IOException {
+        return Files.deleteIfExists(resolve(area, key));
+    }
+
+    @Override
+    public Stream<StoredObject> list(StorageArea area, String prefix) throws IOException {
+        Path root = root(area);
+        Path start = prefix.isEmpty() ? root : root.resolve(prefix).normalize();
+
+        if (!start.startsWith(root) || !Files.isDirectory(start)) {
+            return Stream.empty();
+        }
+
+        Path staging = root.resolve(STAGING_DIR);
+        Path quarantine = root.resolve(QUARANTINE_PREFIX);
+
+        return Files.walk(start)
+                .filter(path -> !prefix.isEmpty() || (!path.startsWith(staging) && !path.startsWith(quarantine)))
+                .filter(Files::isRegularFile)
+                .map(path -> toStoredObject(root, path))
+                .filter(Objects::nonNull);
+    }
+
+    private StoredObject toStoredObject(Path root, Path path) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String key = root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+            return new StoredObject(key, attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            // Removed while walking
+            return null;
+        }
+    }
+
+    @Override
+    public void move(StorageArea area, String fromKey, String toKey) throws IOException {
+        Path source = resolve(area, fromKey);
+        Path target = resolve(area, toKey);
+
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        Files.setLastModifiedTime(target, FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    @Override
+    public Optional<Path> localPath(StorageArea area, String key) {
+        Path path = resolve(area, key);
+        return Files.isReadable(path) ? Optional.of(path) : Optional.empty();
+    }
+
+    @Override
+    public String locationOf(StorageArea area, String key) {
+        return resolve(area, key).toString();
+    }
+
+    /**
+     * Resolve a key under the area root, rejecting keys that escape it
+     */
+    private Path resolve(StorageArea area, String key) {
+        Path root = root(area);
+        Path path = root.resolve(key).normalize();
+
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return path;
+    }
+
+    private Path root(StorageArea area) {
+        Path root = roots.get(area);
+        if (root == null) {
+            throw new IllegalStateException("No directory configured for " + area);
+        }
+        return root;
+    }
+}
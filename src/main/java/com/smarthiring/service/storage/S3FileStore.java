@@ -0,0 +1,165 @@
+package com.smarthiring.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * S3-compatible object store (AWS S3, MinIO, ...). Uploads are spooled locally for hashing,
+ * then PUT under area prefix + key; S3 PUTs are atomic so no temp object is needed.
+ */
+@Slf4j
+public class S3FileStore implements FileStore {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final Path stagingRoot;
+
+    public S3FileStore(S3Client s3Client, String bucket, Path stagingRoot) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.stagingRoot = stagingRoot;
+    }
+
+    @Override
+    public Path stagingDirectory(StorageArea area) throws IOException {
+        return Files.createDirectories(stagingRoot.resolve(area.getPrefix()));
+    }
+
+    @Override
+    public boolean putIfAbsent(StorageArea area, String key, Path stagedFile) throws IOException {
+        String objectKey = objectKey(area, key);
+
+        try {
+            if (head(objectKey).isPresent()) {
+                return false;
+            }
+
+            s3Client.putObject(builder -> builder.bucket(bucket).key(objectKey), RequestBody.fromFile(stagedFile));
+            log.debug("Uploaded s3://{}/{}", bucket, objectKey);
+            return true;
+
+        } catch (S3Exception e) {
+            throw new IOException("Could not upload " + objectKey + ": " + e.getMessage(), e);
+        } finally {
+            Files.deleteIfExists(stagedFile);
+        }
+    }
+
+    @Override
+    public InputStream open(StorageArea area, String key, long offset, long length) throws IOException {
+        String objectKey = objectKey(area, key);
+        GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucket).key(objectKey);
+
+        if (offset > 0 || length >= 0) {
+            request.range("bytes=" + offset + "-" + (length >= 0 ? String.valueOf(offset + length - 1) : ""));
+        }
+
+        try {
+            return s3Client.getObject(request.build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(objectKey);
+        } catch (S3Exception e) {
+            throw new IOException("Could not read " + objectKey + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<FileStat> stat(StorageArea area, String key) throws IOException {
+        try {
+            return head(objectKey(area, key)).map(head -> new FileStat(
+                    head.contentLength(),
+                    head.lastModified() != null ? head.lastModified().toEpochMilli() : 0L));
+        } catch (S3Exception e) {
+            throw new IOException("Could not stat " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean delete(StorageArea area, String key) throws IOException {
+        String objectKey = objectKey(area, key);
+        try {
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(objectKey));
+            return true;
+        } catch (S3Exception e) {
+            throw new IOException("Could not delete " + objectKey + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Stream<StoredObject> list(StorageArea area, String prefix) throws IOException {
+        String areaPrefix = area.getPrefix() + "/";
+
+        try {
+            // Pages are fetched on demand while the stream is consumed
+            return s3Client.listObjectsV2Paginator(builder -> builder.bucket(bucket).prefix(areaPrefix + prefix))
+                    .contents()
+                    .stream()
+                    .map(object -> toStoredObject(areaPrefix, object))
+                    .filter(object -> !prefix.isEmpty() || !object.key().startsWith(QUARANTINE_PREFIX));
+        } catch (S3Exception e) {
+            throw new IOException("Could not list " + areaPrefix + prefix + ": " + e.getMessage(), e);
+        }
+    }
+
+    private StoredObject toStoredObject(String areaPrefix, S3Object object) {
+        return new StoredObject(
+                object.key().substring(areaPrefix.length()),
+                object.size(),
+                object.lastModified() != null ? object.lastModified().toEpochMilli() : 0L);
+    }
+
+    @Override
+    public void move(StorageArea area, String fromKey, String toKey) throws IOException {
+        String source = objectKey(area, fromKey);
+        String target = objectKey(area, toKey);
+
+        try {
+            // S3 has no rename: server-side copy, then delete the source
+            s3Client.copyObject(builder -> builder
+                    .sourceBucket(bucket).sourceKey(source)
+                    .destinationBucket(bucket).destinationKey(target));
+            s3Client.deleteObject(builder -> builder.bucket(bucket).key(source));
+        } catch (S3Exception e) {
+            throw new IOException("Could not move " + source + " to " + target + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String locationOf(StorageArea area, String key) {
+        return "s3://" + bucket + "/" + objectKey(area, key);
+    }
+
+    private Optional<HeadObjectResponse> head(String objectKey) {
+        try {
+            return Optional.of(s3Client.headObject(builder -> builder.bucket(bucket).key(objectKey)));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    private String objectKey(StorageArea area, String key) {
+        if (key.startsWith("/") || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid storage key: " + key);
+        }
+        return area.getPrefix() + "/" + key;
+    }
+}
@@ -0,0 +1,19 @@
+package com.smarthiring.service.storage;
+
+/**
+ * Logical areas of the file store (a directory locally, a key prefix on S3)
+ */
+public enum StorageArea {
+    RESUMES("resumes"),
+    PROFILES("profiles");
+
+    private final String prefix;
+
+    StorageArea(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+}
@@ -0,0 +1,7 @@
+package com.smarthiring.service.storage;
+
+/**
+ * An object found while listing the store
+ */
+public record StoredObject(String key, long size, long lastModified) {
+}
@@ -27,4 +27,30 @@ public final class AppConstants {
     public static final String NOTIFICATION_APPLICATION_STATUS = "Your application status has been updated to %s";
     public static final String NOTIFICATION_SHORTLISTED = "Congratulations! You have been shortlisted for %s";
     public static final String NOTIFICATION_INTERVIEW = "Interview scheduled for %s on %s";
+
+    // Spring caches (names also listed in spring.cache.cache-names so their metrics are registered)
+    public static final String CACHE_FEATURED_JOBS = "featuredJobs";
+    public static final String CACHE_RECENT_JOBS = "recentJobs";
+    public static final String CACHE_JOB_LOCATIONS = "jobLocations";
+    public static final String CACHE_JOB_DEPARTMENTS = "jobDepartments";
+
+    // Metrics (Micrometer names; Prometheus shows them with dots as underscores)
+    public static final String METRIC_SCORING = "smarthiring.scoring";              // One application
+    public static final String METRIC_SCORING_BATCH = "smarthiring.scoring.batch";  // Tag: operation
+    public static final String METRIC_SCORING_BATCH_SIZE = "smarthiring.scoring.batch.size";
+    public static final String METRIC_RESUME_PARSE = "smarthiring.resume.parse";    // Tags: file_type, outcome
+    public static final String METRIC_RESUME_EXTRACT = "smarthiring.resume.extract";
+    public static final String METRIC_SEARCH = "smarthiring.search";                // Tags: target, source
+    public static final String METRIC_JWT_VALIDATION = "smarthiring.jwt.validation"; // Tag: outcome
+    public static final String METRIC_EMAIL_SEND = "smarthiring.email.send";        // Tag: outcome
+    public static final String METRIC_EXECUTOR_REJECTED = "executor.rejected";      // Tag: name
+    public static final String METRIC_REQUESTS_REJECTED = "smarthiring.http.requests.rejected";
+    public static final String METRIC_RESPONSE_CACHE = "smarthiring.job.listing.cache";     // Tag: result
+    public static final String METRIC_STORAGE_FILES = "smarthiring.storage.files";     // Tag: area
+    public static final String METRIC_STORAGE_BYTES = "smarthiring.storage.bytes";     // Tag: area
+    public static final String METRIC_STORAGE_RECLAIMED_FILES = "smarthiring.storage.reclaimed.files";
+    public static final String METRIC_STORAGE_RECLAIMED_BYTES = "smarthiring.storage.reclaimed.bytes";
+    public static final String METRIC_STORAGE_RESTORED_FILES = "smarthiring.storage.restored.files";
+    public static final String METRIC_RESCORED_APPLICATIONS = "smarthiring.rescoring.applications";
+    public static final String METRIC_RESCORING_FAILED_BATCHES = "smarthiring.rescoring.batches.failed";
 }
\ No newline at end of file
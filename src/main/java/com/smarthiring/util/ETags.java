@@ -0,0 +1,25 @@
+package com.smarthiring.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+public final class ETags {
+
+    private ETags() {
+
+    }
+
+    /**
+     * Weak ETag over the values a response is built from (timestamps, counts, ids), so it
+     * can be checked from a projection query without loading or mapping the entities
+     */
+    public static String weak(Object... versionParts) {
+        String version = Arrays.stream(versionParts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -96,17 +96,33 @@ CREATE TABLE IF NOT EXISTS resumes (
     file_path VARCHAR(500) NOT NULL,
     file_type VARCHAR(50),
     file_size BIGINT,
-    parsed_text LONGTEXT,
+    content_hash VARCHAR(64),
+    parsed_text_length INT,
     extracted_skills TEXT,
     extracted_experience TEXT,
     extracted_education TEXT,
+    section_offsets TEXT,
+    text_signature VARBINARY(256),
     is_primary BOOLEAN DEFAULT FALSE,
     uploaded_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
 
     FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
     INDEX idx_resumes_candidate (candidate_id)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- =====================================================
+-- TABLE: resume_texts
+-- Description: Deflate-compressed parsed text of each resume
+-- =====================================================
+CREATE TABLE IF NOT EXISTS resume_texts (
+                                            resume_id BIGINT PRIMARY KEY,
+    compressed_text LONGBLOB NOT NULL,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE CASCADE
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- =====================================================
 -- TABLE: jobs
 -- Description: Job postings created by HR/Admin
@@ -160,6 +176,7 @@ CREATE TABLE IF NOT EXISTS applications (
                                             'INTERVIEWED', 'OFFERED', 'HIRED', 'REJECTED', 'WITHDRAWN') DEFAULT 'APPLIED',
     ai_score DECIMAL(5,2),
     ai_feedback TEXT,
+    possible_duplicate_of BIGINT,
     hr_rating INT,
     hr_notes TEXT,
     applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
@@ -168,10 +185,58 @@ CREATE TABLE IF NOT EXISTS applications (
     FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
     FOREIGN KEY (candidate_id) REFERENCES candidates(id) ON DELETE CASCADE,
     FOREIGN KEY (resume_id) REFERENCES resumes(id) ON DELETE SET NULL,
+    FOREIGN KEY (possible_duplicate_of) REFERENCES candidates(id) ON DELETE SET NULL,
 
     UNIQUE KEY unique_application (job_id, candidate_id),
     INDEX idx_applications_status (status),
-    INDEX idx_applications_score (ai_score DESC)
+    INDEX idx_applications_score (ai_score DESC),
+    INDEX idx_applications_job_score (job_id, ai_score)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =====================================================
+-- TABLE: application_scores
+-- Description: Per-signal scores behind each application's AI score
+-- =====================================================
+CREATE TABLE IF NOT EXISTS application_scores (
+                                                  application_id BIGINT PRIMARY KEY,
+                                                  job_id BIGINT NOT NULL,
+                                                  model_version INT NOT NULL,
+    skill_score DOUBLE NOT NULL,
+    experience_score DOUBLE NOT NULL,
+    education_score DOUBLE NOT NULL,
+    resume_quality_score DOUBLE NOT NULL,
+    recency_score DOUBLE NOT NULL,
+    required_skill_count INT,
+    matched_skills TEXT,
+    missing_skills TEXT,
+    extra_skills TEXT,
+    matched_nice_to_have TEXT,
+    missing_nice_to_have TEXT,
+    scored_at TIMESTAMP NULL,
+
+    FOREIGN KEY (application_id) REFERENCES applications(id) ON DELETE CASCADE,
+    INDEX idx_application_scores_job (job_id, model_version)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =====================================================
+-- TABLE: scoring_weight_profiles
+-- Description: Scoring weights per job, per department, or the default (neither set)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS scoring_weight_profiles (
+                                                       id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                       job_id BIGINT,
+                                                       department VARCHAR(100),
+    skill_weight DOUBLE NOT NULL,
+    experience_weight DOUBLE NOT NULL,
+    education_weight DOUBLE NOT NULL,
+    resume_quality_weight DOUBLE NOT NULL,
+    recency_weight DOUBLE NOT NULL,
+    updated_by VARCHAR(100),
+    updated_at TIMESTAMP NULL,
+
+    FOREIGN KEY (job_id) REFERENCES jobs(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_scoring_weights_job (job_id),
+    UNIQUE KEY uk_scoring_weights_department (department)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- =====================================================
@@ -240,6 +305,46 @@ CREATE TABLE IF NOT EXISTS email_logs (
     INDEX idx_email_recipient (recipient_email)
     ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
+-- =====================================================
+-- TABLE: resume_reprocess_jobs
+-- Description: Bulk resume re-extraction jobs with keyset checkpoint
+-- =====================================================
+CREATE TABLE IF NOT EXISTS resume_reprocess_jobs (
+                                                     id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                                     status ENUM('RUNNING', 'PAUSED', 'COMPLETED', 'FAILED') NOT NULL DEFAULT 'RUNNING',
+    reparse_files BOOLEAN DEFAULT FALSE,
+    concurrency INT,
+    batch_size INT,
+    last_processed_id BIGINT DEFAULT 0,
+    total_resumes BIGINT DEFAULT 0,
+    processed_count BIGINT DEFAULT 0,
+    failed_count BIGINT DEFAULT 0,
+    failed_resume_ids TEXT,
+    error_message TEXT,
+    started_by BIGINT,
+    started_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NULL,
+    completed_at TIMESTAMP NULL,
+
+    INDEX idx_reprocess_status (status)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- =====================================================
+-- TABLE: file_blobs
+-- Description: Content-addressed stored files with reference counts (deduplication)
+-- =====================================================
+CREATE TABLE IF NOT EXISTS file_blobs (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          storage_area VARCHAR(20) NOT NULL,
+    storage_key VARCHAR(255) NOT NULL,
+    content_hash VARCHAR(64) NOT NULL,
+    file_size BIGINT,
+    ref_count INT NOT NULL DEFAULT 1,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE KEY uk_file_blob_key (storage_area, storage_key)
+    ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
 -- =====================================================
 -- VERIFICATION: Show all tables
 -- =====================================================
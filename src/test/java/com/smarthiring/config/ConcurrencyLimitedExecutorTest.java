@@ -0,0 +1,71 @@
+package com.smarthiring.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimitedExecutorTest {
+
+    private final ExecutorService threads = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void execute_ReleasesPermitWhenTaskThrows() {
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor("Test", Runnable::run, 1);
+
+        assertThrows(IllegalStateException.class, () -> executor.execute(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        assertEquals(0, executor.getActiveCount());
+
+        AtomicInteger ran = new AtomicInteger();
+        executor.execute(ran::incrementAndGet);
+        assertEquals(1, ran.get());
+    }
+
+    @Test
+    void execute_RunsAtMostLimitTasksAtOnce() throws Exception {
+        ConcurrencyLimitedExecutor executor = new ConcurrencyLimitedExecutor("Test", threads, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(3);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        // Two tasks hold the permits, the third waits for one
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getWaitingCount() < 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, executor.getActiveCount());
+        assertEquals(1, executor.getWaitingCount());
+
+        release.countDown();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+        assertEquals(0, executor.getActiveCount());
+    }
+}
@@ -0,0 +1,82 @@
+package com.smarthiring.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestConcurrencyLimitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Counter rejected = new SimpleMeterRegistry().counter("rejected");
+
+    @Test
+    void doFilter_Returns503WithRetryAfterWhenNoSlotFreesUp() throws Exception {
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(1, 100, objectMapper, rejected);
+        CountDownLatch inChain = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // The only slot is held by a request still in the chain
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(request(), new MockHttpServletResponse(), (req, res) -> {
+                    inChain.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inChain.await(5, TimeUnit.SECONDS));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        long started = System.nanoTime();
+        filter.doFilter(request(), response, chain);
+
+        assertTrue(System.nanoTime() - started >= TimeUnit.MILLISECONDS.toNanos(100));
+        assertEquals(HttpServletResponse.SC_SERVICE_UNAVAILABLE, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertTrue(response.getContentAsString().contains("Server busy"));
+        assertNull(chain.getRequest());
+        assertEquals(1.0, rejected.count());
+
+        // Once the slot is free requests pass again
+        release.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        MockFilterChain next = new MockFilterChain();
+        filter.doFilter(request(), new MockHttpServletResponse(), next);
+        assertNotNull(next.getRequest());
+    }
+
+    @Test
+    void doFilter_ZeroLimitDisablesTheFilter() throws Exception {
+        RequestConcurrencyLimitFilter filter = new RequestConcurrencyLimitFilter(0, 100, objectMapper, rejected);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(), response, chain);
+
+        assertNotNull(chain.getRequest());
+        assertEquals(HttpServletResponse.SC_OK, response.getStatus());
+        assertEquals(0.0, rejected.count());
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/jobs");
+    }
+}
@@ -0,0 +1,96 @@
+package com.smarthiring.security;
+
+import com.smarthiring.entity.User;
+import com.smarthiring.enums.RoleName;
+import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtAuthenticationFilter filter;
+    private CustomUserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "jwtExpiration", 60_000L);
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, userDetailsService);
+
+        User user = TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR);
+        userDetails = CustomUserDetails.build(user);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void doFilter_LoadsUserByIdClaim() throws Exception {
+        when(userDetailsService.loadUserById(1L)).thenReturn(userDetails);
+
+        filter.doFilter(request(jwtTokenProvider.generateTokenForUser(1L, "hr@test.com", "HR", "ROLE_HR")),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertAuthenticated();
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void doFilter_FallsBackToEmailWithoutIdClaim() throws Exception {
+        when(userDetailsService.loadUserByUsername("hr@test.com")).thenReturn(userDetails);
+
+        filter.doFilter(request(jwtTokenProvider.generateTokenForUser(null, "hr@test.com", "HR", "ROLE_HR")),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertAuthenticated();
+        verify(userDetailsService, never()).loadUserById(anyLong());
+    }
+
+    @Test
+    void doFilter_InvalidTokenLeavesRequestAnonymous() throws Exception {
+        filter.doFilter(request("not-a-token"), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private static MockHttpServletRequest request(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    private void assertAuthenticated() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertSame(userDetails, authentication.getPrincipal());
+    }
+}
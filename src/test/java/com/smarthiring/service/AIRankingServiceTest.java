@@ -0,0 +1,238 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ScoringConfig;
+import com.smarthiring.entity.Application;
+import com.smarthiring.entity.ApplicationScore;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Job;
+import com.smarthiring.enums.RoleName;
+import com.smarthiring.event.ApplicationScoredEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
+import com.smarthiring.mapper.ApplicationMapper;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.ApplicationScoreRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.service.scoring.EducationLevel;
+import com.smarthiring.service.scoring.ScoringSignals;
+import com.smarthiring.service.scoring.ScoringWeights;
+import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AIRankingServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationScoreRepository applicationScoreRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private SkillMatcherService skillMatcherService;
+
+    @Mock
+    private ScoringWeightService scoringWeightService;
+
+    @Spy
+    private ScoringConfig scoringConfig = new ScoringConfig();
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private AIRankingService aiRankingService;
+
+    @Test
+    void getScoreStatistics_SingleAggregateQueryCachedUntilScored() {
+        when(applicationRepository.getScoreStatistics(1L)).thenReturn(List.<Object[]>of(new Object[]{
+                12L, 10L, 61.234, new BigDecimal("92.50"), new BigDecimal("18.00"), 3L, 4L, 2L, 1L}));
+
+        Map<String, Object> stats = aiRankingService.getScoreStatistics(1L);
+
+        assertEquals(12L, stats.get("totalApplications"));
+        assertEquals(new BigDecimal("61.23"), stats.get("averageScore"));
+        assertEquals(new BigDecimal("92.50"), stats.get("highestScore"));
+        assertEquals(3L, stats.get("excellentMatch"));
+        assertEquals(1L, stats.get("poorMatch"));
+
+        assertSame(stats, aiRankingService.getScoreStatistics(1L));
+        verify(applicationRepository, times(1)).getScoreStatistics(1L);
+
+        aiRankingService.onApplicationScored(new ApplicationScoredEvent(1L, 5L));
+        aiRankingService.getScoreStatistics(1L);
+        aiRankingService.onJobChanged(JobChangedEvent.allJobs());
+        aiRankingService.getScoreStatistics(1L);
+        verify(applicationRepository, times(3)).getScoreStatistics(1L);
+    }
+
+    @Test
+    void getScoreStatistics_NoScoredApplications() {
+        when(applicationRepository.getScoreStatistics(2L)).thenReturn(List.<Object[]>of(new Object[]{
+                4L, 0L, null, null, null, null, null, null, null}));
+
+        Map<String, Object> stats = aiRankingService.getScoreStatistics(2L);
+
+        assertEquals(4L, stats.get("totalApplications"));
+        assertEquals(0, stats.get("highestScore"));
+        assertFalse(stats.containsKey("excellentMatch"));
+    }
+
+    @Test
+    void getTopCandidates_LimitsInTheDatabase() {
+        when(applicationRepository.findTopScoredByJobId(1L, PageRequest.of(0, 5))).thenReturn(List.of());
+
+        assertTrue(aiRankingService.getTopCandidates(1L, 5).isEmpty());
+        assertTrue(aiRankingService.getTopCandidates(1L, 0).isEmpty());
+
+        verify(applicationRepository, never()).findByJobId(anyLong());
+        verify(applicationRepository, times(1)).findTopScoredByJobId(anyLong(), any());
+    }
+
+    @Test
+    void calculateScore_StoresComponentsWithModelVersion() {
+        Application application = application();
+        Map<String, Object> skillMatch = new HashMap<>();
+        skillMatch.put("matchScore", 0.5);
+        skillMatch.put("matchedSkills", List.of("java"));
+        skillMatch.put("missingSkills", List.of("docker"));
+        skillMatch.put("extraSkills", List.of("git", "linux"));
+        skillMatch.put("totalRequired", 2);
+        skillMatch.put("totalMatched", 1);
+        skillMatch.put("matchedNiceToHave", List.of("kafka"));
+        skillMatch.put("missingNiceToHave", List.of());
+        skillMatch.put("totalNiceToHave", 1);
+        when(skillMatcherService.getDetailedSkillMatch(any(), any(), any())).thenReturn(skillMatch);
+        when(skillMatcherService.educationLevel(any())).thenReturn(EducationLevel.BACHELORS);
+        when(scoringWeightService.weightsFor(application.getJob())).thenReturn(ScoringWeights.DEFAULT);
+
+        BigDecimal score = aiRankingService.calculateScore(application);
+
+        // 0.5*50 + 1.0*25 + 0.8*10 + 0*10 + 0.5*5 (no resume, no applied date)
+        assertEquals(new BigDecimal("60.50"), score);
+        verify(applicationScoreRepository).upsert(7L, 1L, ScoringSignals.MODEL_VERSION,
+                0.5, 1.0, 0.8, 0.0, 0.5, 2, "java", "docker", "git, linux", "kafka", "");
+    }
+
+    @Test
+    void getMatchExplanation_ServedFromStoredComponents() {
+        Application application = application();
+        application.setAiScore(new BigDecimal("60.50"));
+        when(applicationRepository.findById(7L)).thenReturn(Optional.of(application));
+        when(applicationScoreRepository.findById(7L)).thenReturn(Optional.of(ApplicationScore.builder()
+                .applicationId(7L).jobId(1L).modelVersion(ScoringSignals.MODEL_VERSION)
+                .skillScore(0.5).experienceScore(1.0).educationScore(0.8)
+                .resumeQualityScore(0.0).recencyScore(0.5).requiredSkillCount(2)
+                .matchedSkills("java").missingSkills("docker").extraSkills("")
+                .matchedNiceToHave("kafka").missingNiceToHave("").build()));
+
+        Map<String, Object> explanation = aiRankingService.getMatchExplanation(7L);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> skillAnalysis = (Map<String, Object>) explanation.get("skillAnalysis");
+        assertEquals(List.of("docker"), skillAnalysis.get("missingSkills"));
+        assertEquals(List.of(), skillAnalysis.get("extraSkills"));
+        assertEquals(2, skillAnalysis.get("totalRequired"));
+        assertEquals(List.of("kafka"), skillAnalysis.get("matchedNiceToHave"));
+        @SuppressWarnings("unchecked")
+        Map<String, Object> components = (Map<String, Object>) explanation.get("componentScores");
+        assertEquals(new BigDecimal("80.00"), components.get("education"));
+        verify(skillMatcherService, never()).getDetailedSkillMatch(any(), any(), any());
+
+        // Components from an older model are not trusted
+        when(applicationScoreRepository.findById(7L)).thenReturn(Optional.of(ApplicationScore.builder()
+                .modelVersion(ScoringSignals.MODEL_VERSION - 1).build()));
+        when(skillMatcherService.getDetailedSkillMatch(any(), any(), any())).thenReturn(new HashMap<>());
+
+        assertFalse(aiRankingService.getMatchExplanation(7L).containsKey("componentScores"));
+        verify(skillMatcherService).getDetailedSkillMatch(any(), any(), any());
+    }
+
+    @Test
+    void recombineScores_GroupsJobsByEffectiveWeights() {
+        ScoringWeights engineering = new ScoringWeights(0.7, 0.1, 0.1, 0.05, 0.05);
+        when(scoringWeightService.weightsFor(anyLong(), any())).thenAnswer(invocation ->
+                "Engineering".equals(invocation.getArgument(1)) ? engineering : ScoringWeights.DEFAULT);
+        when(applicationScoreRepository.recombine(any(), anyInt(), anyDouble(), anyDouble(), anyDouble(),
+                anyDouble(), anyDouble())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size() * 10);
+        scoringConfig.setRecombineBatchSize(2);
+
+        int updated = aiRankingService.recombineScores(List.of(
+                new Object[]{1L, "Engineering"}, new Object[]{2L, "Sales"}, new Object[]{3L, "Engineering"},
+                new Object[]{4L, null}, new Object[]{5L, "Engineering"}));
+
+        assertEquals(50, updated);
+        verify(applicationScoreRepository).recombine(List.of(1L, 3L), ScoringSignals.MODEL_VERSION,
+                0.7, 0.1, 0.1, 0.05, 0.05);
+        verify(applicationScoreRepository).recombine(List.of(5L), ScoringSignals.MODEL_VERSION,
+                0.7, 0.1, 0.1, 0.05, 0.05);
+        verify(applicationScoreRepository).recombine(eq(List.of(2L, 4L)), eq(ScoringSignals.MODEL_VERSION),
+                eq(0.50), eq(0.25), eq(0.10), eq(0.10), eq(0.05));
+    }
+
+    @Test
+    void onScoringWeightsChanged_ReloadsAndEvictsStatistics() {
+        when(applicationRepository.getScoreStatistics(1L)).thenReturn(List.<Object[]>of(new Object[]{
+                1L, 0L, null, null, null, null, null, null, null}));
+        when(jobRepository.findIdAndDepartmentById(1L)).thenReturn(List.<Object[]>of(new Object[]{1L, null}));
+        when(scoringWeightService.weightsFor(1L, null)).thenReturn(ScoringWeights.DEFAULT);
+
+        aiRankingService.getScoreStatistics(1L);
+        aiRankingService.onScoringWeightsChanged(new ScoringWeightsChangedEvent(1L, null));
+        aiRankingService.getScoreStatistics(1L);
+
+        verify(scoringWeightService).reload();
+        verify(applicationRepository, times(2)).getScoreStatistics(1L);
+    }
+
+    private static Application application() {
+        Job job = TestObjectFactory.createTestJob(1L, TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR));
+        job.setRequiredSkills("Java, Docker");
+        job.setExperienceMin(2);
+        job.setExperienceMax(5);
+
+        Candidate candidate = new Candidate();
+        candidate.setId(3L);
+        candidate.setSkills("Java, Git, Linux");
+        candidate.setTotalExperience(new BigDecimal("3"));
+        candidate.setEducation("B.Tech");
+
+        Application application = new Application();
+        application.setId(7L);
+        application.setJob(job);
+        application.setCandidate(candidate);
+        return application;
+    }
+}
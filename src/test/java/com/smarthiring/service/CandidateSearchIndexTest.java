@@ -0,0 +1,116 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.CandidateSearchConfig;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateSearchIndexTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    private CandidateSearchConfig searchConfig;
+    private CandidateSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchConfig = new CandidateSearchConfig();
+        searchIndex = new CandidateSearchIndex(candidateRepository, TestObjectFactory.createSkillMatcherService(), searchConfig);
+
+        when(candidateRepository.findSearchIndexProfiles(eq(0L), any())).thenReturn(List.of(
+                row(1L, "Java, Spring Boot", "4", "Pune", 30, null),
+                row(2L, "JavaScript, React", "5", "Pune", 15, null),
+                row(3L, "java, hibernate, php", "3", "pune ", 60, null),
+                row(4L, "Python", "8", "Mumbai", 0, "Java, JPA"),
+                row(5L, "Java", null, null, null, null)));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_BooleanSkillsWithFilters() {
+        assertEquals(List.of(1L, 4L), ids("java AND (spring OR hibernate) AND NOT php", null, null, null));
+        assertEquals(List.of(1L), ids("java AND (spring OR hibernate) AND NOT php", "Pune", 3.0, 6.0));
+        // Same matches unpaged, for sorting in SQL
+        assertEquals(List.of(1L, 4L), searchIndex.matchingIds(new CandidateSearchIndex.Query(
+                "java AND (spring OR hibernate) AND NOT php", null, null, null, null)).orElseThrow());
+    }
+
+    @Test
+    void search_ExactCanonicalSkills() {
+        // "java" does not match "javascript"; synonyms fold into the main skill
+        assertEquals(List.of(1L, 3L, 4L, 5L), ids("java", null, null, null));
+        assertEquals(List.of(2L), ids("js", null, null, null));
+        assertEquals(List.of(2L, 4L), ids("NOT java OR python", null, null, null).stream().sorted().toList());
+    }
+
+    @Test
+    void search_SortsAndPages() {
+        Optional<CandidateSearchIndex.Hits> byExperience = searchIndex.search(
+                new CandidateSearchIndex.Query(null, null, null, null, null),
+                CandidateSearchIndex.SortField.EXPERIENCE, true, 0, 3);
+        assertEquals(List.of(4L, 2L, 1L), byExperience.orElseThrow().ids());
+        assertEquals(5, byExperience.get().total());
+
+        Optional<CandidateSearchIndex.Hits> newestFirst = searchIndex.search(
+                new CandidateSearchIndex.Query("java", null, null, null, 30),
+                CandidateSearchIndex.SortField.ID, true, 1, 1);
+        assertEquals(List.of(1L), newestFirst.orElseThrow().ids());
+        assertEquals(2, newestFirst.get().total());
+    }
+
+    @Test
+    void onCandidateProfileChanged_UpdatesSkillsAndColumns() {
+        when(candidateRepository.findSearchIndexProfile(2L)).thenReturn(List.<Object[]>of(
+                row(2L, "Java, Spring", "2", "Delhi", 90, null)));
+        when(candidateRepository.findSearchIndexProfile(3L)).thenReturn(List.of());
+
+        searchIndex.onCandidateProfileChanged(new CandidateProfileChangedEvent(2L));
+        searchIndex.onCandidateProfileChanged(new CandidateProfileChangedEvent(3L));
+
+        assertEquals(List.of(1L, 2L), ids("java AND spring", null, null, null));
+        assertEquals(List.of(2L), ids(null, "delhi", 1.0, 2.5));
+        assertEquals(List.of(1L), ids(null, "pune", null, null));
+
+        // Same answers once the sorted columns are rebuilt from the entries
+        when(candidateRepository.findSearchIndexProfile(1L)).thenReturn(List.<Object[]>of(
+                row(1L, "Java, Spring Boot", "4", "Pune", 30, null)));
+        searchConfig.setCompactionThreshold(0);
+        searchIndex.refresh(1L);
+        assertEquals(List.of(2L), ids(null, "delhi", 1.0, 2.5));
+        assertEquals(List.of(1L), ids(null, "pune", null, null));
+    }
+
+    @Test
+    void search_RejectsMalformedExpression() {
+        assertThrows(BadRequestException.class, () -> ids("java AND (spring", null, null, null));
+        assertThrows(BadRequestException.class, () -> ids("java OR", null, null, null));
+    }
+
+    private List<Long> ids(String skills, String location, Double minExperience, Double maxExperience) {
+        return searchIndex.search(new CandidateSearchIndex.Query(skills, location, minExperience, maxExperience, null),
+                CandidateSearchIndex.SortField.ID, false, 0, 100).orElseThrow().ids();
+    }
+
+    private static Object[] row(Long id, String skills, String experience, String location,
+                                Integer noticePeriod, String resumeSkills) {
+        return new Object[]{id, skills, experience != null ? new BigDecimal(experience) : null,
+                location, noticePeriod, resumeSkills};
+    }
+}
@@ -0,0 +1,116 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.CandidateSearchConfig;
+import com.smarthiring.config.CandidateSimilarityConfig;
+import com.smarthiring.dto.request.CandidateSearchRequest;
+import com.smarthiring.dto.response.CandidateResponse;
+import com.smarthiring.dto.response.PagedResponse;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.exception.ServiceUnavailableException;
+import com.smarthiring.mapper.CandidateMapper;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateServiceTest {
+
+    private static final String EXPRESSION = "java AND (spring OR hibernate)";
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CandidateMapper candidateMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CandidateSearchIndex candidateSearchIndex;
+
+    @Mock
+    private CandidateSimilarityIndex candidateSimilarityIndex;
+
+    @Mock
+    private SkillMatcherService skillMatcherService;
+
+    private final CandidateSearchConfig searchConfig = new CandidateSearchConfig();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CandidateService candidateService;
+
+    @BeforeEach
+    void setUp() {
+        candidateService = new CandidateService(candidateRepository, userRepository, candidateMapper, eventPublisher,
+                candidateSearchIndex, searchConfig, candidateSimilarityIndex, new CandidateSimilarityConfig(),
+                skillMatcherService, meterRegistry);
+    }
+
+    @Test
+    void searchCandidates_SortsIndexMatchesInDatabaseForUnindexedSort() {
+        Candidate first = Candidate.builder().id(3L).build();
+        Candidate second = Candidate.builder().id(1L).build();
+        when(candidateSearchIndex.matchingIds(any())).thenReturn(Optional.of(List.of(1L, 3L)));
+        when(candidateRepository.findByIdIn(eq(List.of(1L, 3L)), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<>(List.of(first, second), invocation.getArgument(1), 2));
+        when(candidateMapper.toResponse(any(Candidate.class)))
+                .thenAnswer(invocation -> CandidateResponse.builder().id(invocation.<Candidate>getArgument(0).getId()).build());
+
+        PagedResponse<CandidateResponse> response = candidateService.searchCandidates(request("expectedSalary"));
+
+        assertEquals(List.of(3L, 1L), response.getContent().stream().map(CandidateResponse::getId).toList());
+        assertEquals(2L, response.getTotalElements());
+        verify(candidateRepository).findByIdIn(any(),
+                eq(PageRequest.of(0, 10, Sort.by("expectedSalary").descending())));
+        verify(candidateRepository, never()).searchCandidates(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchCandidates_ExpressionWithoutIndexIsUnavailable() {
+        // Index still building: neither search nor matchingIds can answer
+        assertThrows(ServiceUnavailableException.class,
+                () -> candidateService.searchCandidates(request("createdAt")));
+        verify(candidateRepository, never()).searchCandidates(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void searchCandidates_SingleSkillWithoutIndexUsesLikeQuery() {
+        CandidateSearchRequest request = request("createdAt");
+        request.setSkills("\"Spring Boot\"");
+        when(candidateRepository.searchCandidates(isNull(), isNull(), isNull(), eq("Spring Boot"), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<Candidate>(List.of(), invocation.getArgument(4), 0));
+
+        candidateService.searchCandidates(request);
+
+        verify(candidateSearchIndex, never()).matchingIds(any());
+    }
+
+    private static CandidateSearchRequest request(String sortBy) {
+        CandidateSearchRequest request = new CandidateSearchRequest();
+        request.setSkills(EXPRESSION);
+        request.setSortBy(sortBy);
+        return request;
+    }
+}
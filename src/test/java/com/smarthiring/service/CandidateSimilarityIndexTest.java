@@ -0,0 +1,146 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.CandidateSimilarityConfig;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CandidateSimilarityIndexTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    private final CandidateSimilarityConfig similarityConfig = new CandidateSimilarityConfig();
+
+    @Test
+    void findSimilar_RanksBySkillsExperienceAndEducation() {
+        CandidateSimilarityIndex index = index(List.of(
+                profile(1L, "Java, Spring Boot, MySQL", "5", "B.Tech", null),
+                profile(2L, "java, springboot", "4.5", null, "mysql, docker"),
+                profile(3L, "Python, Django", "5", "B.Tech", null),
+                profile(4L, "Java, Spring Boot", "15", "PhD", null),
+                profile(5L, null, null, null, null)));
+
+        List<CandidateSimilarityIndex.SimilarCandidate> similar = index.findSimilar(1L, 10).orElseThrow();
+
+        assertEquals(List.of(2L, 4L, 3L), similar.stream().map(CandidateSimilarityIndex.SimilarCandidate::candidateId)
+                .toList());
+        assertTrue(similar.get(0).similarity() > 0.7 && similar.get(0).similarity() <= 1.0, similar.toString());
+        assertEquals(2, index.findSimilar(1L, 2).orElseThrow().size());
+    }
+
+    @Test
+    void findSimilar_RareSkillsWeighMore() {
+        List<Object[]> profiles = new ArrayList<>();
+        profiles.add(profile(1L, "Java, Kafka", null, null, null));
+        profiles.add(profile(2L, "Java", null, null, null));
+        profiles.add(profile(3L, "Kafka", null, null, null));
+        for (long id = 4; id < 20; id++) {
+            profiles.add(profile(id, "Java, Git", null, null, null));
+        }
+        CandidateSimilarityIndex index = index(profiles);
+
+        List<CandidateSimilarityIndex.SimilarCandidate> similar = index.findSimilar(1L, 2).orElseThrow();
+
+        assertEquals(List.of(3L, 2L), similar.stream().map(CandidateSimilarityIndex.SimilarCandidate::candidateId)
+                .toList());
+    }
+
+    @Test
+    void findSimilar_EmptyUntilBuiltOrForUnknownCandidates() {
+        CandidateSimilarityIndex index = new CandidateSimilarityIndex(candidateRepository,
+                TestObjectFactory.createSkillMatcherService(), similarityConfig);
+        assertTrue(index.findSimilar(1L, 5).isEmpty());
+
+        index = index(List.<Object[]>of(profile(1L, "Java", null, null, null)));
+        assertEquals(List.of(), index.findSimilar(99L, 5).orElseThrow());
+    }
+
+    /**
+     * Top-10 over a million synthetic profiles:
+     * mvn test -Dtest=CandidateSimilarityIndexTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_FindSimilar() {
+        String[] vocabulary = {"Java", "Spring Boot", "MySQL", "PostgreSQL", "Docker", "Kubernetes", "AWS",
+                "React", "Node.js", "Python", "Django", "Git", "Jenkins", "Kafka", "Redis", "Angular",
+                "TypeScript", "Go", "Rust", "Terraform", "Linux", "Hibernate", "Microservices", "REST API"};
+        String[] education = {"B.Tech", "M.Tech", "PhD", "Diploma", null};
+        int candidates = 1_000_000;
+        int pageSize = similarityConfig.getRebuildPageSize();
+
+        when(candidateRepository.findSimilarityProfiles(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            List<Object[]> rows = new ArrayList<>(pageSize);
+            for (long id = afterId + 1; id <= Math.min(candidates, afterId + pageSize); id++) {
+                Random random = new Random(id);
+                StringBuilder skills = new StringBuilder();
+                for (int i = 0, count = 3 + random.nextInt(8); i < count; i++) {
+                    skills.append(i > 0 ? ", " : "").append(vocabulary[random.nextInt(vocabulary.length)]);
+                }
+                rows.add(profile(id, skills.toString(), String.valueOf(random.nextInt(20)),
+                        education[random.nextInt(education.length)], null));
+            }
+            return rows;
+        });
+        when(candidateRepository.findSimilarityProfile(anyLong())).thenAnswer(invocation -> List.<Object[]>of(
+                profile(invocation.getArgument(0), "Java, Spring Boot, MySQL, Docker, Kafka", "6", "B.Tech", null)));
+
+        CandidateSimilarityIndex index = new CandidateSimilarityIndex(candidateRepository,
+                TestObjectFactory.createSkillMatcherService(), similarityConfig);
+        long started = System.nanoTime();
+        index.rebuild();
+        long buildMs = (System.nanoTime() - started) / 1_000_000;
+
+        // Warm-up
+        for (int i = 0; i < 20; i++) {
+            index.findSimilar((long) i + 1, 10);
+        }
+
+        int queries = 100;
+        started = System.nanoTime();
+        for (int i = 0; i < queries; i++) {
+            assertEquals(10, index.findSimilar((long) i * 7919 + 1, 10).orElseThrow().size());
+        }
+        double queryMs = (System.nanoTime() - started) / 1_000_000.0 / queries;
+
+        System.out.printf("Similar candidates benchmark (%d candidates): build %d ms, top-10 query %.1f ms%n",
+                candidates, buildMs, queryMs);
+    }
+
+    private CandidateSimilarityIndex index(List<Object[]> profiles) {
+        when(candidateRepository.findSimilarityProfiles(eq(0L), any())).thenReturn(profiles);
+        lenient().when(candidateRepository.findSimilarityProfile(anyLong())).thenAnswer(invocation -> profiles.stream()
+                .filter(row -> row[0].equals(invocation.getArgument(0)))
+                .toList());
+
+        CandidateSimilarityIndex index = new CandidateSimilarityIndex(candidateRepository,
+                TestObjectFactory.createSkillMatcherService(), similarityConfig);
+        index.rebuild();
+        return index;
+    }
+
+    private static Object[] profile(Long id, String skills, String experience, String education,
+                                    String resumeSkills) {
+        return new Object[]{id, skills, experience != null ? new BigDecimal(experience) : null, education,
+                resumeSkills, null};
+    }
+}
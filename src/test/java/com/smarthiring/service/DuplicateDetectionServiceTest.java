@@ -0,0 +1,164 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.DuplicateDetectionConfig;
+import com.smarthiring.dto.response.DuplicateReportResponse;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.duplicate.DuplicateKind;
+import com.smarthiring.service.duplicate.MinHash;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DuplicateDetectionServiceTest {
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    private DuplicateDetectionService duplicateDetectionService;
+
+    private final String resumeText = randomText(new Random(3), 400);
+
+    @BeforeEach
+    void setUp() {
+        duplicateDetectionService = new DuplicateDetectionService(candidateRepository, resumeRepository,
+                TestObjectFactory.createSkillMatcherService(), new DuplicateDetectionConfig());
+
+        when(candidateRepository.findSearchIndexProfiles(eq(0L), any())).thenReturn(List.of(
+                profile(1L, "Java, Spring Boot, MySQL, Docker, AWS, Kafka", null),
+                // Same skills through synonyms, spread over profile and resume
+                profile(2L, "java, springboot, mysql", "containers, amazon web services, Kafka"),
+                profile(3L, "Python, Django, PostgreSQL, Redis, Docker", null),
+                profile(4L, "Java", null),
+                profile(5L, "Go", null)));
+        when(resumeRepository.findTextSignatures(eq(0L), any())).thenReturn(List.of(
+                resume(10L, 3L, resumeText),
+                resume(11L, 5L, resumeText.replaceFirst(" alpha ", " omega ")),
+                resume(12L, 1L, randomText(new Random(4), 400))));
+        duplicateDetectionService.rebuild();
+    }
+
+    @Test
+    void findPossibleDuplicates_MatchesSkillSetsAndResumeText() {
+        assertEquals(List.of(1L), duplicateDetectionService.findPossibleDuplicates(2L));
+        assertEquals(List.of(3L), duplicateDetectionService.findPossibleDuplicates(5L));
+        assertEquals(List.of(), duplicateDetectionService.findPossibleDuplicates(4L));
+        assertEquals(List.of(), duplicateDetectionService.findPossibleDuplicates(99L));
+    }
+
+    @Test
+    void findPossibleDuplicates_SkipsStockSkillListsAndCapsMatches() {
+        DuplicateDetectionConfig config = new DuplicateDetectionConfig();
+        config.setMaxBucketSize(10);
+        config.setMaxMatches(3);
+        DuplicateDetectionService service = new DuplicateDetectionService(candidateRepository, resumeRepository,
+                TestObjectFactory.createSkillMatcherService(), config);
+
+        // Candidates 100..119 share one stock list; 200..204 share a rarer one
+        List<Object[]> profiles = new ArrayList<>();
+        for (long id = 100; id < 120; id++) {
+            profiles.add(profile(id, "Java, Spring Boot, MySQL, Docker, AWS", null));
+        }
+        for (long id = 200; id < 205; id++) {
+            profiles.add(profile(id, "Rust, Kafka, Kubernetes, Terraform, Go", null));
+        }
+        when(candidateRepository.findSearchIndexProfiles(eq(0L), any())).thenReturn(profiles);
+        when(resumeRepository.findTextSignatures(eq(0L), any())).thenReturn(List.of());
+        service.rebuild();
+
+        assertEquals(List.of(), service.findPossibleDuplicates(100L));
+        assertEquals(List.of(201L, 202L, 203L), service.findPossibleDuplicates(200L));
+    }
+
+    @Test
+    void getReport_ListsPairsMostSimilarFirst() {
+        DuplicateReportResponse report = duplicateDetectionService.getReport(10);
+
+        assertTrue(report.getReady());
+        assertEquals(3, report.getIndexedCandidates());
+        assertEquals(3, report.getIndexedResumes());
+        assertEquals(2, report.getTotalPairs());
+
+        DuplicateReportResponse.DuplicatePair skills = report.getPairs().get(0);
+        assertEquals(DuplicateKind.SKILLS, skills.getKind());
+        assertEquals(List.of(1L, 2L), List.of(skills.getCandidateId(), skills.getOtherCandidateId()));
+        assertEquals(1.0, skills.getSimilarity());
+
+        DuplicateReportResponse.DuplicatePair text = report.getPairs().get(1);
+        assertEquals(DuplicateKind.RESUME_TEXT, text.getKind());
+        assertEquals(List.of(10L, 11L), List.of(text.getResumeId(), text.getOtherResumeId()));
+        assertEquals(List.of(3L, 5L), List.of(text.getCandidateId(), text.getOtherCandidateId()));
+
+        assertEquals(1, duplicateDetectionService.getReport(1).getPairs().size());
+    }
+
+    @Test
+    void onCandidateProfileChanged_ReplacesSignatures() {
+        when(candidateRepository.findSearchIndexProfile(5L)).thenReturn(List.<Object[]>of(profile(5L, "Go", null)));
+        when(resumeRepository.findTextSignaturesByCandidateId(5L)).thenReturn(List.<Object[]>of(
+                resume(13L, 5L, randomText(new Random(5), 400))));
+        when(candidateRepository.findSearchIndexProfile(2L)).thenReturn(List.of());
+        when(resumeRepository.findTextSignaturesByCandidateId(2L)).thenReturn(List.of());
+
+        duplicateDetectionService.onCandidateProfileChanged(new CandidateProfileChangedEvent(5L));
+        duplicateDetectionService.onCandidateProfileChanged(new CandidateProfileChangedEvent(2L));
+
+        assertEquals(List.of(), duplicateDetectionService.findPossibleDuplicates(3L));
+        assertEquals(List.of(), duplicateDetectionService.findPossibleDuplicates(1L));
+        assertEquals(0, duplicateDetectionService.getReport(10).getTotalPairs());
+    }
+
+    @Test
+    void minHash_EstimatesJaccardSimilarity() {
+        long[] first = new long[1000];
+        long[] second = new long[1000];
+        for (int i = 0; i < 1000; i++) {
+            first[i] = i;
+            // 800 shared of 1200 distinct
+            second[i] = i < 800 ? i : 10_000 + i;
+        }
+
+        double estimate = MinHash.similarity(MinHash.signature(first, 1000), MinHash.signature(second, 1000));
+
+        assertEquals(800.0 / 1200, estimate, 0.15);
+        assertArrayEquals(MinHash.signature(first, 1000),
+                MinHash.fromBytes(MinHash.toBytes(MinHash.signature(first, 1000))));
+        assertNull(MinHash.textSignature("  -- "));
+    }
+
+    private static Object[] profile(Long id, String skills, String resumeSkills) {
+        return new Object[]{id, skills, null, null, null, resumeSkills};
+    }
+
+    private static Object[] resume(Long id, Long candidateId, String text) {
+        return new Object[]{id, candidateId, MinHash.toBytes(MinHash.textSignature(text))};
+    }
+
+    private static String randomText(Random random, int words) {
+        String[] vocabulary = {"alpha", "built", "services", "team", "led", "migrated", "platform", "designed",
+                "reduced", "latency", "payments", "api", "cloud", "customers", "delivered", "ownership",
+                "reporting", "pipelines", "testing", "mentored", "release", "features", "scaled", "data"};
+        List<String> text = new ArrayList<>();
+        for (int i = 0; i < words; i++) {
+            text.add(vocabulary[random.nextInt(vocabulary.length)]);
+        }
+        return " " + String.join(" ", text) + " ";
+    }
+}
@@ -0,0 +1,123 @@
+package com.smarthiring.service;
+
+import com.smarthiring.service.storage.LocalFileStore;
+import com.smarthiring.service.storage.StorageArea;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileDownloadServiceTest {
+
+    private static final String CONTENT = "0123456789abcdefghij";
+    private static final String HASH = "abc123";
+
+    @TempDir
+    Path tempDir;
+
+    private FileDownloadService fileDownloadService;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        fileDownloadService = new FileDownloadService(new LocalFileStore(Map.of(StorageArea.RESUMES, tempDir)));
+        file = tempDir.resolve("resume.pdf");
+        Files.writeString(file, CONTENT);
+    }
+
+    @Test
+    void serveFile_FullContentWithValidators() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"" + HASH + "\"", response.getHeader("ETag"));
+        assertEquals("bytes", response.getHeader("Accept-Ranges"));
+        assertNotNull(response.getHeader("Last-Modified"));
+        assertEquals(CONTENT, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serveFile_NotModifiedWhenETagMatches() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        request.addHeader("If-None-Match", "W/\"" + HASH + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void serveFile_PartialContentForRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        request.addHeader("Range", "bytes=5-9");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 5-9/20", response.getHeader("Content-Range"));
+        assertEquals("56789", response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serveFile_IgnoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        request.addHeader("Range", "bytes=5-9");
+        request.addHeader("If-Range", "\"stale\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(CONTENT, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serveFile_IgnoresInvalidRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        request.addHeader("Range", "bytes=5-3");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(200, response.getStatus());
+        assertNull(response.getHeader("Content-Range"));
+        assertEquals(CONTENT, response.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void serveFile_UnsatisfiableRange() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/resumes/download/1");
+        request.addHeader("Range", "bytes=50-60");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        fileDownloadService.serveFile(request, response, file, "application/pdf", "cv.pdf", HASH);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */20", response.getHeader("Content-Range"));
+    }
+
+    @Test
+    void parseRange_SuffixAndOpenEnded() {
+        assertArrayEquals(new long[]{15, 19}, fileDownloadService.parseRange("bytes=-5", 20));
+        assertArrayEquals(new long[]{10, 19}, fileDownloadService.parseRange("bytes=10-", 20));
+        assertEquals(0, fileDownloadService.parseRange("bytes=0-1,5-6", 20).length);
+        // Last before first is invalid, so the header is ignored; past the end is unsatisfiable
+        assertEquals(0, fileDownloadService.parseRange("bytes=5-3", 20).length);
+        assertNull(fileDownloadService.parseRange("bytes=20-25", 20));
+        assertNull(fileDownloadService.parseRange("bytes=-0", 20));
+    }
+}
@@ -0,0 +1,177 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.FileStorageConfig;
+import com.smarthiring.dto.StoredFile;
+import com.smarthiring.entity.FileBlob;
+import com.smarthiring.repository.FileBlobRepository;
+import com.smarthiring.service.storage.LocalFileStore;
+import com.smarthiring.service.storage.StorageArea;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Reference counting against concurrent uploads and deletes. The repository mock stands in
+ * for InnoDB: acquire and the locking read take the same per-key lock, held until commit.
+ */
+class FileStorageServiceTest {
+
+    private static final byte[] CONTENT = "%PDF-1.4 resume".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path tempDir;
+
+    private final Semaphore keyLock = new Semaphore(1);
+    private final Set<String> rows = ConcurrentHashMap.newKeySet();
+    private final ThreadLocal<Boolean> holdsLock = ThreadLocal.withInitial(() -> false);
+
+    private FileBlobRepository fileBlobRepository;
+    private FileStorageService fileStorageService;
+
+    @BeforeEach
+    void setUp() {
+        FileStorageConfig config = mock(FileStorageConfig.class);
+        when(config.getMaxFileSize()).thenReturn(10L * 1024 * 1024);
+
+        fileBlobRepository = mock(FileBlobRepository.class);
+        when(fileBlobRepository.acquire(anyString(), anyString(), anyString(), anyLong())).thenAnswer(invocation -> {
+            lockKey();
+            rows.add(invocation.getArgument(1));
+            return 1;
+        });
+        when(fileBlobRepository.lockByKey(any(), anyString())).thenAnswer(invocation -> {
+            lockKey();
+            return rows.contains(invocation.<String>getArgument(1))
+                    ? Optional.of(FileBlob.builder().storageKey(invocation.getArgument(1)).build())
+                    : Optional.empty();
+        });
+        // The deleting request already dropped its reference and the row
+        when(fileBlobRepository.release(any(), anyString())).thenReturn(1);
+        when(fileBlobRepository.deleteUnreferenced(any(), anyString())).thenReturn(1);
+
+        fileStorageService = new FileStorageService(config,
+                new LocalFileStore(Map.of(StorageArea.RESUMES, tempDir.resolve("resumes"))),
+                fileBlobRepository, new LockReleasingTransactionManager());
+    }
+
+    @Test
+    void deleteResumeFile_WaitsForConcurrentUploadOfSameContent() throws Exception {
+        StoredFile existing = upload();
+        commit();
+        rows.clear();
+
+        // A second upload of the same content has acquired the key but not committed yet
+        StoredFile reuploaded = CompletableFuture.supplyAsync(this::upload).get(5, TimeUnit.SECONDS);
+        assertEquals(existing.getFileName(), reuploaded.getFileName());
+
+        CompletableFuture<Boolean> deletion =
+                CompletableFuture.supplyAsync(() -> fileStorageService.deleteResumeFile(existing.getFileName()));
+        assertThrows(TimeoutException.class, () -> deletion.get(200, TimeUnit.MILLISECONDS));
+
+        keyLock.release();   // upload commits
+
+        assertFalse(deletion.get(5, TimeUnit.SECONDS));
+        assertTrue(fileStorageService.resumeFileExists(existing.getFileName()));
+    }
+
+    @Test
+    void deleteResumeFile_RemovesObjectNobodyReferences() {
+        StoredFile stored = upload();
+        commit();
+        rows.clear();
+
+        assertTrue(fileStorageService.deleteResumeFile(stored.getFileName()));
+        assertFalse(fileStorageService.resumeFileExists(stored.getFileName()));
+        assertEquals(1, keyLock.availablePermits());
+    }
+
+    @Test
+    void storeResumeFile_AcquiresBeforePublishing() {
+        StoredFile stored = upload();
+
+        verify(fileBlobRepository).acquire(eq(StorageArea.RESUMES.name()), eq(stored.getFileName()),
+                eq(stored.getContentHash()), eq((long) CONTENT.length));
+        assertTrue(Files.exists(tempDir.resolve("resumes").resolve(stored.getFileName())));
+    }
+
+    private StoredFile upload() {
+        return fileStorageService.storeResumeFile(
+                new MockMultipartFile("file", "cv.pdf", "application/pdf", CONTENT));
+    }
+
+    private void commit() {
+        holdsLock.set(false);
+        keyLock.release();
+    }
+
+    private void lockKey() {
+        keyLock.acquireUninterruptibly();
+        holdsLock.set(true);
+    }
+
+    /**
+     * Commits or rolls back nothing, but releases the key lock taken inside the transaction
+     */
+    private class LockReleasingTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            unlock();
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            unlock();
+        }
+
+        private void unlock() {
+            if (holdsLock.get()) {
+                holdsLock.set(false);
+                keyLock.release();
+            }
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return null;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return false;
+        }
+    }
+}
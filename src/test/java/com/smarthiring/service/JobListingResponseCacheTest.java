@@ -0,0 +1,100 @@
+package com.smarthiring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.config.JobListingCacheConfig;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobListingResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobListingResponseCache cache =
+            new JobListingResponseCache(new JobListingCacheConfig(), new ObjectMapper(), meterRegistry);
+
+    @Test
+    void get_LoadsOnceForConcurrentMisses() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            Future<byte[]> first = pool.submit(() -> cache.get("featured", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return List.of("Bengaluru", "Pune");
+            }));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+
+            List<Future<byte[]>> waiting = new ArrayList<>();
+            for (int i = 0; i < 7; i++) {
+                waiting.add(pool.submit(() -> cache.get("featured", () -> {
+                    loads.incrementAndGet();
+                    return List.of();
+                })));
+            }
+            release.countDown();
+
+            assertEquals("[\"Bengaluru\",\"Pune\"]", new String(first.get(5, TimeUnit.SECONDS), StandardCharsets.UTF_8));
+            for (Future<byte[]> other : waiting) {
+                assertArrayEquals(first.get(), other.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.counter(AppConstants.METRIC_RESPONSE_CACHE, "result", "miss").count());
+    }
+
+    @Test
+    void invalidateAll_DropsEntriesAndLoadsInFlight() {
+        assertEquals("[1]", text(cache.get("locations", () -> List.of(1))));
+        assertEquals("[1]", text(cache.get("locations", () -> List.of(2))));
+
+        cache.invalidateAll();
+        assertEquals("[2]", text(cache.get("locations", () -> List.of(2))));
+
+        // A job change commits while this load runs: its result is returned but not kept
+        assertEquals("[3]", text(cache.get("departments", () -> {
+            cache.invalidateAll();
+            return List.of(3);
+        })));
+        assertEquals("[4]", text(cache.get("departments", () -> List.of(4))));
+    }
+
+    @Test
+    void get_DoesNotCacheFailures() {
+        IllegalStateException failure = new IllegalStateException("database down");
+        assertSame(failure, assertThrows(IllegalStateException.class,
+                () -> cache.get("recent:10", () -> { throw failure; })));
+
+        assertEquals("[]", text(cache.get("recent:10", List::of)));
+    }
+
+    private static String text(byte[] body) {
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
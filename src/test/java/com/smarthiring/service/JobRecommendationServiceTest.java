@@ -0,0 +1,158 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.RecommendationConfig;
+import com.smarthiring.dto.response.JobListResponse;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Job;
+import com.smarthiring.enums.WorkMode;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.mapper.JobMapper;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JobRecommendationServiceTest {
+
+    private static final Long CANDIDATE_ID = 7L;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private JobMapper jobMapper;
+
+    private JobRecommendationService recommendationService;
+
+    @BeforeEach
+    void setUp() {
+        recommendationService = new JobRecommendationService(jobRepository, candidateRepository, resumeRepository,
+                applicationRepository, TestObjectFactory.createSkillMatcherService(), jobMapper, new RecommendationConfig());
+
+        LocalDateTime now = LocalDateTime.now();
+        when(jobRepository.findRecommendationProfiles(any())).thenReturn(List.of(
+                row(1L, "Java, Spring Boot", 2, 5, "Bangalore", WorkMode.ONSITE, now),
+                row(2L, "Python, Django", 0, null, "Remote", WorkMode.REMOTE, now),
+                row(3L, "Java, React, AWS, Docker", 1, 3, null, WorkMode.REMOTE, now),
+                row(4L, "Java", 10, null, "Bangalore", WorkMode.ONSITE, now),
+                row(5L, "Java, Spring Boot", 2, 5, "Mumbai", WorkMode.ONSITE, now)
+        ));
+        recommendationService.rebuildIndex();
+
+        Candidate candidate = Candidate.builder()
+                .id(CANDIDATE_ID)
+                .skills("java, springboot")
+                .totalExperience(BigDecimal.valueOf(3))
+                .location("Bangalore")
+                .build();
+        lenient().when(candidateRepository.findById(CANDIDATE_ID)).thenReturn(Optional.of(candidate));
+        lenient().when(resumeRepository.findPrimaryExtractedSkills(CANDIDATE_ID)).thenReturn(List.of());
+        lenient().when(applicationRepository.findJobIdsByCandidateId(CANDIDATE_ID)).thenReturn(List.of());
+        lenient().when(jobRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(id -> Job.builder().id(id).isActive(true).build()).toList();
+        });
+        lenient().when(jobMapper.toListResponse(any(Job.class))).thenAnswer(invocation ->
+                JobListResponse.builder().id(((Job) invocation.getArgument(0)).getId()).build());
+    }
+
+    @Test
+    void getRecommendedJobs_ScoresOnlyOverlappingJobsAndAppliesFilters() {
+        List<JobListResponse> jobs = recommendationService.getRecommendedJobs(CANDIDATE_ID, 10);
+
+        // Job 2 shares no skill, job 4 needs 10 years, job 5 is on-site elsewhere
+        assertEquals(List.of(1L, 3L), jobs.stream().map(JobListResponse::getId).toList());
+        assertEquals(100.0, jobs.get(0).getMatchScore());
+        assertTrue(jobs.get(1).getMatchScore() < jobs.get(0).getMatchScore());
+    }
+
+    @Test
+    void getRecommendedJobs_ExcludesAppliedJobsAndRespectsLimit() {
+        when(applicationRepository.findJobIdsByCandidateId(CANDIDATE_ID)).thenReturn(List.of(1L));
+
+        List<JobListResponse> jobs = recommendationService.getRecommendedJobs(CANDIDATE_ID, 1);
+
+        assertEquals(List.of(3L), jobs.stream().map(JobListResponse::getId).toList());
+    }
+
+    @Test
+    void getRecommendedJobs_HidesJobsAppliedToAfterFeedWasCached() {
+        recommendationService.getRecommendedJobs(CANDIDATE_ID, 10);
+        when(applicationRepository.findJobIdsByCandidateId(CANDIDATE_ID)).thenReturn(List.of(1L));
+
+        List<JobListResponse> jobs = recommendationService.getRecommendedJobs(CANDIDATE_ID, 10);
+
+        assertEquals(List.of(3L), jobs.stream().map(JobListResponse::getId).toList());
+        assertFalse(jobs.get(0).getHasApplied());
+        verify(candidateRepository, times(1)).findById(CANDIDATE_ID);
+    }
+
+    @Test
+    void getRecommendedJobs_FallbackSkipsAppliedJobs() {
+        Candidate noSkills = Candidate.builder().id(CANDIDATE_ID).build();
+        when(candidateRepository.findById(CANDIDATE_ID)).thenReturn(Optional.of(noSkills));
+        when(applicationRepository.findJobIdsByCandidateId(CANDIDATE_ID)).thenReturn(List.of(8L));
+        when(jobRepository.findRecentJobs(PageRequest.of(0, 6))).thenReturn(List.of(
+                Job.builder().id(9L).build(), Job.builder().id(8L).build(), Job.builder().id(6L).build()));
+
+        List<JobListResponse> jobs = recommendationService.getRecommendedJobs(CANDIDATE_ID, null);
+
+        assertEquals(List.of(9L, 6L), jobs.stream().map(JobListResponse::getId).toList());
+    }
+
+    @Test
+    void getRecommendedJobs_CachesFeedUntilProfileChanges() {
+        recommendationService.getRecommendedJobs(CANDIDATE_ID, 5);
+        recommendationService.getRecommendedJobs(CANDIDATE_ID, 5);
+        verify(candidateRepository, times(1)).findById(CANDIDATE_ID);
+
+        recommendationService.onCandidateProfileChanged(new CandidateProfileChangedEvent(CANDIDATE_ID));
+        recommendationService.getRecommendedJobs(CANDIDATE_ID, 5);
+        verify(candidateRepository, times(2)).findById(CANDIDATE_ID);
+    }
+
+    @Test
+    void onJobChanged_RemovesClosedJobFromIndex() {
+        when(jobRepository.findRecommendationProfile(eq(1L), any())).thenReturn(List.of());
+
+        recommendationService.onJobChanged(new JobChangedEvent(1L));
+
+        List<JobListResponse> jobs = recommendationService.getRecommendedJobs(CANDIDATE_ID, 10);
+        assertEquals(List.of(3L), jobs.stream().map(JobListResponse::getId).toList());
+    }
+
+    private Object[] row(Long id, String skills, Integer min, Integer max, String location,
+                         WorkMode workMode, LocalDateTime createdAt) {
+        return new Object[]{id, skills, min, max, location, workMode, createdAt};
+    }
+}
@@ -0,0 +1,136 @@
+package com.smarthiring.service;
+
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.mapper.JobMapper;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.UserRepository;
+import com.smarthiring.util.AppConstants;
+import com.smarthiring.util.NoOpTransactionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The public job lists are evicted when a job change commits, not when it is published
+ */
+@SpringJUnitConfig(JobServiceCacheTest.Config.class)
+class JobServiceCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @EnableTransactionManagement
+    @Import(JobService.class)
+    static class Config {
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return new NoOpTransactionManager();
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @MockBean
+    private JobRepository jobRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private ApplicationRepository applicationRepository;
+
+    @MockBean
+    private JobMapper jobMapper;
+
+    @MockBean
+    private JobListingResponseCache jobListingResponseCache;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AppConstants.CACHE_FEATURED_JOBS).clear();
+        when(jobRepository.findByIsFeaturedTrueAndIsActiveTrue()).thenReturn(List.of());
+    }
+
+    @Test
+    void onJobChanged_EvictsListsAfterCommit() {
+        jobService.getFeaturedJobs();
+        jobService.getFeaturedJobs();
+        verify(jobRepository, times(1)).findByIsFeaturedTrueAndIsActiveTrue();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new JobChangedEvent(1L));
+
+            // Still the committed view until this transaction commits
+            jobService.getFeaturedJobs();
+            verify(jobRepository, times(1)).findByIsFeaturedTrueAndIsActiveTrue();
+            verify(jobListingResponseCache, never()).invalidateAll();
+        });
+
+        verify(jobListingResponseCache).invalidateAll();
+        jobService.getFeaturedJobs();
+        verify(jobRepository, times(2)).findByIsFeaturedTrueAndIsActiveTrue();
+    }
+
+    @Test
+    void onJobChanged_KeepsListsOnRollback() {
+        jobService.getFeaturedJobs();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new JobChangedEvent(1L));
+            status.setRollbackOnly();
+        });
+
+        jobService.getFeaturedJobs();
+        verify(jobRepository, times(1)).findByIsFeaturedTrueAndIsActiveTrue();
+        verify(jobListingResponseCache, never()).invalidateAll();
+    }
+
+    @Test
+    void onJobChanged_EvictsImmediatelyOutsideTransaction() {
+        jobService.getFeaturedJobs();
+
+        eventPublisher.publishEvent(new JobChangedEvent(1L));
+
+        jobService.getFeaturedJobs();
+        verify(jobRepository, times(2)).findByIsFeaturedTrueAndIsActiveTrue();
+    }
+}
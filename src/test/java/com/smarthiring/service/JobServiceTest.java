@@ -7,16 +7,23 @@ import com.smarthiring.entity.User;
 import com.smarthiring.enums.JobType;
 import com.smarthiring.enums.RoleName;
 import com.smarthiring.mapper.JobMapper;
+import com.smarthiring.repository.ApplicationRepository;
 import com.smarthiring.repository.JobRepository;
 import com.smarthiring.repository.UserRepository;
 import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,9 +39,18 @@ class JobServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationRepository applicationRepository;
+
     @Mock
     private JobMapper jobMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private JobService jobService;
 
@@ -87,4 +103,26 @@ class JobServiceTest {
         assertEquals(1L, response.getId());
         verify(jobRepository, times(1)).incrementViewCount(1L); // Verify view count incremented
     }
+
+    @Test
+    void getJobETag_ChangesOnlyWithWhatTheResponseShows() {
+        LocalDateTime updatedAt = LocalDateTime.of(2026, 3, 1, 10, 0);
+        when(jobRepository.findVersionById(1L)).thenReturn(
+                List.<Object[]>of(new Object[]{updatedAt, 4, true}),
+                List.<Object[]>of(new Object[]{updatedAt, 4, true}),
+                List.<Object[]>of(new Object[]{updatedAt, 5, true}),
+                List.<Object[]>of(new Object[]{updatedAt, 5, true}));
+        when(applicationRepository.existsByJobIdAndCandidateId(1L, 7L)).thenReturn(false);
+
+        String eTag = jobService.getJobETag(1L, null);
+        assertTrue(eTag.startsWith("W/\""));
+        assertEquals(eTag, jobService.getJobETag(1L, null));
+        assertNotEquals(eTag, jobService.getJobETag(1L, null));        // Someone applied
+        assertNotEquals(jobService.getJobETag(1L, null), jobService.getJobETag(1L, 7L));
+
+        when(jobRepository.findVersionById(2L)).thenReturn(List.of());
+        assertNull(jobService.getJobETag(2L, null));
+        verify(jobRepository, never()).findById(any());
+        verifyNoInteractions(jobMapper);
+    }
 }
\ No newline at end of file
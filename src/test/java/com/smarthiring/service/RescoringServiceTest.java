@@ -0,0 +1,131 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.RescoringConfig;
+import com.smarthiring.entity.Application;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.event.JobChangedEvent;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.util.AppConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RescoringServiceTest {
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private AIRankingService aiRankingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RescoringConfig rescoringConfig;
+    private RescoringService rescoringService;
+
+    @BeforeEach
+    void setUp() {
+        rescoringConfig = new RescoringConfig();
+        rescoringService = new RescoringService(applicationRepository, aiRankingService, rescoringConfig,
+                transactionTemplate, meterRegistry);
+        rescoringService.registerMetrics();
+    }
+
+    @Test
+    void processQueue_CoalescesEventsAndRescoresInBatches() {
+        rescoringConfig.setBatchSize(2);
+        stubTransactions();
+        when(applicationRepository.findIdsByJobId(1L)).thenReturn(List.of(10L, 11L, 12L));
+        when(applicationRepository.findIdsByCandidateId(7L)).thenReturn(List.of(11L));
+        when(applicationRepository.findForScoringByIdIn(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            List<Application> applications = new ArrayList<>();
+            for (Long id : ids) {
+                Application application = new Application();
+                application.setId(id);
+                applications.add(application);
+            }
+            return applications;
+        });
+
+        rescoringService.onJobChanged(new JobChangedEvent(1L, true));
+        rescoringService.onJobChanged(new JobChangedEvent(1L, true));
+        rescoringService.onJobChanged(new JobChangedEvent(2L));           // Title edit etc.
+        rescoringService.onJobChanged(JobChangedEvent.allJobs());
+        rescoringService.onCandidateProfileChanged(new CandidateProfileChangedEvent(7L));
+        rescoringService.onCandidateProfileChanged(new CandidateProfileChangedEvent(7L));
+
+        rescoringService.processQueue();
+
+        verify(applicationRepository, times(1)).findIdsByJobId(1L);
+        verify(applicationRepository, never()).findIdsByJobId(2L);
+        verify(applicationRepository, times(1)).findIdsByCandidateId(7L);
+        verify(applicationRepository, times(2)).findForScoringByIdIn(any());
+        verify(aiRankingService, times(3)).calculateScore(any());
+        assertEquals(3, rescoringService.getRescoredApplications());
+        assertEquals(3.0, meterRegistry.get(AppConstants.METRIC_RESCORED_APPLICATIONS).functionCounter().count());
+        assertEquals(0, rescoringService.getPendingCount());
+
+        rescoringService.processQueue();
+        verify(aiRankingService, times(3)).calculateScore(any());
+    }
+
+    @Test
+    void processQueue_FailedBatchDoesNotStopTheRest() {
+        rescoringConfig.setBatchSize(1);
+        stubTransactions();
+        when(applicationRepository.findIdsByJobId(1L)).thenReturn(List.of(10L, 11L));
+        Application good = new Application();
+        when(applicationRepository.findForScoringByIdIn(List.of(10L))).thenThrow(new IllegalStateException("boom"));
+        when(applicationRepository.findForScoringByIdIn(List.of(11L))).thenReturn(List.of(good));
+
+        rescoringService.onJobChanged(new JobChangedEvent(1L, true));
+        rescoringService.processQueue();
+
+        verify(aiRankingService).calculateScore(good);
+        assertEquals(1, rescoringService.getFailedBatches());
+        assertEquals(1.0, meterRegistry.get(AppConstants.METRIC_RESCORING_FAILED_BATCHES).functionCounter().count());
+    }
+
+    @Test
+    void recencySweep_QueuesApplicationsCrossingAStep() {
+        LocalDate today = LocalDate.now();
+
+        rescoringService.recencySweep();
+
+        // Applied 2, 8 and 31 days ago: just moved past the 1 / 7 / 30 day steps
+        verify(applicationRepository).findIdsAppliedBetween(
+                today.minusDays(2).atStartOfDay(), today.minusDays(1).atStartOfDay());
+        verify(applicationRepository).findIdsAppliedBetween(
+                today.minusDays(8).atStartOfDay(), today.minusDays(7).atStartOfDay());
+        verify(applicationRepository).findIdsAppliedBetween(
+                today.minusDays(31).atStartOfDay(), today.minusDays(30).atStartOfDay());
+
+        // Already covered today
+        rescoringService.recencySweep();
+        verify(applicationRepository, times(3)).findIdsAppliedBetween(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubTransactions() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+}
@@ -0,0 +1,279 @@
+package com.smarthiring.service;
+
+import com.smarthiring.service.ontology.SkillOntology;
+import com.smarthiring.service.parsing.ResumeFields;
+import com.smarthiring.service.parsing.ResumeSection;
+import com.smarthiring.service.parsing.ResumeSections;
+import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeParserServiceTest {
+
+    private final SkillOntologyService ontologyService = TestObjectFactory.createSkillOntologyService();
+    private final ResumeParserService parser = new ResumeParserService(ontologyService, new SimpleMeterRegistry());
+
+    @Test
+    void extractFields_ReadsEveryFieldInOnePass() {
+        ResumeFields fields = parser.extractFields("""
+                Curriculum Vitae
+                  Priya Sharma \r
+                priya.sharma@Example.com | +91 9876543210 | https://github.com/priya
+                Summary: 6.5+ years of experience building Java and Spring Boot services on AWS.
+                Also wrote JavaScript; 2 yrs exp with CI/CD.
+                Education
+                B.Tech in Computer Science, IIT Delhi, 2015
+                """);
+
+        assertEquals("Curriculum Vitae", fields.name());
+        assertEquals("priya.sharma@example.com", fields.email());
+        assertEquals("+919876543210", fields.phone());
+        assertEquals(6.5, fields.experience());
+        assertEquals("B.Tech in Computer Science, IIT Delhi, 2015", fields.education());
+        List<String> skills = List.of(fields.skills().split(", "));
+        assertTrue(skills.containsAll(List.of("Java", "Spring boot", "AWS", "Javascript", "CI/CD")), fields.skills());
+        assertEquals(ResumeFields.EMPTY, parser.extractFields(null));
+        assertEquals(ResumeFields.EMPTY, parser.extractFields(""));
+    }
+
+    @Test
+    void extractFields_SameResultsAsOnePatternPerField() {
+        LegacyExtractor legacy = new LegacyExtractor(ontologyService.current());
+        Random random = new Random(42);
+
+        for (int i = 0; i < 300; i++) {
+            String text = randomResume(random);
+            ResumeFields fields = parser.extractFields(text);
+
+            assertEquals(legacy.extractName(text), fields.name(), text);
+            assertEquals(legacy.extractEmail(text), fields.email(), text);
+            assertEquals(legacy.extractPhone(text), fields.phone(), text);
+            assertEquals(legacy.extractExperience(text), fields.experience(), text);
+            assertEquals(legacy.extractEducation(text), fields.education(), text);
+            assertEquals(legacy.extractSkills(text), fields.skills(), text);
+        }
+    }
+
+    @Test
+    void extractFields_ReadsEachFieldFromItsSection() {
+        String text = """
+                Priya Sharma
+                priya@example.com
+                +91 9876543210
+
+                PROFESSIONAL SUMMARY:
+                Backend engineer, 6 years of experience with Java.
+
+                Work Experience
+                Acme Corp (3 yrs) Spring Boot, Kafka
+
+                Education & Training
+                B.Tech in Computer Science, 2012 - 4 years
+                School of Python, 20 years old
+
+                # Projects
+                Built a React dashboard over 12 years of data
+
+                Hobbies
+                Cricket, Python meetups, reach me at other@example.com
+                """;
+
+        ResumeFields fields = parser.extractFields(text);
+
+        assertEquals("Priya Sharma", fields.name());
+        assertEquals("priya@example.com", fields.email());
+        assertEquals(6.0, fields.experience());
+        assertEquals("B.Tech in Computer Science, 2012 - 4 years; School of Python, 20 years old", fields.education());
+        assertEquals("Java, React, Spring, Spring boot, Kafka", fields.skills());
+        assertEquals(List.of(ResumeSection.HEADER, ResumeSection.SUMMARY, ResumeSection.EXPERIENCE,
+                        ResumeSection.EDUCATION, ResumeSection.PROJECTS, ResumeSection.OTHER),
+                fields.sections().spans().stream().map(ResumeSections.Span::section).toList());
+    }
+
+    @Test
+    void extractFields_ReusesStoredSectionOffsetsOnlyWhenTheyFit() {
+        String text = "Ravi Kumar\nExperience\n4 years of experience in Python\nEducation\nMSc, 10 years ago, 2014\n";
+        ResumeFields fields = parser.extractFields(text);
+        String stored = fields.sections().encode();
+
+        assertEquals("1;HEADER:0-11;EXPERIENCE:22-54;EDUCATION:64-88", stored);
+        assertEquals(fields, parser.extractFields(text, stored));
+        assertNull(ResumeSections.decode("0;HEADER:0-11", text.length()));
+        assertNull(ResumeSections.decode(stored, 50));
+        assertNull(ResumeSections.decode("1;HEADER:0-11;APPENDIX:11-20", text.length()));
+        assertEquals(fields, parser.extractFields(text, "1;HEADER:0-500"));
+    }
+
+    /**
+     * Time and allocation per resume against a scan per field and per term:
+     * mvn test -Dtest=ResumeParserServiceTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_ExtractFields() {
+        LegacyExtractor legacy = new LegacyExtractor(ontologyService.current());
+        Random random = new Random(7);
+        List<String> resumes = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            resumes.add(randomResume(random));
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        for (int round = 0; round < 3; round++) {
+            long sink = 0;
+            long bytes = threads.getThreadAllocatedBytes(threadId);
+            long started = System.nanoTime();
+            for (String resume : resumes) {
+                sink += legacy.extractSkills(resume).length() + legacy.extractEducation(resume).length();
+                sink += String.valueOf(legacy.extractName(resume)).length()
+                        + String.valueOf(legacy.extractEmail(resume)).length()
+                        + String.valueOf(legacy.extractPhone(resume)).length()
+                        + String.valueOf(legacy.extractExperience(resume)).length();
+            }
+            double legacyMicros = (System.nanoTime() - started) / 1_000.0 / resumes.size();
+            long legacyBytes = (threads.getThreadAllocatedBytes(threadId) - bytes) / resumes.size();
+
+            bytes = threads.getThreadAllocatedBytes(threadId);
+            started = System.nanoTime();
+            for (String resume : resumes) {
+                sink += parser.extractFields(resume).hashCode();
+            }
+            double singlePassMicros = (System.nanoTime() - started) / 1_000.0 / resumes.size();
+            long singlePassBytes = (threads.getThreadAllocatedBytes(threadId) - bytes) / resumes.size();
+
+            System.out.printf("Resume field extraction (%d resumes, avg %d chars): per field %.0f us / %d bytes, "
+                            + "single pass %.0f us / %d bytes per resume (%d)%n", resumes.size(),
+                    resumes.stream().mapToInt(String::length).sum() / resumes.size(),
+                    legacyMicros, legacyBytes, singlePassMicros, singlePassBytes, sink % 10);
+        }
+    }
+
+    private static String randomResume(Random random) {
+        String[] names = {"Priya Sharma", "John Smith", "Ana Maria Lopez", "  Ravi Kumar  ", "Resume"};
+        String[] lines = {
+                "Experienced engineer with %d years of experience in Java and Spring Boot.",
+                "Worked on microservices, Docker, Kubernetes and AWS deployments.",
+                "Skills: Python, Django, React, Node.js, MySQL, PostgreSQL, Git, C++, C#, .NET",
+                "Built JavaScript front ends; scripted in javascripts and Goland.",
+                "Total %d+ yrs exp in backend development",
+                "B.Tech in Computer Science from NIT Trichy",
+                "MBA, 2019",
+                "Master of Science in Data Science, University of Leeds",
+                "Contact: person%d@mail.example.org",
+                "Phone: +91-98765%05d",
+                "Call (415) 555-%04d",
+                "https://linkedin.com/in/person%d",
+                "Certified Scrum Master, Agile, Jira, REST API design",
+                "Led a team of %d engineers",
+                "",
+                "   ",
+                "Diploma in Mechanical Engineering",
+                "Réal-time pipelines with Kafka and Spark_streaming, machine learning, NLP"};
+
+        StringBuilder text = new StringBuilder();
+        if (random.nextBoolean()) {
+            text.append(names[random.nextInt(names.length)]).append('\n');
+        }
+        for (int i = 0, count = 10 + random.nextInt(40); i < count; i++) {
+            text.append(String.format(lines[random.nextInt(lines.length)], random.nextInt(30)))
+                    .append(random.nextInt(5) == 0 ? "\r\n" : "\n");
+        }
+        return text.toString();
+    }
+
+    /**
+     * The extraction as it was before the single pass, kept to compare against
+     */
+    private static final class LegacyExtractor {
+
+        private final SkillOntology ontology;
+        private final List<Pattern> termPatterns;
+
+        LegacyExtractor(SkillOntology ontology) {
+            this.ontology = ontology;
+            this.termPatterns = ontology.getExtractionTerms().stream()
+                    .map(term -> Pattern.compile("\\b" + Pattern.quote(term.term()) + "\\b",
+                            Pattern.CASE_INSENSITIVE))
+                    .toList();
+        }
+
+        String extractSkills(String resumeText) {
+            String lowerText = resumeText.toLowerCase();
+            Set<String> foundSkills = new LinkedHashSet<>();
+            for (int i = 0; i < termPatterns.size(); i++) {
+                if (termPatterns.get(i).matcher(lowerText).find()) {
+                    foundSkills.add(ontology.getExtractionTerms().get(i).displayName());
+                }
+            }
+            return String.join(", ", foundSkills);
+        }
+
+        String extractEmail(String resumeText) {
+            Matcher matcher = Pattern.compile("[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}",
+                    Pattern.CASE_INSENSITIVE).matcher(resumeText);
+            return matcher.find() ? matcher.group().toLowerCase() : null;
+        }
+
+        String extractPhone(String resumeText) {
+            Matcher matcher = Pattern.compile("(\\+91[\\s-]?)?[6-9]\\d{9}|"
+                    + "(\\+1[\\s-]?)?\\(?\\d{3}\\)?[\\s-]?\\d{3}[\\s-]?\\d{4}").matcher(resumeText);
+            return matcher.find() ? matcher.group().replaceAll("[\\s-()]", "") : null;
+        }
+
+        Double extractExperience(String resumeText) {
+            Matcher matcher = Pattern.compile(
+                    "(\\d+(?:\\.\\d+)?)[+]?\\s*(?:years?|yrs?|\\+)\\s*(?:of)?\\s*(?:experience|exp)?",
+                    Pattern.CASE_INSENSITIVE).matcher(resumeText);
+            Double maxExperience = null;
+            while (matcher.find()) {
+                double years = Double.parseDouble(matcher.group(1));
+                if (maxExperience == null || years > maxExperience) {
+                    maxExperience = years;
+                }
+            }
+            return maxExperience;
+        }
+
+        String extractEducation(String resumeText) {
+            List<String> educationFound = new ArrayList<>();
+            for (String line : resumeText.split("\\r?\\n")) {
+                String lowerLine = line.toLowerCase();
+                for (String keyword : ontology.getEducationKeywords()) {
+                    if (lowerLine.contains(keyword) && line.trim().length() > 10) {
+                        educationFound.add(line.trim());
+                        break;
+                    }
+                }
+            }
+            return educationFound.stream().limit(3).collect(Collectors.joining("; "));
+        }
+
+        String extractName(String resumeText) {
+            for (String line : resumeText.split("\\r?\\n")) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                if (line.contains("@") || line.matches(".*\\d{10}.*") || line.contains("http")) {
+                    continue;
+                }
+                if (line.matches("^[A-Za-z]+(?:\\s+[A-Za-z]+){1,3}$")) {
+                    return line;
+                }
+            }
+            return null;
+        }
+    }
+}
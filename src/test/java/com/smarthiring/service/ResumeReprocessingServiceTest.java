@@ -0,0 +1,243 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ResumeReprocessConfig;
+import com.smarthiring.dto.request.ResumeReprocessRequest;
+import com.smarthiring.dto.response.ResumeReprocessJobResponse;
+import com.smarthiring.entity.ResumeReprocessJob;
+import com.smarthiring.enums.ReprocessJobStatus;
+import com.smarthiring.event.CandidateProfileChangedEvent;
+import com.smarthiring.repository.ResumeReprocessJobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.parsing.ResumeFields;
+import com.smarthiring.service.parsing.ResumeSections;
+import com.smarthiring.util.NoOpTransactionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeReprocessingServiceTest {
+
+    private static final long ADMIN_ID = 99L;
+    private static final ResumeFields FIELDS =
+            new ResumeFields(null, null, null, 3.0, "B.Tech", "Java", ResumeSections.NONE);
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private ResumeReprocessJobRepository jobRepository;
+
+    @Mock
+    private ResumeParserService resumeParserService;
+
+    @Mock
+    private ResumeTextService resumeTextService;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ResumeReprocessConfig config = new ResumeReprocessConfig();
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+    private final Map<Long, ResumeReprocessJob> jobs = new ConcurrentHashMap<>();
+
+    private ResumeReprocessingService service;
+
+    @BeforeEach
+    void setUp() {
+        config.setMaxRowsPerSecond(0);
+        service = new ResumeReprocessingService(resumeRepository, jobRepository, resumeParserService,
+                resumeTextService, fileStorageService, config, jdbcTemplate, transactionTemplate, eventPublisher);
+
+        lenient().when(jobRepository.save(any())).thenAnswer(invocation -> {
+            ResumeReprocessJob job = invocation.getArgument(0);
+            if (job.getId() == null) {
+                job.setId(1L);
+            }
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        lenient().when(jobRepository.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.<Long>getArgument(0))));
+
+        // Resumes 1..5 of candidates 10..50; resume 3 has text the parser rejects
+        lenient().when(resumeRepository.count()).thenReturn(5L);
+        lenient().when(resumeRepository.findReprocessBatch(anyLong(), any(Pageable.class))).thenAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            Pageable page = invocation.getArgument(1);
+            return LongStream.rangeClosed(lastId + 1, 5).limit(page.getPageSize())
+                    .mapToObj(id -> new Object[]{id, "resume-" + id + ".pdf",
+                            ResumeTextService.compress(id == 3 ? "bad" : "text " + id), null, id * 10})
+                    .toList();
+        });
+        lenient().when(resumeParserService.extractFields(anyString(), any())).thenAnswer(invocation -> {
+            if ("bad".equals(invocation.getArgument(0))) {
+                throw new IllegalStateException("unreadable");
+            }
+            return FIELDS;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void startJob_WritesEveryPageAndRecordsFailedRows() throws Exception {
+        assertFalse(request(2).getReparseFiles());
+        ResumeReprocessJobResponse started = inTransaction(() -> service.startJob(ADMIN_ID, request(2)));
+        assertFalse(started.getReparseFiles());
+        awaitIdle();
+
+        ResumeReprocessJobResponse job = service.getJobProgress(1L);
+        assertEquals(ReprocessJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getProcessedCount());
+        assertEquals(1L, job.getFailedCount());
+        assertEquals(List.of(3L), job.getFailedResumeIds());
+        assertEquals(5L, job.getLastProcessedId());
+
+        // Pages of 2, 2 and 1 rows; the failed row is not written
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+        for (long candidateId : new long[]{10, 20, 40, 50}) {
+            verify(eventPublisher).publishEvent(new CandidateProfileChangedEvent(candidateId));
+        }
+        verify(eventPublisher, never()).publishEvent(new CandidateProfileChangedEvent(30L));
+    }
+
+    @Test
+    void pauseJob_StopsAfterCurrentPageAndResumesFromCheckpoint() throws Exception {
+        // Pause while the first page is being extracted
+        when(resumeParserService.extractFields(eq("text 1"), any())).thenAnswer(invocation -> {
+            service.pauseJob(1L);
+            return FIELDS;
+        });
+
+        inTransaction(() -> service.startJob(ADMIN_ID, request(2)));
+        awaitIdle();
+
+        ResumeReprocessJobResponse paused = service.getJobProgress(1L);
+        assertEquals(ReprocessJobStatus.PAUSED, paused.getStatus());
+        assertEquals(2L, paused.getLastProcessedId());
+        assertEquals(2L, paused.getProcessedCount());
+
+        when(resumeRepository.countByIdGreaterThan(2L)).thenReturn(3L);
+        inTransaction(() -> service.resumeJob(1L));
+        awaitIdle();
+
+        ResumeReprocessJobResponse completed = service.getJobProgress(1L);
+        assertEquals(ReprocessJobStatus.COMPLETED, completed.getStatus());
+        assertEquals(5L, completed.getProcessedCount());
+        assertEquals(5L, completed.getTotalResumes());
+        verify(resumeRepository, times(1)).findReprocessBatch(eq(0L), any(Pageable.class));
+        verify(resumeRepository).findReprocessBatch(eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void parkInterruptedJobs_ResumeContinuesFromCheckpoint() throws Exception {
+        // A job that was running when the application stopped
+        ResumeReprocessJob interrupted = ResumeReprocessJob.builder()
+                .id(1L)
+                .status(ReprocessJobStatus.RUNNING)
+                .concurrency(2)
+                .batchSize(10)
+                .lastProcessedId(3L)
+                .processedCount(3L)
+                .totalResumes(5L)
+                .build();
+        jobs.put(1L, interrupted);
+        when(jobRepository.updateStatus(ReprocessJobStatus.RUNNING, ReprocessJobStatus.PAUSED)).thenAnswer(invocation -> {
+            interrupted.setStatus(ReprocessJobStatus.PAUSED);
+            return 1;
+        });
+
+        service.parkInterruptedJobs();
+        assertEquals(ReprocessJobStatus.PAUSED, service.getJobProgress(1L).getStatus());
+
+        when(resumeRepository.countByIdGreaterThan(3L)).thenReturn(2L);
+        inTransaction(() -> service.resumeJob(1L));
+        awaitIdle();
+
+        ResumeReprocessJobResponse job = service.getJobProgress(1L);
+        assertEquals(ReprocessJobStatus.COMPLETED, job.getStatus());
+        assertEquals(5L, job.getProcessedCount());
+        assertEquals(5L, job.getLastProcessedId());
+        verify(resumeRepository, never()).findReprocessBatch(eq(0L), any(Pageable.class));
+        verify(resumeRepository).findReprocessBatch(eq(3L), any(Pageable.class));
+    }
+
+    @Test
+    void startJob_ThrottlesToMaxRowsPerSecond() throws Exception {
+        config.setMaxRowsPerSecond(10);
+
+        long started = System.nanoTime();
+        inTransaction(() -> service.startJob(ADMIN_ID, request(5)));
+        awaitIdle();
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        // 5 rows at 10 rows/s
+        assertTrue(elapsedMs >= 450, "finished in " + elapsedMs + " ms");
+        assertEquals(ReprocessJobStatus.COMPLETED, service.getJobProgress(1L).getStatus());
+    }
+
+    @Test
+    void appendFailedIds_KeepsOnlyTheFirstRecordedFailures() {
+        assertNull(ResumeReprocessingService.appendFailedIds(null, List.of()));
+        assertEquals("4,7", ResumeReprocessingService.appendFailedIds("4", List.of(7L)));
+
+        String full = ResumeReprocessingService.appendFailedIds(null,
+                Collections.nCopies(ResumeReprocessingService.MAX_RECORDED_FAILURES, 1L));
+        assertEquals(full, ResumeReprocessingService.appendFailedIds(full, List.of(2L)));
+    }
+
+    private static ResumeReprocessRequest request(int batchSize) {
+        return ResumeReprocessRequest.builder()
+                .concurrency(2)
+                .batchSize(batchSize)
+                .build();
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        AtomicLong activeJobId = (AtomicLong) ReflectionTestUtils.getField(service, "activeJobId");
+        long deadline = System.currentTimeMillis() + 5000;
+        while (activeJobId.get() != 0) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Re-processing job did not finish");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.smarthiring.service;
+
+import com.smarthiring.dto.StoredFile;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Resume;
+import com.smarthiring.mapper.CandidateMapper;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.service.parsing.ResumeFields;
+import com.smarthiring.service.parsing.ResumeSections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResumeServiceTest {
+
+    private static final String TEXT = "Java developer with Spring Boot and MySQL";
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private ResumeParserService resumeParserService;
+
+    @Mock
+    private ResumeTextService resumeTextService;
+
+    @Mock
+    private CandidateMapper candidateMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ResumeService resumeService;
+
+    @Test
+    void uploadResume_PersistsParsedText() {
+        Candidate candidate = Candidate.builder().id(7L).skills("Java").build();
+        MockMultipartFile file = new MockMultipartFile("file", "cv.pdf", "application/pdf", TEXT.getBytes());
+        Map<String, Object> parsed = new HashMap<>();
+        parsed.put("parsedText", TEXT);
+        parsed.put("skills", "Java");
+
+        when(candidateRepository.findByUserId(1L)).thenReturn(Optional.of(candidate));
+        when(fileStorageService.storeResumeFile(file)).thenReturn(new StoredFile("ab/cd/hash.pdf", "hash", 42));
+        when(fileStorageService.getFileExtension("cv.pdf")).thenReturn("pdf");
+        when(resumeParserService.parseResumeComplete(file)).thenReturn(parsed);
+        when(resumeRepository.save(any(Resume.class))).thenAnswer(inv -> {
+            Resume resume = inv.getArgument(0);
+            resume.setId(11L);
+            return resume;
+        });
+
+        resumeService.uploadResume(1L, file, false);
+
+        verify(resumeTextService).saveText(11L, TEXT);
+    }
+
+    @Test
+    void reparseResume_PersistsNewText() {
+        Resume resume = Resume.builder()
+                .id(11L)
+                .candidate(Candidate.builder().id(7L).build())
+                .fileName("ab/cd/hash.pdf")
+                .build();
+        ResumeFields fields = new ResumeFields(null, null, null, 3.0, "", "Java", ResumeSections.NONE);
+
+        when(resumeRepository.findById(11L)).thenReturn(Optional.of(resume));
+        when(fileStorageService.openResumeFile("ab/cd/hash.pdf")).thenReturn(new ByteArrayInputStream(new byte[0]));
+        when(resumeParserService.parseResume(any(InputStream.class))).thenReturn(TEXT);
+        when(resumeParserService.extractFields(TEXT)).thenReturn(fields);
+        when(resumeRepository.save(resume)).thenReturn(resume);
+
+        resumeService.reparseResume(11L);
+
+        verify(resumeTextService).saveText(11L, TEXT);
+    }
+}
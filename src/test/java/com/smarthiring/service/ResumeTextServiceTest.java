@@ -0,0 +1,21 @@
+package com.smarthiring.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResumeTextServiceTest {
+
+    @Test
+    void compress_RoundTripsAndShrinksResumeText() {
+        String text = "Priya Sharma — Senior Engineer, Bengaluru\n"
+                + "Built Java and Spring Boot services on AWS; réal-time pipelines with Kafka.\n".repeat(200);
+
+        byte[] compressed = ResumeTextService.compress(text);
+
+        assertEquals(text, ResumeTextService.decompress(compressed));
+        assertTrue(compressed.length < text.length() / 10, "compressed to " + compressed.length + " bytes");
+        assertEquals("", ResumeTextService.decompress(ResumeTextService.compress("")));
+        assertNull(ResumeTextService.decompress(null));
+    }
+}
@@ -0,0 +1,178 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ScoringConfig;
+import com.smarthiring.config.SimulationConfig;
+import com.smarthiring.dto.request.ScoringSimulationRequest;
+import com.smarthiring.dto.request.ScoringWeightsRequest;
+import com.smarthiring.dto.response.ScoringSimulationResponse;
+import com.smarthiring.entity.Job;
+import com.smarthiring.enums.RoleName;
+import com.smarthiring.event.ApplicationScoredEvent;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
+import com.smarthiring.exception.ServiceUnavailableException;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ScoringWeightProfileRepository;
+import com.smarthiring.service.scoring.ScoringWeights;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringSimulationServiceTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ScoringWeightProfileRepository scoringWeightProfileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SkillMatcherService skillMatcherService = TestObjectFactory.createSkillMatcherService();
+    private SimulationConfig simulationConfig;
+    private ScoringSimulationService simulationService;
+
+    @BeforeEach
+    void setUp() {
+        simulationConfig = new SimulationConfig();
+        simulationConfig.setScoringThreads(4);
+        ScoringWeightService scoringWeightService = new ScoringWeightService(scoringWeightProfileRepository,
+                jobRepository, new ScoringConfig(), eventPublisher);
+        simulationService = new ScoringSimulationService(jobRepository, applicationRepository, skillMatcherService,
+                scoringWeightService, simulationConfig);
+        simulationService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    @Test
+    void simulate_ReportsRankChangesFromOneCachedFetch() {
+        Job job = TestObjectFactory.createTestJob(1L, TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR));
+        job.setRequiredSkills("Java, Docker");
+        job.setExperienceMin(2);
+        job.setExperienceMax(5);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(applicationRepository.findSimulationProfiles(1L)).thenReturn(List.of(
+                row(10L, "Java, Docker", "3"),
+                row(11L, "Java", "4"),
+                row(12L, "Python", "1")));
+
+        ScoringSimulationRequest request = new ScoringSimulationRequest();
+        request.setOptionalSkills(List.of("docker"));
+        request.setWeights(new ScoringWeightsRequest(1.0, 3.0, 0.0, 0.0, 0.0));
+        request.setLimit(2);
+
+        ScoringSimulationResponse response = simulationService.simulate(1L, request);
+
+        assertEquals("Java", response.getRequiredSkills());
+        assertEquals("docker", response.getNiceToHaveSkills());
+        assertEquals(0.25, response.getWeights().getSkillWeight());
+        assertEquals(3, response.getApplicantsScored());
+        // With docker only nice-to-have 10 and 11 tie on the simulated score; the earlier application wins
+        assertEquals(List.of(10L, 11L), response.getRanking().stream()
+                .map(ScoringSimulationResponse.SimulatedApplicant::getApplicationId).toList());
+        assertEquals(2, response.getRanking().get(1).getCurrentRank());
+        assertEquals(0, response.getRanking().get(1).getRankChange());
+        assertEquals(new BigDecimal("100.00"), response.getRanking().get(1).getScore());
+        assertEquals(0, response.getEnteredTopK());
+
+        // Experience-only ranking promotes the candidate inside the range
+        request.setOptionalSkills(null);
+        request.setExperienceMin(4);
+        response = simulationService.simulate(1L, request);
+        assertEquals(11L, response.getRanking().get(0).getApplicationId());
+        assertEquals(1, response.getRanking().get(0).getRankChange());
+
+        verify(applicationRepository, times(1)).findSimulationProfiles(1L);
+        verify(applicationRepository, never()).save(any());
+
+        simulationService.onApplicationScored(new ApplicationScoredEvent(1L, 12L));
+        simulationService.simulate(1L, request);
+        verify(applicationRepository, times(2)).findSimulationProfiles(1L);
+
+        // Another job's weights keep the pool; a department or default change drops it
+        simulationService.onScoringWeightsChanged(new ScoringWeightsChangedEvent(2L, null));
+        simulationService.simulate(1L, request);
+        verify(applicationRepository, times(2)).findSimulationProfiles(1L);
+
+        simulationService.onScoringWeightsChanged(ScoringWeightsChangedEvent.forDefault());
+        simulationService.simulate(1L, request);
+        verify(applicationRepository, times(3)).findSimulationProfiles(1L);
+
+        simulationService.onScoringWeightsChanged(new ScoringWeightsChangedEvent(1L, null));
+        simulationService.simulate(1L, request);
+        verify(applicationRepository, times(4)).findSimulationProfiles(1L);
+    }
+
+    @Test
+    void run_ParallelPassMatchesDirectScoring() {
+        Random random = new Random(3);
+        String[] vocabulary = {"java", "docker", "spring", "aws", "react", "python"};
+        List<ScoringSimulationService.ApplicantProfile> applicants = new ArrayList<>();
+        for (long id = 1; id <= 10_000; id++) {
+            applicants.add(new ScoringSimulationService.ApplicantProfile(id, id, "Candidate " + id, null,
+                    skillMatcherService.resolveSkills(vocabulary[random.nextInt(6)] + "," + vocabulary[random.nextInt(6)]),
+                    random.nextInt(100) / 10.0, 0.8, random.nextInt(11) / 10.0, 0.9));
+        }
+        ScoringSimulationService.Scenario current = new ScoringSimulationService.Scenario(
+                skillMatcherService.prepareRequiredSkills("Java, Docker, AWS"), 2, 6, ScoringWeights.DEFAULT);
+        ScoringSimulationService.Scenario simulated = new ScoringSimulationService.Scenario(
+                skillMatcherService.prepareRequiredSkills("Java"), 5, 9, new ScoringWeights(0.3, 0.5, 0.1, 0.1, 0));
+
+        ScoringSimulationService.SimulationRun run = simulationService.run(applicants, current, simulated, 50,
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(30));
+
+        List<Long> expected = applicants.stream()
+                .sorted((a, b) -> {
+                    int byScore = Double.compare(ScoringSimulationService.score(b, simulated),
+                            ScoringSimulationService.score(a, simulated));
+                    return byScore != 0 ? byScore : Long.compare(a.applicationId(), b.applicationId());
+                })
+                .limit(50)
+                .map(ScoringSimulationService.ApplicantProfile::applicationId)
+                .toList();
+        assertEquals(expected, run.ranking().stream()
+                .map(ScoringSimulationResponse.SimulatedApplicant::getApplicationId).toList());
+    }
+
+    @Test
+    void simulate_EnforcesTimeBudget() {
+        simulationConfig.setTimeBudgetMs(0);
+        Job job = TestObjectFactory.createTestJob(1L, TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR));
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+
+        assertThrows(ServiceUnavailableException.class,
+                () -> simulationService.simulate(1L, new ScoringSimulationRequest()));
+    }
+
+    private static Object[] row(Long applicationId, String skills, String experience) {
+        return new Object[]{applicationId, applicationId + 100, "Candidate " + applicationId, null,
+                LocalDateTime.now(), skills, new BigDecimal(experience), "B.Tech",
+                null, null, null, null, null, null, null, null};
+    }
+}
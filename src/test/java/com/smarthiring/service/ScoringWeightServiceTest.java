@@ -0,0 +1,124 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ScoringConfig;
+import com.smarthiring.dto.request.ScoringWeightsRequest;
+import com.smarthiring.entity.ScoringWeightProfile;
+import com.smarthiring.entity.User;
+import com.smarthiring.enums.RoleName;
+import com.smarthiring.event.ScoringWeightsChangedEvent;
+import com.smarthiring.exception.BadRequestException;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ScoringWeightProfileRepository;
+import com.smarthiring.service.scoring.ScoringWeights;
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringWeightServiceTest {
+
+    @Mock
+    private ScoringWeightProfileRepository profileRepository;
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ScoringWeightService scoringWeightService;
+
+    @BeforeEach
+    void setUp() {
+        scoringWeightService = new ScoringWeightService(profileRepository, jobRepository, new ScoringConfig(),
+                eventPublisher);
+    }
+
+    @Test
+    void weightsFor_JobThenDepartmentThenDefault() {
+        assertEquals(ScoringWeights.DEFAULT, scoringWeightService.weightsFor(1L, "Engineering"));
+
+        when(profileRepository.findAll()).thenReturn(List.of(
+                profile(1L, null, 1, 1, 0, 0, 0),
+                profile(null, "Engineering ", 4, 2, 2, 1, 1),
+                profile(null, null, 1, 0, 0, 0, 0)));
+        scoringWeightService.reload();
+
+        assertEquals(new ScoringWeights(0.5, 0.5, 0, 0, 0), scoringWeightService.weightsFor(1L, "Engineering"));
+        assertEquals(new ScoringWeights(0.4, 0.2, 0.2, 0.1, 0.1), scoringWeightService.weightsFor(2L, "engineering"));
+        assertEquals(new ScoringWeights(1, 0, 0, 0, 0), scoringWeightService.weightsFor(3L, "Sales"));
+        assertEquals(new ScoringWeights(1, 0, 0, 0, 0), scoringWeightService.weightsFor(3L, null));
+    }
+
+    @Test
+    void reload_FailureKeepsPreviousTable() {
+        when(profileRepository.findAll())
+                .thenReturn(List.of(profile(null, null, 1, 1, 0, 0, 0)))
+                .thenThrow(new IllegalStateException("database down"));
+
+        scoringWeightService.reload();
+        scoringWeightService.reload();
+
+        assertEquals(new ScoringWeights(0.5, 0.5, 0, 0, 0), scoringWeightService.weightsFor(1L, null));
+    }
+
+    @Test
+    void saveDepartmentWeights_NormalizesAndPublishes() {
+        when(profileRepository.findByDepartment("Sales")).thenReturn(Optional.empty());
+        when(profileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var response = scoringWeightService.saveDepartmentWeights(" Sales ",
+                new ScoringWeightsRequest(2.0, 1.0, 1.0, 0.0, 0.0), "hr@test.com");
+
+        assertEquals("DEPARTMENT", response.getScope());
+        assertEquals(0.5, response.getSkillWeight());
+        assertEquals(0.25, response.getEducationWeight());
+        verify(eventPublisher).publishEvent(new ScoringWeightsChangedEvent(null, "Sales"));
+
+        assertThrows(BadRequestException.class, () -> scoringWeightService.saveDefaultWeights(
+                new ScoringWeightsRequest(0.0, 0.0, 0.0, 0.0, 0.0), "hr@test.com"));
+    }
+
+    @Test
+    void saveJobWeights_OnlyByThePoster() {
+        User poster = TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR);
+        when(jobRepository.findById(10L)).thenReturn(Optional.of(TestObjectFactory.createTestJob(10L, poster)));
+        ScoringWeightsRequest request = new ScoringWeightsRequest(1.0, 1.0, 0.0, 0.0, 0.0);
+
+        assertThrows(BadRequestException.class,
+                () -> scoringWeightService.saveJobWeights(10L, request, 2L, "other@test.com"));
+        verify(profileRepository, never()).save(any());
+
+        when(profileRepository.findByJobId(10L)).thenReturn(Optional.empty());
+        when(profileRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        var response = scoringWeightService.saveJobWeights(10L, request, 1L, "hr@test.com");
+
+        assertEquals("JOB", response.getScope());
+        verify(eventPublisher).publishEvent(new ScoringWeightsChangedEvent(10L, null));
+    }
+
+    private static ScoringWeightProfile profile(Long jobId, String department, double skill, double experience,
+                                                double education, double resumeQuality, double recency) {
+        return ScoringWeightProfile.builder()
+                .jobId(jobId)
+                .department(department)
+                .skillWeight(skill)
+                .experienceWeight(experience)
+                .educationWeight(education)
+                .resumeQualityWeight(resumeQuality)
+                .recencyWeight(recency)
+                .build();
+    }
+}
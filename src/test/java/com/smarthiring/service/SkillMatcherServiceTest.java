@@ -0,0 +1,164 @@
+package com.smarthiring.service;
+
+import com.smarthiring.util.TestObjectFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkillMatcherServiceTest {
+
+    private static final String[] VOCABULARY = {"Java", "Spring", "springboot", "MySQL", "PostgreSQL", "Docker",
+            "k8s", "AWS", "EC2", "React", "Node.js", "Python", "Django", "Git", "Jenkins", "Kafka", "Redis",
+            "Angular", "TypeScript", "Go", "Rust", "C++", "Terraform", "Linux", "Scrum", "JPA", "REST"};
+
+    private final SkillMatcherService skillMatcherService = TestObjectFactory.createSkillMatcherService();
+
+    @Test
+    void getDetailedSkillMatch_WeightsRequiredSkillsByCategory() {
+        // Programming language 1.0, tool 0.6
+        assertEquals(0.625, score("java", "Java, Docker", null), 1e-9);
+        assertEquals(0.375, score("docker", "Java, Docker", null), 1e-9);
+
+        // Synonyms take the weight of their main skill
+        assertEquals(0.375, score("containers", "Java, Docker", null), 1e-9);
+        assertEquals(1.0, score("anything", null, null), 1e-9);
+    }
+
+    @Test
+    void getDetailedSkillMatch_NiceToHaveBonusIsCapped() {
+        Map<String, Object> match = skillMatcherService.getDetailedSkillMatch(
+                "java, kafka, amazon web services", "Java, Docker", "Kafka, AWS, Terraform");
+
+        // 0.625 + 0.10 * (0.8 + 0.7) / (0.8 + 0.7 + 0.8)
+        assertEquals(0.625 + 0.10 * 1.5 / 2.3, (Double) match.get("matchScore"), 1e-9);
+        assertEquals(Set.of("kafka", "aws"), Set.copyOf(list(match, "matchedNiceToHave")));
+        assertEquals(List.of("terraform"), list(match, "missingNiceToHave"));
+        assertEquals(3, match.get("totalNiceToHave"));
+
+        // Never above a full match, and no bonus without requirements
+        assertEquals(1.0, score("java, docker, kafka, aws, terraform", "Java, Docker", "Kafka, AWS, Terraform"), 1e-9);
+        assertEquals(1.0, score("kafka", null, "Kafka"), 1e-9);
+        assertEquals(0.0, score("python", "Java", "Kafka"), 1e-9);
+    }
+
+    @Test
+    void getDetailedSkillMatch_NoSubstringFalsePositives() {
+        Map<String, Object> match = skillMatcherService.getDetailedSkillMatch("javascript, react", "Java, R");
+
+        assertEquals(List.of(), list(match, "matchedSkills"));
+        assertEquals(Set.of("javascript", "react"), Set.copyOf(list(match, "extraSkills")));
+        assertEquals(0.0, (Double) match.get("matchScore"), 1e-9);
+    }
+
+    @Test
+    void getDetailedSkillMatch_MatchesTyposVariantsAndSynonyms() {
+        Map<String, Object> match = skillMatcherService.getDetailedSkillMatch(
+                "Kubernets, Postgress, Java 17, AWS Lambda, Spring-Boot 3, Pyhton",
+                "Kubernetes, PostgreSQL, Java, AWS, Spring Boot, Python");
+
+        assertEquals(List.of(), list(match, "missingSkills"), match.toString());
+        assertEquals(List.of(), list(match, "extraSkills"));
+
+        // Too short to correct
+        assertEquals("mssql", skillMatcherService.canonicalSkill("MSSQL"));
+        assertEquals("kubernetes", skillMatcherService.canonicalSkill("kubernets"));
+    }
+
+    @Test
+    void resolveSkills_SameIdsAsDetailedMatch() {
+        Random random = new Random(11);
+        for (int n = 0; n < 2_000; n++) {
+            String candidateSkills = randomSkills(random, 1 + random.nextInt(10));
+            String requiredSkills = randomSkills(random, random.nextInt(6));
+
+            SkillMatcherService.RequiredSkills required = skillMatcherService.prepareRequiredSkills(requiredSkills);
+            Map<String, Object> match = skillMatcherService.getDetailedSkillMatch(candidateSkills, requiredSkills);
+
+            assertEquals(match.get("totalMatched"), required.countMatched(skillMatcherService.resolveSkills(candidateSkills)));
+            assertEquals((Double) match.get("matchScore"),
+                    required.matchScore(skillMatcherService.resolveSkills(candidateSkills)), 1e-12);
+        }
+    }
+
+    /**
+     * The pre-series matcher (LegacySkillMatcher) against per-call detailed matching and
+     * the resolved-id hot path: mvn test -Dtest=SkillMatcherServiceTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_DetailedSkillMatch() {
+        Random random = new Random(5);
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < 200_000; i++) {
+            candidates.add(randomSkills(random, 3 + random.nextInt(10)));
+        }
+        String requiredSkills = "Java, Spring Boot, MySQL, Docker, AWS, Kubernetes, REST API, Git";
+        LegacySkillMatcher legacy = new LegacySkillMatcher();
+
+        // Warm-up
+        for (int i = 0; i < 20_000; i++) {
+            legacy.getDetailedSkillMatch(candidates.get(i), requiredSkills);
+            skillMatcherService.getDetailedSkillMatch(candidates.get(i), requiredSkills, "Kafka, Redis");
+        }
+
+        long started = System.nanoTime();
+        for (String candidate : candidates) {
+            legacy.getDetailedSkillMatch(candidate, requiredSkills);
+        }
+        long legacyMs = (System.nanoTime() - started) / 1_000_000;
+
+        started = System.nanoTime();
+        for (String candidate : candidates) {
+            skillMatcherService.getDetailedSkillMatch(candidate, requiredSkills, "Kafka, Redis");
+        }
+        long detailedMs = (System.nanoTime() - started) / 1_000_000;
+
+        started = System.nanoTime();
+        List<SkillMatcherService.CandidateSkills> resolved = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            resolved.add(skillMatcherService.resolveSkills(candidate));
+        }
+        long resolveMs = (System.nanoTime() - started) / 1_000_000;
+
+        SkillMatcherService.RequiredSkills prepared = skillMatcherService.prepareRequiredSkills(requiredSkills,
+                "Kafka, Redis");
+        started = System.nanoTime();
+        double total = 0;
+        for (SkillMatcherService.CandidateSkills skills : resolved) {
+            total += prepared.matchScore(skills);
+        }
+        long matchMs = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("Skill match benchmark (%d candidates): legacy %d ms, detailed %d ms, resolve %d ms, "
+                + "match resolved ids %d ms (score sum %.1f)%n", candidates.size(), legacyMs, detailedMs, resolveMs,
+                matchMs, total);
+    }
+
+    private double score(String candidateSkills, String requiredSkills, String niceToHaveSkills) {
+        return (Double) skillMatcherService.getDetailedSkillMatch(candidateSkills, requiredSkills, niceToHaveSkills)
+                .get("matchScore");
+    }
+
+    private static String randomSkills(Random random, int count) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                skills.append(", ");
+            }
+            skills.append(VOCABULARY[random.nextInt(VOCABULARY.length)]);
+        }
+        return skills.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> list(Map<String, Object> match, String key) {
+        return (List<String>) match.get(key);
+    }
+}
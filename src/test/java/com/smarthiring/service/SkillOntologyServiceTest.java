@@ -0,0 +1,122 @@
+package com.smarthiring.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.config.OntologyConfig;
+import com.smarthiring.dto.response.SkillOntologyResponse;
+import com.smarthiring.event.SkillOntologyChangedEvent;
+import com.smarthiring.service.scoring.EducationLevel;
+import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SkillOntologyServiceTest {
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reload_SwapsValidVersionsAndKeepsTheLoadedOneOnErrors() throws IOException {
+        Path file = directory.resolve("ontology.json");
+        write(file, "1", "tool");
+        OntologyConfig config = new OntologyConfig();
+        config.setLocation(file.toUri().toString());
+        SkillOntologyService service = new SkillOntologyService(config, new DefaultResourceLoader(),
+                new ObjectMapper(), eventPublisher);
+        service.init();
+
+        assertEquals("kubernetes", service.current().canonicalSkill("k8s"));
+        assertEquals(0.6, service.current().skillWeight("k8s"));
+
+        // Unknown category: rejected, version 1 keeps serving
+        write(file, "2", "orchestration");
+        SkillOntologyResponse status = service.reload();
+        assertEquals("1", status.getVersion());
+        assertNotNull(status.getLastError());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        write(file, "2", "cloud");
+        status = service.reload();
+        assertEquals("2", status.getVersion());
+        assertNull(status.getLastError());
+        assertEquals(0.7, service.current().skillWeight("kubernetes"));
+        verify(eventPublisher).publishEvent(new SkillOntologyChangedEvent("1", "2"));
+    }
+
+    @Test
+    void reload_RejectsNonPositiveWeights() throws IOException {
+        Path file = directory.resolve("ontology.json");
+        write(file, "1", "tool");
+        OntologyConfig config = new OntologyConfig();
+        config.setLocation(file.toUri().toString());
+        SkillOntologyService service = new SkillOntologyService(config, new DefaultResourceLoader(),
+                new ObjectMapper(), eventPublisher);
+        service.init();
+
+        Files.writeString(file, """
+                {
+                  "version": "2",
+                  "categories": {"tool": 0.0},
+                  "skills": [{"name": "kubernetes", "category": "tool"}]
+                }
+                """);
+        SkillOntologyResponse status = service.reload();
+        assertEquals("1", status.getVersion());
+        assertTrue(status.getLastError().contains("category 'tool'"), status.getLastError());
+
+        Files.writeString(file, """
+                {
+                  "version": "2",
+                  "defaultSkillWeight": -1,
+                  "categories": {"tool": 0.6},
+                  "skills": [{"name": "kubernetes"}]
+                }
+                """);
+        status = service.reload();
+        assertEquals("1", status.getVersion());
+        assertTrue(status.getLastError().contains("defaultSkillWeight"), status.getLastError());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void bundledOntology_DrivesExtractionAndEducationLevels() {
+        SkillOntologyService service = TestObjectFactory.createSkillOntologyService();
+        ResumeParserService parser = new ResumeParserService(service, new SimpleMeterRegistry());
+
+        String skills = parser.extractSkills("Built CI/CD pipelines on K8s with Spring Boot and SQL");
+
+        assertTrue(List.of(skills.split(", ")).containsAll(List.of("CI/CD", "K8s", "Spring boot", "Spring", "SQL")),
+                skills);
+        assertEquals(EducationLevel.MASTERS, service.current().educationLevel("M.Tech, Computer Science"));
+        assertEquals(EducationLevel.OTHER, service.current().educationLevel("Self taught"));
+        assertEquals(EducationLevel.NOT_SPECIFIED, service.current().educationLevel(null));
+    }
+
+    private static void write(Path file, String version, String category) throws IOException {
+        Files.writeString(file, """
+                {
+                  "version": "%s",
+                  "categories": {"tool": 0.6, "cloud": 0.7},
+                  "skills": [{"name": "kubernetes", "category": "%s", "synonyms": ["k8s"]}]
+                }
+                """.formatted(version, category));
+    }
+}
@@ -0,0 +1,168 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.StorageGcConfig;
+import com.smarthiring.dto.response.StorageReportResponse;
+import com.smarthiring.entity.FileBlob;
+import com.smarthiring.repository.FileBlobRepository;
+import com.smarthiring.repository.ResumeRepository;
+import com.smarthiring.repository.UserRepository;
+import com.smarthiring.service.storage.FileStore;
+import com.smarthiring.service.storage.LocalFileStore;
+import com.smarthiring.service.storage.StorageArea;
+import com.smarthiring.util.AppConstants;
+import com.smarthiring.util.NoOpTransactionManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StorageReconcilerServiceTest {
+
+    private static final String LIVE_KEY = "aa/bb/live.pdf";
+    private static final String ORPHAN_KEY = "aa/bb/orphan.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private ResumeRepository resumeRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private FileBlobRepository fileBlobRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private Path resumeRoot;
+    private StorageReconcilerService reconciler;
+    private final Set<String> referenced = new HashSet<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        resumeRoot = Files.createDirectories(tempDir.resolve("resumes"));
+        FileStore fileStore = new LocalFileStore(Map.of(
+                StorageArea.RESUMES, resumeRoot,
+                StorageArea.PROFILES, Files.createDirectories(tempDir.resolve("profiles"))));
+
+        StorageGcConfig config = new StorageGcConfig();
+        config.setBatchSize(1);
+
+        reconciler = new StorageReconcilerService(fileStore, resumeRepository, userRepository,
+                fileBlobRepository, config, meterRegistry, new NoOpTransactionManager());
+        reconciler.registerMetrics();
+
+        when(resumeRepository.findReferencedFileNames(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> keys = invocation.getArgument(0);
+            return keys.stream().filter(referenced::contains).toList();
+        });
+        lenient().when(userRepository.findReferencedProfilePictures(anyCollection())).thenReturn(List.of());
+
+        referenced.add(LIVE_KEY);
+        writeFile(LIVE_KEY, "live", Duration.ofDays(2));
+        writeFile(ORPHAN_KEY, "orphan", Duration.ofDays(2));
+    }
+
+    @Test
+    void reconcile_QuarantinesOrphansAndKeepsReferencedFiles() {
+        assertTrue(Double.isNaN(storageGauge(AppConstants.METRIC_STORAGE_FILES)));
+
+        reconciler.scheduledReconciliation();
+
+        assertTrue(Files.exists(resumeRoot.resolve(LIVE_KEY)));
+        assertFalse(Files.exists(resumeRoot.resolve(ORPHAN_KEY)));
+        assertTrue(Files.exists(resumeRoot.resolve(FileStore.QUARANTINE_PREFIX + ORPHAN_KEY)));
+
+        StorageReportResponse.AreaUsage usage = reconciler.getReport().getAreas().get(0);
+        assertEquals(2L, usage.getTotalFiles());
+        assertEquals(10L, usage.getTotalBytes());
+        assertEquals(1L, usage.getOrphanFiles());
+        assertEquals(1L, usage.getQuarantinedFiles());
+        assertEquals(2.0, storageGauge(AppConstants.METRIC_STORAGE_FILES));
+        assertEquals(10.0, storageGauge(AppConstants.METRIC_STORAGE_BYTES));
+    }
+
+    @Test
+    void reconcile_KeepsOrphanAcquiredByConcurrentUpload() {
+        // Same content uploaded again after the reference check; the resume row is not committed yet
+        when(fileBlobRepository.lockByKey(StorageArea.RESUMES, ORPHAN_KEY))
+                .thenReturn(Optional.of(FileBlob.builder().storageKey(ORPHAN_KEY).refCount(1).build()));
+
+        reconciler.scheduledReconciliation();
+
+        assertTrue(Files.exists(resumeRoot.resolve(ORPHAN_KEY)));
+        assertFalse(Files.exists(resumeRoot.resolve(FileStore.QUARANTINE_PREFIX + ORPHAN_KEY)));
+        assertEquals(0L, reconciler.getReport().getAreas().get(0).getOrphanFiles());
+    }
+
+    @Test
+    void reconcile_SkipsRecentUploads() throws Exception {
+        writeFile("cc/dd/in-flight.pdf", "new", Duration.ZERO);
+
+        reconciler.scheduledReconciliation();
+
+        assertTrue(Files.exists(resumeRoot.resolve("cc/dd/in-flight.pdf")));
+    }
+
+    @Test
+    void reconcile_DeletesAfterRetentionAndReportsReclaimedSpace() throws Exception {
+        reconciler.scheduledReconciliation();
+        age(FileStore.QUARANTINE_PREFIX + ORPHAN_KEY, Duration.ofDays(30));
+
+        reconciler.scheduledReconciliation();
+
+        assertFalse(Files.exists(resumeRoot.resolve(FileStore.QUARANTINE_PREFIX + ORPHAN_KEY)));
+        verify(fileBlobRepository).deleteByKey(StorageArea.RESUMES, ORPHAN_KEY);
+        assertEquals(1L, reconciler.getReport().getReclaimedFiles());
+        assertEquals(6L, reconciler.getReport().getReclaimedBytes());
+        assertEquals(1.0, meterRegistry.get(AppConstants.METRIC_STORAGE_RECLAIMED_FILES).functionCounter().count());
+        assertEquals(6.0, meterRegistry.get(AppConstants.METRIC_STORAGE_RECLAIMED_BYTES).functionCounter().count());
+    }
+
+    @Test
+    void reconcile_RestoresQuarantinedFileReferencedAgain() {
+        reconciler.scheduledReconciliation();
+        referenced.add(ORPHAN_KEY);
+
+        reconciler.scheduledReconciliation();
+
+        assertTrue(Files.exists(resumeRoot.resolve(ORPHAN_KEY)));
+        assertEquals(1L, reconciler.getReport().getRestoredFiles());
+        assertEquals(1.0, meterRegistry.get(AppConstants.METRIC_STORAGE_RESTORED_FILES).functionCounter().count());
+    }
+
+    private double storageGauge(String name) {
+        return meterRegistry.get(name).tag("area", StorageArea.RESUMES.name()).gauge().value();
+    }
+
+    private void writeFile(String key, String content, Duration age) throws Exception {
+        Path path = resumeRoot.resolve(key);
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+        age(key, age);
+    }
+
+    private void age(String key, Duration age) throws Exception {
+        Files.setLastModifiedTime(resumeRoot.resolve(key), FileTime.from(Instant.now().minus(age)));
+    }
+}
@@ -0,0 +1,255 @@
+package com.smarthiring.service;
+
+import com.smarthiring.config.ScoringConfig;
+import com.smarthiring.config.SourcingConfig;
+import com.smarthiring.dto.response.TalentSourcingResponse;
+import com.smarthiring.entity.Application;
+import com.smarthiring.entity.Candidate;
+import com.smarthiring.entity.Job;
+import com.smarthiring.entity.Resume;
+import com.smarthiring.entity.User;
+import com.smarthiring.enums.RoleName;
+import com.smarthiring.mapper.ApplicationMapper;
+import com.smarthiring.repository.ApplicationRepository;
+import com.smarthiring.repository.ApplicationScoreRepository;
+import com.smarthiring.repository.CandidateRepository;
+import com.smarthiring.repository.JobRepository;
+import com.smarthiring.repository.ScoringWeightProfileRepository;
+import com.smarthiring.service.scoring.ScoringWeights;
+import com.smarthiring.util.TestObjectFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TalentSourcingServiceTest {
+
+    private static final String REQUIRED_SKILLS = "Java, Spring Boot, MySQL, Docker, AWS";
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @Mock
+    private CandidateRepository candidateRepository;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+
+    @Mock
+    private ApplicationScoreRepository applicationScoreRepository;
+
+    @Mock
+    private ScoringWeightProfileRepository scoringWeightProfileRepository;
+
+    @Mock
+    private ApplicationMapper applicationMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SkillMatcherService skillMatcherService = TestObjectFactory.createSkillMatcherService();
+    private SourcingConfig sourcingConfig;
+    private ScoringWeightService scoringWeightService;
+    private TalentSourcingService sourcingService;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        sourcingConfig = new SourcingConfig();
+        sourcingConfig.setScoringThreads(2);
+        scoringWeightService = new ScoringWeightService(scoringWeightProfileRepository, jobRepository,
+                new ScoringConfig(), eventPublisher);
+        sourcingService = new TalentSourcingService(jobRepository, candidateRepository, applicationRepository,
+                skillMatcherService, scoringWeightService, sourcingConfig);
+        sourcingService.init();
+
+        job = TestObjectFactory.createTestJob(1L, TestObjectFactory.createTestUser(1L, "hr@test.com", RoleName.ROLE_HR));
+        job.setRequiredSkills(REQUIRED_SKILLS);
+        job.setExperienceMin(3);
+        job.setExperienceMax(6);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sourcingService.shutdown();
+    }
+
+    @Test
+    void score_MatchesApplicationScoring() {
+        Candidate candidate = candidate(5L, "java, springboot, docker", "4.5", "B.Tech Computer Science");
+        Resume resume = new Resume();
+        resume.setIsPrimary(true);
+        resume.setExtractedSkills("Amazon Web Services, Kubernetes, Git");
+        resume.setParsedTextLength(1200);
+        candidate.getResumes().add(resume);
+
+        Application application = new Application();
+        application.setJob(job);
+        application.setCandidate(candidate);
+
+        AIRankingService rankingService = new AIRankingService(applicationRepository, applicationScoreRepository,
+                jobRepository, skillMatcherService, scoringWeightService, new ScoringConfig(), applicationMapper,
+                eventPublisher, new SimpleMeterRegistry());
+        BigDecimal expected = rankingService.calculateScore(application);
+
+        TalentSourcingService.SourcingRow row = new TalentSourcingService.SourcingRow(5L, candidate.getSkills(), 4.5,
+                candidate.getEducation(), true, resume.getExtractedSkills(), null, 1200);
+        TalentSourcingService.ScoredCandidate scored = sourcingService.score(profile(), row);
+
+        assertEquals(expected, BigDecimal.valueOf(scored.score()).setScale(2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void sourceCandidates_ExcludesApplicantsAndRanksAcrossPages() {
+        sourcingConfig.setPageSize(2);
+        when(jobRepository.findById(1L)).thenReturn(Optional.of(job));
+        when(applicationRepository.findCandidateIdsByJobId(1L)).thenReturn(List.of(2L));
+        when(candidateRepository.findSourcingProfiles(eq(0L), any())).thenReturn(List.of(
+                row(1L, "java", "1", null),
+                row(2L, REQUIRED_SKILLS, "4", "master")));
+        when(candidateRepository.findSourcingProfiles(eq(2L), any())).thenReturn(List.of(
+                row(3L, REQUIRED_SKILLS, "4", "bachelor"),
+                row(4L, "java, mysql", "4", null)));
+        when(candidateRepository.findSourcingProfiles(eq(4L), any())).thenReturn(List.of());
+        when(candidateRepository.findAllById(anyIterable())).thenReturn(List.of(
+                candidate(3L, REQUIRED_SKILLS, "4", "bachelor"),
+                candidate(4L, "java, mysql", "4", null)));
+
+        TalentSourcingResponse response = sourcingService.sourceCandidates(1L, 2, false);
+
+        assertEquals(4L, response.getCandidatesScanned());
+        assertEquals(3L, response.getCandidatesScored());
+        assertEquals(List.of(3L, 4L), response.getCandidates().stream()
+                .map(TalentSourcingResponse.SourcedCandidate::getCandidateId).toList());
+        assertEquals(1, response.getCandidates().get(0).getRank());
+        assertTrue(response.getCandidates().get(1).getMissingSkills().contains("docker"));
+    }
+
+    @Test
+    void rank_KeepsTopKOfUnevenPages() {
+        List<List<TalentSourcingService.SourcingRow>> pages = syntheticPages(20_000, 1_300, 42);
+
+        TalentSourcingService.SourcingRun run = rank(pages, 25);
+
+        List<TalentSourcingService.ScoredCandidate> expected = new ArrayList<>();
+        for (List<TalentSourcingService.SourcingRow> page : pages) {
+            for (TalentSourcingService.SourcingRow row : page) {
+                expected.add(sourcingService.score(profile(), row));
+            }
+        }
+        expected.sort(TalentSourcingService.RANKING);
+
+        assertEquals(20_000, run.scanned());
+        assertEquals(expected.subList(0, 25).stream().map(scored -> scored.row().candidateId()).toList(),
+                run.ranked().stream().map(scored -> scored.row().candidateId()).toList());
+    }
+
+    /**
+     * Throughput check on a 500k synthetic pool (scoring only, no database):
+     * mvn test -Dtest=TalentSourcingServiceTest -Dbenchmark=true
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void benchmark_FiveHundredThousandCandidates() {
+        sourcingService.shutdown();
+        sourcingConfig.setScoringThreads(0);
+        sourcingService.init();
+
+        List<List<TalentSourcingService.SourcingRow>> pages = syntheticPages(500_000, 5_000, 7);
+
+        // Warm-up
+        rank(pages.subList(0, 20), 50);
+
+        long started = System.nanoTime();
+        TalentSourcingService.SourcingRun run = rank(pages, 50);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("Sourcing benchmark: %d candidates ranked in %d ms (%.0f candidates/s, %d threads)%n",
+                run.scanned(), elapsedMs, run.scanned() * 1000.0 / Math.max(1, elapsedMs),
+                Runtime.getRuntime().availableProcessors());
+
+        assertEquals(500_000, run.scanned());
+        assertEquals(50, run.ranked().size());
+    }
+
+    private TalentSourcingService.SourcingRun rank(List<List<TalentSourcingService.SourcingRow>> pages, int limit) {
+        var iterator = pages.iterator();
+        return sourcingService.rank(profile(), () -> iterator.hasNext() ? iterator.next() : null, limit, Set.of());
+    }
+
+    private TalentSourcingService.JobProfile profile() {
+        return new TalentSourcingService.JobProfile(skillMatcherService.prepareRequiredSkills(REQUIRED_SKILLS), 3, 6,
+                ScoringWeights.DEFAULT);
+    }
+
+    private static List<List<TalentSourcingService.SourcingRow>> syntheticPages(int total, int pageSize, long seed) {
+        String[] vocabulary = {"Java", "Spring", "springboot", "MySQL", "PostgreSQL", "Docker", "k8s", "AWS",
+                "EC2", "React", "Node.js", "Python", "Django", "Git", "Jenkins", "Kafka", "Redis", "Angular",
+                "TypeScript", "Go", "Rust", "C++", "Terraform", "Linux", "Scrum"};
+        String[] education = {"B.Tech", "Master of Science", "MBA", "Diploma", "PhD", null, "High School"};
+        Random random = new Random(seed);
+
+        List<List<TalentSourcingService.SourcingRow>> pages = new ArrayList<>();
+        List<TalentSourcingService.SourcingRow> page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= total; id++) {
+            StringBuilder skills = new StringBuilder();
+            int count = 3 + random.nextInt(10);
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    skills.append(", ");
+                }
+                skills.append(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            boolean hasResume = random.nextInt(4) > 0;
+
+            page.add(new TalentSourcingService.SourcingRow(id, skills.toString(), random.nextInt(150) / 10.0,
+                    education[random.nextInt(education.length)], hasResume,
+                    hasResume ? vocabulary[random.nextInt(vocabulary.length)] : null, null,
+                    hasResume ? random.nextInt(4000) : 0));
+
+            if (page.size() == pageSize) {
+                pages.add(page);
+                page = new ArrayList<>(pageSize);
+            }
+        }
+        if (!page.isEmpty()) {
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private static Object[] row(Long id, String skills, String experience, String education) {
+        return new Object[]{id, skills, new BigDecimal(experience), education, null, null, null, null};
+    }
+
+    private static Candidate candidate(Long id, String skills, String experience, String education) {
+        User user = TestObjectFactory.createTestUser(id + 100, "candidate" + id + "@test.com", RoleName.ROLE_CANDIDATE);
+        Candidate candidate = new Candidate();
+        candidate.setId(id);
+        candidate.setUser(user);
+        candidate.setSkills(skills);
+        candidate.setTotalExperience(new BigDecimal(experience));
+        candidate.setEducation(education);
+        return candidate;
+    }
+}
@@ -0,0 +1,68 @@
+package com.smarthiring.service.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LocalFileStoreTest {
+
+    private static final String KEY = "ab/cd/abcdef.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    private LocalFileStore fileStore;
+
+    @BeforeEach
+    void setUp() {
+        fileStore = new LocalFileStore(Map.of(StorageArea.RESUMES, tempDir));
+    }
+
+    @Test
+    void putIfAbsent_PublishesIntoShardAndConsumesStagedFile() throws Exception {
+        Path staged = stage("resume content");
+
+        assertTrue(fileStore.putIfAbsent(StorageArea.RESUMES, KEY, staged));
+
+        assertFalse(Files.exists(staged));
+        assertEquals("resume content", Files.readString(tempDir.resolve(KEY)));
+        assertEquals(14, fileStore.stat(StorageArea.RESUMES, KEY).orElseThrow().size());
+    }
+
+    @Test
+    void putIfAbsent_DeduplicatesExistingObject() throws Exception {
+        fileStore.putIfAbsent(StorageArea.RESUMES, KEY, stage("first"));
+        Path second = stage("first");
+
+        assertFalse(fileStore.putIfAbsent(StorageArea.RESUMES, KEY, second));
+        assertFalse(Files.exists(second));
+    }
+
+    @Test
+    void open_StartsAtOffset() throws Exception {
+        fileStore.putIfAbsent(StorageArea.RESUMES, KEY, stage("0123456789"));
+
+        try (InputStream in = fileStore.open(StorageArea.RESUMES, KEY, 4, 3)) {
+            assertEquals("456", new String(in.readNBytes(3), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void resolve_RejectsKeysOutsideRoot() {
+        assertThrows(IllegalArgumentException.class,
+                () -> fileStore.stat(StorageArea.RESUMES, "../../etc/passwd"));
+    }
+
+    private Path stage(String content) throws Exception {
+        Path staged = Files.createTempFile(fileStore.stagingDirectory(StorageArea.RESUMES), "upload-", ".tmp");
+        return Files.writeString(staged, content);
+    }
+}
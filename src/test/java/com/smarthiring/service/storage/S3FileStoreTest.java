@@ -0,0 +1,191 @@
+package com.smarthiring.service.storage;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs S3FileStore against a minimal in-process S3 stand-in (path-style PUT/GET/HEAD/DELETE),
+ * the same way it talks to MinIO.
+ */
+class S3FileStoreTest {
+
+    private static final String BUCKET = "smart-hiring";
+    private static final String KEY = "ab/cd/abcdef.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    private HttpServer server;
+    private S3Client s3Client;
+    private S3FileStore fileStore;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+
+        s3Client = S3Client.builder()
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .endpointOverride(URI.create("http://127.0.0.1:" + server.getAddress().getPort()))
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true)
+                        .chunkedEncodingEnabled(false)
+                        .build())
+                // The JDK HttpServer cannot answer "Expect: 100-continue"; MinIO can
+                .overrideConfiguration(config -> config.addExecutionInterceptor(new ExecutionInterceptor() {
+                    @Override
+                    public SdkHttpRequest modifyHttpRequest(Context.ModifyHttpRequest context,
+                                                            ExecutionAttributes executionAttributes) {
+                        return context.httpRequest().toBuilder().removeHeader("Expect").build();
+                    }
+                }))
+                .build();
+
+        fileStore = new S3FileStore(s3Client, BUCKET, tempDir.resolve("staging"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void putIfAbsent_UploadsUnderAreaPrefixOnce() throws Exception {
+        assertTrue(fileStore.putIfAbsent(StorageArea.RESUMES, KEY, stage("resume content")));
+        assertEquals("resume content",
+                new String(objects.get("/" + BUCKET + "/resumes/" + KEY), StandardCharsets.UTF_8));
+
+        Path duplicate = stage("resume content");
+        assertFalse(fileStore.putIfAbsent(StorageArea.RESUMES, KEY, duplicate));
+        assertFalse(Files.exists(duplicate));
+    }
+
+    @Test
+    void openAndStat_SupportRanges() throws Exception {
+        fileStore.putIfAbsent(StorageArea.RESUMES, KEY, stage("0123456789"));
+
+        assertEquals(10, fileStore.stat(StorageArea.RESUMES, KEY).orElseThrow().size());
+        try (InputStream in = fileStore.open(StorageArea.RESUMES, KEY, 4, 3)) {
+            assertEquals("456", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void missingObjects() throws Exception {
+        assertTrue(fileStore.stat(StorageArea.RESUMES, KEY).isEmpty());
+        assertThrows(NoSuchFileException.class, () -> fileStore.open(StorageArea.RESUMES, KEY));
+
+        fileStore.putIfAbsent(StorageArea.RESUMES, KEY, stage("x"));
+        assertTrue(fileStore.delete(StorageArea.RESUMES, KEY));
+        assertTrue(fileStore.stat(StorageArea.RESUMES, KEY).isEmpty());
+    }
+
+    private Path stage(String content) throws IOException {
+        Path staged = Files.createTempFile(fileStore.stagingDirectory(StorageArea.RESUMES), "upload-", ".tmp");
+        return Files.writeString(staged, content);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        byte[] body = objects.get(path);
+
+        try (exchange) {
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    byte[] content = exchange.getRequestBody().readAllBytes();
+                    objects.put(path, content);
+                    exchange.getResponseHeaders().add("ETag", etag(content));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "HEAD" -> {
+                    if (body == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    addObjectHeaders(exchange, body);
+                    exchange.getResponseHeaders().add("Content-Length", String.valueOf(body.length));
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET" -> {
+                    if (body == null) {
+                        byte[] error = ("<Error><Code>NoSuchKey</Code><Message>Not found</Message></Error>")
+                                .getBytes(StandardCharsets.UTF_8);
+                        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+                        exchange.sendResponseHeaders(404, error.length);
+                        exchange.getResponseBody().write(error);
+                        return;
+                    }
+                    addObjectHeaders(exchange, body);
+                    String range = exchange.getRequestHeaders().getFirst("Range");
+                    if (range == null) {
+                        exchange.sendResponseHeaders(200, body.length);
+                        exchange.getResponseBody().write(body);
+                        return;
+                    }
+                    String[] bounds = range.substring("bytes=".length()).split("-", -1);
+                    int start = Integer.parseInt(bounds[0]);
+                    int end = bounds[1].isEmpty() ? body.length - 1 : Math.min(Integer.parseInt(bounds[1]), body.length - 1);
+                    exchange.getResponseHeaders().add("Content-Range", "bytes " + start + "-" + end + "/" + body.length);
+                    exchange.sendResponseHeaders(206, end - start + 1);
+                    exchange.getResponseBody().write(body, start, end - start + 1);
+                }
+                case "DELETE" -> {
+                    objects.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    private void addObjectHeaders(HttpExchange exchange, byte[] body) {
+        exchange.getResponseHeaders().add("ETag", etag(body));
+        exchange.getResponseHeaders().add("Last-Modified",
+                DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC)));
+    }
+
+    private String etag(byte[] content) {
+        try {
+            return "\"" + HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content)) + "\"";
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
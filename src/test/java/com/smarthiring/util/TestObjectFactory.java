@@ -1,11 +1,16 @@
 package com.smarthiring.util;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smarthiring.config.OntologyConfig;
 import com.smarthiring.entity.Job;
 import com.smarthiring.entity.Role;
 import com.smarthiring.entity.User;
 import com.smarthiring.enums.JobType;
 import com.smarthiring.enums.RoleName;
 import com.smarthiring.enums.WorkMode;
+import com.smarthiring.service.SkillMatcherService;
+import com.smarthiring.service.SkillOntologyService;
+import org.springframework.core.io.DefaultResourceLoader;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -50,4 +55,18 @@ public class TestObjectFactory {
                 .applicationsCount(0)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Ontology service loaded from the bundled resource file
+     */
+    public static SkillOntologyService createSkillOntologyService() {
+        SkillOntologyService service = new SkillOntologyService(new OntologyConfig(), new DefaultResourceLoader(),
+                new ObjectMapper(), event -> { });
+        service.init();
+        return service;
+    }
+
+    public static SkillMatcherService createSkillMatcherService() {
+        return new SkillMatcherService(createSkillOntologyService());
+    }
+}